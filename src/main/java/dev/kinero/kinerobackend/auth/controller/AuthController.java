@@ -2,15 +2,22 @@ package dev.kinero.kinerobackend.auth.controller;
 
 import dev.kinero.kinerobackend.auth.dto.AuthResponse;
 import dev.kinero.kinerobackend.auth.dto.LoginRequest;
+import dev.kinero.kinerobackend.auth.dto.RefreshRequest;
 import dev.kinero.kinerobackend.auth.dto.RegisterRequest;
+import dev.kinero.kinerobackend.auth.model.AuthenticatedUser;
 import dev.kinero.kinerobackend.auth.service.JwtService;
+import dev.kinero.kinerobackend.auth.service.PasswordHashingService;
+import dev.kinero.kinerobackend.auth.service.RefreshTokenService;
+import dev.kinero.kinerobackend.auth.service.TokenRevocationService;
+import dev.kinero.kinerobackend.auth.service.VerifiedToken;
 import dev.kinero.kinerobackend.user.model.User;
 import dev.kinero.kinerobackend.user.service.UserService;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -22,29 +29,64 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final UserService userService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
     private final MeterRegistry meterRegistry;
 
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
         User user = userService.register(request.email(), request.password());
-        String token = jwtService.generateToken(user);
 
         meterRegistry.counter("user.registration.count").increment();
 
-        return ResponseEntity.status(201).body(new AuthResponse(token));
+        return ResponseEntity.status(201).body(issueTokens(user));
     }
 
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
         User user = userService.findByEmail(loginRequest.email());
 
-        if (!passwordEncoder.matches(loginRequest.password(), user.getPassword())) {
+        if (!passwordHashingService.matches(loginRequest.password(), user.getPassword())) {
             throw new IllegalArgumentException("Invalid credentials");
         }
 
-        String token = jwtService.generateToken(user);
-        return ResponseEntity.ok(new AuthResponse(token));
+        // Transparently move old hashes up to the configured cost while we still have the raw password
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            userService.updatePasswordHash(user, passwordHashingService.encode(loginRequest.password()));
+            meterRegistry.counter("user.password.rehash.count").increment();
+        }
+
+        return ResponseEntity.ok(issueTokens(user));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshRequest refreshRequest) {
+        User user = refreshTokenService.consume(refreshRequest.refreshToken());
+        return ResponseEntity.ok(issueTokens(user));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            Authentication authentication,
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestBody(required = false) RefreshRequest refreshRequest
+    ) {
+        if (authentication.getCredentials() instanceof VerifiedToken accessToken) {
+            tokenRevocationService.revoke(accessToken);
+        }
+        if (user != null && refreshRequest != null && refreshRequest.refreshToken() != null) {
+            refreshTokenService.revoke(refreshRequest.refreshToken(), user.id());
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    private AuthResponse issueTokens(User user) {
+        return new AuthResponse(
+                jwtService.generateToken(user),
+                refreshTokenService.issue(user),
+                jwtService.getExpiration() / 1000
+        );
     }
 }
@@ -1,6 +1,8 @@
 package dev.kinero.kinerobackend.auth.dto;
 
 public record AuthResponse(
-    String accessToken
+    String accessToken,
+    String refreshToken,
+    long expiresIn // access token lifetime in seconds
 ) {
 }
@@ -0,0 +1,12 @@
+package dev.kinero.kinerobackend.auth.model;
+
+import java.util.UUID;
+
+/**
+ * Principal placed in the security context for authenticated requests. Built from the
+ * token claims, so resolving it does not require loading the {@code User} entity.
+ */
+public record AuthenticatedUser(
+        UUID id,
+        String email
+) {}
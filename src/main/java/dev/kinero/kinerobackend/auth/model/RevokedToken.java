@@ -0,0 +1,30 @@
+package dev.kinero.kinerobackend.auth.model;
+
+import dev.kinero.kinerobackend.common.model.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "revoked_tokens")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken extends BaseEntity {
+
+    @Column(nullable = false, unique = true)
+    private UUID jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt; // the row is only needed until the access token would have expired anyway
+}
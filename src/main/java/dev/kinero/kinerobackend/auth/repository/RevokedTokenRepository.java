@@ -0,0 +1,22 @@
+package dev.kinero.kinerobackend.auth.repository;
+
+import dev.kinero.kinerobackend.auth.model.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+
+    @Query("SELECT rt.jti FROM RevokedToken rt WHERE rt.expiresAt > :now")
+    List<UUID> findActiveJtis(Instant now);
+
+    @Modifying
+    @Query("DELETE FROM RevokedToken rt WHERE rt.expiresAt < :cutoff")
+    int deleteExpired(Instant cutoff);
+}
@@ -2,15 +2,23 @@ package dev.kinero.kinerobackend.auth.service;
 
 import dev.kinero.kinerobackend.user.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
@@ -20,20 +28,58 @@ public class JwtService {
 
     private String secret;
     private long expiration;
+    private int cacheSize = 10_000;
+    private int principalCacheSize = 10_000;
+    private Duration principalCacheTtl = Duration.ofMinutes(5);
+    private Duration refreshExpiration = Duration.ofDays(30);
+    private double revocationFalsePositiveRate = 0.01;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    static final String USER_ID_CLAIM = "uid";
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private SecretKey signingKey;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        // Both the key and the parser are immutable and thread-safe, so build them once
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     public String generateToken(User user) {
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(user.getEmail())
+                .claim(USER_ID_CLAIM, user.getId() != null ? user.getId().toString() : null)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Parses and verifies the token exactly once.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = extractAllClaims(token);
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        return new VerifiedToken(
+                claims.getId() != null ? UUID.fromString(claims.getId()) : null,
+                userId != null ? UUID.fromString(userId) : null,
+                claims.getSubject(),
+                claims.getExpiration().toInstant()
+        );
+    }
+
     public String extractEmail(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -44,23 +90,11 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public boolean isTokenValid(String token, User user) {
-        final String email = extractEmail(token);
-        return (email.equals(user.getEmail()) && !isTokenExpired(token));
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        final VerifiedToken verified = verify(token);
+        return verified.email().equals(user.getEmail()) && !verified.isExpired(Instant.now());
     }
 }
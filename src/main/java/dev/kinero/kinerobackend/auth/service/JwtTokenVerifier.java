@@ -0,0 +1,82 @@
+package dev.kinero.kinerobackend.auth.service;
+
+import dev.kinero.kinerobackend.common.cache.ExpiringLruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies bearer tokens, remembering recently verified ones so that repeat requests
+ * from the same client skip signature checking entirely.
+ * <p>
+ * Tokens are cached under their SHA-256 digest rather than the raw string, and only
+ * until the token itself expires.
+ */
+@Service
+@RequiredArgsConstructor
+public class JwtTokenVerifier {
+
+    private final JwtService jwtService;
+    private final MeterRegistry meterRegistry;
+
+    private ExpiringLruCache<String, VerifiedToken> cache;
+    private Counter hits;
+    private Counter misses;
+    private Timer verificationTimer;
+
+    @PostConstruct
+    void init() {
+        cache = new ExpiringLruCache<>(jwtService.getCacheSize());
+        hits = meterRegistry.counter("jwt.verification.cache", "result", "hit");
+        misses = meterRegistry.counter("jwt.verification.cache", "result", "miss");
+        verificationTimer = meterRegistry.timer("jwt.verification");
+        Gauge.builder("jwt.verification.cache.size", cache, ExpiringLruCache::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+        Instant now = Instant.now();
+
+        VerifiedToken cached = cache.get(digest, now);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long start = System.nanoTime();
+        VerifiedToken verified;
+        try {
+            verified = jwtService.verify(token);
+        } finally {
+            verificationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        cache.put(digest, verified, verified.expiresAt());
+        return verified;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package dev.kinero.kinerobackend.auth.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "security.password-hashing")
+public class PasswordHashingProperties {
+
+    private int strength = 10;
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 64;
+    private Duration timeout = Duration.ofSeconds(5);
+}
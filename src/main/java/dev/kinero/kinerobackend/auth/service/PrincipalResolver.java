@@ -0,0 +1,69 @@
+package dev.kinero.kinerobackend.auth.service;
+
+import dev.kinero.kinerobackend.auth.model.AuthenticatedUser;
+import dev.kinero.kinerobackend.common.cache.ExpiringLruCache;
+import dev.kinero.kinerobackend.user.model.User;
+import dev.kinero.kinerobackend.user.service.UserService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+/**
+ * Turns a verified token into the request principal.
+ * <p>
+ * Tokens carrying identity claims are resolved without touching the database. Legacy
+ * tokens that only carry the email fall back to a user lookup, whose result is cached
+ * for {@code jwt.principal-cache-ttl} and dropped as soon as the user changes.
+ */
+@Service
+@RequiredArgsConstructor
+public class PrincipalResolver {
+
+    private final JwtService jwtService;
+    private final UserService userService;
+    private final MeterRegistry meterRegistry;
+
+    private ExpiringLruCache<String, AuthenticatedUser> legacyPrincipals;
+    private Counter fromToken;
+    private Counter fromCache;
+    private Counter fromDatabase;
+
+    @PostConstruct
+    void init() {
+        legacyPrincipals = new ExpiringLruCache<>(jwtService.getPrincipalCacheSize());
+        fromToken = meterRegistry.counter("auth.principal.resolution", "source", "token");
+        fromCache = meterRegistry.counter("auth.principal.resolution", "source", "cache");
+        fromDatabase = meterRegistry.counter("auth.principal.resolution", "source", "database");
+    }
+
+    public AuthenticatedUser resolve(VerifiedToken token) {
+        if (token.hasIdentityClaims()) {
+            fromToken.increment();
+            return new AuthenticatedUser(token.userId(), token.email());
+        }
+
+        Instant now = Instant.now();
+        AuthenticatedUser cached = legacyPrincipals.get(token.email(), now);
+        if (cached != null) {
+            fromCache.increment();
+            return cached;
+        }
+
+        fromDatabase.increment();
+        User user = userService.findByEmail(token.email());
+        AuthenticatedUser principal = new AuthenticatedUser(user.getId(), user.getEmail());
+        legacyPrincipals.put(token.email(), principal, now.plus(jwtService.getPrincipalCacheTtl()));
+        return principal;
+    }
+
+    public void invalidate(User user) {
+        legacyPrincipals.invalidate(user.getEmail());
+        if (user.getId() != null) {
+            legacyPrincipals.invalidateIf(principal -> user.getId().equals(principal.id()));
+        }
+    }
+}
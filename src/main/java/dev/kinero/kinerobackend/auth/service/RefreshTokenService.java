@@ -0,0 +1,98 @@
+package dev.kinero.kinerobackend.auth.service;
+
+import dev.kinero.kinerobackend.auth.model.RefreshToken;
+import dev.kinero.kinerobackend.auth.repository.RefreshTokenRepository;
+import dev.kinero.kinerobackend.user.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Issues and rotates opaque refresh tokens. Each refresh token can be used once; presenting
+ * an already rotated token is treated as theft and revokes every refresh token of the user.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtService jwtService;
+
+    /**
+     * @return the raw token, which is handed to the client and never persisted
+     */
+    @Transactional
+    public String issue(User user) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(hash(rawToken))
+                .expiresAt(Instant.now().plus(jwtService.getRefreshExpiration()))
+                .build());
+
+        return rawToken;
+    }
+
+    /**
+     * Consumes the refresh token and returns the user it was issued to.
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public User consume(String rawToken) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+
+        // Flip the flag in the database rather than on the loaded entity: two requests racing
+        // with the same token both read revoked = false, but only one of them can update the row
+        if (refreshTokenRepository.revokeIfActive(refreshToken.getId()) == 0) {
+            log.warn("Reuse of a rotated refresh token for user '{}', revoking all sessions", refreshToken.getUser().getId());
+            refreshTokenRepository.revokeAllForUser(refreshToken.getUser().getId());
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        if (refreshToken.getExpiresAt().isBefore(Instant.now())) {
+            throw new BadCredentialsException("Refresh token expired");
+        }
+
+        return refreshToken.getUser();
+    }
+
+    /**
+     * Revokes the refresh token if it was issued to the given user; tokens of other users are left alone.
+     */
+    @Transactional
+    public void revoke(String rawToken, UUID userId) {
+        refreshTokenRepository.revokeByTokenHashForUser(hash(rawToken), userId);
+    }
+
+    @Scheduled(cron = "${jwt.revocation-cleanup-cron:0 0 * * * *}")
+    @Transactional
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpired(Instant.now());
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
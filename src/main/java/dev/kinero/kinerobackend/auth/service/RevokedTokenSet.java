@@ -0,0 +1,105 @@
+package dev.kinero.kinerobackend.auth.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable membership set of revoked token ids, sized for a per-request lookup.
+ * <p>
+ * A Bloom filter answers the common "not revoked" case with a handful of bit probes; the
+ * rare positives are confirmed against the exact ids, kept as a sorted array of 128-bit
+ * keys (two longs each) and searched with a binary search. No objects are allocated on
+ * the lookup path.
+ */
+final class RevokedTokenSet {
+
+    static final RevokedTokenSet EMPTY = new RevokedTokenSet(List.of(), 0.01);
+
+    private final long[] bloomBits;
+    private final int bloomBitCount;
+    private final int hashCount;
+    private final long[] sortedIds;
+    private final int size;
+
+    RevokedTokenSet(Collection<UUID> ids, double falsePositiveRate) {
+        this.size = ids.size();
+
+        // Standard sizing: m = -n ln p / (ln 2)^2, k = m/n ln 2
+        int n = Math.max(1, size);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bloomBitCount = (int) Math.max(64, Math.min(Integer.MAX_VALUE - 63, bits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bloomBitCount / n * Math.log(2)));
+        this.bloomBits = new long[(bloomBitCount + 63) >>> 6];
+
+        UUID[] sorted = ids.toArray(new UUID[0]);
+        Arrays.sort(sorted, Comparator.comparingLong(UUID::getMostSignificantBits)
+                .thenComparingLong(UUID::getLeastSignificantBits));
+        this.sortedIds = new long[sorted.length * 2];
+        for (int i = 0; i < sorted.length; i++) {
+            sortedIds[2 * i] = sorted[i].getMostSignificantBits();
+            sortedIds[2 * i + 1] = sorted[i].getLeastSignificantBits();
+            addToBloom(sorted[i].getMostSignificantBits(), sorted[i].getLeastSignificantBits());
+        }
+    }
+
+    boolean contains(UUID id) {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        return mightContain(msb, lsb) && exactlyContains(msb, lsb);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void addToBloom(long msb, long lsb) {
+        long h1 = mix(msb ^ Long.rotateLeft(lsb, 32));
+        long h2 = mix(lsb + 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (int) Long.remainderUnsigned(h1 + i * h2, bloomBitCount);
+            bloomBits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    private boolean mightContain(long msb, long lsb) {
+        long h1 = mix(msb ^ Long.rotateLeft(lsb, 32));
+        long h2 = mix(lsb + 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = (int) Long.remainderUnsigned(h1 + i * h2, bloomBitCount);
+            if ((bloomBits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean exactlyContains(long msb, long lsb) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Long.compare(sortedIds[2 * mid], msb);
+            if (cmp == 0) {
+                cmp = Long.compare(sortedIds[2 * mid + 1], lsb);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
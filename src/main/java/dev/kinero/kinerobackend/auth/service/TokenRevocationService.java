@@ -0,0 +1,87 @@
+package dev.kinero.kinerobackend.auth.service;
+
+import dev.kinero.kinerobackend.auth.model.RevokedToken;
+import dev.kinero.kinerobackend.auth.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of the {@code revoked_tokens} table.
+ * <p>
+ * Every node reloads the table on a schedule into an immutable {@link RevokedTokenSet}, so
+ * checking a token on the request path never issues a query. Revocations made on this node
+ * are visible immediately through a small pending set until the next reload picks them up.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final JwtService jwtService;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+    private volatile RevokedTokenSet revoked = RevokedTokenSet.EMPTY;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("jwt.revocation.size", this, service -> service.revoked.size())
+                .register(meterRegistry);
+        reload();
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        UUID jti = token.tokenId();
+        if (jti == null) {
+            return false;
+        }
+        return revoked.contains(jti) || (!pending.isEmpty() && pending.contains(jti));
+    }
+
+    @Transactional
+    public void revoke(VerifiedToken token) {
+        if (token.tokenId() == null) {
+            return;
+        }
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(token.tokenId())
+                .expiresAt(token.expiresAt())
+                .build());
+        pending.add(token.tokenId());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation-refresh-interval:PT30S}")
+    public void reload() {
+        try {
+            List<UUID> active = revokedTokenRepository.findActiveJtis(Instant.now());
+            RevokedTokenSet snapshot = new RevokedTokenSet(active, jwtService.getRevocationFalsePositiveRate());
+            revoked = snapshot;
+            pending.removeIf(snapshot::contains);
+        } catch (Exception e) {
+            // Keep serving the previous snapshot; a stale list beats failing every request
+            log.warn("Failed to reload revoked tokens: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${jwt.revocation-cleanup-cron:0 0 * * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = revokedTokenRepository.deleteExpired(Instant.now());
+        if (purged > 0) {
+            log.info("Purged {} expired token revocations", purged);
+        }
+    }
+}
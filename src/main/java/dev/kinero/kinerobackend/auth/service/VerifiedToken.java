@@ -0,0 +1,26 @@
+package dev.kinero.kinerobackend.auth.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Immutable view of the claims of a token whose signature has already been verified.
+ * <p>
+ * {@code tokenId} and {@code userId} are {@code null} for legacy tokens issued before
+ * those claims were added.
+ */
+public record VerifiedToken(
+        UUID tokenId,
+        UUID userId,
+        String email,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean hasIdentityClaims() {
+        return userId != null;
+    }
+}
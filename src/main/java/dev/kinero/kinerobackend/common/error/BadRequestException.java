@@ -0,0 +1,8 @@
+package dev.kinero.kinerobackend.common.error;
+
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
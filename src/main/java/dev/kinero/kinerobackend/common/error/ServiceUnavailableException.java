@@ -0,0 +1,8 @@
+package dev.kinero.kinerobackend.common.error;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
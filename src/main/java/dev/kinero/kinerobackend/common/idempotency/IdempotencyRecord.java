@@ -0,0 +1,41 @@
+package dev.kinero.kinerobackend.common.idempotency;
+
+import dev.kinero.kinerobackend.common.model.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Entity
+@Table(
+    name = "idempotency_keys",
+    uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"user_id", "idempotency_key"})
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "idempotency_key", nullable = false)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash; // SHA-256 of the request body, to refuse a key reused for a different payload
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+}
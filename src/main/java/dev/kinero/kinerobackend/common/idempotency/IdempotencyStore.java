@@ -0,0 +1,82 @@
+package dev.kinero.kinerobackend.common.idempotency;
+
+import dev.kinero.kinerobackend.common.error.ResourceAlreadyExistsException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Deduplicates client retries of non-idempotent writes.
+ * <p>
+ * {@link #claim} and {@link #complete} must run in the caller's transaction: the claim row
+ * is inserted with {@code ON CONFLICT DO NOTHING}, so a concurrent duplicate blocks on the
+ * unique index until the first request commits and then reads its stored response.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return empty if the caller now owns the key and must perform the write, otherwise the
+     * response stored by the request that did
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<String> claim(UUID userId, String key, String requestHash) {
+        Timestamp now = Timestamp.from(Instant.now());
+        int inserted = jdbcTemplate.update("""
+                INSERT INTO idempotency_keys (id, user_id, idempotency_key, request_hash, created_at, updated_at, deleted)
+                VALUES (?, ?, ?, ?, ?, ?, FALSE)
+                ON CONFLICT (user_id, idempotency_key) DO NOTHING
+                """, UUID.randomUUID(), userId, key, requestHash, now, now);
+        if (inserted == 1) {
+            return Optional.empty();
+        }
+
+        List<IdempotencyRecord> existing = jdbcTemplate.query("""
+                SELECT request_hash, response_body FROM idempotency_keys
+                WHERE user_id = ? AND idempotency_key = ?
+                """, (rs, rowNum) -> IdempotencyRecord.builder()
+                .requestHash(rs.getString("request_hash"))
+                .responseBody(rs.getString("response_body"))
+                .build(), userId, key);
+
+        IdempotencyRecord record = existing.getFirst();
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new ResourceAlreadyExistsException("Idempotency key '" + key + "' was already used for a different request");
+        }
+        return Optional.of(record.getResponseBody());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void complete(UUID userId, String key, String responseBody) {
+        jdbcTemplate.update("""
+                UPDATE idempotency_keys SET response_body = ?, updated_at = ?
+                WHERE user_id = ? AND idempotency_key = ?
+                """, responseBody, Timestamp.from(Instant.now()), userId, key);
+    }
+
+    @Scheduled(cron = "${idempotency.cleanup-cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update("DELETE FROM idempotency_keys WHERE created_at < ?",
+                Timestamp.from(Instant.now().minus(RETENTION)));
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package dev.kinero.kinerobackend.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list. {@code nextCursor} is {@code null} on the last page.
+ */
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+
+    public static final int MAX_LIMIT = 100;
+
+    /**
+     * Keeps a client supplied page size within {@code [1, MAX_LIMIT]}.
+     */
+    public static int clampLimit(int limit) {
+        return Math.clamp(limit, 1, MAX_LIMIT);
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code limit + 1}; the extra row only
+     * signals that another page exists and is not returned.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int limit, Function<E, Cursor> cursorOf, Function<E, T> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(page.getLast()).encode() : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), nextCursor);
+    }
+}
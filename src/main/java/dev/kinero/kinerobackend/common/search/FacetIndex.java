@@ -0,0 +1,167 @@
+package dev.kinero.kinerobackend.common.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable bitmap index for faceted filtering: one bitset per facet value, one bit per document.
+ * <p>
+ * A query ORs the bitsets of the values selected within a facet and ANDs the facets together,
+ * a 64-document word at a time. Each facet value is counted against the selection of all the
+ * other facets, so a filter screen can show how many documents choosing that value would give
+ * (disjunctive faceting). Documents without a value for a facet are in none of its bitsets.
+ */
+public final class FacetIndex<T> {
+
+    private final List<T> documents;
+    private final int words;
+    private final long[] all;
+    private final List<String> facetNames;
+    private final List<Map<String, long[]>> bitmaps;
+
+    private FacetIndex(List<T> documents, List<String> facetNames, List<Map<String, long[]>> bitmaps) {
+        this.documents = documents;
+        this.words = (documents.size() + 63) >>> 6;
+        this.all = new long[words];
+        for (int id = 0; id < documents.size(); id++) {
+            all[id >>> 6] |= 1L << id;
+        }
+        this.facetNames = facetNames;
+        this.bitmaps = bitmaps;
+    }
+
+    /**
+     * @param facets value extractor per facet name, in the order counts are reported
+     */
+    public static <T> FacetIndex<T> build(Collection<T> documents, Map<String, Function<T, String>> facets) {
+        List<T> indexed = List.copyOf(documents);
+        int words = (indexed.size() + 63) >>> 6;
+        List<String> facetNames = new ArrayList<>(facets.keySet());
+        List<Map<String, long[]>> bitmaps = new ArrayList<>(facets.size());
+        for (Function<T, String> valueOf : facets.values()) {
+            Map<String, long[]> values = new LinkedHashMap<>();
+            for (int id = 0; id < indexed.size(); id++) {
+                String value = valueOf.apply(indexed.get(id));
+                if (value != null) {
+                    values.computeIfAbsent(value, key -> new long[words])[id >>> 6] |= 1L << id;
+                }
+            }
+            bitmaps.add(values);
+        }
+        return new FacetIndex<>(indexed, List.copyOf(facetNames), List.copyOf(bitmaps));
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Documents matching every facet of the selection, in index order, with the count of every
+     * facet value under the selection of the other facets.
+     *
+     * @param selection selected values per facet name; facets not present are unrestricted
+     * @throws IllegalArgumentException for a facet name the index was not built with
+     */
+    public Result<T> query(Map<String, ? extends Collection<String>> selection) {
+        for (String facet : selection.keySet()) {
+            if (!facetNames.contains(facet)) {
+                throw new IllegalArgumentException("Unknown facet: " + facet);
+            }
+        }
+
+        long[][] selected = new long[facetNames.size()][];
+        for (int f = 0; f < facetNames.size(); f++) {
+            Collection<String> values = selection.get(facetNames.get(f));
+            if (values != null && !values.isEmpty()) {
+                selected[f] = new long[words];
+                for (String value : values) {
+                    long[] bitmap = bitmaps.get(f).get(value);
+                    if (bitmap != null) {
+                        or(selected[f], bitmap);
+                    }
+                }
+            }
+        }
+
+        long[] matching = all.clone();
+        for (long[] bits : selected) {
+            if (bits != null) {
+                and(matching, bits);
+            }
+        }
+
+        Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+        long[] others = new long[words];
+        for (int f = 0; f < facetNames.size(); f++) {
+            System.arraycopy(all, 0, others, 0, words);
+            for (int g = 0; g < selected.length; g++) {
+                if (g != f && selected[g] != null) {
+                    and(others, selected[g]);
+                }
+            }
+            Map<String, Integer> valueCounts = new LinkedHashMap<>();
+            for (Map.Entry<String, long[]> value : bitmaps.get(f).entrySet()) {
+                valueCounts.put(value.getKey(), intersectionCount(others, value.getValue()));
+            }
+            counts.put(facetNames.get(f), valueCounts);
+        }
+
+        return new Result<>(documentsOf(matching), counts);
+    }
+
+    private List<T> documentsOf(long[] bits) {
+        List<T> matches = new ArrayList<>();
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                matches.add(documents.get((w << 6) + Long.numberOfTrailingZeros(word)));
+                word &= word - 1;
+            }
+        }
+        return matches;
+    }
+
+    private static void and(long[] target, long[] bits) {
+        for (int w = 0; w < target.length; w++) {
+            target[w] &= bits[w];
+        }
+    }
+
+    private static void or(long[] target, long[] bits) {
+        for (int w = 0; w < target.length; w++) {
+            target[w] |= bits[w];
+        }
+    }
+
+    private static int intersectionCount(long[] a, long[] b) {
+        int count = 0;
+        for (int w = 0; w < a.length; w++) {
+            count += Long.bitCount(a[w] & b[w]);
+        }
+        return count;
+    }
+
+    public record Result<T>(List<T> matches, Map<String, Map<String, Integer>> counts) {
+
+        /**
+         * Matches and counts of both results together, e.g. of two indexes over disjoint documents.
+         */
+        public Result<T> merge(Result<T> other) {
+            List<T> matches = new ArrayList<>(this.matches.size() + other.matches.size());
+            matches.addAll(this.matches);
+            matches.addAll(other.matches);
+            Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+            for (Map<String, Map<String, Integer>> source : List.of(this.counts, other.counts)) {
+                source.forEach((facet, values) -> {
+                    Map<String, Integer> merged = counts.computeIfAbsent(facet, key -> new LinkedHashMap<>());
+                    values.forEach((value, count) -> merged.merge(value, count, Integer::sum));
+                });
+            }
+            return new Result<>(matches, counts);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package dev.kinero.kinerobackend.common.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable trigram inverted index for typo-tolerant, as-you-type search over short texts.
+ * <p>
+ * Every document has a primary text (a name) and a secondary one (attributes such as equipment)
+ * that counts half as much. Texts are lowercased, stripped of accents and split into words; each
+ * word contributes the trigrams of itself padded with two leading spaces and one trailing space,
+ * as in {@code pg_trgm}. The last word of a query is matched as a prefix, so it is padded at the
+ * front only. A document scores the share of query trigrams it contains, plus a bonus when its
+ * primary text starts with the query, and needs {@link #MIN_SIMILARITY} to be returned.
+ * <p>
+ * Posting lists are sorted arrays of document positions, so a query is a handful of array walks
+ * over one score array; nothing is allocated per posting.
+ */
+public final class TrigramIndex<T> {
+
+    public static final double MIN_SIMILARITY = 0.3;
+
+    static final float SECONDARY_WEIGHT = 0.5f;
+    static final double PREFIX_BONUS = 1.0;
+    static final double WORD_PREFIX_BONUS = 0.25;
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final List<T> documents;
+    private final String[] primaryTexts;
+    private final Map<String, int[]> primaryPostings;
+    private final Map<String, int[]> secondaryPostings;
+
+    private TrigramIndex(List<T> documents, String[] primaryTexts,
+                         Map<String, int[]> primaryPostings, Map<String, int[]> secondaryPostings) {
+        this.documents = documents;
+        this.primaryTexts = primaryTexts;
+        this.primaryPostings = primaryPostings;
+        this.secondaryPostings = secondaryPostings;
+    }
+
+    public static <T> TrigramIndex<T> build(Collection<T> documents, Function<T, String> primary, Function<T, String> secondary) {
+        List<T> indexed = List.copyOf(documents);
+        String[] primaryTexts = new String[indexed.size()];
+        Map<String, IntBuffer> primaryBuffers = new HashMap<>();
+        Map<String, IntBuffer> secondaryBuffers = new HashMap<>();
+
+        for (int id = 0; id < indexed.size(); id++) {
+            T document = indexed.get(id);
+            primaryTexts[id] = normalize(primary.apply(document));
+            for (String trigram : trigrams(primaryTexts[id], false)) {
+                primaryBuffers.computeIfAbsent(trigram, key -> new IntBuffer()).add(id);
+            }
+            for (String trigram : trigrams(normalize(secondary.apply(document)), false)) {
+                secondaryBuffers.computeIfAbsent(trigram, key -> new IntBuffer()).add(id);
+            }
+        }
+        return new TrigramIndex<>(indexed, primaryTexts, toPostings(primaryBuffers), toPostings(secondaryBuffers));
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * The best matches for the query, best first; empty for a query without letters or digits.
+     */
+    public List<Hit<T>> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0 || documents.isEmpty()) {
+            return List.of();
+        }
+        boolean prefix = !Character.isWhitespace(query.charAt(query.length() - 1));
+        Set<String> queryTrigrams = trigrams(normalized, prefix);
+
+        float[] scores = new float[documents.size()];
+        for (String trigram : queryTrigrams) {
+            accumulate(scores, primaryPostings.getOrDefault(trigram, NO_POSTINGS),
+                    secondaryPostings.getOrDefault(trigram, NO_POSTINGS));
+        }
+
+        String lastWord = normalized.substring(normalized.lastIndexOf(' ') + 1);
+        String lastWordInside = " " + lastWord;
+        // Among equal scores, shorter primary texts are closer matches
+        Comparator<Hit<T>> worstFirst = Comparator.<Hit<T>>comparingDouble(Hit::score)
+                .thenComparingInt(hit -> -primaryTexts[hit.position()].length())
+                .thenComparingInt(hit -> -hit.position());
+        PriorityQueue<Hit<T>> best = new PriorityQueue<>(limit + 1, worstFirst);
+        double total = queryTrigrams.size();
+        for (int id = 0; id < scores.length; id++) {
+            double similarity = scores[id] / total;
+            if (similarity < MIN_SIMILARITY) {
+                continue;
+            }
+            String text = primaryTexts[id];
+            if (text.startsWith(normalized)) {
+                similarity += PREFIX_BONUS;
+            } else if (text.startsWith(lastWord) || text.contains(lastWordInside)) {
+                similarity += WORD_PREFIX_BONUS;
+            }
+            if (best.size() == limit && similarity < best.peek().score()) {
+                continue;
+            }
+            best.add(new Hit<>(documents.get(id), similarity, id));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Hit<T>> hits = new ArrayList<>(best);
+        hits.sort(worstFirst.reversed());
+        return hits;
+    }
+
+    /**
+     * Adds one query trigram to the scores: full weight for documents with it in the primary
+     * text, secondary weight for those with it only in the secondary text.
+     */
+    private static void accumulate(float[] scores, int[] primary, int[] secondary) {
+        int i = 0;
+        int j = 0;
+        while (i < primary.length || j < secondary.length) {
+            if (j == secondary.length || (i < primary.length && primary[i] < secondary[j])) {
+                scores[primary[i++]] += 1;
+            } else if (i == primary.length || secondary[j] < primary[i]) {
+                scores[secondary[j++]] += SECONDARY_WEIGHT;
+            } else {
+                scores[primary[i++]] += 1;
+                j++;
+            }
+        }
+    }
+
+    /**
+     * Lowercase letters and digits, with accents removed and words separated by single spaces.
+     */
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder out = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && !out.isEmpty()) {
+                    out.append(' ');
+                }
+                pendingSpace = false;
+                out.append(Character.toLowerCase(c));
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Trigrams of every word of a normalized text; with {@code prefix} the last word is not
+     * closed with a trailing space, so it also matches longer words.
+     */
+    static Set<String> trigrams(String normalized, boolean prefix) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return trigrams;
+        }
+        String[] words = normalized.split(" ");
+        for (int w = 0; w < words.length; w++) {
+            boolean open = prefix && w == words.length - 1;
+            String padded = "  " + words[w] + (open ? "" : " ");
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    private static Map<String, int[]> toPostings(Map<String, IntBuffer> buffers) {
+        Map<String, int[]> postings = new HashMap<>(buffers.size() * 2);
+        buffers.forEach((trigram, buffer) -> postings.put(trigram, buffer.toArray()));
+        return postings;
+    }
+
+    /**
+     * A matching document; {@code position} is its place in the indexed collection, and earlier
+     * documents win remaining ties.
+     */
+    public record Hit<T>(T document, double score, int position) {}
+
+    private static final class IntBuffer {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
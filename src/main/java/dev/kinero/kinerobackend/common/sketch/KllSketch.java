@@ -0,0 +1,234 @@
+package dev.kinero.kinerobackend.common.sketch;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * KLL quantile sketch (Karnin, Lang, Liberty) over doubles.
+ * <p>
+ * Keeps a stack of compactors; an item at level {@code h} stands for {@code 2^h} inserted
+ * values. When the sketch is full the lowest full level is sorted and every other item is
+ * promoted, so memory stays around {@code 3k} items whatever the input size, and two sketches
+ * merge by concatenating their levels. Rank error is roughly {@code 1.7 / k} of {@code n}.
+ * Not thread-safe.
+ */
+public final class KllSketch {
+
+    public static final int DEFAULT_K = 200;
+
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+
+    private final int k;
+    private final SplittableRandom random;
+    private final List<Level> levels = new ArrayList<>();
+    private long count;
+    private int retained;
+    private int maxRetained;
+
+    public KllSketch() {
+        this(DEFAULT_K, new SplittableRandom());
+    }
+
+    KllSketch(int k, SplittableRandom random) {
+        if (k < 8) {
+            throw new IllegalArgumentException("k must be at least 8");
+        }
+        this.k = k;
+        this.random = random;
+        grow();
+    }
+
+    public void update(double value) {
+        levels.getFirst().add(value);
+        count++;
+        retained++;
+        if (retained >= maxRetained) {
+            compress();
+        }
+    }
+
+    /**
+     * Adds everything {@code other} has seen to this sketch; {@code other} is left unchanged.
+     */
+    public void merge(KllSketch other) {
+        while (levels.size() < other.levels.size()) {
+            grow();
+        }
+        for (int h = 0; h < other.levels.size(); h++) {
+            Level from = other.levels.get(h);
+            Level to = levels.get(h);
+            for (int i = 0; i < from.size; i++) {
+                to.add(from.items[i]);
+            }
+        }
+        count += other.count;
+        retained += other.retained;
+        while (retained >= maxRetained) {
+            compress();
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Estimated number of inserted values strictly below {@code value}.
+     */
+    public long rank(double value) {
+        long rank = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            Level level = levels.get(h);
+            int below = 0;
+            for (int i = 0; i < level.size; i++) {
+                if (level.items[i] < value) {
+                    below++;
+                }
+            }
+            rank += (long) below << h;
+        }
+        return rank;
+    }
+
+    /**
+     * Estimated fraction of inserted values strictly below {@code value}, in {@code [0, 1]}.
+     */
+    public double fractionBelow(double value) {
+        return count == 0 ? 0 : Math.min(1.0, (double) rank(value) / count);
+    }
+
+    /**
+     * Estimated value at the given fraction of the sorted input, or {@code NaN} when empty.
+     */
+    public double quantile(double fraction) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        int n = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            Level level = levels.get(h);
+            for (int i = 0; i < level.size; i++) {
+                values[n] = level.items[i];
+                weights[n++] = 1L << h;
+            }
+        }
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        long target = (long) Math.ceil(Math.clamp(fraction, 0.0, 1.0) * count);
+        long seen = 0;
+        for (int index : order) {
+            seen += weights[index];
+            if (seen >= target) {
+                return values[index];
+            }
+        }
+        return values[order[n - 1]];
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 2 + Long.BYTES
+                + levels.size() * Integer.BYTES + retained * Double.BYTES);
+        buffer.putInt(k);
+        buffer.putLong(count);
+        buffer.putInt(levels.size());
+        for (Level level : levels) {
+            buffer.putInt(level.size);
+            for (int i = 0; i < level.size; i++) {
+                buffer.putDouble(level.items[i]);
+            }
+        }
+        return buffer.array();
+    }
+
+    public static KllSketch fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        KllSketch sketch = new KllSketch(buffer.getInt(), new SplittableRandom());
+        sketch.count = buffer.getLong();
+        int height = buffer.getInt();
+        while (sketch.levels.size() < height) {
+            sketch.grow();
+        }
+        for (int h = 0; h < height; h++) {
+            Level level = sketch.levels.get(h);
+            int size = buffer.getInt();
+            for (int i = 0; i < size; i++) {
+                level.add(buffer.getDouble());
+            }
+            sketch.retained += size;
+        }
+        return sketch;
+    }
+
+    private void grow() {
+        levels.add(new Level());
+        int total = 0;
+        for (int h = 0; h < levels.size(); h++) {
+            total += capacity(h);
+        }
+        maxRetained = total;
+    }
+
+    private int capacity(int height) {
+        int depth = levels.size() - height - 1;
+        return (int) Math.ceil(Math.pow(CAPACITY_DECAY, depth) * k) + 1;
+    }
+
+    private void compress() {
+        for (int h = 0; h < levels.size(); h++) {
+            Level level = levels.get(h);
+            if (level.size >= capacity(h)) {
+                if (h + 1 == levels.size()) {
+                    grow();
+                }
+                retained -= level.compactInto(levels.get(h + 1), random.nextBoolean());
+                if (retained < maxRetained) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class Level {
+
+        private double[] items = new double[16];
+        private int size;
+
+        void add(double value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+
+        /**
+         * Sorts the level and promotes every other item, starting at the given parity; an odd
+         * item out stays behind. Returns how many items the sketch retains fewer.
+         */
+        int compactInto(Level up, boolean odd) {
+            Arrays.sort(items, 0, size);
+            int keep = size % 2;
+            int start = keep + (odd ? 1 : 0);
+            int promoted = 0;
+            for (int i = start; i < size; i += 2) {
+                up.add(items[i]);
+                promoted++;
+            }
+            int removed = size - keep;
+            size = keep;
+            return removed - promoted;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package dev.kinero.kinerobackend.config.security;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import dev.kinero.kinerobackend.common.error.ApiError;
+import dev.kinero.kinerobackend.common.web.CachedBodyHttpServletRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles the unauthenticated credential endpoints per client IP and per email.
+ * <p>
+ * Runs ahead of Spring Security and the controllers, so rejected attempts never reach
+ * BCrypt or the database.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    static final Set<String> RATE_LIMITED_PATHS = Set.of("/api/auth/login", "/api/auth/register", "/api/auth/refresh");
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private TokenBucketRateLimiter ipLimiter;
+    private TokenBucketRateLimiter emailLimiter;
+    private Counter ipRejections;
+    private Counter emailRejections;
+
+    @PostConstruct
+    void init() {
+        ipLimiter = newLimiter(properties.getIp());
+        emailLimiter = newLimiter(properties.getEmail());
+        ipRejections = meterRegistry.counter("auth.ratelimit.rejected", "key", "ip");
+        emailRejections = meterRegistry.counter("auth.ratelimit.rejected", "key", "email");
+        Gauge.builder("auth.ratelimit.buckets", ipLimiter, TokenBucketRateLimiter::size)
+                .tag("key", "ip")
+                .register(meterRegistry);
+        Gauge.builder("auth.ratelimit.buckets", emailLimiter, TokenBucketRateLimiter::size)
+                .tag("key", "email")
+                .register(meterRegistry);
+    }
+
+    private TokenBucketRateLimiter newLimiter(RateLimitProperties.Bucket bucket) {
+        return new TokenBucketRateLimiter(
+                bucket.getCapacity(),
+                bucket.getRefillPeriod().toNanos(),
+                properties.getIdleTimeout().toNanos(),
+                properties.getMaxBuckets()
+        );
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !"POST".equals(request.getMethod())
+                || !RATE_LIMITED_PATHS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        long now = System.nanoTime();
+
+        long retryAfter = ipLimiter.tryAcquire(request.getRemoteAddr(), now);
+        if (retryAfter != TokenBucketRateLimiter.ALLOWED) {
+            ipRejections.increment();
+            sendTooManyRequests(request, response, retryAfter);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(properties.getMaxBodyBytes() + 1);
+        if (body.length > properties.getMaxBodyBytes()) {
+            // Credentials never come close to this; refuse rather than buffer arbitrary payloads
+            writeError(request, response, HttpStatus.CONTENT_TOO_LARGE, "The request body is too large");
+            return;
+        }
+        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request, body);
+
+        String email = extractEmail(cachedRequest.getBody());
+        if (email != null) {
+            retryAfter = emailLimiter.tryAcquire(email, now);
+            if (retryAfter != TokenBucketRateLimiter.ALLOWED) {
+                emailRejections.increment();
+                sendTooManyRequests(request, response, retryAfter);
+                return;
+            }
+        }
+
+        filterChain.doFilter(cachedRequest, response);
+    }
+
+    @Scheduled(fixedDelayString = "${security.rate-limit.sweep-interval:PT1M}")
+    void evictIdleBuckets() {
+        long now = System.nanoTime();
+        ipLimiter.evictIdle(now);
+        emailLimiter.evictIdle(now);
+    }
+
+    private String extractEmail(byte[] body) {
+        if (body.length == 0) {
+            return null;
+        }
+        try {
+            EmailOnly payload = objectMapper.readValue(body, EmailOnly.class);
+            if (payload.email() == null || payload.email().isBlank()) {
+                return null;
+            }
+            return payload.email().trim().toLowerCase(Locale.ROOT);
+        } catch (Exception e) {
+            // Malformed bodies are rejected by validation later on; only the IP limit applies
+            return null;
+        }
+    }
+
+    private void sendTooManyRequests(HttpServletRequest request, HttpServletResponse response, long retryAfterNanos) throws IOException {
+        log.warn("Rate limit exceeded for {} on {}", request.getRemoteAddr(), request.getRequestURI());
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        writeError(request, response, HttpStatus.TOO_MANY_REQUESTS, "Too many attempts, please try again later");
+    }
+
+    /**
+     * Writes the error body directly: {@code sendError} would dispatch to {@code /error}, which
+     * the security chain answers with 401 for these unauthenticated requests.
+     */
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        ApiError apiError = new ApiError(
+                Instant.now(),
+                status.value(),
+                status.getReasonPhrase(),
+                message,
+                request.getRequestURI(),
+                MDC.get("correlationId")
+        );
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getWriter(), apiError);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record EmailOnly(String email) {}
+}
@@ -1,9 +1,11 @@
 package dev.kinero.kinerobackend.config.security;
 
-import dev.kinero.kinerobackend.auth.service.JwtService;
+import dev.kinero.kinerobackend.auth.model.AuthenticatedUser;
+import dev.kinero.kinerobackend.auth.service.JwtTokenVerifier;
+import dev.kinero.kinerobackend.auth.service.PrincipalResolver;
+import dev.kinero.kinerobackend.auth.service.TokenRevocationService;
+import dev.kinero.kinerobackend.auth.service.VerifiedToken;
 import dev.kinero.kinerobackend.common.error.ApiError;
-import dev.kinero.kinerobackend.user.model.User;
-import dev.kinero.kinerobackend.user.service.UserService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,8 +31,9 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtService jwtService;
-    private final UserService userService;
+    private final JwtTokenVerifier tokenVerifier;
+    private final PrincipalResolver principalResolver;
+    private final TokenRevocationService tokenRevocationService;
     private final ObjectMapper objectMapper;
 
     @Override
@@ -47,16 +50,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String jwt = authHeader.substring(7);
-        final String userEmail;
+        final VerifiedToken token;
 
         try {
-            userEmail = jwtService.extractEmail(jwt);
+            token = tokenVerifier.verify(jwt);
         } catch (Exception e) {
-            log.warn("Failed to extract email from JWT: {}", e.getMessage());
-            sendUnauthorizedError(request, response, "Invalid token");
+            log.warn("JWT verification failed: {}", e.getMessage());
+            sendUnauthorizedError(request, response, "Invalid or expired token");
+            return;
+        }
+
+        if (tokenRevocationService.isRevoked(token)) {
+            sendUnauthorizedError(request, response, "Token has been revoked");
             return;
         }
 
+        final String userEmail = token.email();
+
         if (userEmail == null) {
             sendUnauthorizedError(request, response, "Invalid token");
             return;
@@ -64,21 +74,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
-                User user = userService.findByEmail(userEmail);
-
-                if (jwtService.isTokenValid(jwt, user)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            user,
-                            null,
-                            Collections.emptyList()
-                    );
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                } else {
-                    log.warn("Token validation failed for user '{}'", userEmail);
-                    sendUnauthorizedError(request, response, "Invalid or expired token");
-                    return;
-                }
+                AuthenticatedUser principal = principalResolver.resolve(token);
+
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        principal,
+                        token,
+                        Collections.emptyList()
+                );
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             } catch (Exception e) {
                 log.warn("JWT authentication failed for user '{}': {}", userEmail, e.getMessage());
                 sendUnauthorizedError(request, response, "Authentication failed");
@@ -0,0 +1,37 @@
+package dev.kinero.kinerobackend.config.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private Bucket ip = new Bucket(20, Duration.ofMinutes(1));
+    private Bucket email = new Bucket(5, Duration.ofMinutes(1));
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private int maxBuckets = 100_000;
+    private int maxBodyBytes = 8 * 1024;
+
+    /**
+     * Allows {@code capacity} attempts in a burst, refilled evenly over {@code refillPeriod}.
+     */
+    @Data
+    public static class Bucket {
+        private int capacity;
+        private Duration refillPeriod;
+
+        public Bucket() {
+        }
+
+        public Bucket(int capacity, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.refillPeriod = refillPeriod;
+        }
+    }
+}
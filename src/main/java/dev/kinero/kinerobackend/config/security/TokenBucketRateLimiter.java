@@ -0,0 +1,78 @@
+package dev.kinero.kinerobackend.config.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free table of token buckets keyed by an arbitrary string.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding its theoretical arrival time (the
+ * generic cell rate formulation of a token bucket): a request is admitted if pushing that
+ * time forward by one emission interval keeps it within {@code capacity} intervals of now.
+ * State changes are plain CAS loops, and a bucket whose arrival time lies far enough in the
+ * past is indistinguishable from a full one, so idle buckets can be dropped at any time.
+ */
+class TokenBucketRateLimiter {
+
+    static final long ALLOWED = 0L;
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final long idleTimeoutNanos;
+    private final int maxBuckets;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    TokenBucketRateLimiter(int capacity, long refillPeriodNanos, long idleTimeoutNanos, int maxBuckets) {
+        if (capacity <= 0 || refillPeriodNanos <= 0) {
+            throw new IllegalArgumentException("Bucket capacity and refill period must be positive");
+        }
+        this.emissionIntervalNanos = refillPeriodNanos / capacity;
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.idleTimeoutNanos = idleTimeoutNanos;
+        this.maxBuckets = maxBuckets;
+    }
+
+    /**
+     * Takes one token from the bucket for {@code key}.
+     *
+     * @return {@link #ALLOWED}, or the number of nanoseconds until a token becomes available
+     */
+    long tryAcquire(String key, long nowNanos) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxBuckets) {
+                evictIdle(nowNanos);
+                if (buckets.size() >= maxBuckets) {
+                    // Fail closed: the table is full of active attackers, not idle clients
+                    return emissionIntervalNanos;
+                }
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+        }
+
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, nowNanos) + emissionIntervalNanos;
+            long excess = next - nowNanos - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return ALLOWED;
+            }
+        }
+    }
+
+    /**
+     * Drops buckets that have been full for at least the idle timeout. A request racing with
+     * the removal may be admitted against a fresh bucket, which only ever errs towards allowing.
+     */
+    void evictIdle(long nowNanos) {
+        long cutoff = nowNanos - idleTimeoutNanos;
+        buckets.values().removeIf(bucket -> bucket.get() - cutoff <= 0);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
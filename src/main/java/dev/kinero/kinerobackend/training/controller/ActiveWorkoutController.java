@@ -0,0 +1,65 @@
+package dev.kinero.kinerobackend.training.controller;
+
+import dev.kinero.kinerobackend.auth.model.AuthenticatedUser;
+import dev.kinero.kinerobackend.training.dto.ExerciseSetResponse;
+import dev.kinero.kinerobackend.training.dto.LogSetRequest;
+import dev.kinero.kinerobackend.training.dto.StartWorkoutRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseResponse;
+import dev.kinero.kinerobackend.training.dto.WorkoutResponse;
+import dev.kinero.kinerobackend.training.service.ActiveWorkoutService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * The workout the user is performing right now. Changes are kept in memory and written to
+ * the database in batches, so the workout only shows up in history once it has been flushed.
+ */
+@RestController
+@RequestMapping("/api/workouts/active")
+@RequiredArgsConstructor
+public class ActiveWorkoutController {
+
+    private final ActiveWorkoutService activeWorkoutService;
+
+    @PostMapping
+    public ResponseEntity<WorkoutResponse> startWorkout(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @Valid @RequestBody StartWorkoutRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(activeWorkoutService.startWorkout(user.id(), request));
+    }
+
+    @GetMapping
+    public ResponseEntity<WorkoutResponse> getActiveWorkout(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(activeWorkoutService.getActiveWorkout(user.id()));
+    }
+
+    @PostMapping("/exercises")
+    public ResponseEntity<WorkoutExerciseResponse> addExercise(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @Valid @RequestBody WorkoutExerciseRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(activeWorkoutService.addExercise(user.id(), request));
+    }
+
+    @PostMapping("/exercises/{workoutExerciseId}/sets")
+    public ResponseEntity<ExerciseSetResponse> logSet(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID workoutExerciseId,
+            @Valid @RequestBody LogSetRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(activeWorkoutService.logSet(user.id(), workoutExerciseId, request));
+    }
+
+    @PostMapping("/finish")
+    public ResponseEntity<WorkoutResponse> finishWorkout(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(activeWorkoutService.finishWorkout(user.id()));
+    }
+}
@@ -0,0 +1,93 @@
+package dev.kinero.kinerobackend.training.controller;
+
+import dev.kinero.kinerobackend.auth.model.AuthenticatedUser;
+import dev.kinero.kinerobackend.training.dto.ExerciseChangesResponse;
+import dev.kinero.kinerobackend.training.dto.ExerciseFilterRequest;
+import dev.kinero.kinerobackend.training.dto.ExerciseFilterResponse;
+import dev.kinero.kinerobackend.training.dto.ExerciseResponse;
+import dev.kinero.kinerobackend.training.service.ExerciseCatalog;
+import dev.kinero.kinerobackend.training.service.ExerciseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/exercises")
+@RequiredArgsConstructor
+public class ExerciseController {
+
+    private final ExerciseService exerciseService;
+
+    /**
+     * Writes the pre-serialized catalog as is. Spring answers 304 from the ETag when the
+     * client's If-None-Match still matches, without writing the body.
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> getCatalog(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        ExerciseCatalog.Snapshot catalog = exerciseService.getCatalog();
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(catalog.etag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(catalog.gzippedJson());
+        }
+        return response.body(catalog.json());
+    }
+
+    @GetMapping("/custom")
+    public ResponseEntity<List<ExerciseResponse>> getCustomExercises(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(exerciseService.getCustomExercises(user.id()));
+    }
+
+    /**
+     * Exercises matching {@code q} by name, equipment or category, tolerating typos; the last
+     * word is matched as a prefix so the endpoint can back autocomplete.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<ExerciseResponse>> search(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(exerciseService.search(user.id(), q, limit));
+    }
+
+    /**
+     * Exercises matching every given facet, e.g.
+     * {@code ?primaryMuscle=CHEST&primaryMuscle=TRICEPS&type=DUMBBELL&compound=true}, with the
+     * number of matches each facet value would give.
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<ExerciseFilterResponse> filter(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            ExerciseFilterRequest request,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return ResponseEntity.ok(exerciseService.filter(user.id(), request, limit));
+    }
+
+    /**
+     * Catalog and custom exercises changed after {@code since}, a version from an earlier sync
+     * or from the catalog; without it, or when too far behind, everything is returned.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ExerciseChangesResponse> getChanges(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(required = false) Long since
+    ) {
+        return ResponseEntity.ok(exerciseService.getChanges(user.id(), since));
+    }
+}
@@ -0,0 +1,29 @@
+package dev.kinero.kinerobackend.training.controller;
+
+import dev.kinero.kinerobackend.auth.model.AuthenticatedUser;
+import dev.kinero.kinerobackend.training.dto.LeaderboardResponse;
+import dev.kinero.kinerobackend.training.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/exercises/{exerciseId}/leaderboard")
+@RequiredArgsConstructor
+public class ExerciseLeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    @GetMapping
+    public ResponseEntity<LeaderboardResponse> getLeaderboard(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID exerciseId,
+            @RequestParam(defaultValue = "1") int repRange,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(user.id(), exerciseId, repRange, limit));
+    }
+}
@@ -0,0 +1,39 @@
+package dev.kinero.kinerobackend.training.controller;
+
+import dev.kinero.kinerobackend.auth.model.AuthenticatedUser;
+import dev.kinero.kinerobackend.training.dto.ExerciseProgressResponse;
+import dev.kinero.kinerobackend.training.dto.ExerciseProgressSeriesResponse;
+import dev.kinero.kinerobackend.training.model.OneRepMaxFormula;
+import dev.kinero.kinerobackend.training.service.ExerciseProgressService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/exercises/{exerciseId}/progress")
+@RequiredArgsConstructor
+public class ExerciseProgressController {
+
+    private final ExerciseProgressService exerciseProgressService;
+
+    @GetMapping
+    public ResponseEntity<ExerciseProgressResponse> getProgress(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID exerciseId
+    ) {
+        return ResponseEntity.ok(exerciseProgressService.getProgress(user.id(), exerciseId));
+    }
+
+    @GetMapping("/series")
+    public ResponseEntity<ExerciseProgressSeriesResponse> getSeries(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID exerciseId,
+            @RequestParam(defaultValue = "EPLEY") OneRepMaxFormula formula,
+            @RequestParam(defaultValue = "200") int points
+    ) {
+        return ResponseEntity.ok(exerciseProgressService.getSeries(user.id(), exerciseId, formula, points));
+    }
+}
@@ -0,0 +1,37 @@
+package dev.kinero.kinerobackend.training.controller;
+
+import dev.kinero.kinerobackend.auth.model.AuthenticatedUser;
+import dev.kinero.kinerobackend.training.dto.ExportFormat;
+import dev.kinero.kinerobackend.training.service.TrainingExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final TrainingExportService trainingExportService;
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format
+    ) {
+        TrainingExportService.Export export = trainingExportService.prepare(user.id(), format);
+        String fileName = "kinero-export-" + LocalDate.now() + format.fileExtension();
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(export::writeTo);
+    }
+}
@@ -0,0 +1,26 @@
+package dev.kinero.kinerobackend.training.controller;
+
+import dev.kinero.kinerobackend.auth.model.AuthenticatedUser;
+import dev.kinero.kinerobackend.training.dto.MuscleVolumeResponse;
+import dev.kinero.kinerobackend.training.service.MuscleVolumeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/muscle-volume")
+@RequiredArgsConstructor
+public class MuscleVolumeController {
+
+    private final MuscleVolumeService muscleVolumeService;
+
+    @GetMapping("/weekly")
+    public ResponseEntity<MuscleVolumeResponse> getWeeklyVolume(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(defaultValue = "52") int weeks,
+            @RequestParam(required = false) Double secondaryWeight
+    ) {
+        return ResponseEntity.ok(muscleVolumeService.getWeeklyVolume(user.id(), weeks, secondaryWeight));
+    }
+}
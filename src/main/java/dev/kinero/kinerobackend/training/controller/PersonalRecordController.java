@@ -0,0 +1,27 @@
+package dev.kinero.kinerobackend.training.controller;
+
+import dev.kinero.kinerobackend.auth.model.AuthenticatedUser;
+import dev.kinero.kinerobackend.common.pagination.CursorPage;
+import dev.kinero.kinerobackend.training.dto.PersonalRecordResponse;
+import dev.kinero.kinerobackend.training.service.PersonalRecordService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/personal-records")
+@RequiredArgsConstructor
+public class PersonalRecordController {
+
+    private final PersonalRecordService personalRecordService;
+
+    @GetMapping
+    public ResponseEntity<CursorPage<PersonalRecordResponse>> getRecords(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(personalRecordService.getRecords(user.id(), cursor, CursorPage.clampLimit(limit)));
+    }
+}
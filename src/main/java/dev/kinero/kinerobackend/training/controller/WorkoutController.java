@@ -0,0 +1,153 @@
+package dev.kinero.kinerobackend.training.controller;
+
+import dev.kinero.kinerobackend.auth.model.AuthenticatedUser;
+import dev.kinero.kinerobackend.common.pagination.CursorPage;
+import dev.kinero.kinerobackend.training.dto.BulkLogSetRequest;
+import dev.kinero.kinerobackend.training.dto.ExerciseSetResponse;
+import dev.kinero.kinerobackend.training.dto.LogSetRequest;
+import dev.kinero.kinerobackend.training.dto.UpdateSetRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutResponse;
+import dev.kinero.kinerobackend.training.dto.WorkoutSummaryResponse;
+import dev.kinero.kinerobackend.training.service.WorkoutService;
+import dev.kinero.kinerobackend.training.service.WorkoutSyncResult;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/workouts")
+@RequiredArgsConstructor
+public class WorkoutController {
+
+    private final WorkoutService workoutService;
+
+    /**
+     * Workout history, newest first. Pass the returned {@code nextCursor} to fetch the next page.
+     */
+    @GetMapping
+    public ResponseEntity<CursorPage<WorkoutSummaryResponse>> getHistory(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(workoutService.getHistory(user.id(), cursor, CursorPage.clampLimit(limit)));
+    }
+
+    /**
+     * Workouts within {@code [from, to]} for calendar views, oldest first.
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<List<WorkoutSummaryResponse>> getCalendar(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(workoutService.getCalendar(user.id(), from, to));
+    }
+
+    @GetMapping("/{workoutId}")
+    public ResponseEntity<WorkoutResponse> getWorkout(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID workoutId
+    ) {
+        return ResponseEntity.ok(workoutService.getWorkout(user.id(), workoutId));
+    }
+
+    /**
+     * Uploads a whole workout recorded offline. Retries with the same {@code Idempotency-Key}
+     * are answered with the originally stored response instead of writing the workout again.
+     */
+    @PostMapping("/sync")
+    public ResponseEntity<WorkoutResponse> syncWorkout(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestHeader("Idempotency-Key") @NotBlank @Size(max = 255) String idempotencyKey,
+            @Valid @RequestBody WorkoutRequest request
+    ) {
+        WorkoutSyncResult result = workoutService.syncWorkout(user.id(), idempotencyKey, request);
+        if (result.replayed()) {
+            return ResponseEntity.ok()
+                    .header("Idempotent-Replayed", "true")
+                    .body(result.workout());
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(result.workout());
+    }
+
+    /**
+     * Starts a workout from one of the user's routines, its sets prefilled from the last time
+     * each exercise was performed.
+     */
+    @PostMapping("/from-routine/{routineId}")
+    public ResponseEntity<WorkoutResponse> startFromRoutine(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID routineId
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(workoutService.startFromRoutine(user.id(), routineId));
+    }
+
+    @PostMapping("/{workoutId}/exercises/{workoutExerciseId}/sets")
+    public ResponseEntity<ExerciseSetResponse> logSet(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID workoutId,
+            @PathVariable UUID workoutExerciseId,
+            @Valid @RequestBody LogSetRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(workoutService.logSet(user.id(), workoutId, workoutExerciseId, request));
+    }
+
+    @PostMapping("/{workoutId}/sets/bulk")
+    public ResponseEntity<List<ExerciseSetResponse>> logSets(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID workoutId,
+            @Valid @RequestBody BulkLogSetRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(workoutService.logSets(user.id(), workoutId, request));
+    }
+
+    @PatchMapping("/{workoutId}/sets/{setId}")
+    public ResponseEntity<ExerciseSetResponse> updateSet(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID workoutId,
+            @PathVariable UUID setId,
+            @Valid @RequestBody UpdateSetRequest request
+    ) {
+        return ResponseEntity.ok(workoutService.updateSet(user.id(), workoutId, setId, request));
+    }
+
+    @PostMapping("/{workoutId}/sets/{setId}/complete")
+    public ResponseEntity<ExerciseSetResponse> completeSet(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID workoutId,
+            @PathVariable UUID setId
+    ) {
+        return ResponseEntity.ok(workoutService.completeSet(user.id(), workoutId, setId));
+    }
+
+    @DeleteMapping("/{workoutId}/sets/{setId}")
+    public ResponseEntity<Void> deleteSet(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID workoutId,
+            @PathVariable UUID setId
+    ) {
+        workoutService.deleteSet(user.id(), workoutId, setId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{workoutId}/finish")
+    public ResponseEntity<WorkoutResponse> finishWorkout(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID workoutId
+    ) {
+        return ResponseEntity.ok(workoutService.finishWorkout(user.id(), workoutId));
+    }
+}
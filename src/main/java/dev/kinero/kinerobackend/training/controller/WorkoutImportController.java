@@ -0,0 +1,45 @@
+package dev.kinero.kinerobackend.training.controller;
+
+import dev.kinero.kinerobackend.auth.model.AuthenticatedUser;
+import dev.kinero.kinerobackend.training.dto.ImportJobResponse;
+import dev.kinero.kinerobackend.training.service.WorkoutImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/imports")
+@RequiredArgsConstructor
+public class WorkoutImportController {
+
+    private final WorkoutImportService workoutImportService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobResponse> startImport(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam("file") MultipartFile file
+    ) {
+        return ResponseEntity.accepted().body(workoutImportService.startImport(user.id(), file));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobResponse> getJob(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID jobId
+    ) {
+        return ResponseEntity.ok(workoutImportService.getJob(user.id(), jobId));
+    }
+
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<ImportJobResponse> cancelJob(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable UUID jobId
+    ) {
+        return ResponseEntity.accepted().body(workoutImportService.cancelJob(user.id(), jobId));
+    }
+}
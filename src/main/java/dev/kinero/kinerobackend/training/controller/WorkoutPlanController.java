@@ -0,0 +1,27 @@
+package dev.kinero.kinerobackend.training.controller;
+
+import dev.kinero.kinerobackend.auth.model.AuthenticatedUser;
+import dev.kinero.kinerobackend.common.pagination.CursorPage;
+import dev.kinero.kinerobackend.training.dto.WorkoutPlanResponse;
+import dev.kinero.kinerobackend.training.service.WorkoutPlanService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/workout-plans")
+@RequiredArgsConstructor
+public class WorkoutPlanController {
+
+    private final WorkoutPlanService workoutPlanService;
+
+    @GetMapping
+    public ResponseEntity<CursorPage<WorkoutPlanResponse>> getPlans(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(workoutPlanService.getPlans(user.id(), cursor, CursorPage.clampLimit(limit)));
+    }
+}
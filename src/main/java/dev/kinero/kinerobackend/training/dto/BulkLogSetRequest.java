@@ -0,0 +1,34 @@
+package dev.kinero.kinerobackend.training.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkLogSetRequest {
+    @NotEmpty(message = "At least one exercise is required")
+    @Valid
+    private List<ExerciseSets> exercises;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExerciseSets {
+        @NotNull(message = "Workout exercise id is required")
+        private UUID workoutExerciseId;
+
+        @NotEmpty(message = "At least one set is required")
+        @Valid
+        private List<LogSetRequest> sets;
+    }
+}
@@ -0,0 +1,9 @@
+package dev.kinero.kinerobackend.training.dto;
+
+import java.util.List;
+
+/**
+ * Every catalog exercise, i.e. all exercises that are not a user's custom one. {@code version}
+ * is the newest change to the catalog in epoch microseconds and only ever grows.
+ */
+public record ExerciseCatalogResponse(long version, List<ExerciseResponse> exercises) {}
@@ -0,0 +1,16 @@
+package dev.kinero.kinerobackend.training.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Catalog and custom exercises changed after the client's version. When {@code full} is set the
+ * client was too far behind: {@code upserted} is then the whole list and replaces the local copy.
+ * {@code version} is what the client sends as {@code since} next time.
+ */
+public record ExerciseChangesResponse(
+        long version,
+        boolean full,
+        List<ExerciseResponse> upserted,
+        List<UUID> deleted
+) {}
@@ -0,0 +1,19 @@
+package dev.kinero.kinerobackend.training.dto;
+
+import dev.kinero.kinerobackend.training.model.ExerciseType;
+import dev.kinero.kinerobackend.training.model.MuscleGroup;
+
+import java.util.List;
+
+/**
+ * Facet selection bound from query parameters. Values repeated within a facet are alternatives,
+ * different facets must all match; a facet left out is not filtered on.
+ */
+public record ExerciseFilterRequest(
+        List<MuscleGroup> primaryMuscle,
+        List<MuscleGroup> secondaryMuscle,
+        List<ExerciseType> type,
+        List<String> equipment,
+        Boolean compound,
+        Boolean custom
+) {}
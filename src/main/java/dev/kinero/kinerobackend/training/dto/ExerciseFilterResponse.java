@@ -0,0 +1,15 @@
+package dev.kinero.kinerobackend.training.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exercises matching a facet selection, at most the requested number of them out of
+ * {@code total}. {@code facets} holds, per facet and value, how many exercises would match if
+ * that facet were set to just that value with the rest of the selection kept.
+ */
+public record ExerciseFilterResponse(
+        int total,
+        List<ExerciseResponse> exercises,
+        Map<String, Map<String, Integer>> facets
+) {}
@@ -18,6 +18,7 @@ public class ExerciseProgressResponse {
     private Double maxWeight;
     private Integer maxReps;
     private Double highestVolume;
+    private Double bestEstimatedOneRepMax;
     private List<HistoryEntry> history;
 
     @Data
@@ -25,5 +26,9 @@ public class ExerciseProgressResponse {
     public static class HistoryEntry {
         private LocalDate date;
         private Double maxWeight;
+        private Integer maxReps;
+        private Double totalVolume;
+        private Integer setCount;
+        private Double estimatedOneRepMax;
     }
 }
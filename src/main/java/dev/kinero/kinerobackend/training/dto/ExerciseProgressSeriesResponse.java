@@ -0,0 +1,23 @@
+package dev.kinero.kinerobackend.training.dto;
+
+import dev.kinero.kinerobackend.training.model.OneRepMaxFormula;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Chart series for one exercise, each downsampled to at most {@code points} entries.
+ * {@code trainedDays} is the number of days before downsampling.
+ */
+public record ExerciseProgressSeriesResponse(
+        UUID exerciseId,
+        OneRepMaxFormula formula,
+        int points,
+        int trainedDays,
+        List<Point> estimatedOneRepMax,
+        List<Point> volume,
+        List<Point> bestSetVolume
+) {
+    public record Point(LocalDate date, double value) {}
+}
@@ -1,5 +1,7 @@
 package dev.kinero.kinerobackend.training.dto;
 
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,7 +13,11 @@ import lombok.NoArgsConstructor;
 @Builder
 public class ExerciseSetRequest {
     private Integer setNumber;
+    @NotNull(message = "Weight is required")
+    @PositiveOrZero(message = "Weight must not be negative")
     private Double weight;
+    @NotNull(message = "Reps are required")
+    @PositiveOrZero(message = "Reps must not be negative")
     private Integer reps;
     private Integer rpe;
     private Integer duration;
@@ -0,0 +1,26 @@
+package dev.kinero.kinerobackend.training.dto;
+
+/**
+ * Formats of the full data export: gzip-compressed NDJSON with one object per row, or a ZIP
+ * archive with one CSV file per table.
+ */
+public enum ExportFormat {
+    NDJSON("application/gzip", ".ndjson.gz"),
+    CSV("application/zip", ".zip");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    ExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+}
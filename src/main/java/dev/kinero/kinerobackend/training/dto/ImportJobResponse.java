@@ -0,0 +1,23 @@
+package dev.kinero.kinerobackend.training.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Progress of a CSV import. Nothing is visible in the user's history until the job is
+ * {@code COMPLETED}; a failed or cancelled import leaves no trace.
+ */
+public record ImportJobResponse(
+        UUID id,
+        ImportJobStatus status,
+        ImportSource source,
+        long rowsRead,
+        long workoutsImported,
+        long setsImported,
+        long rowsSkipped,
+        List<String> unknownExercises,
+        String error,
+        Instant createdAt,
+        Instant finishedAt
+) {}
@@ -0,0 +1,9 @@
+package dev.kinero.kinerobackend.training.dto;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
@@ -0,0 +1,9 @@
+package dev.kinero.kinerobackend.training.dto;
+
+/**
+ * Workout trackers whose CSV exports can be imported, recognised from the header row.
+ */
+public enum ImportSource {
+    STRONG,
+    HEVY
+}
@@ -0,0 +1,21 @@
+package dev.kinero.kinerobackend.training.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Top records of an exercise and rep range. Lifters are anonymous except for the caller's own
+ * entry; {@code percentile} is the share of lifters with a lighter record than the caller's,
+ * from 0 to 100, and null when the caller has no record.
+ */
+public record LeaderboardResponse(
+        UUID exerciseId,
+        int repRange,
+        long lifters,
+        Double yourBest,
+        Double percentile,
+        List<Entry> entries
+) {
+    public record Entry(int rank, double weight, LocalDate achievedDate, boolean you) {}
+}
@@ -1,5 +1,7 @@
 package dev.kinero.kinerobackend.training.dto;
 
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,8 +12,12 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Builder
 public class LogSetRequest {
-    private Integer setNumber;
+    private Integer setNumber; // next free number when omitted
+    @NotNull(message = "Weight is required")
+    @PositiveOrZero(message = "Weight must not be negative")
     private Double weight;
+    @NotNull(message = "Reps are required")
+    @PositiveOrZero(message = "Reps must not be negative")
     private Integer reps;
     private Integer duration;
     private Double rpe;
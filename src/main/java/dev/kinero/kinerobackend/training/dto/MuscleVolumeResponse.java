@@ -0,0 +1,21 @@
+package dev.kinero.kinerobackend.training.dto;
+
+import dev.kinero.kinerobackend.training.model.MuscleGroup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sets and volume per muscle group for consecutive ISO weeks, oldest first. Work on an
+ * exercise's secondary muscle counts with {@code secondaryWeight}; muscle groups without any
+ * work in a week are left out of its map.
+ */
+public record MuscleVolumeResponse(
+        double secondaryWeight,
+        List<Week> weeks
+) {
+    public record Week(LocalDate weekStart, String isoWeek, Map<MuscleGroup, Cell> muscles) {}
+
+    public record Cell(double sets, double volume) {}
+}
@@ -1,5 +1,6 @@
 package dev.kinero.kinerobackend.training.dto;
 
+import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,6 +13,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 public class StartWorkoutRequest {
+    @NotBlank(message = "Workout name is required")
     private String name;
     private String notes;
     private UUID routineId;
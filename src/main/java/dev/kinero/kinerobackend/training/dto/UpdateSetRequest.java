@@ -0,0 +1,26 @@
+package dev.kinero.kinerobackend.training.dto;
+
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Partial update of a logged set; fields left {@code null} keep their current value.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UpdateSetRequest {
+    @PositiveOrZero(message = "Weight must not be negative")
+    private Double weight;
+    @PositiveOrZero(message = "Reps must not be negative")
+    private Integer reps;
+    private Integer duration;
+    private Double rpe;
+    private String setType;
+    private String notes;
+    private Boolean completed;
+}
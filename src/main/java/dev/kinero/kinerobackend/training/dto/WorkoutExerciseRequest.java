@@ -1,11 +1,12 @@
 package dev.kinero.kinerobackend.training.dto;
 
+import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.Set;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -17,4 +18,6 @@ public class WorkoutExerciseRequest {
     private Integer plannedSets;
     private Integer plannedReps;
     private String notes;
+    @Valid
+    private List<ExerciseSetRequest> sets;
 }
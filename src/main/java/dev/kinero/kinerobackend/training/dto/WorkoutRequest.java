@@ -1,5 +1,8 @@
 package dev.kinero.kinerobackend.training.dto;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -7,7 +10,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Set;
+import java.util.List;
 import java.util.UUID;
 
 @Data
@@ -15,11 +18,14 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 public class WorkoutRequest {
+    @NotBlank(message = "Workout name is required")
     private String name;
     private String notes;
+    @NotNull(message = "Start time is required")
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private LocalDate workoutDate;
     private UUID routineId;
-    private Set<WorkoutExerciseRequest> exercises;
+    @Valid
+    private List<WorkoutExerciseRequest> exercises;
 }
@@ -0,0 +1,19 @@
+package dev.kinero.kinerobackend.training.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Compact workout row for history and calendar views. Also used as the JPQL constructor
+ * projection, so only these columns are ever read from {@code workouts}.
+ */
+public record WorkoutSummaryResponse(
+        UUID id,
+        String name,
+        LocalDate workoutDate,
+        Integer durationMinutes,
+        Integer totalSets,
+        BigDecimal totalVolume,
+        Boolean completed
+) {}
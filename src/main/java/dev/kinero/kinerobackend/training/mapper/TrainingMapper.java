@@ -0,0 +1,127 @@
+package dev.kinero.kinerobackend.training.mapper;
+
+import dev.kinero.kinerobackend.training.dto.ExerciseResponse;
+import dev.kinero.kinerobackend.training.dto.ExerciseSetResponse;
+import dev.kinero.kinerobackend.training.dto.PersonalRecordResponse;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseResponse;
+import dev.kinero.kinerobackend.training.dto.WorkoutPlanResponse;
+import dev.kinero.kinerobackend.training.dto.WorkoutResponse;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseSet;
+import dev.kinero.kinerobackend.training.model.PersonalRecord;
+import dev.kinero.kinerobackend.training.model.Workout;
+import dev.kinero.kinerobackend.training.model.WorkoutExercise;
+import dev.kinero.kinerobackend.training.model.WorkoutPlan;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.stream.Collectors;
+
+@Component
+public class TrainingMapper {
+
+    public ExerciseResponse toResponse(Exercise exercise) {
+        return ExerciseResponse.builder()
+                .id(exercise.getId())
+                .name(exercise.getName())
+                .category(exercise.getCategory())
+                .primaryMuscle(exercise.getPrimaryMuscle())
+                .equipment(exercise.getEquipment())
+                .instructions(exercise.getInstructions())
+                .isCustom(exercise.isCustom())
+                .createdByUserId(exercise.getCreatedByUserId())
+                .description(exercise.getDescription())
+                .secondaryMuscle(exercise.getSecondaryMuscle())
+                .type(exercise.getType())
+                .compound(exercise.isCompound())
+                .build();
+    }
+
+    public ExerciseSetResponse toResponse(ExerciseSet set) {
+        return ExerciseSetResponse.builder()
+                .id(set.getId())
+                .setNumber(set.getSetNumber())
+                .weight(set.getWeight())
+                .reps(set.getReps())
+                .rpe(set.getRpe())
+                .duration(set.getDuration())
+                .setType(set.getSetType())
+                .notes(set.getNotes())
+                .completed(set.getCompleted())
+                .build();
+    }
+
+    /**
+     * Maps the exercise together with the given sets, ordered by set number. The sets are
+     * passed in rather than read from the lazy {@code sets} collection.
+     */
+    public WorkoutExerciseResponse toResponse(WorkoutExercise workoutExercise, Collection<ExerciseSet> sets) {
+        return WorkoutExerciseResponse.builder()
+                .id(workoutExercise.getId())
+                .exercise(toResponse(workoutExercise.getExercise()))
+                .position(workoutExercise.getPosition())
+                .plannedSets(workoutExercise.getPlannedSets())
+                .plannedReps(workoutExercise.getPlannedReps())
+                .notes(workoutExercise.getNotes())
+                .completed(workoutExercise.getCompleted())
+                .sets(sets.stream()
+                        .sorted(Comparator.comparing(ExerciseSet::getSetNumber))
+                        .map(this::toResponse)
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .build();
+    }
+
+    /**
+     * Maps the workout with already mapped exercises, ordered by position.
+     */
+    public WorkoutResponse toResponse(Workout workout, Collection<WorkoutExerciseResponse> exercises) {
+        return WorkoutResponse.builder()
+                .id(workout.getId())
+                .name(workout.getName())
+                .notes(workout.getNotes())
+                .startTime(workout.getStartTime())
+                .endTime(workout.getEndTime())
+                .workoutDate(workout.getWorkoutDate())
+                .completed(workout.getCompleted())
+                .totalSets(workout.getTotalSets())
+                .durationMinutes(workout.getDurationMinutes())
+                .totalVolume(workout.getTotalVolume())
+                .routineId(workout.getRoutineId())
+                .exercises(exercises.stream()
+                        .sorted(Comparator.comparing(WorkoutExerciseResponse::getPosition))
+                        .collect(Collectors.toCollection(LinkedHashSet::new)))
+                .build();
+    }
+
+    /**
+     * Maps the record including its exercise, which callers must have fetched with it.
+     */
+    public PersonalRecordResponse toResponse(PersonalRecord personalRecord) {
+        return PersonalRecordResponse.builder()
+                .id(personalRecord.getId())
+                .exercise(toResponse(personalRecord.getExercise()))
+                .weight(personalRecord.getWeight())
+                .repRange(personalRecord.getRepRange())
+                .achievedDate(personalRecord.getAchievedDate())
+                .notes(personalRecord.getNotes())
+                .build();
+    }
+
+    /**
+     * Maps the plan without its days.
+     */
+    public WorkoutPlanResponse toSummaryResponse(WorkoutPlan workoutPlan) {
+        return WorkoutPlanResponse.builder()
+                .id(workoutPlan.getId())
+                .name(workoutPlan.getName())
+                .description(workoutPlan.getDescription())
+                .programType(workoutPlan.getProgramType())
+                .daysPerWeek(workoutPlan.getDaysPerWeek())
+                .startDate(workoutPlan.getStartDate())
+                .endDate(workoutPlan.getEndDate())
+                .active(workoutPlan.getActive())
+                .build();
+    }
+}
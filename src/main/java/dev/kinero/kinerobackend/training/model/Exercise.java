@@ -1,7 +1,9 @@
 package dev.kinero.kinerobackend.training.model;
 import dev.kinero.kinerobackend.common.model.BaseEntity;
+import dev.kinero.kinerobackend.training.service.ExerciseChangeListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
@@ -12,6 +14,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 @Entity
 @Table(name = "exercises")
+@EntityListeners(ExerciseChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,71 @@
+package dev.kinero.kinerobackend.training.model;
+
+import dev.kinero.kinerobackend.common.model.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Aggregates of one user's completed sets of one exercise on one training day. Written only
+ * by {@code ExerciseRollupBatchRepository} as sets change, never through JPA.
+ */
+@Entity
+@Table(
+    name = "exercise_daily_rollups",
+    uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"user_id", "exercise_id", "trained_on"})
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExerciseDailyRollup extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "exercise_id", nullable = false)
+    private UUID exerciseId;
+
+    @Column(name = "trained_on", nullable = false)
+    private LocalDate trainedOn; // the workout date of the sets
+
+    @Column(nullable = false)
+    private Double maxWeight;
+
+    @Column(nullable = false)
+    private Integer maxReps;
+
+    @Column(nullable = false)
+    private Double bestSetVolume; // highest weight x reps of a single set
+
+    @Column(nullable = false)
+    private Double totalVolume;
+
+    @Column(nullable = false)
+    private Integer setCount;
+
+    @Column(name = "best_estimated_one_rep_max", nullable = false)
+    private Double bestEstimatedOneRepMax; // Epley
+
+    @Column(name = "best_brzycki_one_rep_max", nullable = false)
+    private Double bestBrzyckiOneRepMax;
+
+    public double bestOneRepMax(OneRepMaxFormula formula) {
+        return switch (formula) {
+            case EPLEY -> bestEstimatedOneRepMax;
+            case BRZYCKI -> bestBrzyckiOneRepMax;
+        };
+    }
+}
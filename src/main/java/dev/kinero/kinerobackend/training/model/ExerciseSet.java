@@ -5,12 +5,15 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+
+import java.time.LocalDate;
 @Entity
 @Table(name = "sets")
 @Getter
@@ -36,4 +39,15 @@ public class ExerciseSet extends BaseEntity {
     private String notes;
     @Column(nullable = false)
     private Boolean completed = false;
+
+    // Copy of the workout date, the partition key of the sets table; never changes once written
+    @Column(name = "performed_on", nullable = false, updatable = false)
+    private LocalDate performedOn;
+
+    @PrePersist
+    void assignPerformedOn() {
+        if (performedOn == null) {
+            performedOn = workoutExercise.getWorkout().getWorkoutDate();
+        }
+    }
 }
@@ -1,4 +1,5 @@
 package dev.kinero.kinerobackend.training.model;
+// Ordinals index the arrays of muscle_weekly_rollups: append new groups, never reorder
 public enum MuscleGroup {
     CHEST,
     BACK,
@@ -0,0 +1,30 @@
+package dev.kinero.kinerobackend.training.model;
+
+/**
+ * Estimates of the one-rep max from a set of several reps. A single is always its own
+ * one-rep max, whatever the formula.
+ */
+public enum OneRepMaxFormula {
+    EPLEY {
+        @Override
+        protected double estimateMultiple(double weight, int reps) {
+            return weight * (1 + reps / 30.0);
+        }
+    },
+    BRZYCKI {
+        @Override
+        protected double estimateMultiple(double weight, int reps) {
+            // The formula diverges at 37 reps; sets that long say nothing about the max anyway
+            return weight * 36 / (37 - Math.min(reps, 36));
+        }
+    };
+
+    public double estimate(double weight, int reps) {
+        if (reps <= 0) {
+            return 0;
+        }
+        return reps == 1 ? weight : estimateMultiple(weight, reps);
+    }
+
+    protected abstract double estimateMultiple(double weight, int reps);
+}
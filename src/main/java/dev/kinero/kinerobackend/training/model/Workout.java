@@ -38,7 +38,8 @@ public class Workout extends BaseEntity {
     private LocalDateTime startTime;
     @Column(name = "finished_at")
     private LocalDateTime endTime;
-    @Column(name = "total_volume")
+    // Totals are kept current by atomic deltas in WorkoutBatchRepository; entity updates must not overwrite them
+    @Column(name = "total_volume", updatable = false)
     private java.math.BigDecimal totalVolume;
     @Column(nullable = false)
     private LocalDate workoutDate;
@@ -47,7 +48,7 @@ public class Workout extends BaseEntity {
     @Builder.Default
     private Set<WorkoutExercise> exercises = new HashSet<>();
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Integer totalSets = 0;
 
@@ -55,7 +56,7 @@ public class Workout extends BaseEntity {
     @Builder.Default
     private Boolean completed = false;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Integer durationMinutes = 0;
 }
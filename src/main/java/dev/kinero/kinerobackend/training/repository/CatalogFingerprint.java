@@ -0,0 +1,9 @@
+package dev.kinero.kinerobackend.training.repository;
+
+import java.time.Instant;
+
+/**
+ * Row count and newest {@code updated_at} of the catalog exercises, soft-deleted rows included:
+ * any write to the catalog changes at least one of the two.
+ */
+public record CatalogFingerprint(Long exercises, Instant lastUpdated) {}
@@ -0,0 +1,13 @@
+package dev.kinero.kinerobackend.training.repository;
+
+import dev.kinero.kinerobackend.training.model.ExerciseDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ExerciseDailyRollupRepository extends JpaRepository<ExerciseDailyRollup, UUID> {
+    List<ExerciseDailyRollup> findByUserIdAndExerciseIdOrderByTrainedOnAsc(UUID userId, UUID exerciseId);
+}
@@ -0,0 +1,79 @@
+package dev.kinero.kinerobackend.training.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC access to {@code exercise_leaderboards} and the records they are built from.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExerciseLeaderboardRepository {
+
+    private static final String UPSERT = """
+            INSERT INTO exercise_leaderboards (exercise_id, rep_range, sketch, top_records, lifters, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (exercise_id, rep_range) DO UPDATE SET
+                sketch = EXCLUDED.sketch,
+                top_records = EXCLUDED.top_records,
+                lifters = EXCLUDED.lifters,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String FIND_ALL = """
+            SELECT exercise_id, rep_range, sketch, top_records, lifters FROM exercise_leaderboards
+            """;
+
+    private static final String ALL_RECORDS = """
+            SELECT user_id, exercise_id, rep_range, weight, achieved_date
+            FROM personal_records
+            WHERE deleted = FALSE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsert(Collection<Snapshot> snapshots) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(UPSERT, snapshots, 100, (ps, snapshot) -> {
+            ps.setObject(1, snapshot.exerciseId());
+            ps.setInt(2, snapshot.repRange());
+            ps.setBytes(3, snapshot.sketch());
+            ps.setBytes(4, snapshot.topRecords());
+            ps.setLong(5, snapshot.lifters());
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    public List<Snapshot> findAll() {
+        return jdbcTemplate.query(FIND_ALL, (rs, rowNum) -> new Snapshot(
+                rs.getObject("exercise_id", UUID.class),
+                rs.getInt("rep_range"),
+                rs.getBytes("sketch"),
+                rs.getBytes("top_records"),
+                rs.getLong("lifters")
+        ));
+    }
+
+    /**
+     * Streams every live personal record; columns are {@code user_id, exercise_id, rep_range,
+     * weight, achieved_date}. Must run inside a transaction for the fetch size to apply.
+     */
+    public void streamRecords(RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(ALL_RECORDS);
+            statement.setFetchSize(1000);
+            return statement;
+        }, handler);
+    }
+
+    public record Snapshot(UUID exerciseId, int repRange, byte[] sketch, byte[] topRecords, long lifters) {}
+}
@@ -1,9 +1,13 @@
 package dev.kinero.kinerobackend.training.repository;
 import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseType;
 import dev.kinero.kinerobackend.training.model.MuscleGroup;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,8 +19,25 @@ public interface ExerciseRepository extends JpaRepository<Exercise, UUID> {
 
     List<Exercise> findByCompound(Boolean compound);
 
-    List<Exercise> findByType(String type);
+    List<Exercise> findByType(ExerciseType type);
 
     @Query("SELECT e FROM Exercise e WHERE e.deleted = false ORDER BY e.name")
     List<Exercise> findAllActive();
+
+    @Query("SELECT e FROM Exercise e WHERE e.deleted = false AND e.isCustom = false ORDER BY e.name")
+    List<Exercise> findCatalog();
+
+    @Query("SELECT e FROM Exercise e WHERE e.deleted = false AND e.isCustom = true AND e.createdByUserId = :userId ORDER BY e.name")
+    List<Exercise> findActiveCustomByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT new dev.kinero.kinerobackend.training.repository.CatalogFingerprint(COUNT(e), MAX(e.updatedAt)) FROM Exercise e WHERE e.isCustom = false")
+    CatalogFingerprint findCatalogFingerprint();
+
+    // Delta sync: soft-deleted rows are included as tombstones
+
+    @Query("SELECT e FROM Exercise e WHERE e.isCustom = false AND e.updatedAt > :since ORDER BY e.updatedAt, e.id")
+    List<Exercise> findCatalogChangedSince(@Param("since") Instant since, Limit limit);
+
+    @Query("SELECT e FROM Exercise e WHERE e.isCustom = true AND e.createdByUserId = :userId AND e.updatedAt > :since ORDER BY e.updatedAt, e.id")
+    List<Exercise> findCustomChangedSince(@Param("userId") UUID userId, @Param("since") Instant since, Limit limit);
 }
@@ -0,0 +1,127 @@
+package dev.kinero.kinerobackend.training.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * JDBC writes for {@code exercise_daily_rollups}.
+ * <p>
+ * Additions are merged into the stored row (maxima with {@code GREATEST}, sums added), which
+ * needs no read of the sets. Removals cannot be merged that way, so the affected days are
+ * recomputed from the sets of that one user, exercise and day.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExerciseRollupBatchRepository {
+
+    private static final String MERGE = """
+            INSERT INTO exercise_daily_rollups (id, user_id, exercise_id, trained_on, max_weight, max_reps,
+                                                best_set_volume, total_volume, set_count, best_estimated_one_rep_max,
+                                                best_brzycki_one_rep_max, created_at, updated_at, deleted)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE)
+            ON CONFLICT (user_id, exercise_id, trained_on) DO UPDATE SET
+                max_weight = GREATEST(exercise_daily_rollups.max_weight, EXCLUDED.max_weight),
+                max_reps = GREATEST(exercise_daily_rollups.max_reps, EXCLUDED.max_reps),
+                best_set_volume = GREATEST(exercise_daily_rollups.best_set_volume, EXCLUDED.best_set_volume),
+                total_volume = exercise_daily_rollups.total_volume + EXCLUDED.total_volume,
+                set_count = exercise_daily_rollups.set_count + EXCLUDED.set_count,
+                best_estimated_one_rep_max = GREATEST(exercise_daily_rollups.best_estimated_one_rep_max,
+                                                      EXCLUDED.best_estimated_one_rep_max),
+                best_brzycki_one_rep_max = GREATEST(exercise_daily_rollups.best_brzycki_one_rep_max,
+                                                    EXCLUDED.best_brzycki_one_rep_max),
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String DELETE_DAY = """
+            DELETE FROM exercise_daily_rollups
+            WHERE user_id = ? AND exercise_id = ? AND trained_on = ?
+            """;
+
+    private static final String RECOMPUTE_DAY = """
+            INSERT INTO exercise_daily_rollups (id, user_id, exercise_id, trained_on, max_weight, max_reps,
+                                                best_set_volume, total_volume, set_count, best_estimated_one_rep_max,
+                                                best_brzycki_one_rep_max, created_at, updated_at, deleted)
+            SELECT gen_random_uuid(), w.user_id, we.exercise_id, w.workout_date,
+                   MAX(s.weight), MAX(s.reps), MAX(s.weight * s.reps), SUM(s.weight * s.reps), COUNT(*),
+                   MAX(CASE WHEN s.reps <= 0 THEN 0
+                            WHEN s.reps = 1 THEN s.weight
+                            ELSE s.weight * (1 + s.reps / 30.0) END),
+                   MAX(CASE WHEN s.reps <= 0 THEN 0
+                            WHEN s.reps = 1 THEN s.weight
+                            ELSE s.weight * 36 / (37 - LEAST(s.reps, 36)) END),
+                   ?, ?, FALSE
+            FROM sets s
+            JOIN workout_exercises we ON we.id = s.workout_exercise_id
+            JOIN workouts w ON w.id = we.workout_id
+            WHERE w.user_id = ? AND we.exercise_id = ? AND w.workout_date = ? AND s.performed_on = ?
+              AND s.completed = TRUE AND s.deleted = FALSE AND we.deleted = FALSE AND w.deleted = FALSE
+            GROUP BY w.user_id, we.exercise_id, w.workout_date
+            ON CONFLICT (user_id, exercise_id, trained_on) DO UPDATE SET
+                max_weight = EXCLUDED.max_weight,
+                max_reps = EXCLUDED.max_reps,
+                best_set_volume = EXCLUDED.best_set_volume,
+                total_volume = EXCLUDED.total_volume,
+                set_count = EXCLUDED.set_count,
+                best_estimated_one_rep_max = EXCLUDED.best_estimated_one_rep_max,
+                best_brzycki_one_rep_max = EXCLUDED.best_brzycki_one_rep_max,
+                updated_at = EXCLUDED.updated_at,
+                deleted = FALSE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void merge(UUID userId, Collection<DayAggregate> aggregates) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(MERGE, aggregates, WorkoutBatchRepository.BATCH_SIZE, (ps, aggregate) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, userId);
+            ps.setObject(3, aggregate.exerciseId());
+            ps.setDate(4, Date.valueOf(aggregate.trainedOn()));
+            ps.setDouble(5, aggregate.maxWeight());
+            ps.setInt(6, aggregate.maxReps());
+            ps.setDouble(7, aggregate.bestSetVolume());
+            ps.setDouble(8, aggregate.totalVolume());
+            ps.setInt(9, aggregate.setCount());
+            ps.setDouble(10, aggregate.bestEstimatedOneRepMax());
+            ps.setDouble(11, aggregate.bestBrzyckiOneRepMax());
+            ps.setTimestamp(12, now);
+            ps.setTimestamp(13, now);
+        });
+    }
+
+    /**
+     * Rebuilds the rows of the given days from the sets, dropping days that have no sets left.
+     * Pending JPA changes to those sets must have been flushed first. A row that a concurrent
+     * first write inserted after the delete is overwritten with the recomputed values.
+     */
+    public void recompute(UUID userId, Collection<DayKey> days) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(DELETE_DAY, days, WorkoutBatchRepository.BATCH_SIZE, (ps, day) -> {
+            ps.setObject(1, userId);
+            ps.setObject(2, day.exerciseId());
+            ps.setDate(3, Date.valueOf(day.trainedOn()));
+        });
+        jdbcTemplate.batchUpdate(RECOMPUTE_DAY, days, WorkoutBatchRepository.BATCH_SIZE, (ps, day) -> {
+            ps.setTimestamp(1, now);
+            ps.setTimestamp(2, now);
+            ps.setObject(3, userId);
+            ps.setObject(4, day.exerciseId());
+            ps.setDate(5, Date.valueOf(day.trainedOn()));
+            ps.setDate(6, Date.valueOf(day.trainedOn()));
+        });
+    }
+
+    public record DayKey(UUID exerciseId, LocalDate trainedOn) {}
+
+    public record DayAggregate(UUID exerciseId, LocalDate trainedOn, double maxWeight, int maxReps,
+                               double bestSetVolume, double totalVolume, int setCount,
+                               double bestEstimatedOneRepMax, double bestBrzyckiOneRepMax) {}
+}
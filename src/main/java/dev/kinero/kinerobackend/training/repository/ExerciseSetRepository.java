@@ -1,22 +1,34 @@
 package dev.kinero.kinerobackend.training.repository;
 import dev.kinero.kinerobackend.training.model.ExerciseSet;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 @Repository
 public interface ExerciseSetRepository extends JpaRepository<ExerciseSet, UUID> {
     List<ExerciseSet> findByWorkoutExerciseId(UUID workoutExerciseId);
 
     void deleteByWorkoutExerciseId(UUID workoutExerciseId);
-    @Query("SELECT MAX(s.weight) FROM ExerciseSet s JOIN s.workoutExercise we WHERE we.exercise.id = :exerciseId")
-    Double findMaxWeightByExerciseId(@Param("exerciseId") UUID exerciseId);
-    @Query("SELECT MAX(s.reps) FROM ExerciseSet s JOIN s.workoutExercise we WHERE we.exercise.id = :exerciseId")
-    Integer findMaxRepsByExerciseId(@Param("exerciseId") UUID exerciseId);
-    @Query("SELECT s FROM ExerciseSet s JOIN s.workoutExercise we WHERE we.exercise.id = :exerciseId AND (s.weight * s.reps) = (SELECT MAX(s2.weight * s2.reps) FROM ExerciseSet s2 JOIN s2.workoutExercise we2 WHERE we2.exercise.id = :exerciseId)")
-    List<ExerciseSet> findHighestVolumeSetByExerciseId(@Param("exerciseId") UUID exerciseId);
-    @Query("SELECT w.workoutDate as date, MAX(s.weight) as maxWeight FROM ExerciseSet s JOIN s.workoutExercise we JOIN we.workout w WHERE we.exercise.id = :exerciseId GROUP BY w.workoutDate ORDER BY w.workoutDate")
-    List<Object[]> findWeightHistoryByExerciseId(@Param("exerciseId") UUID exerciseId);
+
+    // The sets table is partitioned by performed_on; the queries below take the workout date so
+    // that only the partition of that month is scanned.
+
+    @Query("SELECT s FROM ExerciseSet s JOIN s.workoutExercise we WHERE we.workout.id = :workoutId AND s.performedOn = :performedOn AND s.deleted = false AND we.deleted = false")
+    List<ExerciseSet> findActiveByWorkoutId(@Param("workoutId") UUID workoutId, @Param("performedOn") LocalDate performedOn);
+
+    // Locked so that concurrent edits of the same set compute their totals delta from the value
+    // the other one committed rather than from the same stale read
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ExerciseSet s JOIN FETCH s.workoutExercise we WHERE s.id = :id AND s.performedOn = :performedOn AND we.workout.id = :workoutId AND s.deleted = false AND we.deleted = false")
+    Optional<ExerciseSet> findActiveByIdAndWorkoutId(@Param("id") UUID id, @Param("workoutId") UUID workoutId, @Param("performedOn") LocalDate performedOn);
+
+    @Query("SELECT s.workoutExercise.id, MAX(s.setNumber) FROM ExerciseSet s WHERE s.workoutExercise.id IN :workoutExerciseIds AND s.performedOn = :performedOn AND s.deleted = false GROUP BY s.workoutExercise.id")
+    List<Object[]> findMaxSetNumbers(@Param("workoutExerciseIds") Collection<UUID> workoutExerciseIds, @Param("performedOn") LocalDate performedOn);
 }
@@ -0,0 +1,146 @@
+package dev.kinero.kinerobackend.training.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC access to {@code exercise_last_performances}: per user and exercise, the completed sets
+ * of the most recent finished workout that had the exercise.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LastPerformanceRepository {
+
+    // A workout synced late from an older session must not replace a more recent performance;
+    // within one call only the latest of the given workouts per exercise is written, as one
+    // upsert cannot touch the same row twice
+    private static final String REFRESH = """
+            INSERT INTO exercise_last_performances (user_id, exercise_id, workout_id, started_at, performed_on,
+                                                    weights, reps, updated_at)
+            SELECT DISTINCT ON (w.user_id, we.exercise_id)
+                   w.user_id, we.exercise_id, w.id, w.started_at, w.workout_date,
+                   array_agg(s.weight ORDER BY we.position, s.set_number, s.id),
+                   array_agg(s.reps ORDER BY we.position, s.set_number, s.id),
+                   ?
+            FROM workouts w
+            JOIN workout_exercises we ON we.workout_id = w.id AND we.deleted = FALSE
+            JOIN sets s ON s.workout_exercise_id = we.id AND s.performed_on = w.workout_date
+                       AND s.completed = TRUE AND s.deleted = FALSE
+            WHERE w.id = ANY(?) AND w.completed = TRUE AND w.deleted = FALSE
+            GROUP BY w.user_id, we.exercise_id, w.id, w.started_at, w.workout_date
+            ORDER BY w.user_id, we.exercise_id, w.started_at DESC, w.id DESC
+            ON CONFLICT (user_id, exercise_id) DO UPDATE SET
+                workout_id = EXCLUDED.workout_id,
+                started_at = EXCLUDED.started_at,
+                performed_on = EXCLUDED.performed_on,
+                weights = EXCLUDED.weights,
+                reps = EXCLUDED.reps,
+                updated_at = EXCLUDED.updated_at
+            WHERE exercise_last_performances.started_at <= EXCLUDED.started_at
+            """;
+
+    private static final String FIND = """
+            SELECT exercise_id, workout_id, performed_on, weights, reps
+            FROM exercise_last_performances
+            WHERE user_id = ? AND exercise_id = ANY(?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Records the completed sets of the finished workout as the last performance of each of its
+     * exercises, unless the user has performed the exercise in a workout started later.
+     */
+    public void refresh(UUID workoutId) {
+        refresh(List.of(workoutId));
+    }
+
+    /**
+     * {@link #refresh(UUID)} for many finished workouts in one statement.
+     */
+    public void refresh(Collection<UUID> workoutIds) {
+        if (workoutIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(REFRESH);
+            statement.setTimestamp(1, Timestamp.from(Instant.now()));
+            statement.setArray(2, connection.createArrayOf("uuid", workoutIds.toArray()));
+            return statement;
+        });
+    }
+
+    /**
+     * Last performances of the given exercises in one statement, keyed by exercise id; exercises
+     * the user has never finished are absent.
+     */
+    public Map<UUID, LastPerformance> findByExercises(UUID userId, Collection<UUID> exerciseIds) {
+        Map<UUID, LastPerformance> performances = new HashMap<>();
+        if (exerciseIds.isEmpty()) {
+            return performances;
+        }
+        List<LastPerformance> rows = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND);
+            statement.setObject(1, userId);
+            statement.setArray(2, connection.createArrayOf("uuid", exerciseIds.toArray()));
+            return statement;
+        }, (rs, rowNum) -> new LastPerformance(
+                rs.getObject("exercise_id", UUID.class),
+                rs.getObject("workout_id", UUID.class),
+                rs.getDate("performed_on").toLocalDate(),
+                doubles(rs, "weights"),
+                ints(rs, "reps")
+        ));
+        for (LastPerformance row : rows) {
+            performances.put(row.exerciseId(), row);
+        }
+        return performances;
+    }
+
+    private static double[] doubles(ResultSet rs, String column) throws SQLException {
+        Array array = rs.getArray(column);
+        Object[] stored = (Object[]) array.getArray();
+        double[] values = new double[stored.length];
+        for (int i = 0; i < stored.length; i++) {
+            values[i] = stored[i] != null ? ((Number) stored[i]).doubleValue() : 0;
+        }
+        array.free();
+        return values;
+    }
+
+    private static int[] ints(ResultSet rs, String column) throws SQLException {
+        Array array = rs.getArray(column);
+        Object[] stored = (Object[]) array.getArray();
+        int[] values = new int[stored.length];
+        for (int i = 0; i < stored.length; i++) {
+            values[i] = stored[i] != null ? ((Number) stored[i]).intValue() : 0;
+        }
+        array.free();
+        return values;
+    }
+
+    /**
+     * Weights and reps of the completed sets, in set order, of the workout performed on {@code performedOn}.
+     */
+    public record LastPerformance(
+            UUID exerciseId,
+            UUID workoutId,
+            LocalDate performedOn,
+            double[] weights,
+            int[] reps
+    ) {}
+}
@@ -0,0 +1,198 @@
+package dev.kinero.kinerobackend.training.repository;
+
+import dev.kinero.kinerobackend.training.model.MuscleGroup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC access to {@code muscle_weekly_rollups}: one row per user and ISO week holding sets
+ * and volume per muscle group in arrays indexed by {@link MuscleGroup} ordinal.
+ * <p>
+ * Sets and volume are plain sums, so additions are merged as deltas added element-wise to the
+ * stored arrays. A removal has to take the set away from the muscles it was credited to, which
+ * may no longer be the exercise's muscles, so the affected weeks are recomputed from the sets.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MuscleWeeklyRollupRepository {
+
+    public static final int MUSCLE_GROUPS = MuscleGroup.values().length;
+
+    // unnest pads the shorter array with NULLs, so rows written before a muscle group was added still merge
+    private static final String MERGE = """
+            INSERT INTO muscle_weekly_rollups (id, user_id, week_start, primary_sets, primary_volume,
+                                               secondary_sets, secondary_volume, created_at, updated_at, deleted)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE)
+            ON CONFLICT (user_id, week_start) DO UPDATE SET
+                primary_sets = (SELECT array_agg(COALESCE(a, 0) + COALESCE(b, 0) ORDER BY i)
+                                FROM unnest(muscle_weekly_rollups.primary_sets, EXCLUDED.primary_sets)
+                                     WITH ORDINALITY AS t(a, b, i)),
+                primary_volume = (SELECT array_agg(COALESCE(a, 0) + COALESCE(b, 0) ORDER BY i)
+                                  FROM unnest(muscle_weekly_rollups.primary_volume, EXCLUDED.primary_volume)
+                                       WITH ORDINALITY AS t(a, b, i)),
+                secondary_sets = (SELECT array_agg(COALESCE(a, 0) + COALESCE(b, 0) ORDER BY i)
+                                  FROM unnest(muscle_weekly_rollups.secondary_sets, EXCLUDED.secondary_sets)
+                                       WITH ORDINALITY AS t(a, b, i)),
+                secondary_volume = (SELECT array_agg(COALESCE(a, 0) + COALESCE(b, 0) ORDER BY i)
+                                    FROM unnest(muscle_weekly_rollups.secondary_volume, EXCLUDED.secondary_volume)
+                                         WITH ORDINALITY AS t(a, b, i)),
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String FIND_WEEKS = """
+            SELECT week_start, primary_sets, primary_volume, secondary_sets, secondary_volume
+            FROM muscle_weekly_rollups
+            WHERE user_id = ? AND week_start BETWEEN ? AND ? AND deleted = FALSE
+            ORDER BY week_start
+            """;
+
+    private static final String DELETE_WEEK = """
+            DELETE FROM muscle_weekly_rollups
+            WHERE user_id = ? AND week_start = ?
+            """;
+
+    private static final String WEEK_TOTALS = """
+            SELECT e.primary_muscle, e.secondary_muscle, COUNT(*) AS sets, SUM(s.weight * s.reps) AS volume
+            FROM sets s
+            JOIN workout_exercises we ON we.id = s.workout_exercise_id
+            JOIN workouts w ON w.id = we.workout_id
+            JOIN exercises e ON e.id = we.exercise_id
+            WHERE w.user_id = ? AND w.workout_date BETWEEN ? AND ? AND s.performed_on BETWEEN ? AND ?
+              AND s.completed = TRUE AND s.deleted = FALSE AND we.deleted = FALSE AND w.deleted = FALSE
+            GROUP BY e.primary_muscle, e.secondary_muscle
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void merge(UUID userId, Collection<MuscleWeek> deltas) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(MERGE, deltas, deltas.size(), (ps, delta) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, userId);
+            ps.setDate(3, Date.valueOf(delta.weekStart()));
+            ps.setArray(4, ps.getConnection().createArrayOf("integer", boxed(delta.primarySets())));
+            ps.setArray(5, ps.getConnection().createArrayOf("float8", boxed(delta.primaryVolume())));
+            ps.setArray(6, ps.getConnection().createArrayOf("integer", boxed(delta.secondarySets())));
+            ps.setArray(7, ps.getConnection().createArrayOf("float8", boxed(delta.secondaryVolume())));
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    /**
+     * Rebuilds the rows of the given weeks from the sets and the exercises' current muscles,
+     * dropping weeks that have no sets left. Pending JPA changes to those sets must have been
+     * flushed first.
+     */
+    public void recompute(UUID userId, Collection<LocalDate> weekStarts) {
+        List<MuscleWeek> weeks = new ArrayList<>();
+        for (LocalDate weekStart : weekStarts) {
+            MuscleWeek week = MuscleWeek.empty(weekStart);
+            Date from = Date.valueOf(weekStart);
+            Date to = Date.valueOf(weekStart.plusDays(6));
+            jdbcTemplate.query(WEEK_TOTALS, (ResultSet rs) -> {
+                int sets = rs.getInt("sets");
+                double volume = rs.getDouble("volume");
+                int primary = MuscleGroup.valueOf(rs.getString("primary_muscle")).ordinal();
+                week.primarySets()[primary] += sets;
+                week.primaryVolume()[primary] += volume;
+                String secondaryMuscle = rs.getString("secondary_muscle");
+                if (secondaryMuscle != null) {
+                    int secondary = MuscleGroup.valueOf(secondaryMuscle).ordinal();
+                    week.secondarySets()[secondary] += sets;
+                    week.secondaryVolume()[secondary] += volume;
+                }
+            }, userId, from, to, from, to);
+            if (Arrays.stream(week.primarySets()).anyMatch(sets -> sets != 0)) {
+                weeks.add(week);
+            }
+        }
+
+        jdbcTemplate.batchUpdate(DELETE_WEEK, weekStarts, weekStarts.size(), (ps, weekStart) -> {
+            ps.setObject(1, userId);
+            ps.setDate(2, Date.valueOf(weekStart));
+        });
+        if (!weeks.isEmpty()) {
+            merge(userId, weeks);
+        }
+    }
+
+    public List<MuscleWeek> findWeeks(UUID userId, LocalDate fromWeek, LocalDate toWeek) {
+        return jdbcTemplate.query(FIND_WEEKS, (rs, rowNum) -> new MuscleWeek(
+                rs.getDate("week_start").toLocalDate(),
+                ints(rs, "primary_sets"),
+                doubles(rs, "primary_volume"),
+                ints(rs, "secondary_sets"),
+                doubles(rs, "secondary_volume")
+        ), userId, Date.valueOf(fromWeek), Date.valueOf(toWeek));
+    }
+
+    private static Integer[] boxed(int[] values) {
+        Integer[] boxed = new Integer[values.length];
+        for (int i = 0; i < values.length; i++) {
+            boxed[i] = values[i];
+        }
+        return boxed;
+    }
+
+    private static Double[] boxed(double[] values) {
+        Double[] boxed = new Double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            boxed[i] = values[i];
+        }
+        return boxed;
+    }
+
+    private static int[] ints(ResultSet rs, String column) throws SQLException {
+        int[] values = new int[MUSCLE_GROUPS];
+        Array array = rs.getArray(column);
+        Object[] stored = (Object[]) array.getArray();
+        for (int i = 0; i < Math.min(stored.length, MUSCLE_GROUPS); i++) {
+            values[i] = stored[i] != null ? ((Number) stored[i]).intValue() : 0;
+        }
+        array.free();
+        return values;
+    }
+
+    private static double[] doubles(ResultSet rs, String column) throws SQLException {
+        double[] values = new double[MUSCLE_GROUPS];
+        Array array = rs.getArray(column);
+        Object[] stored = (Object[]) array.getArray();
+        for (int i = 0; i < Math.min(stored.length, MUSCLE_GROUPS); i++) {
+            values[i] = stored[i] != null ? ((Number) stored[i]).doubleValue() : 0;
+        }
+        array.free();
+        return values;
+    }
+
+    /**
+     * Sets and volume of one ISO week (starting on {@code weekStart}, a Monday), indexed by
+     * muscle group ordinal; either stored totals or a delta to merge.
+     */
+    public record MuscleWeek(
+            LocalDate weekStart,
+            int[] primarySets,
+            double[] primaryVolume,
+            int[] secondarySets,
+            double[] secondaryVolume
+    ) {
+        public static MuscleWeek empty(LocalDate weekStart) {
+            return new MuscleWeek(weekStart, new int[MUSCLE_GROUPS], new double[MUSCLE_GROUPS],
+                    new int[MUSCLE_GROUPS], new double[MUSCLE_GROUPS]);
+        }
+    }
+}
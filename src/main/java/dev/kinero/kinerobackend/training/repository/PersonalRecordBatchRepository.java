@@ -0,0 +1,56 @@
+package dev.kinero.kinerobackend.training.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * JDBC writes for {@code personal_records}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PersonalRecordBatchRepository {
+
+    // The WHERE keeps a concurrent, heavier record: only a lighter or deleted row is replaced
+    private static final String UPSERT = """
+            INSERT INTO personal_records (id, user_id, exercise_id, weight, rep_range, achieved_date, notes,
+                                          created_at, updated_at, deleted)
+            VALUES (?, ?, ?, ?, ?, ?, NULL, ?, ?, FALSE)
+            ON CONFLICT (user_id, exercise_id, rep_range) DO UPDATE SET
+                weight = EXCLUDED.weight,
+                achieved_date = EXCLUDED.achieved_date,
+                notes = NULL,
+                updated_at = EXCLUDED.updated_at,
+                deleted = FALSE
+            WHERE personal_records.deleted OR personal_records.weight < EXCLUDED.weight
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsert(UUID userId, Collection<BeatenRecord> records) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(UPSERT, records, records.size(), (ps, record) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, userId);
+            ps.setObject(3, record.exerciseId());
+            ps.setDouble(4, record.weight());
+            ps.setInt(5, record.repRange());
+            ps.setDate(6, Date.valueOf(record.achievedDate()));
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    /**
+     * A new best; {@code previousWeight} is the committed record it beat, 0 for the user's first.
+     */
+    public record BeatenRecord(UUID exerciseId, int repRange, double weight, LocalDate achievedDate,
+                               double previousWeight) {}
+}
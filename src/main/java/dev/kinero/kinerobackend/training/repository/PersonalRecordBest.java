@@ -0,0 +1,8 @@
+package dev.kinero.kinerobackend.training.repository;
+
+import java.util.UUID;
+
+/**
+ * The weight of one personal record, without the entity around it.
+ */
+public record PersonalRecordBest(UUID exerciseId, Integer repRange, Double weight) {}
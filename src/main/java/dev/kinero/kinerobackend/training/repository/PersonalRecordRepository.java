@@ -1,21 +1,26 @@
 package dev.kinero.kinerobackend.training.repository;
 import dev.kinero.kinerobackend.training.model.PersonalRecord;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 @Repository
 public interface PersonalRecordRepository extends JpaRepository<PersonalRecord, UUID> {
-    Page<PersonalRecord> findByUserIdAndDeletedFalse(UUID userId, Pageable pageable);
-
     List<PersonalRecord> findByUserIdAndExerciseIdAndDeletedFalse(UUID userId, UUID exerciseId);
 
     Optional<PersonalRecord> findByUserIdAndExerciseIdAndRepRangeAndDeletedFalse(UUID userId, UUID exerciseId, Integer repRange);
 
-    @Query("SELECT pr FROM PersonalRecord pr WHERE pr.user.id = :userId AND pr.deleted = false ORDER BY pr.achievedDate DESC")
-    List<PersonalRecord> findRecentPRs(UUID userId);
+    @Query("SELECT new dev.kinero.kinerobackend.training.repository.PersonalRecordBest(pr.exercise.id, pr.repRange, pr.weight) FROM PersonalRecord pr WHERE pr.user.id = :userId AND pr.deleted = false")
+    List<PersonalRecordBest> findBests(@Param("userId") UUID userId);
+
+    @Query("SELECT pr FROM PersonalRecord pr JOIN FETCH pr.exercise WHERE pr.user.id = :userId AND pr.deleted = false ORDER BY pr.achievedDate DESC, pr.id DESC")
+    List<PersonalRecord> findRecent(@Param("userId") UUID userId, Limit limit);
+
+    @Query("SELECT pr FROM PersonalRecord pr JOIN FETCH pr.exercise WHERE pr.user.id = :userId AND pr.deleted = false AND (pr.achievedDate, pr.id) < (:date, :id) ORDER BY pr.achievedDate DESC, pr.id DESC")
+    List<PersonalRecord> findRecentAfter(@Param("userId") UUID userId, @Param("date") LocalDate date, @Param("id") UUID id, Limit limit);
 }
@@ -1,8 +1,13 @@
 package dev.kinero.kinerobackend.training.repository;
 import dev.kinero.kinerobackend.training.model.RoutineExercise;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.UUID;
 @Repository
 public interface RoutineExerciseRepository extends JpaRepository<RoutineExercise, UUID> {
+    @Query("SELECT re FROM RoutineExercise re JOIN FETCH re.exercise WHERE re.routine.id = :routineId AND re.deleted = false ORDER BY re.orderIndex, re.id")
+    List<RoutineExercise> findActiveWithExerciseByRoutineId(@Param("routineId") UUID routineId);
 }
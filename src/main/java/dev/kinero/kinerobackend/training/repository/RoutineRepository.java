@@ -3,8 +3,11 @@ import dev.kinero.kinerobackend.training.model.Routine;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 @Repository
 public interface RoutineRepository extends JpaRepository<Routine, UUID> {
     List<Routine> findByUserIdAndDeletedFalse(UUID userId);
+
+    Optional<Routine> findByIdAndUserIdAndDeletedFalse(UUID id, UUID userId);
 }
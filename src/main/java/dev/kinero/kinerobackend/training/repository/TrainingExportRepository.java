@@ -0,0 +1,169 @@
+package dev.kinero.kinerobackend.training.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Forward-only reads of everything a user has recorded, for the data export.
+ * <p>
+ * Rows are read straight from JDBC with a fetch size, so the driver holds one chunk at a time
+ * and no entity ever enters a persistence context. PostgreSQL only honours the fetch size
+ * inside a transaction, so callers must stream within one.
+ */
+@Repository
+public class TrainingExportRepository {
+
+    static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TrainingExportRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    /**
+     * Hands every row of the section to the consumer, in a stable order. Timestamps are
+     * converted to {@link java.time.Instant} and dates to {@link java.time.LocalDate}.
+     *
+     * @throws UncheckedIOException if the consumer fails to write a row
+     */
+    public void stream(Section section, UUID userId, RowConsumer consumer) {
+        int columns = section.columns().length;
+        jdbcTemplate.query(section.sql, rs -> {
+            Object[] values = new Object[columns];
+            for (int i = 0; i < columns; i++) {
+                Object value = rs.getObject(i + 1);
+                values[i] = switch (value) {
+                    case Timestamp timestamp -> timestamp.toInstant();
+                    case Date date -> date.toLocalDate();
+                    case null, default -> value;
+                };
+            }
+            try {
+                consumer.accept(values);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, userId);
+    }
+
+    @FunctionalInterface
+    public interface RowConsumer {
+        void accept(Object[] values) throws IOException;
+    }
+
+    /**
+     * The exported tables. Each query takes the user id as its only parameter and selects
+     * exactly {@link #columns()}, in that order.
+     */
+    public enum Section {
+        EXERCISES("exercises", """
+                WITH owner AS (SELECT CAST(? AS UUID) AS id)
+                SELECT e.id, e.name, e.category, e.primary_muscle, e.secondary_muscle, e.equipment, e.type,
+                       e.compound, e.is_custom
+                FROM exercises e, owner
+                WHERE e.created_by_user_id = owner.id
+                   OR e.id IN (SELECT we.exercise_id FROM workout_exercises we
+                               JOIN workouts w ON w.id = we.workout_id
+                               WHERE w.user_id = owner.id AND w.deleted = FALSE AND we.deleted = FALSE)
+                ORDER BY e.id
+                """, "id", "name", "category", "primary_muscle", "secondary_muscle", "equipment", "type",
+                "compound", "is_custom"),
+        WORKOUTS("workouts", """
+                SELECT id, name, notes, workout_date, started_at, finished_at, duration_minutes, total_sets,
+                       total_volume, completed, routine_id
+                FROM workouts
+                WHERE user_id = ? AND deleted = FALSE
+                ORDER BY workout_date, id
+                """, "id", "name", "notes", "workout_date", "started_at", "finished_at", "duration_minutes",
+                "total_sets", "total_volume", "completed", "routine_id"),
+        WORKOUT_EXERCISES("workout_exercises", """
+                SELECT we.id, we.workout_id, we.exercise_id, we.position, we.planned_sets, we.planned_reps,
+                       we.notes, we.completed
+                FROM workout_exercises we
+                JOIN workouts w ON w.id = we.workout_id
+                WHERE w.user_id = ? AND w.deleted = FALSE AND we.deleted = FALSE
+                ORDER BY we.workout_id, we.position, we.id
+                """, "id", "workout_id", "exercise_id", "position", "planned_sets", "planned_reps", "notes",
+                "completed"),
+        SETS("sets", """
+                SELECT s.id, s.workout_exercise_id, s.set_number, s.weight, s.reps, s.duration, s.rpe,
+                       s.set_type, s.notes, s.completed
+                FROM sets s
+                JOIN workout_exercises we ON we.id = s.workout_exercise_id
+                JOIN workouts w ON w.id = we.workout_id
+                WHERE w.user_id = ? AND w.deleted = FALSE AND we.deleted = FALSE AND s.deleted = FALSE
+                ORDER BY s.workout_exercise_id, s.set_number, s.id
+                """, "id", "workout_exercise_id", "set_number", "weight", "reps", "duration", "rpe", "set_type",
+                "notes", "completed"),
+        PERSONAL_RECORDS("personal_records", """
+                SELECT id, exercise_id, weight, rep_range, achieved_date, notes
+                FROM personal_records
+                WHERE user_id = ? AND deleted = FALSE
+                ORDER BY achieved_date, id
+                """, "id", "exercise_id", "weight", "rep_range", "achieved_date", "notes"),
+        ROUTINES("routines", """
+                SELECT id, name, description
+                FROM routines
+                WHERE user_id = ? AND deleted = FALSE
+                ORDER BY id
+                """, "id", "name", "description"),
+        ROUTINE_EXERCISES("routine_exercises", """
+                SELECT re.id, re.routine_id, re.exercise_id, re.order_index, re.target_sets, re.target_reps,
+                       re.rest_seconds
+                FROM routine_exercises re
+                JOIN routines r ON r.id = re.routine_id
+                WHERE r.user_id = ? AND r.deleted = FALSE AND re.deleted = FALSE
+                ORDER BY re.routine_id, re.order_index, re.id
+                """, "id", "routine_id", "exercise_id", "order_index", "target_sets", "target_reps",
+                "rest_seconds"),
+        WORKOUT_PLANS("workout_plans", """
+                SELECT id, name, description, program_type, days_per_week, start_date, end_date, active
+                FROM workout_plans
+                WHERE user_id = ? AND deleted = FALSE
+                ORDER BY start_date, id
+                """, "id", "name", "description", "program_type", "days_per_week", "start_date", "end_date",
+                "active"),
+        PLAN_DAYS("plan_days", """
+                SELECT d.id, d.workout_plan_id, d.day_name, d.day_of_week, d.focus_area
+                FROM plan_days d
+                JOIN workout_plans p ON p.id = d.workout_plan_id
+                WHERE p.user_id = ? AND p.deleted = FALSE AND d.deleted = FALSE
+                ORDER BY d.workout_plan_id, d.day_of_week, d.id
+                """, "id", "workout_plan_id", "day_name", "day_of_week", "focus_area"),
+        PLAN_EXERCISES("plan_exercises", """
+                SELECT pe.id, pe.plan_day_id, pe.exercise_id, pe.position, pe.sets, pe.reps, pe.notes
+                FROM plan_exercises pe
+                JOIN plan_days d ON d.id = pe.plan_day_id
+                JOIN workout_plans p ON p.id = d.workout_plan_id
+                WHERE p.user_id = ? AND p.deleted = FALSE AND d.deleted = FALSE AND pe.deleted = FALSE
+                ORDER BY pe.plan_day_id, pe.position, pe.id
+                """, "id", "plan_day_id", "exercise_id", "position", "sets", "reps", "notes");
+
+        private final String fileName;
+        private final String sql;
+        private final String[] columns;
+
+        Section(String fileName, String sql, String... columns) {
+            this.fileName = fileName;
+            this.sql = sql;
+            this.columns = columns;
+        }
+
+        public String fileName() {
+            return fileName;
+        }
+
+        public String[] columns() {
+            return columns.clone();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package dev.kinero.kinerobackend.training.repository;
+
+import dev.kinero.kinerobackend.common.model.BaseEntity;
+import dev.kinero.kinerobackend.training.model.ExerciseSet;
+import dev.kinero.kinerobackend.training.model.Workout;
+import dev.kinero.kinerobackend.training.model.WorkoutExercise;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC batch writes for the training tables.
+ * <p>
+ * Rows are sent as real JDBC batches (rewritten into multi-row statements by the driver via
+ * {@code reWriteBatchedInserts}), and the size of every batch is recorded under
+ * {@code jdbc.batch.rows} so we can see how many rows each round trip carries.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkoutBatchRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_WORKOUT = """
+            INSERT INTO workouts (id, user_id, routine_id, name, notes, started_at, finished_at, total_volume,
+                                  workout_date, total_sets, completed, duration_minutes, created_at, updated_at, deleted)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE)
+            """;
+
+    private static final String INSERT_WORKOUT_EXERCISE = """
+            INSERT INTO workout_exercises (id, workout_id, exercise_id, position, planned_sets, planned_reps, notes,
+                                           completed, created_at, updated_at, deleted)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE)
+            """;
+
+    private static final String INSERT_SET = """
+            INSERT INTO sets (id, workout_exercise_id, set_number, weight, reps, duration, rpe, set_type, notes,
+                              completed, performed_on, created_at, updated_at, deleted)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE)
+            """;
+
+    private static final String APPLY_TOTALS = """
+            UPDATE workouts
+            SET total_sets = total_sets + ?,
+                total_volume = COALESCE(total_volume, 0) + ?,
+                duration_minutes = GREATEST(duration_minutes, ?),
+                updated_at = ?
+            WHERE id = ?
+            """;
+
+    private static final String FINISH_WORKOUT = """
+            UPDATE workouts
+            SET finished_at = ?,
+                completed = TRUE,
+                duration_minutes = ?,
+                updated_at = ?
+            WHERE id = ?
+            RETURNING total_sets, COALESCE(total_volume, 0) AS total_volume, duration_minutes
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Inserts the workouts, assigning ids and timestamps to entities that do not have them yet.
+     * Totals are written as given, so callers must have computed them for the rows they insert.
+     */
+    public void insertWorkouts(List<Workout> workouts) {
+        Instant now = Instant.now();
+        for (Workout workout : workouts) {
+            assignIdentity(workout, now);
+        }
+
+        int[][] batches = jdbcTemplate.batchUpdate(INSERT_WORKOUT, workouts, BATCH_SIZE, (ps, workout) -> {
+            ps.setObject(1, workout.getId());
+            ps.setObject(2, workout.getUser().getId());
+            ps.setObject(3, workout.getRoutineId());
+            ps.setString(4, workout.getName());
+            ps.setString(5, workout.getNotes());
+            ps.setTimestamp(6, Timestamp.valueOf(workout.getStartTime()));
+            ps.setTimestamp(7, workout.getEndTime() != null ? Timestamp.valueOf(workout.getEndTime()) : null);
+            ps.setBigDecimal(8, workout.getTotalVolume());
+            ps.setObject(9, workout.getWorkoutDate());
+            ps.setInt(10, workout.getTotalSets());
+            ps.setBoolean(11, workout.getCompleted());
+            ps.setInt(12, workout.getDurationMinutes());
+            ps.setTimestamp(13, Timestamp.from(workout.getCreatedAt()));
+            ps.setTimestamp(14, Timestamp.from(workout.getUpdatedAt()));
+        });
+        recordBatches("workouts", batches);
+    }
+
+    /**
+     * Inserts the workout exercises; each must reference a {@code Workout} and {@code Exercise} with known ids.
+     */
+    public void insertWorkoutExercises(List<WorkoutExercise> workoutExercises) {
+        Instant now = Instant.now();
+        for (WorkoutExercise workoutExercise : workoutExercises) {
+            assignIdentity(workoutExercise, now);
+        }
+
+        int[][] batches = jdbcTemplate.batchUpdate(INSERT_WORKOUT_EXERCISE, workoutExercises, BATCH_SIZE, (ps, we) -> {
+            ps.setObject(1, we.getId());
+            ps.setObject(2, we.getWorkout().getId());
+            ps.setObject(3, we.getExercise().getId());
+            ps.setInt(4, we.getPosition());
+            ps.setInt(5, we.getPlannedSets());
+            ps.setInt(6, we.getPlannedReps());
+            ps.setString(7, we.getNotes());
+            ps.setBoolean(8, we.getCompleted());
+            ps.setTimestamp(9, Timestamp.from(we.getCreatedAt()));
+            ps.setTimestamp(10, Timestamp.from(we.getUpdatedAt()));
+        });
+        recordBatches("workout_exercises", batches);
+    }
+
+    /**
+     * Inserts the sets, assigning ids and timestamps to entities that do not have them yet.
+     * Each set must reference a {@code WorkoutExercise} with a known id; sets without a
+     * {@code performedOn} date take the date of their workout.
+     */
+    public void insertSets(List<ExerciseSet> sets) {
+        Instant now = Instant.now();
+        for (ExerciseSet set : sets) {
+            assignIdentity(set, now);
+            if (set.getPerformedOn() == null) {
+                set.setPerformedOn(set.getWorkoutExercise().getWorkout().getWorkoutDate());
+            }
+        }
+
+        int[][] batches = jdbcTemplate.batchUpdate(INSERT_SET, sets, BATCH_SIZE, (ps, set) -> {
+            ps.setObject(1, set.getId());
+            ps.setObject(2, set.getWorkoutExercise().getId());
+            ps.setInt(3, set.getSetNumber());
+            ps.setDouble(4, set.getWeight());
+            ps.setInt(5, set.getReps());
+            ps.setObject(6, set.getDuration(), Types.INTEGER);
+            ps.setObject(7, set.getRpe(), Types.DOUBLE);
+            ps.setString(8, set.getSetType());
+            ps.setString(9, set.getNotes());
+            ps.setBoolean(10, set.getCompleted());
+            ps.setObject(11, set.getPerformedOn());
+            ps.setTimestamp(12, Timestamp.from(set.getCreatedAt()));
+            ps.setTimestamp(13, Timestamp.from(set.getUpdatedAt()));
+        });
+        recordBatches("sets", batches);
+    }
+
+    /**
+     * Adds the given deltas to the stored workout totals, one batched statement for all workouts.
+     * The update is relative to the stored row, so concurrent writers to the same workout never
+     * lose each other's changes; {@code durationMinutes} only ever extends the stored duration.
+     */
+    public void applyTotals(Collection<TotalsDelta> deltas) {
+        Timestamp now = Timestamp.from(Instant.now());
+        int[][] batches = jdbcTemplate.batchUpdate(APPLY_TOTALS, deltas, BATCH_SIZE, (ps, delta) -> {
+            ps.setInt(1, delta.sets());
+            ps.setBigDecimal(2, delta.volume());
+            ps.setInt(3, delta.durationMinutes());
+            ps.setTimestamp(4, now);
+            ps.setObject(5, delta.workoutId());
+        });
+        recordBatches("workouts", batches);
+    }
+
+    /**
+     * Marks the workout as finished and returns the totals as stored after the update.
+     */
+    public WorkoutTotals finishWorkout(UUID workoutId, LocalDateTime endTime, int durationMinutes) {
+        return jdbcTemplate.queryForObject(FINISH_WORKOUT, (rs, rowNum) -> new WorkoutTotals(
+                rs.getInt("total_sets"),
+                rs.getBigDecimal("total_volume"),
+                rs.getInt("duration_minutes")
+        ), Timestamp.valueOf(endTime), durationMinutes, Timestamp.from(Instant.now()), workoutId);
+    }
+
+    private void assignIdentity(BaseEntity entity, Instant now) {
+        if (entity.getId() == null) {
+            entity.setId(UUID.randomUUID());
+        }
+        entity.setCreatedAt(now);
+        entity.setUpdatedAt(now);
+    }
+
+    private void recordBatches(String table, int[][] batches) {
+        DistributionSummary rowsPerStatement = DistributionSummary.builder("jdbc.batch.rows")
+                .description("Rows sent per JDBC batch statement")
+                .tag("table", table)
+                .register(meterRegistry);
+        for (int[] batch : batches) {
+            rowsPerStatement.record(batch.length);
+        }
+    }
+
+    public record TotalsDelta(UUID workoutId, int sets, BigDecimal volume, int durationMinutes) {
+
+        /**
+         * Contribution of the sets to the workout totals: only completed, not deleted sets count.
+         */
+        public static TotalsDelta of(UUID workoutId, Collection<ExerciseSet> sets, int durationMinutes) {
+            int count = 0;
+            BigDecimal volume = BigDecimal.ZERO;
+            for (ExerciseSet set : sets) {
+                if (Boolean.TRUE.equals(set.getCompleted()) && !set.isDeleted()) {
+                    count++;
+                    volume = volume.add(BigDecimal.valueOf(set.getWeight()).multiply(BigDecimal.valueOf(set.getReps())));
+                }
+            }
+            return new TotalsDelta(workoutId, count, volume, durationMinutes);
+        }
+    }
+
+    public record WorkoutTotals(int totalSets, BigDecimal totalVolume, int durationMinutes) {}
+}
@@ -1,6 +1,8 @@
 package dev.kinero.kinerobackend.training.repository;
 import dev.kinero.kinerobackend.training.model.WorkoutExercise;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.UUID;
@@ -9,4 +11,7 @@ public interface WorkoutExerciseRepository extends JpaRepository<WorkoutExercise
     List<WorkoutExercise> findByWorkoutId(UUID workoutId);
 
     void deleteByWorkoutId(UUID workoutId);
+
+    @Query("SELECT we FROM WorkoutExercise we JOIN FETCH we.exercise WHERE we.workout.id = :workoutId AND we.deleted = false")
+    List<WorkoutExercise> findActiveWithExerciseByWorkoutId(@Param("workoutId") UUID workoutId);
 }
@@ -1,22 +1,24 @@
 package dev.kinero.kinerobackend.training.repository;
 import dev.kinero.kinerobackend.training.model.WorkoutPlan;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 @Repository
 public interface WorkoutPlanRepository extends JpaRepository<WorkoutPlan, UUID> {
-    Page<WorkoutPlan> findByUserIdAndDeletedFalse(UUID userId, Pageable pageable);
-
     @Query("SELECT wp FROM WorkoutPlan wp WHERE wp.user.id = :userId AND wp.active = true AND wp.deleted = false")
     Optional<WorkoutPlan> findActiveByUserId(UUID userId);
 
-    @Query("SELECT wp FROM WorkoutPlan wp WHERE wp.user.id = :userId AND wp.deleted = false ORDER BY wp.startDate DESC")
-    List<WorkoutPlan> findByUserIdOrderByStartDate(UUID userId);
+    @Query("SELECT wp FROM WorkoutPlan wp WHERE wp.user.id = :userId AND wp.deleted = false ORDER BY wp.startDate DESC, wp.id DESC")
+    List<WorkoutPlan> findByUserIdOrderByStartDate(@Param("userId") UUID userId, Limit limit);
+
+    @Query("SELECT wp FROM WorkoutPlan wp WHERE wp.user.id = :userId AND wp.deleted = false AND (wp.startDate, wp.id) < (:date, :id) ORDER BY wp.startDate DESC, wp.id DESC")
+    List<WorkoutPlan> findByUserIdOrderByStartDateAfter(@Param("userId") UUID userId, @Param("date") LocalDate date, @Param("id") UUID id, Limit limit);
 
     Optional<WorkoutPlan> findByIdAndDeletedFalse(UUID id);
 }
@@ -1,10 +1,13 @@
 package dev.kinero.kinerobackend.training.repository;
+import dev.kinero.kinerobackend.training.dto.WorkoutSummaryResponse;
 import dev.kinero.kinerobackend.training.model.Workout;
 import dev.kinero.kinerobackend.user.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.util.List;
@@ -12,14 +15,39 @@ import java.util.Optional;
 import java.util.UUID;
 @Repository
 public interface WorkoutRepository extends JpaRepository<Workout, UUID> {
-    Page<Workout> findByUserIdAndDeletedFalse(UUID userId, Pageable pageable);
-
     Page<Workout> findByUserIdAndWorkoutDateAndDeletedFalse(UUID userId, LocalDate workoutDate, Pageable pageable);
 
     List<Workout> findByUserIdAndWorkoutDateAndDeletedFalse(UUID userId, LocalDate workoutDate);
 
-    @Query("SELECT w FROM Workout w WHERE w.user.id = :userId AND w.deleted = false ORDER BY w.workoutDate DESC")
-    List<Workout> findRecentWorkouts(UUID userId);
+    @Query("""
+            SELECT new dev.kinero.kinerobackend.training.dto.WorkoutSummaryResponse(
+                w.id, w.name, w.workoutDate, w.durationMinutes, w.totalSets, w.totalVolume, w.completed)
+            FROM Workout w
+            WHERE w.user.id = :userId AND w.deleted = false
+            ORDER BY w.workoutDate DESC, w.id DESC
+            """)
+    List<WorkoutSummaryResponse> findHistory(@Param("userId") UUID userId, Limit limit);
+
+    // Keyset continuation of findHistory, served by idx_workouts_user_date_id at any depth
+    @Query("""
+            SELECT new dev.kinero.kinerobackend.training.dto.WorkoutSummaryResponse(
+                w.id, w.name, w.workoutDate, w.durationMinutes, w.totalSets, w.totalVolume, w.completed)
+            FROM Workout w
+            WHERE w.user.id = :userId AND w.deleted = false AND (w.workoutDate, w.id) < (:date, :id)
+            ORDER BY w.workoutDate DESC, w.id DESC
+            """)
+    List<WorkoutSummaryResponse> findHistoryAfter(@Param("userId") UUID userId, @Param("date") LocalDate date, @Param("id") UUID id, Limit limit);
+
+    @Query("""
+            SELECT new dev.kinero.kinerobackend.training.dto.WorkoutSummaryResponse(
+                w.id, w.name, w.workoutDate, w.durationMinutes, w.totalSets, w.totalVolume, w.completed)
+            FROM Workout w
+            WHERE w.user.id = :userId AND w.deleted = false AND w.workoutDate BETWEEN :from AND :to
+            ORDER BY w.workoutDate, w.id
+            """)
+    List<WorkoutSummaryResponse> findSummariesBetween(@Param("userId") UUID userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
 
     Optional<Workout> findByIdAndDeletedFalse(UUID id);
+
+    Optional<Workout> findByIdAndUserIdAndDeletedFalse(UUID id, UUID userId);
 }
@@ -0,0 +1,178 @@
+package dev.kinero.kinerobackend.training.service;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import dev.kinero.kinerobackend.training.model.ExerciseSet;
+import dev.kinero.kinerobackend.training.model.Workout;
+import dev.kinero.kinerobackend.training.model.WorkoutExercise;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Write-ahead log of one active workout session, one JSON entry per line.
+ * <p>
+ * Every append is forced to disk before it returns, so a change acknowledged to the client
+ * survives a crash even if it never reached the database. After a flush the journal is
+ * rewritten with the whole session marked as persisted, which keeps it as small as the
+ * session itself.
+ */
+@Slf4j
+class ActiveWorkoutJournal {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private FileChannel channel;
+
+    ActiveWorkoutJournal(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        this.channel = open(path);
+    }
+
+    void append(Entry entry) {
+        try {
+            write(channel, List.of(entry));
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to " + path, e);
+        }
+    }
+
+    /**
+     * Atomically replaces the journal contents with the given entries. If that fails the journal
+     * keeps its previous contents and stays open for appends.
+     */
+    void rewrite(List<Entry> entries) {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                write(out, entries);
+                out.force(true);
+            }
+            try {
+                channel.close();
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                // Reopened even if the move failed, so the old contents keep taking appends
+                channel = open(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not rewrite " + path, e);
+        }
+    }
+
+    void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Could not close journal {}", path, e);
+        }
+    }
+
+    void delete() {
+        close();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete journal {}", path, e);
+        }
+    }
+
+    /**
+     * Reads back all complete entries. A torn last line, left by a crash in the middle of an
+     * append that was therefore never acknowledged, is skipped.
+     */
+    static List<Entry> read(Path path, ObjectMapper objectMapper) throws IOException {
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        List<Entry> entries = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                entries.add(objectMapper.readValue(line, Entry.class));
+            } catch (JacksonException e) {
+                if (i < lines.size() - 1) {
+                    throw e;
+                }
+                log.warn("Skipping torn last entry of journal {}", path);
+            }
+        }
+        return entries;
+    }
+
+    private void write(FileChannel target, List<Entry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (Entry entry : entries) {
+            lines.append(objectMapper.writeValueAsString(entry)).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    private static FileChannel open(Path path) {
+        try {
+            return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open " + path, e);
+        }
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+    @JsonSubTypes({
+            @JsonSubTypes.Type(value = WorkoutStarted.class, name = "workout"),
+            @JsonSubTypes.Type(value = ExerciseAdded.class, name = "exercise"),
+            @JsonSubTypes.Type(value = SetLogged.class, name = "set")
+    })
+    sealed interface Entry permits WorkoutStarted, ExerciseAdded, SetLogged {
+        boolean persisted();
+    }
+
+    record WorkoutStarted(UUID workoutId, UUID userId, UUID routineId, String name, String notes,
+                          LocalDateTime startTime, LocalDate workoutDate, boolean persisted) implements Entry {
+
+        static WorkoutStarted of(UUID userId, Workout workout, boolean persisted) {
+            return new WorkoutStarted(workout.getId(), userId, workout.getRoutineId(), workout.getName(),
+                    workout.getNotes(), workout.getStartTime(), workout.getWorkoutDate(), persisted);
+        }
+    }
+
+    record ExerciseAdded(UUID workoutExerciseId, UUID exerciseId, int position, int plannedSets, int plannedReps,
+                         String notes, boolean persisted) implements Entry {
+
+        static ExerciseAdded of(WorkoutExercise workoutExercise, boolean persisted) {
+            return new ExerciseAdded(workoutExercise.getId(), workoutExercise.getExercise().getId(),
+                    workoutExercise.getPosition(), workoutExercise.getPlannedSets(), workoutExercise.getPlannedReps(),
+                    workoutExercise.getNotes(), persisted);
+        }
+    }
+
+    record SetLogged(UUID setId, UUID workoutExerciseId, int setNumber, double weight, int reps, Integer duration,
+                     Double rpe, String setType, boolean persisted) implements Entry {
+
+        static SetLogged of(ExerciseSet set, boolean persisted) {
+            return new SetLogged(set.getId(), set.getWorkoutExercise().getId(), set.getSetNumber(), set.getWeight(),
+                    set.getReps(), set.getDuration(), set.getRpe(), set.getSetType(), persisted);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package dev.kinero.kinerobackend.training.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "training.active-workout")
+public class ActiveWorkoutProperties {
+
+    private Path journalDirectory = Path.of("data", "active-workouts");
+    private Duration flushInterval = Duration.ofSeconds(30);
+    private Duration maxSessionAge = Duration.ofHours(12);
+}
@@ -0,0 +1,18 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.dto.ExerciseSetResponse;
+import dev.kinero.kinerobackend.training.dto.LogSetRequest;
+import dev.kinero.kinerobackend.training.dto.StartWorkoutRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseResponse;
+import dev.kinero.kinerobackend.training.dto.WorkoutResponse;
+
+import java.util.UUID;
+
+public interface ActiveWorkoutService {
+    WorkoutResponse startWorkout(UUID userId, StartWorkoutRequest request);
+    WorkoutResponse getActiveWorkout(UUID userId);
+    WorkoutExerciseResponse addExercise(UUID userId, WorkoutExerciseRequest request);
+    ExerciseSetResponse logSet(UUID userId, UUID workoutExerciseId, LogSetRequest request);
+    WorkoutResponse finishWorkout(UUID userId);
+}
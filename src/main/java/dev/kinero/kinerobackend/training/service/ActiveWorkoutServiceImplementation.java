@@ -0,0 +1,112 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.error.BadRequestException;
+import dev.kinero.kinerobackend.common.error.ResourceNotFoundException;
+import dev.kinero.kinerobackend.training.dto.ExerciseSetResponse;
+import dev.kinero.kinerobackend.training.dto.LogSetRequest;
+import dev.kinero.kinerobackend.training.dto.StartWorkoutRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseResponse;
+import dev.kinero.kinerobackend.training.dto.WorkoutResponse;
+import dev.kinero.kinerobackend.training.mapper.TrainingMapper;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseSet;
+import dev.kinero.kinerobackend.training.model.Workout;
+import dev.kinero.kinerobackend.training.model.WorkoutExercise;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.WorkoutBatchRepository;
+import dev.kinero.kinerobackend.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Live workout sessions held by {@link ActiveWorkoutStore}. Logging a set costs a journal
+ * append instead of a database transaction; the rows reach the database in batches.
+ */
+@Service
+@RequiredArgsConstructor
+public class ActiveWorkoutServiceImplementation implements ActiveWorkoutService {
+
+    private final ActiveWorkoutStore activeWorkoutStore;
+    private final ExerciseRepository exerciseRepository;
+    private final UserRepository userRepository;
+    private final TrainingMapper trainingMapper;
+
+    @Override
+    public WorkoutResponse startWorkout(UUID userId, StartWorkoutRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        Workout workout = Workout.builder()
+                .user(userRepository.getReferenceById(userId))
+                .routineId(request.getRoutineId())
+                .name(request.getName())
+                .notes(request.getNotes())
+                .startTime(now)
+                .workoutDate(now.toLocalDate())
+                .build();
+        workout.setId(UUID.randomUUID());
+
+        activeWorkoutStore.start(userId, workout);
+        return getActiveWorkout(userId);
+    }
+
+    @Override
+    public WorkoutResponse getActiveWorkout(UUID userId) {
+        return activeWorkoutStore.withSession(userId, this::toResponse);
+    }
+
+    @Override
+    public WorkoutExerciseResponse addExercise(UUID userId, WorkoutExerciseRequest request) {
+        Exercise exercise = findAccessibleExercise(userId, request.getExerciseId());
+        return activeWorkoutStore.withSession(userId, session -> {
+            WorkoutExercise workoutExercise = session.addExercise(exercise, request.getPosition(),
+                    request.getPlannedSets(), request.getPlannedReps(), request.getNotes());
+            return trainingMapper.toResponse(workoutExercise, List.of());
+        });
+    }
+
+    @Override
+    public ExerciseSetResponse logSet(UUID userId, UUID workoutExerciseId, LogSetRequest request) {
+        return activeWorkoutStore.withSession(userId, session -> {
+            ExerciseSet set = session.logSet(workoutExerciseId, request);
+            if (set == null) {
+                throw new ResourceNotFoundException("WorkoutExercise", "id", workoutExerciseId);
+            }
+            return trainingMapper.toResponse(set);
+        });
+    }
+
+    @Override
+    public WorkoutResponse finishWorkout(UUID userId) {
+        return activeWorkoutStore.finish(userId, this::toResponse);
+    }
+
+    private WorkoutResponse toResponse(ActiveWorkoutSession session) {
+        List<WorkoutExerciseResponse> exercises = session.getExercises().stream()
+                .map(we -> trainingMapper.toResponse(we, session.setsOf(we.getId())))
+                .toList();
+        WorkoutResponse response = trainingMapper.toResponse(session.getWorkout(), exercises);
+
+        WorkoutBatchRepository.TotalsDelta totals = WorkoutBatchRepository.TotalsDelta.of(
+                session.getWorkout().getId(), session.allSets(), 0);
+        response.setTotalSets(totals.sets());
+        response.setTotalVolume(totals.volume());
+        return response;
+    }
+
+    private Exercise findAccessibleExercise(UUID userId, String exerciseId) {
+        UUID id;
+        try {
+            id = UUID.fromString(exerciseId);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new BadRequestException("Invalid exercise id: '" + exerciseId + "'");
+        }
+        return exerciseRepository.findById(id)
+                .filter(exercise -> !exercise.isDeleted())
+                .filter(exercise -> !exercise.isCustom() || userId.equals(exercise.getCreatedByUserId()))
+                .orElseThrow(() -> new ResourceNotFoundException("Exercise", "id", id));
+    }
+}
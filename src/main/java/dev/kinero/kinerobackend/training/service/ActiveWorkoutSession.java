@@ -0,0 +1,185 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.dto.LogSetRequest;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseSet;
+import dev.kinero.kinerobackend.training.model.Workout;
+import dev.kinero.kinerobackend.training.model.WorkoutExercise;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-memory state of one user's workout in progress.
+ * <p>
+ * Not thread-safe: {@link ActiveWorkoutStore} hands it out only while holding its monitor.
+ * Every change is journaled before it is applied, and entities not yet written to the
+ * database are tracked as pending until the next flush.
+ */
+@Slf4j
+class ActiveWorkoutSession {
+
+    private final UUID userId;
+    private final Workout workout;
+    private final ActiveWorkoutJournal journal;
+    private final Map<UUID, WorkoutExercise> exercises = new LinkedHashMap<>();
+    private final Map<UUID, List<ExerciseSet>> setsByExercise = new HashMap<>();
+    private final List<WorkoutExercise> pendingExercises = new ArrayList<>();
+    private final List<ExerciseSet> pendingSets = new ArrayList<>();
+    private boolean workoutPersisted;
+    private boolean closed;
+
+    ActiveWorkoutSession(UUID userId, Workout workout, boolean workoutPersisted, ActiveWorkoutJournal journal) {
+        this.userId = userId;
+        this.workout = workout;
+        this.workoutPersisted = workoutPersisted;
+        this.journal = journal;
+    }
+
+    WorkoutExercise addExercise(Exercise exercise, Integer position, Integer plannedSets, Integer plannedReps, String notes) {
+        WorkoutExercise workoutExercise = WorkoutExercise.builder()
+                .workout(workout)
+                .exercise(exercise)
+                .position(position != null ? position : exercises.size() + 1)
+                .plannedSets(plannedSets != null ? plannedSets : 3)
+                .plannedReps(plannedReps != null ? plannedReps : 8)
+                .notes(notes)
+                .build();
+        workoutExercise.setId(UUID.randomUUID());
+
+        journal.append(ActiveWorkoutJournal.ExerciseAdded.of(workoutExercise, false));
+        restoreExercise(workoutExercise, false);
+        return workoutExercise;
+    }
+
+    /**
+     * @return {@code null} if the session has no such exercise
+     */
+    ExerciseSet logSet(UUID workoutExerciseId, LogSetRequest request) {
+        WorkoutExercise workoutExercise = exercises.get(workoutExerciseId);
+        if (workoutExercise == null) {
+            return null;
+        }
+        List<ExerciseSet> existing = setsOf(workoutExerciseId);
+        ExerciseSet set = ExerciseSet.builder()
+                .workoutExercise(workoutExercise)
+                .setNumber(request.getSetNumber() != null ? request.getSetNumber() : existing.size() + 1)
+                .weight(request.getWeight())
+                .reps(request.getReps())
+                .duration(request.getDuration())
+                .rpe(request.getRpe())
+                .setType(request.getSetType())
+                .completed(true)
+                .build();
+        set.setId(UUID.randomUUID());
+
+        journal.append(ActiveWorkoutJournal.SetLogged.of(set, false));
+        restoreSet(set, false);
+        return set;
+    }
+
+    /**
+     * Applies a journaled exercise without journaling it again.
+     */
+    void restoreExercise(WorkoutExercise workoutExercise, boolean persisted) {
+        exercises.put(workoutExercise.getId(), workoutExercise);
+        if (!persisted) {
+            pendingExercises.add(workoutExercise);
+        }
+    }
+
+    /**
+     * Applies a journaled set without journaling it again.
+     */
+    void restoreSet(ExerciseSet set, boolean persisted) {
+        setsByExercise.computeIfAbsent(set.getWorkoutExercise().getId(), id -> new ArrayList<>()).add(set);
+        if (!persisted) {
+            pendingSets.add(set);
+        }
+    }
+
+    /**
+     * Records that everything pending is now in the database and compacts the journal accordingly.
+     * <p>
+     * The rows are committed by the time this runs, so they stop being pending even if the
+     * journal cannot be compacted; the journal then still lists them as not persisted, which
+     * recovery resolves by looking their ids up in the database.
+     */
+    void markFlushed() {
+        workoutPersisted = true;
+        pendingExercises.clear();
+        pendingSets.clear();
+
+        List<ActiveWorkoutJournal.Entry> entries = new ArrayList<>();
+        entries.add(ActiveWorkoutJournal.WorkoutStarted.of(userId, workout, true));
+        for (WorkoutExercise workoutExercise : exercises.values()) {
+            entries.add(ActiveWorkoutJournal.ExerciseAdded.of(workoutExercise, true));
+        }
+        for (List<ExerciseSet> sets : setsByExercise.values()) {
+            for (ExerciseSet set : sets) {
+                entries.add(ActiveWorkoutJournal.SetLogged.of(set, true));
+            }
+        }
+        try {
+            journal.rewrite(entries);
+        } catch (UncheckedIOException e) {
+            log.warn("Could not compact the journal of user {}, it keeps growing until the next flush", userId, e);
+        }
+    }
+
+    boolean hasPendingChanges() {
+        return !workoutPersisted || !pendingExercises.isEmpty() || !pendingSets.isEmpty();
+    }
+
+    void close(boolean deleteJournal) {
+        closed = true;
+        if (deleteJournal) {
+            journal.delete();
+        } else {
+            journal.close();
+        }
+    }
+
+    UUID getUserId() {
+        return userId;
+    }
+
+    Workout getWorkout() {
+        return workout;
+    }
+
+    boolean isWorkoutPersisted() {
+        return workoutPersisted;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    Collection<WorkoutExercise> getExercises() {
+        return exercises.values();
+    }
+
+    List<ExerciseSet> setsOf(UUID workoutExerciseId) {
+        return setsByExercise.getOrDefault(workoutExerciseId, List.of());
+    }
+
+    List<ExerciseSet> allSets() {
+        return setsByExercise.values().stream().flatMap(List::stream).toList();
+    }
+
+    List<WorkoutExercise> getPendingExercises() {
+        return pendingExercises;
+    }
+
+    List<ExerciseSet> getPendingSets() {
+        return pendingSets;
+    }
+}
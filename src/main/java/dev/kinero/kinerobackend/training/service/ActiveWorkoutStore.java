@@ -0,0 +1,367 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.error.ResourceAlreadyExistsException;
+import dev.kinero.kinerobackend.common.error.ResourceNotFoundException;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseSet;
+import dev.kinero.kinerobackend.training.model.Workout;
+import dev.kinero.kinerobackend.training.model.WorkoutExercise;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.WorkoutBatchRepository;
+import dev.kinero.kinerobackend.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Holds workouts in progress in memory and writes them to the database behind the client.
+ * <p>
+ * Each session is journaled to local disk before a change is acknowledged, and its pending
+ * rows are written in one batched transaction per flush: on a timer, when the workout is
+ * finished, and on shutdown. On startup, sessions left in the journal directory by a crash
+ * or restart are replayed and flushed; rows that already reached the database are detected
+ * by id, so a replay never duplicates them.
+ * <p>
+ * A session's monitor guards all access to it, including its journal and its flush.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveWorkoutStore {
+
+    private static final String JOURNAL_SUFFIX = ".ndjson";
+
+    private final ActiveWorkoutProperties properties;
+    private final WorkoutBatchRepository workoutBatchRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<UUID, ActiveWorkoutSession> sessions = new ConcurrentHashMap<>();
+    private TransactionTemplate transactionTemplate;
+    private Counter flushed;
+    private Counter failedFlushes;
+
+    @PostConstruct
+    void init() throws IOException {
+        Files.createDirectories(properties.getJournalDirectory());
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        flushed = meterRegistry.counter("active_workout.flush", "result", "success");
+        failedFlushes = meterRegistry.counter("active_workout.flush", "result", "failure");
+        Gauge.builder("active_workout.sessions", sessions, Map::size)
+                .register(meterRegistry);
+        recover();
+    }
+
+    /**
+     * Opens a session for a new workout; nothing is written to the database until the first flush.
+     */
+    void start(UUID userId, Workout workout) {
+        sessions.compute(userId, (id, existing) -> {
+            if (existing != null) {
+                throw new ResourceAlreadyExistsException("Active workout", "user", userId);
+            }
+            ActiveWorkoutJournal journal = new ActiveWorkoutJournal(journalPath(userId), objectMapper);
+            journal.rewrite(List.of(ActiveWorkoutJournal.WorkoutStarted.of(userId, workout, false)));
+            return new ActiveWorkoutSession(userId, workout, false, journal);
+        });
+    }
+
+    /**
+     * Runs the action while holding the user's session.
+     *
+     * @throws ResourceNotFoundException if the user has no workout in progress
+     */
+    <T> T withSession(UUID userId, Function<ActiveWorkoutSession, T> action) {
+        ActiveWorkoutSession session = sessions.get(userId);
+        if (session != null) {
+            synchronized (session) {
+                if (!session.isClosed()) {
+                    return action.apply(session);
+                }
+            }
+        }
+        throw new ResourceNotFoundException("Active workout", "user", userId);
+    }
+
+    /**
+     * Writes everything still pending together with the end of the workout and closes the
+     * session. {@code result} sees the final state before the session is discarded.
+     */
+    <T> T finish(UUID userId, Function<ActiveWorkoutSession, T> result) {
+        return withSession(userId, session -> {
+            Workout workout = session.getWorkout();
+            LocalDateTime endTime = LocalDateTime.now();
+            try {
+                transactionTemplate.executeWithoutResult(status -> writePending(session, endTime));
+            } catch (RuntimeException e) {
+                workout.setEndTime(null);
+                workout.setCompleted(false);
+                throw e;
+            }
+            workout.setEndTime(endTime);
+            workout.setCompleted(true);
+            workout.setDurationMinutes(minutesBetween(workout.getStartTime(), endTime));
+
+            T response = result.apply(session);
+            session.close(true);
+            sessions.remove(userId, session);
+            return response;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${training.active-workout.flush-interval:PT30S}")
+    void flushAll() {
+        LocalDateTime abandonedBefore = LocalDateTime.now().minus(properties.getMaxSessionAge());
+        for (ActiveWorkoutSession session : sessions.values()) {
+            flush(session);
+            synchronized (session) {
+                if (!session.isClosed() && !session.hasPendingChanges()
+                        && session.getWorkout().getStartTime().isBefore(abandonedBefore)) {
+                    // Everything is in the database; the workout simply stays unfinished there
+                    log.info("Evicting abandoned active workout {} of user {}", session.getWorkout().getId(), session.getUserId());
+                    session.close(true);
+                    sessions.remove(session.getUserId(), session);
+                }
+            }
+        }
+    }
+
+    /**
+     * Flushes every session and releases the journals. The journals stay on disk, so the
+     * sessions resume after the next start.
+     */
+    @PreDestroy
+    void shutdown() {
+        for (ActiveWorkoutSession session : sessions.values()) {
+            flush(session);
+            synchronized (session) {
+                session.close(false);
+            }
+        }
+        sessions.clear();
+    }
+
+    private void flush(ActiveWorkoutSession session) {
+        synchronized (session) {
+            if (session.isClosed() || !session.hasPendingChanges()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> writePending(session, null));
+                session.markFlushed();
+                flushed.increment();
+            } catch (RuntimeException e) {
+                failedFlushes.increment();
+                log.error("Could not flush active workout of user {}, it stays journaled", session.getUserId(), e);
+            }
+        }
+    }
+
+    /**
+     * Writes the pending rows of the session; {@code endTime} is set when the workout is being finished.
+     */
+    private void writePending(ActiveWorkoutSession session, LocalDateTime endTime) {
+        Workout workout = session.getWorkout();
+        List<ExerciseSet> pendingSets = session.getPendingSets();
+        int elapsedMinutes = minutesBetween(workout.getStartTime(), endTime != null ? endTime : LocalDateTime.now());
+
+        if (!session.isWorkoutPersisted()) {
+            // Nothing of this workout is in the database yet, so its pending sets are all of its sets
+            WorkoutBatchRepository.TotalsDelta totals = WorkoutBatchRepository.TotalsDelta.of(workout.getId(), pendingSets, elapsedMinutes);
+            workout.setTotalSets(totals.sets());
+            workout.setTotalVolume(totals.volume());
+            workout.setDurationMinutes(elapsedMinutes);
+            workout.setEndTime(endTime);
+            workout.setCompleted(endTime != null);
+            workoutBatchRepository.insertWorkouts(List.of(workout));
+        }
+        if (!session.getPendingExercises().isEmpty()) {
+            workoutBatchRepository.insertWorkoutExercises(session.getPendingExercises());
+        }
+        if (!pendingSets.isEmpty()) {
+            workoutBatchRepository.insertSets(pendingSets);
+            eventPublisher.publishEvent(new SetsChangedEvent(session.getUserId(),
+                    SetsChangedEvent.factsOf(pendingSets, workout.getWorkoutDate()), List.of()));
+        }
+        if (session.isWorkoutPersisted()) {
+            if (!pendingSets.isEmpty()) {
+                workoutBatchRepository.applyTotals(List.of(
+                        WorkoutBatchRepository.TotalsDelta.of(workout.getId(), pendingSets, elapsedMinutes)
+                ));
+            }
+            if (endTime != null) {
+                workoutBatchRepository.finishWorkout(workout.getId(), endTime, elapsedMinutes);
+            }
+        }
+        if (endTime != null) {
+            eventPublisher.publishEvent(new WorkoutFinishedEvent(session.getUserId(), workout.getId()));
+        }
+    }
+
+    private void recover() throws IOException {
+        try (DirectoryStream<Path> journals = Files.newDirectoryStream(properties.getJournalDirectory(), "*" + JOURNAL_SUFFIX)) {
+            for (Path path : journals) {
+                try {
+                    recover(path);
+                } catch (IOException | RuntimeException e) {
+                    log.error("Could not recover active workout journal {}", path, e);
+                }
+            }
+        }
+    }
+
+    private void recover(Path path) throws IOException {
+        List<ActiveWorkoutJournal.Entry> entries = ActiveWorkoutJournal.read(path, objectMapper);
+        if (entries.isEmpty() || !(entries.getFirst() instanceof ActiveWorkoutJournal.WorkoutStarted started)) {
+            log.warn("Discarding active workout journal {} without a workout", path);
+            Files.delete(path);
+            return;
+        }
+
+        Set<UUID> alreadyWritten = findAlreadyWritten(entries);
+        Map<UUID, Exercise> catalog = exerciseRepository.findAllById(entries.stream()
+                        .filter(ActiveWorkoutJournal.ExerciseAdded.class::isInstance)
+                        .map(entry -> ((ActiveWorkoutJournal.ExerciseAdded) entry).exerciseId())
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Exercise::getId, Function.identity()));
+
+        Workout workout = Workout.builder()
+                .user(userRepository.getReferenceById(started.userId()))
+                .routineId(started.routineId())
+                .name(started.name())
+                .notes(started.notes())
+                .startTime(started.startTime())
+                .workoutDate(started.workoutDate())
+                .build();
+        workout.setId(started.workoutId());
+        ActiveWorkoutSession session = new ActiveWorkoutSession(started.userId(), workout,
+                started.persisted() || alreadyWritten.contains(started.workoutId()),
+                new ActiveWorkoutJournal(path, objectMapper));
+
+        Map<UUID, WorkoutExercise> workoutExercises = new HashMap<>();
+        for (ActiveWorkoutJournal.Entry entry : entries.subList(1, entries.size())) {
+            switch (entry) {
+                case ActiveWorkoutJournal.ExerciseAdded added -> {
+                    Exercise exercise = catalog.get(added.exerciseId());
+                    if (exercise == null) {
+                        log.warn("Dropping journaled exercise {} of unknown exercise {}", added.workoutExerciseId(), added.exerciseId());
+                        continue;
+                    }
+                    WorkoutExercise workoutExercise = WorkoutExercise.builder()
+                            .workout(workout)
+                            .exercise(exercise)
+                            .position(added.position())
+                            .plannedSets(added.plannedSets())
+                            .plannedReps(added.plannedReps())
+                            .notes(added.notes())
+                            .build();
+                    workoutExercise.setId(added.workoutExerciseId());
+                    workoutExercises.put(workoutExercise.getId(), workoutExercise);
+                    session.restoreExercise(workoutExercise, added.persisted() || alreadyWritten.contains(added.workoutExerciseId()));
+                }
+                case ActiveWorkoutJournal.SetLogged logged -> {
+                    WorkoutExercise workoutExercise = workoutExercises.get(logged.workoutExerciseId());
+                    if (workoutExercise == null) {
+                        continue;
+                    }
+                    ExerciseSet set = ExerciseSet.builder()
+                            .workoutExercise(workoutExercise)
+                            .setNumber(logged.setNumber())
+                            .weight(logged.weight())
+                            .reps(logged.reps())
+                            .duration(logged.duration())
+                            .rpe(logged.rpe())
+                            .setType(logged.setType())
+                            .completed(true)
+                            .build();
+                    set.setId(logged.setId());
+                    session.restoreSet(set, logged.persisted() || alreadyWritten.contains(logged.setId()));
+                }
+                case ActiveWorkoutJournal.WorkoutStarted ignored -> {
+                }
+            }
+        }
+
+        sessions.put(started.userId(), session);
+        log.info("Recovered active workout {} of user {} from {}", workout.getId(), started.userId(), path);
+        flush(session);
+    }
+
+    /**
+     * Ids of journaled rows not yet marked as persisted that are in the database anyway,
+     * because the process stopped between committing a flush and compacting the journal.
+     */
+    private Set<UUID> findAlreadyWritten(List<ActiveWorkoutJournal.Entry> entries) {
+        Set<UUID> workouts = new HashSet<>();
+        Set<UUID> workoutExercises = new HashSet<>();
+        Set<UUID> sets = new HashSet<>();
+        for (ActiveWorkoutJournal.Entry entry : entries) {
+            if (entry.persisted()) {
+                continue;
+            }
+            switch (entry) {
+                case ActiveWorkoutJournal.WorkoutStarted started -> workouts.add(started.workoutId());
+                case ActiveWorkoutJournal.ExerciseAdded added -> workoutExercises.add(added.workoutExerciseId());
+                case ActiveWorkoutJournal.SetLogged logged -> sets.add(logged.setId());
+            }
+        }
+
+        Set<UUID> existing = new HashSet<>();
+        existing.addAll(findExistingIds("workouts", workouts));
+        existing.addAll(findExistingIds("workout_exercises", workoutExercises));
+        existing.addAll(findExistingIds("sets", sets));
+        return existing;
+    }
+
+    private List<UUID> findExistingIds(String table, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE id IN (" + placeholders + ")",
+                UUID.class, ids.toArray());
+    }
+
+    private Path journalPath(UUID userId) {
+        return properties.getJournalDirectory().resolve(userId + JOURNAL_SUFFIX);
+    }
+
+    private static int minutesBetween(LocalDateTime start, LocalDateTime end) {
+        return (int) Math.max(0, Duration.between(start, end).toMinutes());
+    }
+}
@@ -0,0 +1,112 @@
+package dev.kinero.kinerobackend.training.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: quoted fields may contain the delimiter, doubled quotes
+ * and line breaks. Reads through its own buffer, one record at a time.
+ */
+final class CsvRecordReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char QUOTE = '"';
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder(64);
+    private final List<String> fields = new ArrayList<>(16);
+    private int position;
+    private int limit;
+    private boolean started;
+
+    CsvRecordReader(Reader reader, char delimiter) {
+        this.reader = reader;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Returns the next record, or {@code null} at the end of the input. Blank lines are skipped.
+     */
+    String[] next() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean any = false;
+
+        int c;
+        while ((c = read()) != -1) {
+            char ch = (char) c;
+            if (!started) {
+                started = true;
+                if (ch == '\uFEFF') {
+                    continue;
+                }
+            }
+            if (quoted) {
+                if (ch == QUOTE) {
+                    if (peek() == QUOTE) {
+                        read();
+                        field.append(QUOTE);
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(ch);
+                }
+                continue;
+            }
+            if (ch == QUOTE) {
+                quoted = true;
+                any = true;
+            } else if (ch == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+                any = true;
+            } else if (ch == '\n' || ch == '\r') {
+                if (ch == '\r' && peek() == '\n') {
+                    read();
+                }
+                if (any || !field.isEmpty()) {
+                    break;
+                }
+            } else {
+                field.append(ch);
+                any = true;
+            }
+        }
+
+        if (!any && field.isEmpty()) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields.toArray(String[]::new);
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
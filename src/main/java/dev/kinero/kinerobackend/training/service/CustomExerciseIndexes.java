@@ -0,0 +1,63 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.cache.ExpiringLruCache;
+import dev.kinero.kinerobackend.common.search.FacetIndex;
+import dev.kinero.kinerobackend.common.search.TrigramIndex;
+import dev.kinero.kinerobackend.training.dto.ExerciseResponse;
+import dev.kinero.kinerobackend.training.mapper.TrainingMapper;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-user search and facet indexes over custom exercises, loaded together on first use and
+ * dropped when one of the user's exercises changes.
+ */
+@Component
+public class CustomExerciseIndexes {
+
+    private final ExerciseRepository exerciseRepository;
+    private final TrainingMapper trainingMapper;
+    private final ExpiringLruCache<UUID, Indexes> indexes;
+    private final Duration ttl;
+
+    public CustomExerciseIndexes(
+            ExerciseRepository exerciseRepository,
+            TrainingMapper trainingMapper,
+            @Value("${training.custom-exercises.cache-size:10000}") int cacheSize,
+            @Value("${training.custom-exercises.cache-ttl:PT30M}") Duration ttl
+    ) {
+        this.exerciseRepository = exerciseRepository;
+        this.trainingMapper = trainingMapper;
+        this.indexes = new ExpiringLruCache<>(cacheSize);
+        this.ttl = ttl;
+    }
+
+    public Indexes get(UUID userId) {
+        Instant now = Instant.now();
+        Indexes current = indexes.get(userId, now);
+        if (current == null) {
+            List<ExerciseResponse> exercises = exerciseRepository.findActiveCustomByUserId(userId).stream()
+                    .map(trainingMapper::toResponse)
+                    .toList();
+            current = new Indexes(ExerciseSearch.index(exercises), ExerciseFacets.index(exercises));
+            indexes.put(userId, current, now.plus(ttl));
+        }
+        return current;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExerciseChanged(ExerciseChangedEvent event) {
+        if (!event.isCatalogExercise()) {
+            indexes.invalidate(event.ownerId());
+        }
+    }
+
+    public record Indexes(TrigramIndex<ExerciseResponse> search, FacetIndex<ExerciseResponse> facets) {}
+}
@@ -0,0 +1,170 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.dto.ExerciseCatalogResponse;
+import dev.kinero.kinerobackend.training.dto.ExerciseResponse;
+import dev.kinero.kinerobackend.training.mapper.TrainingMapper;
+import dev.kinero.kinerobackend.training.repository.CatalogFingerprint;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Immutable in-memory snapshot of the exercise catalog, serialized and compressed once per change.
+ * <p>
+ * Readers take the current {@link Snapshot} without locking; a change builds a complete new
+ * snapshot and swaps it in. Changes made through JPA arrive as {@link ExerciseChangedEvent}s
+ * after commit, and a cheap fingerprint poll picks up anything written elsewhere (seed scripts,
+ * other instances).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExerciseCatalog {
+
+    private final ExerciseRepository exerciseRepository;
+    private final TrainingMapper trainingMapper;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Snapshot snapshot;
+    private Timer rebuildTimer;
+
+    @PostConstruct
+    void init() {
+        rebuildTimer = meterRegistry.timer("exercise.catalog.rebuild");
+        Gauge.builder("exercise.catalog.version", this, catalog -> {
+                    Snapshot current = catalog.snapshot;
+                    return current != null ? current.version() : 0;
+                })
+                .register(meterRegistry);
+    }
+
+    /**
+     * The current snapshot, built on first use if startup has not warmed it yet.
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : refresh(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        refresh(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExerciseChanged(ExerciseChangedEvent event) {
+        if (event.isCatalogExercise()) {
+            refresh(false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${training.exercise-catalog.poll-interval:PT1M}", initialDelayString = "PT1M")
+    public void poll() {
+        refresh(false);
+    }
+
+    /**
+     * Rebuilds the snapshot unless the stored catalog still matches it.
+     */
+    synchronized Snapshot refresh(boolean force) {
+        CatalogFingerprint fingerprint = exerciseRepository.findCatalogFingerprint();
+        Snapshot current = snapshot;
+        if (!force && current != null && current.fingerprint().equals(fingerprint)) {
+            return current;
+        }
+
+        Snapshot rebuilt = rebuildTimer.record(() -> build(fingerprint, current));
+        snapshot = rebuilt;
+        log.info("Exercise catalog at version {} with {} exercises", rebuilt.version(), rebuilt.exercises().size());
+        return rebuilt;
+    }
+
+    private Snapshot build(CatalogFingerprint fingerprint, Snapshot previous) {
+        List<ExerciseResponse> exercises = exerciseRepository.findCatalog().stream()
+                .map(trainingMapper::toResponse)
+                .toList();
+
+        long version = fingerprint.lastUpdated() != null ? versionOf(fingerprint.lastUpdated()) : 0;
+        if (previous != null && !previous.fingerprint().equals(fingerprint)) {
+            // Keep versions growing even when rows change without a newer updated_at (hard deletes)
+            version = Math.max(version, previous.version() + 1);
+        }
+
+        byte[] json = objectMapper.writeValueAsBytes(new ExerciseCatalogResponse(version, exercises));
+        return new Snapshot(version, fingerprint, exercises, json, gzip(json), etagOf(version, json), Instant.now());
+    }
+
+    /**
+     * Versions are epoch microseconds, the precision of {@code updated_at}, so a version compares
+     * exactly against the timestamps it was taken from.
+     */
+    static long versionOf(Instant updatedAt) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, updatedAt);
+    }
+
+    static Instant instantOf(long version) {
+        return Instant.EPOCH.plus(version, ChronoUnit.MICROS);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Weak, since the same entity is served both plain and gzip-encoded.
+     */
+    private static String etagOf(long version, byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "W/\"" + version + "-" + HexFormat.of().formatHex(digest, 0, 8) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * One immutable build of the catalog. The byte arrays are shared by every response and
+     * must never be modified.
+     */
+    public record Snapshot(
+            long version,
+            CatalogFingerprint fingerprint,
+            List<ExerciseResponse> exercises,
+            byte[] json,
+            byte[] gzippedJson,
+            String etag,
+            Instant builtAt
+    ) {
+        public Snapshot {
+            exercises = List.copyOf(exercises);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.model.Exercise;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Entity listener turning every JPA write of an {@link Exercise} into an {@link ExerciseChangedEvent},
+ * so the in-memory views of the catalog hear about changes whichever code path made them.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExerciseChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Exercise exercise) {
+        UUID ownerId = exercise.isCustom() ? exercise.getCreatedByUserId() : null;
+        eventPublisher.publishEvent(new ExerciseChangedEvent(exercise.getId(), ownerId));
+    }
+}
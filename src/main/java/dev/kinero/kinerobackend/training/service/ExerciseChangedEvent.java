@@ -0,0 +1,15 @@
+package dev.kinero.kinerobackend.training.service;
+
+import java.util.UUID;
+
+/**
+ * Published whenever an exercise is written, inside the writing transaction.
+ *
+ * @param ownerId the user a custom exercise belongs to; {@code null} for catalog exercises
+ */
+public record ExerciseChangedEvent(UUID exerciseId, UUID ownerId) {
+
+    public boolean isCatalogExercise() {
+        return ownerId == null;
+    }
+}
@@ -0,0 +1,137 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.search.FacetIndex;
+import dev.kinero.kinerobackend.training.dto.ExerciseFilterRequest;
+import dev.kinero.kinerobackend.training.dto.ExerciseFilterResponse;
+import dev.kinero.kinerobackend.training.dto.ExerciseResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Faceted filtering over the catalog and the caller's custom exercises, answered from bitmap
+ * indexes without touching the database.
+ * <p>
+ * Like {@link ExerciseSearch}, the catalog index is derived from the current
+ * {@link ExerciseCatalog} snapshot and the custom one comes from {@link CustomExerciseIndexes};
+ * matches and counts of both are added up.
+ */
+@Component
+public class ExerciseFacets {
+
+    static final String PRIMARY_MUSCLE = "primaryMuscle";
+    static final String SECONDARY_MUSCLE = "secondaryMuscle";
+    static final String TYPE = "type";
+    static final String EQUIPMENT = "equipment";
+    static final String COMPOUND = "compound";
+    static final String CUSTOM = "custom";
+
+    private static final Map<String, Function<ExerciseResponse, String>> FACETS = new LinkedHashMap<>();
+
+    static {
+        FACETS.put(PRIMARY_MUSCLE, exercise -> nameOf(exercise.getPrimaryMuscle()));
+        FACETS.put(SECONDARY_MUSCLE, exercise -> nameOf(exercise.getSecondaryMuscle()));
+        FACETS.put(TYPE, exercise -> nameOf(exercise.getType()));
+        FACETS.put(EQUIPMENT, ExerciseResponse::getEquipment);
+        FACETS.put(COMPOUND, exercise -> exercise.getCompound() != null ? exercise.getCompound().toString() : null);
+        FACETS.put(CUSTOM, exercise -> Boolean.toString(Boolean.TRUE.equals(exercise.getIsCustom())));
+    }
+
+    private static final Comparator<ExerciseResponse> BY_NAME =
+            Comparator.comparing(ExerciseResponse::getName, String.CASE_INSENSITIVE_ORDER);
+
+    private final ExerciseCatalog exerciseCatalog;
+    private final CustomExerciseIndexes customExerciseIndexes;
+    private final Timer filterTimer;
+
+    private volatile CatalogIndex catalogIndex;
+
+    public ExerciseFacets(
+            ExerciseCatalog exerciseCatalog,
+            CustomExerciseIndexes customExerciseIndexes,
+            MeterRegistry meterRegistry
+    ) {
+        this.exerciseCatalog = exerciseCatalog;
+        this.customExerciseIndexes = customExerciseIndexes;
+        this.filterTimer = Timer.builder("exercise.filter")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public ExerciseFilterResponse filter(UUID userId, ExerciseFilterRequest request, int limit) {
+        return filterTimer.record(() -> {
+            Map<String, List<String>> selection = selection(request);
+            FacetIndex.Result<ExerciseResponse> catalog = catalogIndex().query(selection);
+            FacetIndex.Result<ExerciseResponse> custom = customExerciseIndexes.get(userId).facets().query(selection);
+            FacetIndex.Result<ExerciseResponse> result = catalog.merge(custom);
+
+            List<ExerciseResponse> matches = result.matches();
+            if (!custom.matches().isEmpty()) {
+                matches = new ArrayList<>(matches);
+                matches.sort(BY_NAME);
+            }
+            return new ExerciseFilterResponse(
+                    matches.size(),
+                    List.copyOf(matches.subList(0, Math.min(limit, matches.size()))),
+                    result.counts());
+        });
+    }
+
+    private FacetIndex<ExerciseResponse> catalogIndex() {
+        ExerciseCatalog.Snapshot snapshot = exerciseCatalog.current();
+        CatalogIndex current = catalogIndex;
+        if (current == null || current.snapshot() != snapshot) {
+            synchronized (this) {
+                current = catalogIndex;
+                if (current == null || current.snapshot() != snapshot) {
+                    current = new CatalogIndex(snapshot, index(snapshot.exercises()));
+                    catalogIndex = current;
+                }
+            }
+        }
+        return current.index();
+    }
+
+    static FacetIndex<ExerciseResponse> index(Collection<ExerciseResponse> exercises) {
+        return FacetIndex.build(exercises, FACETS);
+    }
+
+    static Map<String, List<String>> selection(ExerciseFilterRequest request) {
+        Map<String, List<String>> selection = new HashMap<>();
+        putNames(selection, PRIMARY_MUSCLE, request.primaryMuscle());
+        putNames(selection, SECONDARY_MUSCLE, request.secondaryMuscle());
+        putNames(selection, TYPE, request.type());
+        if (request.equipment() != null && !request.equipment().isEmpty()) {
+            selection.put(EQUIPMENT, request.equipment());
+        }
+        if (request.compound() != null) {
+            selection.put(COMPOUND, List.of(request.compound().toString()));
+        }
+        if (request.custom() != null) {
+            selection.put(CUSTOM, List.of(request.custom().toString()));
+        }
+        return selection;
+    }
+
+    private static void putNames(Map<String, List<String>> selection, String facet, List<? extends Enum<?>> values) {
+        if (values != null && !values.isEmpty()) {
+            selection.put(facet, values.stream().map(Enum::name).toList());
+        }
+    }
+
+    private static String nameOf(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    private record CatalogIndex(ExerciseCatalog.Snapshot snapshot, FacetIndex<ExerciseResponse> index) {}
+}
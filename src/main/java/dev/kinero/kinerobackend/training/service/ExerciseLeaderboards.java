@@ -0,0 +1,197 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.sketch.KllSketch;
+import dev.kinero.kinerobackend.training.repository.ExerciseLeaderboardRepository;
+import dev.kinero.kinerobackend.training.repository.PersonalRecordBatchRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory leaderboards per exercise and rep range: a KLL sketch of every lifter's record
+ * for percentiles and the top records for the board itself.
+ * <p>
+ * Committed record changes are applied as they happen. Lifters are counted once per board,
+ * on their first record. A sketch cannot forget a value, so a lifter who beats their own
+ * record weighs twice in the percentiles until the next rebuild from {@code personal_records}.
+ * Changes committed while a rebuild reads the table are replayed onto the rebuilt boards
+ * before they replace the live ones. The boards are saved to {@code exercise_leaderboards}
+ * so a restart does not need a rebuild.
+ */
+@Slf4j
+@Component
+public class ExerciseLeaderboards {
+
+    private final ExerciseLeaderboardRepository exerciseLeaderboardRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final int capacity;
+
+    private volatile Map<Key, Board> boards = new ConcurrentHashMap<>();
+    private final Object rebuildLock = new Object();
+    private List<PersonalRecordsChangedEvent> duringRebuild; // guarded by rebuildLock, set while a rebuild runs
+    private TransactionTemplate readOnlyTransaction;
+    private Timer rebuildTimer;
+
+    public ExerciseLeaderboards(
+            ExerciseLeaderboardRepository exerciseLeaderboardRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${training.leaderboards.size:100}") int capacity
+    ) {
+        this.exerciseLeaderboardRepository = exerciseLeaderboardRepository;
+        this.transactionManager = transactionManager;
+        this.meterRegistry = meterRegistry;
+        this.capacity = capacity;
+    }
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        rebuildTimer = meterRegistry.timer("leaderboards.rebuild");
+        Gauge.builder("leaderboards.boards", this, leaderboards -> leaderboards.boards.size())
+                .register(meterRegistry);
+
+        Map<Key, Board> loaded = new ConcurrentHashMap<>();
+        for (ExerciseLeaderboardRepository.Snapshot snapshot : exerciseLeaderboardRepository.findAll()) {
+            Board board = new Board(KllSketch.fromBytes(snapshot.sketch()),
+                    Leaderboard.fromBytes(snapshot.topRecords(), capacity));
+            // Saved before lifters were counted; the next rebuild counts them exactly
+            board.lifters = snapshot.lifters() > 0 ? snapshot.lifters() : board.sketch.count();
+            loaded.put(new Key(snapshot.exerciseId(), snapshot.repRange()), board);
+        }
+        boards = loaded;
+    }
+
+    @TransactionalEventListener
+    public void onRecordsChanged(PersonalRecordsChangedEvent event) {
+        synchronized (rebuildLock) {
+            apply(boards, event);
+            if (duringRebuild != null) {
+                duringRebuild.add(event);
+            }
+        }
+    }
+
+    /**
+     * The top records and the share of lifters below {@code weight}; empty when nobody has a
+     * record for the exercise and rep range yet.
+     */
+    Standing standing(UUID exerciseId, int repRange, double weight, int limit) {
+        Board board = boards.get(new Key(exerciseId, repRange));
+        if (board == null) {
+            return new Standing(0, List.of(), 0);
+        }
+        synchronized (board) {
+            return new Standing(board.lifters, board.leaderboard.top(limit),
+                    weight > 0 ? board.sketch.fractionBelow(weight) : 0);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${training.leaderboards.persist-interval:PT5M}", initialDelayString = "PT1M")
+    public void persist() {
+        List<ExerciseLeaderboardRepository.Snapshot> snapshots = new ArrayList<>();
+        boards.forEach((key, board) -> {
+            synchronized (board) {
+                if (board.dirty) {
+                    snapshots.add(board.snapshot(key));
+                    board.dirty = false;
+                }
+            }
+        });
+        if (!snapshots.isEmpty()) {
+            exerciseLeaderboardRepository.upsert(snapshots);
+        }
+    }
+
+    /**
+     * Replaces every board with one built from the stored records, then saves them all.
+     * <p>
+     * Changes that arrive while the records are read are applied to the live boards and also
+     * replayed onto the rebuilt ones. One that committed just before the read started is then
+     * counted twice, which the next rebuild corrects; none is lost.
+     */
+    @Scheduled(fixedDelayString = "${training.leaderboards.rebuild-interval:PT6H}", initialDelayString = "PT2M")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            duringRebuild = new ArrayList<>();
+        }
+        try {
+            Map<Key, Board> rebuilt = new ConcurrentHashMap<>();
+            rebuildTimer.record(() -> readOnlyTransaction.executeWithoutResult(status ->
+                    exerciseLeaderboardRepository.streamRecords(rs -> {
+                        Key key = new Key(rs.getObject("exercise_id", UUID.class), rs.getInt("rep_range"));
+                        Board board = rebuilt.computeIfAbsent(key, k -> new Board(new KllSketch(), new Leaderboard(capacity)));
+                        double weight = rs.getDouble("weight");
+                        board.sketch.update(weight);
+                        board.leaderboard.offer(rs.getObject("user_id", UUID.class), weight,
+                                rs.getDate("achieved_date").toLocalDate());
+                        board.lifters++;
+                        board.dirty = true;
+                    })));
+
+            synchronized (rebuildLock) {
+                duringRebuild.forEach(event -> apply(rebuilt, event));
+                boards = rebuilt;
+            }
+            persist();
+            log.info("Rebuilt {} exercise leaderboards", rebuilt.size());
+        } finally {
+            synchronized (rebuildLock) {
+                duringRebuild = null;
+            }
+        }
+    }
+
+    private void apply(Map<Key, Board> target, PersonalRecordsChangedEvent event) {
+        for (PersonalRecordBatchRepository.BeatenRecord record : event.records()) {
+            Board board = target.computeIfAbsent(new Key(record.exerciseId(), record.repRange()),
+                    key -> new Board(new KllSketch(), new Leaderboard(capacity)));
+            synchronized (board) {
+                board.sketch.update(record.weight());
+                board.leaderboard.offer(event.userId(), record.weight(), record.achievedDate());
+                if (record.previousWeight() <= 0) {
+                    board.lifters++;
+                }
+                board.dirty = true;
+            }
+        }
+    }
+
+    record Standing(long lifters, List<Leaderboard.Entry> top, double fractionBelow) {}
+
+    private record Key(UUID exerciseId, int repRange) {}
+
+    private static final class Board {
+
+        private final KllSketch sketch;
+        private final Leaderboard leaderboard;
+        private long lifters;
+        private boolean dirty;
+
+        private Board(KllSketch sketch, Leaderboard leaderboard) {
+            this.sketch = sketch;
+            this.leaderboard = leaderboard;
+        }
+
+        private ExerciseLeaderboardRepository.Snapshot snapshot(Key key) {
+            return new ExerciseLeaderboardRepository.Snapshot(key.exerciseId(), key.repRange(),
+                    sketch.toBytes(), leaderboard.toBytes(), lifters);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.dto.ExerciseProgressResponse;
+import dev.kinero.kinerobackend.training.dto.ExerciseProgressSeriesResponse;
+import dev.kinero.kinerobackend.training.model.OneRepMaxFormula;
+
+import java.util.UUID;
+
+public interface ExerciseProgressService {
+    ExerciseProgressResponse getProgress(UUID userId, UUID exerciseId);
+
+    ExerciseProgressSeriesResponse getSeries(UUID userId, UUID exerciseId, OneRepMaxFormula formula, int points);
+}
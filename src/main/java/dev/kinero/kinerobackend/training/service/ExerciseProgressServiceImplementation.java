@@ -0,0 +1,90 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.dto.ExerciseProgressResponse;
+import dev.kinero.kinerobackend.training.dto.ExerciseProgressSeriesResponse;
+import dev.kinero.kinerobackend.training.model.ExerciseDailyRollup;
+import dev.kinero.kinerobackend.training.model.OneRepMaxFormula;
+import dev.kinero.kinerobackend.training.repository.ExerciseDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Progress is read from the daily rollups, one row per day the exercise was trained,
+ * instead of aggregating over the sets.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExerciseProgressServiceImplementation implements ExerciseProgressService {
+
+    static final int MAX_SERIES_POINTS = 1000;
+
+    private final ExerciseDailyRollupRepository exerciseDailyRollupRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ExerciseProgressResponse getProgress(UUID userId, UUID exerciseId) {
+        List<ExerciseDailyRollup> days = exerciseDailyRollupRepository.findByUserIdAndExerciseIdOrderByTrainedOnAsc(userId, exerciseId);
+
+        return ExerciseProgressResponse.builder()
+                .exerciseId(exerciseId)
+                .maxWeight(days.stream().map(ExerciseDailyRollup::getMaxWeight).max(Double::compare).orElse(null))
+                .maxReps(days.stream().map(ExerciseDailyRollup::getMaxReps).max(Integer::compare).orElse(null))
+                .highestVolume(days.stream().map(ExerciseDailyRollup::getBestSetVolume).max(Double::compare).orElse(null))
+                .bestEstimatedOneRepMax(days.stream().map(ExerciseDailyRollup::getBestEstimatedOneRepMax).max(Double::compare).orElse(null))
+                .history(days.stream()
+                        .map(day -> new ExerciseProgressResponse.HistoryEntry(
+                                day.getTrainedOn(),
+                                day.getMaxWeight(),
+                                day.getMaxReps(),
+                                day.getTotalVolume(),
+                                day.getSetCount(),
+                                day.getBestEstimatedOneRepMax()))
+                        .toList())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ExerciseProgressSeriesResponse getSeries(UUID userId, UUID exerciseId, OneRepMaxFormula formula, int points) {
+        int budget = Math.clamp(points, LttbDownsampler.MIN_POINTS, MAX_SERIES_POINTS);
+        List<ExerciseDailyRollup> days = exerciseDailyRollupRepository.findByUserIdAndExerciseIdOrderByTrainedOnAsc(userId, exerciseId);
+
+        int size = days.size();
+        double[] epochDays = new double[size];
+        double[] oneRepMax = new double[size];
+        double[] volume = new double[size];
+        double[] bestSetVolume = new double[size];
+        for (int i = 0; i < size; i++) {
+            ExerciseDailyRollup day = days.get(i);
+            epochDays[i] = day.getTrainedOn().toEpochDay();
+            oneRepMax[i] = day.bestOneRepMax(formula);
+            volume[i] = day.getTotalVolume();
+            bestSetVolume[i] = day.getBestSetVolume();
+        }
+
+        return new ExerciseProgressSeriesResponse(
+                exerciseId,
+                formula,
+                budget,
+                size,
+                series(epochDays, oneRepMax, budget),
+                series(epochDays, volume, budget),
+                series(epochDays, bestSetVolume, budget)
+        );
+    }
+
+    private static List<ExerciseProgressSeriesResponse.Point> series(double[] epochDays, double[] values, int budget) {
+        int[] kept = LttbDownsampler.downsample(epochDays, values, budget);
+        List<ExerciseProgressSeriesResponse.Point> points = new ArrayList<>(kept.length);
+        for (int index : kept) {
+            points.add(new ExerciseProgressSeriesResponse.Point(LocalDate.ofEpochDay((long) epochDays[index]), values[index]));
+        }
+        return points;
+    }
+}
@@ -0,0 +1,75 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.model.OneRepMaxFormula;
+import dev.kinero.kinerobackend.training.repository.ExerciseRollupBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@code exercise_daily_rollups} current. Runs synchronously inside the transaction
+ * that changed the sets, so the rollups commit or roll back together with them.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExerciseRollupUpdater {
+
+    private final ExerciseRollupBatchRepository exerciseRollupBatchRepository;
+
+    @EventListener
+    public void onSetsChanged(SetsChangedEvent event) {
+        if (event.isEmpty()) {
+            return;
+        }
+
+        // A removal may have taken away a maximum, so those days are rebuilt from the sets,
+        // which already include whatever was added to them in the same change
+        Set<ExerciseRollupBatchRepository.DayKey> recomputed = event.removed().stream()
+                .map(ExerciseRollupUpdater::dayOf)
+                .collect(Collectors.toSet());
+        if (!recomputed.isEmpty()) {
+            exerciseRollupBatchRepository.recompute(event.userId(), recomputed);
+        }
+
+        Map<ExerciseRollupBatchRepository.DayKey, ExerciseRollupBatchRepository.DayAggregate> merged = new LinkedHashMap<>();
+        for (SetsChangedEvent.SetFact fact : event.added()) {
+            ExerciseRollupBatchRepository.DayKey day = dayOf(fact);
+            if (!recomputed.contains(day)) {
+                merged.merge(day, aggregateOf(fact), ExerciseRollupUpdater::combine);
+            }
+        }
+        if (!merged.isEmpty()) {
+            exerciseRollupBatchRepository.merge(event.userId(), List.copyOf(merged.values()));
+        }
+    }
+
+    private static ExerciseRollupBatchRepository.DayKey dayOf(SetsChangedEvent.SetFact fact) {
+        return new ExerciseRollupBatchRepository.DayKey(fact.exerciseId(), fact.trainedOn());
+    }
+
+    private static ExerciseRollupBatchRepository.DayAggregate aggregateOf(SetsChangedEvent.SetFact fact) {
+        return new ExerciseRollupBatchRepository.DayAggregate(fact.exerciseId(), fact.trainedOn(), fact.weight(),
+                fact.reps(), fact.volume(), fact.volume(), 1, fact.estimatedOneRepMax(OneRepMaxFormula.EPLEY),
+                fact.estimatedOneRepMax(OneRepMaxFormula.BRZYCKI));
+    }
+
+    private static ExerciseRollupBatchRepository.DayAggregate combine(
+            ExerciseRollupBatchRepository.DayAggregate a,
+            ExerciseRollupBatchRepository.DayAggregate b
+    ) {
+        return new ExerciseRollupBatchRepository.DayAggregate(a.exerciseId(), a.trainedOn(),
+                Math.max(a.maxWeight(), b.maxWeight()),
+                Math.max(a.maxReps(), b.maxReps()),
+                Math.max(a.bestSetVolume(), b.bestSetVolume()),
+                a.totalVolume() + b.totalVolume(),
+                a.setCount() + b.setCount(),
+                Math.max(a.bestEstimatedOneRepMax(), b.bestEstimatedOneRepMax()),
+                Math.max(a.bestBrzyckiOneRepMax(), b.bestBrzyckiOneRepMax()));
+    }
+}
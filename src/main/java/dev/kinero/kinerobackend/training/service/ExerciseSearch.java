@@ -0,0 +1,81 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.search.TrigramIndex;
+import dev.kinero.kinerobackend.training.dto.ExerciseResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Typo-tolerant search over the catalog and the caller's custom exercises.
+ * <p>
+ * The catalog index is derived from the current {@link ExerciseCatalog} snapshot and rebuilt on
+ * the first search after the snapshot changes. Each user's custom exercises get a small index of
+ * their own from {@link CustomExerciseIndexes}; results from both are merged by score.
+ */
+@Component
+public class ExerciseSearch {
+
+    private final ExerciseCatalog exerciseCatalog;
+    private final CustomExerciseIndexes customExerciseIndexes;
+    private final Timer searchTimer;
+
+    private volatile CatalogIndex catalogIndex;
+
+    public ExerciseSearch(
+            ExerciseCatalog exerciseCatalog,
+            CustomExerciseIndexes customExerciseIndexes,
+            MeterRegistry meterRegistry
+    ) {
+        this.exerciseCatalog = exerciseCatalog;
+        this.customExerciseIndexes = customExerciseIndexes;
+        this.searchTimer = Timer.builder("exercise.search")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public List<ExerciseResponse> search(UUID userId, String query, int limit) {
+        return searchTimer.record(() -> {
+            List<TrigramIndex.Hit<ExerciseResponse>> hits = new ArrayList<>(catalogIndex().search(query, limit));
+            hits.addAll(customExerciseIndexes.get(userId).search().search(query, limit));
+            return hits.stream()
+                    .sorted(Comparator.comparingDouble(TrigramIndex.Hit<ExerciseResponse>::score).reversed())
+                    .limit(limit)
+                    .map(TrigramIndex.Hit::document)
+                    .toList();
+        });
+    }
+
+    private TrigramIndex<ExerciseResponse> catalogIndex() {
+        ExerciseCatalog.Snapshot snapshot = exerciseCatalog.current();
+        CatalogIndex current = catalogIndex;
+        if (current == null || current.snapshot() != snapshot) {
+            synchronized (this) {
+                current = catalogIndex;
+                if (current == null || current.snapshot() != snapshot) {
+                    current = new CatalogIndex(snapshot, index(snapshot.exercises()));
+                    catalogIndex = current;
+                }
+            }
+        }
+        return current.index();
+    }
+
+    static TrigramIndex<ExerciseResponse> index(Collection<ExerciseResponse> exercises) {
+        return TrigramIndex.build(exercises, ExerciseResponse::getName, ExerciseSearch::attributes);
+    }
+
+    private static String attributes(ExerciseResponse exercise) {
+        String equipment = exercise.getEquipment() != null ? exercise.getEquipment() : "";
+        String category = exercise.getCategory() != null ? exercise.getCategory() : "";
+        return equipment + " " + category;
+    }
+
+    private record CatalogIndex(ExerciseCatalog.Snapshot snapshot, TrigramIndex<ExerciseResponse> index) {}
+}
@@ -0,0 +1,21 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.dto.ExerciseChangesResponse;
+import dev.kinero.kinerobackend.training.dto.ExerciseFilterRequest;
+import dev.kinero.kinerobackend.training.dto.ExerciseFilterResponse;
+import dev.kinero.kinerobackend.training.dto.ExerciseResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ExerciseService {
+    ExerciseCatalog.Snapshot getCatalog();
+
+    List<ExerciseResponse> getCustomExercises(UUID userId);
+
+    ExerciseChangesResponse getChanges(UUID userId, Long since);
+
+    List<ExerciseResponse> search(UUID userId, String query, int limit);
+
+    ExerciseFilterResponse filter(UUID userId, ExerciseFilterRequest request, int limit);
+}
@@ -0,0 +1,143 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.error.BadRequestException;
+import dev.kinero.kinerobackend.training.dto.ExerciseChangesResponse;
+import dev.kinero.kinerobackend.training.dto.ExerciseFilterRequest;
+import dev.kinero.kinerobackend.training.dto.ExerciseFilterResponse;
+import dev.kinero.kinerobackend.training.dto.ExerciseResponse;
+import dev.kinero.kinerobackend.training.mapper.TrainingMapper;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The shared catalog comes from the in-memory {@link ExerciseCatalog}; a user's custom
+ * exercises are few and read from the database.
+ * <p>
+ * Delta sync versions are epoch microseconds of {@code updated_at}, its full precision. The version handed back
+ * never passes {@code now - commit-window}, so a write that commits late with an older
+ * timestamp is still picked up by the next sync; the cost is that changes from the last few
+ * seconds are sent twice.
+ */
+@Service
+public class ExerciseServiceImplementation implements ExerciseService {
+
+    static final int MAX_SEARCH_RESULTS = 50;
+    static final int MAX_QUERY_LENGTH = 100;
+    static final int MAX_FILTER_RESULTS = 500;
+
+    private final ExerciseCatalog exerciseCatalog;
+    private final ExerciseSearch exerciseSearch;
+    private final ExerciseFacets exerciseFacets;
+    private final ExerciseRepository exerciseRepository;
+    private final TrainingMapper trainingMapper;
+    private final int maxChanges;
+    private final Duration maxAge;
+    private final Duration commitWindow;
+
+    public ExerciseServiceImplementation(
+            ExerciseCatalog exerciseCatalog,
+            ExerciseSearch exerciseSearch,
+            ExerciseFacets exerciseFacets,
+            ExerciseRepository exerciseRepository,
+            TrainingMapper trainingMapper,
+            @Value("${training.exercise-sync.max-changes:500}") int maxChanges,
+            @Value("${training.exercise-sync.max-age:P90D}") Duration maxAge,
+            @Value("${training.exercise-sync.commit-window:PT5S}") Duration commitWindow
+    ) {
+        this.exerciseCatalog = exerciseCatalog;
+        this.exerciseSearch = exerciseSearch;
+        this.exerciseFacets = exerciseFacets;
+        this.exerciseRepository = exerciseRepository;
+        this.trainingMapper = trainingMapper;
+        this.maxChanges = maxChanges;
+        this.maxAge = maxAge;
+        this.commitWindow = commitWindow;
+    }
+
+    @Override
+    public ExerciseCatalog.Snapshot getCatalog() {
+        return exerciseCatalog.current();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ExerciseResponse> getCustomExercises(UUID userId) {
+        return exerciseRepository.findActiveCustomByUserId(userId).stream()
+                .map(trainingMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ExerciseChangesResponse getChanges(UUID userId, Long since) {
+        Instant now = Instant.now();
+        long horizon = ExerciseCatalog.versionOf(now.minus(commitWindow));
+        // Millisecond versions handed out before fall far behind max-age and get one full sync
+        if (since == null || since <= 0 || since < ExerciseCatalog.versionOf(now.minus(maxAge))) {
+            return fullSync(userId, horizon);
+        }
+
+        Instant after = ExerciseCatalog.instantOf(since);
+        List<Exercise> catalogChanges = exerciseRepository.findCatalogChangedSince(after, Limit.of(maxChanges + 1));
+        List<Exercise> customChanges = exerciseRepository.findCustomChangedSince(userId, after, Limit.of(maxChanges + 1));
+        if (catalogChanges.size() + customChanges.size() > maxChanges) {
+            return fullSync(userId, horizon);
+        }
+
+        List<ExerciseResponse> upserted = new ArrayList<>();
+        List<UUID> deleted = new ArrayList<>();
+        long latest = since;
+        for (List<Exercise> changes : List.of(catalogChanges, customChanges)) {
+            for (Exercise exercise : changes) {
+                if (exercise.isDeleted()) {
+                    deleted.add(exercise.getId());
+                } else {
+                    upserted.add(trainingMapper.toResponse(exercise));
+                }
+                latest = Math.max(latest, ExerciseCatalog.versionOf(exercise.getUpdatedAt()));
+            }
+        }
+        long version = upserted.isEmpty() && deleted.isEmpty() ? horizon : Math.min(latest, horizon);
+        return new ExerciseChangesResponse(Math.max(since, version), false, upserted, deleted);
+    }
+
+    @Override
+    public List<ExerciseResponse> search(UUID userId, String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        return exerciseSearch.search(userId, query, Math.clamp(limit, 1, MAX_SEARCH_RESULTS));
+    }
+
+    @Override
+    public ExerciseFilterResponse filter(UUID userId, ExerciseFilterRequest request, int limit) {
+        return exerciseFacets.filter(userId, request, Math.clamp(limit, 1, MAX_FILTER_RESULTS));
+    }
+
+    private ExerciseChangesResponse fullSync(UUID userId, long horizon) {
+        ExerciseCatalog.Snapshot catalog = exerciseCatalog.current();
+        List<Exercise> custom = exerciseRepository.findActiveCustomByUserId(userId);
+
+        List<ExerciseResponse> exercises = new ArrayList<>(catalog.exercises().size() + custom.size());
+        exercises.addAll(catalog.exercises());
+        long latest = catalog.version();
+        for (Exercise exercise : custom) {
+            exercises.add(trainingMapper.toResponse(exercise));
+            latest = Math.max(latest, ExerciseCatalog.versionOf(exercise.getUpdatedAt()));
+        }
+        return new ExerciseChangesResponse(Math.min(latest, horizon), true, exercises, List.of());
+    }
+}
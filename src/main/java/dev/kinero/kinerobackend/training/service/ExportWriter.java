@@ -0,0 +1,135 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.repository.TrainingExportRepository;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes export rows to a compressed stream as they arrive; nothing but the current row and
+ * the compressor's window is held in memory.
+ */
+sealed interface ExportWriter {
+
+    int BUFFER_SIZE = 64 * 1024;
+
+    void beginSection(TrainingExportRepository.Section section) throws IOException;
+
+    void writeRow(Object[] values) throws IOException;
+
+    /**
+     * Completes the compressed stream without closing the underlying one.
+     */
+    void finish() throws IOException;
+
+    /**
+     * One gzip stream of JSON lines, each tagged with the table it comes from.
+     */
+    final class Ndjson implements ExportWriter {
+
+        private final ObjectMapper objectMapper;
+        private final GZIPOutputStream gzip;
+        private final Writer writer;
+        private String table;
+        private String[] columns;
+
+        Ndjson(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.objectMapper = objectMapper;
+            this.gzip = new GZIPOutputStream(out, BUFFER_SIZE);
+            this.writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+        }
+
+        @Override
+        public void beginSection(TrainingExportRepository.Section section) {
+            table = section.fileName();
+            columns = section.columns();
+        }
+
+        @Override
+        public void writeRow(Object[] values) throws IOException {
+            Map<String, Object> row = new LinkedHashMap<>(columns.length * 2);
+            row.put("table", table);
+            for (int i = 0; i < columns.length; i++) {
+                row.put(columns[i], values[i]);
+            }
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+            gzip.finish();
+        }
+    }
+
+    /**
+     * A ZIP archive with one RFC 4180 CSV file, header included, per table. Text that a
+     * spreadsheet would run as a formula gets a leading apostrophe; numbers are left alone.
+     */
+    final class Csv implements ExportWriter {
+
+        private final ZipOutputStream zip;
+        private final Writer writer;
+
+        Csv(OutputStream out) {
+            this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+            this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), BUFFER_SIZE);
+        }
+
+        @Override
+        public void beginSection(TrainingExportRepository.Section section) throws IOException {
+            writer.flush();
+            zip.putNextEntry(new ZipEntry(section.fileName() + ".csv"));
+            writeRow(section.columns());
+        }
+
+        @Override
+        public void writeRow(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] instanceof String text) {
+                    writer.write(escape(neutralize(text)));
+                } else if (values[i] != null) {
+                    writer.write(escape(values[i].toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+            zip.finish();
+        }
+
+        static String neutralize(String value) {
+            if (value.isEmpty()) {
+                return value;
+            }
+            return switch (value.charAt(0)) {
+                case '=', '+', '-', '@', '\t', '\r' -> "'" + value;
+                default -> value;
+            };
+        }
+
+        static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
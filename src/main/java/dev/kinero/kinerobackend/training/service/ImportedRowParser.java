@@ -0,0 +1,205 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.error.BadRequestException;
+import dev.kinero.kinerobackend.training.dto.ImportSource;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maps the records of a Strong or Hevy CSV export onto {@link ImportedRow}s, one per set.
+ * Both apps write one row per set, grouped by workout, with the workout repeated on every row.
+ */
+final class ImportedRowParser {
+
+    private static final DateTimeFormatter STRONG_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter HEVY_DATE = DateTimeFormatter.ofPattern("d MMM yyyy, HH:mm", Locale.ENGLISH);
+    private static final double KILOGRAMS_PER_POUND = 0.45359237;
+    private static final Pattern STRONG_DURATION = Pattern.compile("(?:(\\d+)h)?\\s*(?:(\\d+)m)?\\s*(?:(\\d+)s)?");
+
+    private final ImportSource source;
+    private final Map<String, Integer> columns;
+
+    private ImportedRowParser(ImportSource source, Map<String, Integer> columns) {
+        this.source = source;
+        this.columns = columns;
+    }
+
+    /**
+     * @throws BadRequestException if the header belongs to neither supported export
+     */
+    static ImportedRowParser forHeader(String[] header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            columns.putIfAbsent(header[i].trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (columns.containsKey("exercise name") && columns.containsKey("set order")) {
+            return new ImportedRowParser(ImportSource.STRONG, columns);
+        }
+        if (columns.containsKey("exercise_title") && columns.containsKey("start_time")) {
+            return new ImportedRowParser(ImportSource.HEVY, columns);
+        }
+        throw new BadRequestException("Unrecognised CSV header, expected a Strong or Hevy export");
+    }
+
+    /**
+     * The delimiter of the header line: Strong writes semicolons in some locales.
+     */
+    static char delimiterOf(String headerLine) {
+        int commas = headerLine.length() - headerLine.replace(",", "").length();
+        int semicolons = headerLine.length() - headerLine.replace(";", "").length();
+        return semicolons > commas ? ';' : ',';
+    }
+
+    ImportSource source() {
+        return source;
+    }
+
+    /**
+     * Returns the set described by the record, or {@code null} for rows that are not sets
+     * (Strong's rest timer rows) or cannot be read.
+     */
+    ImportedRow parse(String[] record) {
+        try {
+            return switch (source) {
+                case STRONG -> parseStrong(record);
+                case HEVY -> parseHevy(record);
+            };
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private ImportedRow parseStrong(String[] record) {
+        String setOrder = text(record, "set order");
+        String setType = strongSetType(setOrder);
+        if (setType == null) {
+            return null;
+        }
+        String date = text(record, "date");
+        LocalDateTime start = LocalDateTime.parse(date, STRONG_DATE);
+        int minutes = strongMinutes(text(record, "duration"));
+        String name = text(record, "workout name");
+        return new ImportedRow(
+                date + '|' + name,
+                name,
+                start,
+                minutes > 0 ? start.plusMinutes(minutes) : start,
+                text(record, "workout notes"),
+                text(record, "exercise name"),
+                decimal(record, "weight"),
+                (int) decimal(record, "reps"),
+                seconds(record, "seconds"),
+                optionalDecimal(record, "rpe"),
+                setType,
+                text(record, "notes")
+        );
+    }
+
+    private ImportedRow parseHevy(String[] record) {
+        String startText = text(record, "start_time");
+        String endText = text(record, "end_time");
+        LocalDateTime start = LocalDateTime.parse(startText, HEVY_DATE);
+        LocalDateTime end = endText != null ? LocalDateTime.parse(endText, HEVY_DATE) : start;
+        String title = text(record, "title");
+        String setType = text(record, "set_type");
+        return new ImportedRow(
+                startText + '|' + title,
+                title,
+                start,
+                end,
+                text(record, "description"),
+                text(record, "exercise_title"),
+                hevyWeight(record),
+                (int) decimal(record, "reps"),
+                seconds(record, "duration_seconds"),
+                optionalDecimal(record, "rpe"),
+                setType != null ? setType.toLowerCase(Locale.ROOT) : "normal",
+                text(record, "exercise_notes")
+        );
+    }
+
+    /**
+     * Weight in kilograms; exports made with imperial units only carry {@code weight_lbs}.
+     */
+    private double hevyWeight(String[] record) {
+        if (columns.containsKey("weight_kg")) {
+            return decimal(record, "weight_kg");
+        }
+        return decimal(record, "weight_lbs") * KILOGRAMS_PER_POUND;
+    }
+
+    private static String strongSetType(String setOrder) {
+        if (setOrder == null) {
+            return null;
+        }
+        return switch (setOrder.toUpperCase(Locale.ROOT)) {
+            case "W" -> "warmup";
+            case "D" -> "dropset";
+            case "F" -> "failure";
+            default -> setOrder.chars().allMatch(Character::isDigit) ? "normal" : null;
+        };
+    }
+
+    private static int strongMinutes(String duration) {
+        if (duration == null) {
+            return 0;
+        }
+        Matcher matcher = STRONG_DURATION.matcher(duration.trim());
+        if (!matcher.matches()) {
+            return duration.chars().allMatch(Character::isDigit) ? Integer.parseInt(duration) / 60 : 0;
+        }
+        int hours = matcher.group(1) != null ? Integer.parseInt(matcher.group(1)) : 0;
+        int minutes = matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : 0;
+        return hours * 60 + minutes;
+    }
+
+    private String text(String[] record, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.length) {
+            return null;
+        }
+        String value = record[index].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private double decimal(String[] record, String column) {
+        Double value = optionalDecimal(record, column);
+        return value != null ? value : 0;
+    }
+
+    private Double optionalDecimal(String[] record, String column) {
+        String value = text(record, column);
+        return value != null ? Double.valueOf(value.replace(',', '.')) : null;
+    }
+
+    private Integer seconds(String[] record, String column) {
+        Double value = optionalDecimal(record, column);
+        return value != null && value > 0 ? (int) Math.round(value) : null;
+    }
+
+    /**
+     * One imported set, with the workout it belongs to. Rows with the same {@code workoutKey}
+     * belong to the same workout.
+     */
+    record ImportedRow(
+            String workoutKey,
+            String workoutName,
+            LocalDateTime startTime,
+            LocalDateTime endTime,
+            String workoutNotes,
+            String exerciseName,
+            double weight,
+            int reps,
+            Integer duration,
+            Double rpe,
+            String setType,
+            String notes
+    ) {}
+}
@@ -0,0 +1,27 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.repository.LastPerformanceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@code exercise_last_performances} current. Runs inside the transaction that finished
+ * the workout, so the index never points at a workout that was rolled back.
+ */
+@Component
+@RequiredArgsConstructor
+public class LastPerformanceUpdater {
+
+    private final LastPerformanceRepository lastPerformanceRepository;
+
+    @EventListener
+    public void onWorkoutFinished(WorkoutFinishedEvent event) {
+        lastPerformanceRepository.refresh(event.workoutId());
+    }
+
+    @EventListener
+    public void onWorkoutsImported(WorkoutsImportedEvent event) {
+        lastPerformanceRepository.refresh(event.workoutIds());
+    }
+}
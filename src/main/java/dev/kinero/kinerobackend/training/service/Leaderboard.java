@@ -0,0 +1,88 @@
+package dev.kinero.kinerobackend.training.service;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * The heaviest {@code capacity} records of one exercise and rep range, at most one per user.
+ * Not thread-safe.
+ */
+final class Leaderboard {
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingDouble(Entry::weight).reversed()
+            .thenComparing(Entry::achievedDate)
+            .thenComparing(Entry::userId);
+
+    private final int capacity;
+    private final TreeSet<Entry> ranked = new TreeSet<>(RANKING);
+    private final Map<UUID, Entry> byUser = new HashMap<>();
+
+    Leaderboard(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records the user's new best; a lighter weight than the user already has is ignored.
+     */
+    void offer(UUID userId, double weight, LocalDate achievedDate) {
+        Entry existing = byUser.get(userId);
+        if (existing != null && existing.weight() >= weight) {
+            return;
+        }
+        if (existing == null && ranked.size() >= capacity && weight <= ranked.last().weight()) {
+            return;
+        }
+        if (existing != null) {
+            ranked.remove(existing);
+        }
+        Entry entry = new Entry(userId, weight, achievedDate);
+        ranked.add(entry);
+        byUser.put(userId, entry);
+        if (ranked.size() > capacity) {
+            byUser.remove(ranked.pollLast().userId());
+        }
+    }
+
+    List<Entry> top(int limit) {
+        List<Entry> top = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (Entry entry : ranked) {
+            if (top.size() == limit) {
+                break;
+            }
+            top.add(entry);
+        }
+        return top;
+    }
+
+    byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + ranked.size() * (2 * Long.BYTES + Double.BYTES + Long.BYTES));
+        buffer.putInt(ranked.size());
+        for (Entry entry : ranked) {
+            buffer.putLong(entry.userId().getMostSignificantBits());
+            buffer.putLong(entry.userId().getLeastSignificantBits());
+            buffer.putDouble(entry.weight());
+            buffer.putLong(entry.achievedDate().toEpochDay());
+        }
+        return buffer.array();
+    }
+
+    static Leaderboard fromBytes(byte[] bytes, int capacity) {
+        Leaderboard leaderboard = new Leaderboard(capacity);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int size = buffer.getInt();
+        for (int i = 0; i < size; i++) {
+            UUID userId = new UUID(buffer.getLong(), buffer.getLong());
+            leaderboard.offer(userId, buffer.getDouble(), LocalDate.ofEpochDay(buffer.getLong()));
+        }
+        return leaderboard;
+    }
+
+    record Entry(UUID userId, double weight, LocalDate achievedDate) {}
+}
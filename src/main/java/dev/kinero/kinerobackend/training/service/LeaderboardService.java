@@ -0,0 +1,9 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.dto.LeaderboardResponse;
+
+import java.util.UUID;
+
+public interface LeaderboardService {
+    LeaderboardResponse getLeaderboard(UUID userId, UUID exerciseId, int repRange, int limit);
+}
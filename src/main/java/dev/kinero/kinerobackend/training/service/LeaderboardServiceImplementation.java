@@ -0,0 +1,49 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.error.BadRequestException;
+import dev.kinero.kinerobackend.training.dto.LeaderboardResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Answers from memory: the board and sketch from {@link ExerciseLeaderboards} and the caller's
+ * own best from the {@link PersonalRecordDetector} table.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeaderboardServiceImplementation implements LeaderboardService {
+
+    static final int MAX_LIMIT = 100;
+
+    private final ExerciseLeaderboards exerciseLeaderboards;
+    private final PersonalRecordDetector personalRecordDetector;
+
+    @Override
+    public LeaderboardResponse getLeaderboard(UUID userId, UUID exerciseId, int repRange, int limit) {
+        if (repRange < 1 || repRange > PersonalRecordDetector.MAX_REP_RANGE) {
+            throw new BadRequestException("Rep range must be between 1 and " + PersonalRecordDetector.MAX_REP_RANGE);
+        }
+        double best = personalRecordDetector.bestOf(userId, exerciseId, repRange);
+        ExerciseLeaderboards.Standing standing = exerciseLeaderboards.standing(exerciseId, repRange, best,
+                Math.clamp(limit, 1, MAX_LIMIT));
+
+        List<LeaderboardResponse.Entry> entries = new ArrayList<>(standing.top().size());
+        for (Leaderboard.Entry entry : standing.top()) {
+            entries.add(new LeaderboardResponse.Entry(entries.size() + 1, entry.weight(), entry.achievedDate(),
+                    entry.userId().equals(userId)));
+        }
+        boolean hasRecord = best > 0;
+        return new LeaderboardResponse(
+                exerciseId,
+                repRange,
+                standing.lifters(),
+                hasRecord ? best : null,
+                hasRecord ? Math.round(standing.fractionBelow() * 1000) / 10.0 : null,
+                entries
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package dev.kinero.kinerobackend.training.service;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling.
+ * <p>
+ * Keeps the first and last point and, from every bucket in between, the point forming the
+ * largest triangle with the point kept before it and the average of the next bucket. Peaks
+ * and dips survive, which a plain average or stride would flatten. One pass over the input.
+ */
+final class LttbDownsampler {
+
+    static final int MIN_POINTS = 3;
+
+    private LttbDownsampler() {
+    }
+
+    /**
+     * Returns the indices of the points to keep, in ascending order. {@code x} must be sorted
+     * ascending; when {@code threshold} is at least the number of points, every index is kept.
+     */
+    static int[] downsample(double[] x, double[] y, int threshold) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("x and y must have the same length");
+        }
+        int size = x.length;
+        if (threshold >= size || threshold < MIN_POINTS) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] kept = new int[threshold];
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int previous = 0;
+        kept[0] = 0;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int nextStart = (int) ((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, size);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += x[i];
+                averageY += y[i];
+            }
+            int nextCount = nextEnd - nextStart;
+            averageX /= nextCount;
+            averageY /= nextCount;
+
+            int start = (int) (bucket * bucketSize) + 1;
+            int end = nextStart;
+            double largestArea = -1;
+            int selected = start;
+            for (int i = start; i < end; i++) {
+                // Twice the triangle area; the factor does not change which point wins
+                double area = Math.abs((x[previous] - averageX) * (y[i] - y[previous])
+                        - (x[previous] - x[i]) * (averageY - y[previous]));
+                if (area > largestArea) {
+                    largestArea = area;
+                    selected = i;
+                }
+            }
+            kept[bucket + 1] = selected;
+            previous = selected;
+        }
+
+        kept[threshold - 1] = size - 1;
+        return kept;
+    }
+}
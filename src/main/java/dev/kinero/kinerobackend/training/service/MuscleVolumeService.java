@@ -0,0 +1,9 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.dto.MuscleVolumeResponse;
+
+import java.util.UUID;
+
+public interface MuscleVolumeService {
+    MuscleVolumeResponse getWeeklyVolume(UUID userId, int weeks, Double secondaryWeight);
+}
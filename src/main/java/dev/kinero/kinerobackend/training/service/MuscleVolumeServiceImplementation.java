@@ -0,0 +1,83 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.error.BadRequestException;
+import dev.kinero.kinerobackend.training.dto.MuscleVolumeResponse;
+import dev.kinero.kinerobackend.training.model.MuscleGroup;
+import dev.kinero.kinerobackend.training.repository.MuscleWeeklyRollupRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the weekly muscle rollups, one row per trained week, and applies the secondary
+ * muscle weight on the way out.
+ */
+@Service
+public class MuscleVolumeServiceImplementation implements MuscleVolumeService {
+
+    static final int MAX_WEEKS = 156;
+
+    private static final MuscleGroup[] MUSCLE_GROUPS = MuscleGroup.values();
+
+    private final MuscleWeeklyRollupRepository muscleWeeklyRollupRepository;
+    private final double defaultSecondaryWeight;
+
+    public MuscleVolumeServiceImplementation(
+            MuscleWeeklyRollupRepository muscleWeeklyRollupRepository,
+            @Value("${training.muscle-volume.secondary-weight:0.5}") double defaultSecondaryWeight
+    ) {
+        this.muscleWeeklyRollupRepository = muscleWeeklyRollupRepository;
+        this.defaultSecondaryWeight = defaultSecondaryWeight;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MuscleVolumeResponse getWeeklyVolume(UUID userId, int weeks, Double secondaryWeight) {
+        double weight = secondaryWeight != null ? secondaryWeight : defaultSecondaryWeight;
+        if (weight < 0 || weight > 1) {
+            throw new BadRequestException("Secondary muscle weight must be between 0 and 1");
+        }
+        int count = Math.clamp(weeks, 1, MAX_WEEKS);
+        LocalDate lastWeek = MuscleVolumeUpdater.weekStart(LocalDate.now());
+        LocalDate firstWeek = lastWeek.minusWeeks(count - 1);
+
+        Map<LocalDate, MuscleWeeklyRollupRepository.MuscleWeek> stored = muscleWeeklyRollupRepository
+                .findWeeks(userId, firstWeek, lastWeek).stream()
+                .collect(Collectors.toMap(MuscleWeeklyRollupRepository.MuscleWeek::weekStart, Function.identity()));
+
+        List<MuscleVolumeResponse.Week> result = new ArrayList<>(count);
+        for (LocalDate week = firstWeek; !week.isAfter(lastWeek); week = week.plusWeeks(1)) {
+            MuscleWeeklyRollupRepository.MuscleWeek row = stored.get(week);
+            result.add(new MuscleVolumeResponse.Week(week, isoWeek(week),
+                    row != null ? cells(row, weight) : Map.of()));
+        }
+        return new MuscleVolumeResponse(weight, result);
+    }
+
+    private static String isoWeek(LocalDate weekStart) {
+        return "%d-W%02d".formatted(weekStart.get(IsoFields.WEEK_BASED_YEAR), weekStart.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+
+    private static Map<MuscleGroup, MuscleVolumeResponse.Cell> cells(MuscleWeeklyRollupRepository.MuscleWeek row, double weight) {
+        Map<MuscleGroup, MuscleVolumeResponse.Cell> cells = new EnumMap<>(MuscleGroup.class);
+        for (MuscleGroup muscle : MUSCLE_GROUPS) {
+            int i = muscle.ordinal();
+            double sets = row.primarySets()[i] + weight * row.secondarySets()[i];
+            double volume = row.primaryVolume()[i] + weight * row.secondaryVolume()[i];
+            if (sets > 0) {
+                cells.put(muscle, new MuscleVolumeResponse.Cell(sets, volume));
+            }
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,94 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.MuscleWeeklyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@code muscle_weekly_rollups} current. Like {@link ExerciseRollupUpdater} it runs inside
+ * the transaction that changed the sets: additions are merged as deltas, weeks with removals are
+ * recomputed from the sets.
+ */
+@Component
+@RequiredArgsConstructor
+public class MuscleVolumeUpdater {
+
+    private final ExerciseRepository exerciseRepository;
+    private final MuscleWeeklyRollupRepository muscleWeeklyRollupRepository;
+
+    @EventListener
+    public void onSetsChanged(SetsChangedEvent event) {
+        if (event.isEmpty()) {
+            return;
+        }
+
+        // The exercise's muscles may have changed since a removed set was credited, so a removal
+        // cannot be merged as a negative delta; its week is rebuilt, including any additions
+        Set<LocalDate> recomputed = event.removed().stream()
+                .map(fact -> weekStart(fact.trainedOn()))
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (!recomputed.isEmpty()) {
+            muscleWeeklyRollupRepository.recompute(event.userId(), recomputed);
+        }
+
+        List<SetsChangedEvent.SetFact> merged = event.added().stream()
+                .filter(fact -> !recomputed.contains(weekStart(fact.trainedOn())))
+                .toList();
+        if (merged.isEmpty()) {
+            return;
+        }
+        Set<UUID> exerciseIds = merged.stream()
+                .map(SetsChangedEvent.SetFact::exerciseId)
+                .collect(Collectors.toSet());
+        Map<UUID, Exercise> exercises = exerciseRepository.findAllById(exerciseIds).stream()
+                .collect(Collectors.toMap(Exercise::getId, Function.identity()));
+
+        Map<LocalDate, MuscleWeeklyRollupRepository.MuscleWeek> deltas = new TreeMap<>();
+        for (SetsChangedEvent.SetFact fact : merged) {
+            accumulate(deltas, exercises.get(fact.exerciseId()), fact);
+        }
+        if (!deltas.isEmpty()) {
+            muscleWeeklyRollupRepository.merge(event.userId(), List.copyOf(deltas.values()));
+        }
+    }
+
+    static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static void accumulate(
+            Map<LocalDate, MuscleWeeklyRollupRepository.MuscleWeek> deltas,
+            Exercise exercise,
+            SetsChangedEvent.SetFact fact
+    ) {
+        if (exercise == null) {
+            return;
+        }
+        MuscleWeeklyRollupRepository.MuscleWeek week = deltas.computeIfAbsent(
+                weekStart(fact.trainedOn()), MuscleWeeklyRollupRepository.MuscleWeek::empty);
+
+        int primary = exercise.getPrimaryMuscle().ordinal();
+        week.primarySets()[primary]++;
+        week.primaryVolume()[primary] += fact.volume();
+        if (exercise.getSecondaryMuscle() != null) {
+            int secondary = exercise.getSecondaryMuscle().ordinal();
+            week.secondarySets()[secondary]++;
+            week.secondaryVolume()[secondary] += fact.volume();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.cache.ExpiringLruCache;
+import dev.kinero.kinerobackend.training.repository.PersonalRecordBatchRepository;
+import dev.kinero.kinerobackend.training.repository.PersonalRecordBest;
+import dev.kinero.kinerobackend.training.repository.PersonalRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records a personal record whenever a logged set is heavier than the user's best for that
+ * exercise and number of reps.
+ * <p>
+ * Each user's current bests are loaded once into a bounded LRU table and compared in memory,
+ * so a set that beats nothing costs no query at all. Records that were beaten are upserted
+ * in the writing transaction and reach the table only after it commits; the upsert itself
+ * never lowers a stored record, so a stale table only ever costs a no-op write. Until then,
+ * the records raised by earlier events of the same transaction (the batches of an import)
+ * are kept with the transaction and compared first, so each is reported only once.
+ */
+@Component
+public class PersonalRecordDetector {
+
+    static final int MAX_REP_RANGE = 20;
+
+    private final PersonalRecordRepository personalRecordRepository;
+    private final PersonalRecordBatchRepository personalRecordBatchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExpiringLruCache<UUID, Bests> bests;
+    private final Duration cacheTtl;
+    private final Counter detected;
+
+    public PersonalRecordDetector(
+            PersonalRecordRepository personalRecordRepository,
+            PersonalRecordBatchRepository personalRecordBatchRepository,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${training.personal-records.cache-size:10000}") int cacheSize,
+            @Value("${training.personal-records.cache-ttl:PT30M}") Duration cacheTtl
+    ) {
+        this.personalRecordRepository = personalRecordRepository;
+        this.personalRecordBatchRepository = personalRecordBatchRepository;
+        this.eventPublisher = eventPublisher;
+        this.bests = new ExpiringLruCache<>(cacheSize);
+        this.cacheTtl = cacheTtl;
+        this.detected = meterRegistry.counter("personal_records.detected");
+        Gauge.builder("personal_records.cache.size", bests, ExpiringLruCache::size)
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onSetsChanged(SetsChangedEvent event) {
+        if (event.added().isEmpty()) {
+            return;
+        }
+
+        Bests current = bestsOf(event.userId());
+        Map<Bests.Key, Double> uncommitted = uncommittedBestsOf(event.userId());
+        Map<Bests.Key, PersonalRecordBatchRepository.BeatenRecord> beaten = new LinkedHashMap<>();
+        for (SetsChangedEvent.SetFact fact : event.added()) {
+            if (fact.reps() < 1 || fact.reps() > MAX_REP_RANGE || fact.weight() <= 0) {
+                continue;
+            }
+            Bests.Key key = new Bests.Key(fact.exerciseId(), fact.reps());
+            double best = Math.max(current.weight(key), uncommitted.getOrDefault(key, 0.0));
+            PersonalRecordBatchRepository.BeatenRecord previous = beaten.get(key);
+            double toBeat = previous != null ? previous.weight() : best;
+            if (fact.weight() > toBeat) {
+                beaten.put(key, new PersonalRecordBatchRepository.BeatenRecord(
+                        fact.exerciseId(), fact.reps(), fact.weight(), fact.trainedOn(), best));
+            }
+        }
+        if (beaten.isEmpty()) {
+            return;
+        }
+
+        List<PersonalRecordBatchRepository.BeatenRecord> records = List.copyOf(beaten.values());
+        personalRecordBatchRepository.upsert(event.userId(), records);
+        detected.increment(records.size());
+        beaten.forEach((key, record) -> uncommitted.put(key, record.weight()));
+        afterCommit(() -> current.raise(records));
+        eventPublisher.publishEvent(new PersonalRecordsChangedEvent(event.userId(), records));
+    }
+
+    /**
+     * The user's committed best weight for the exercise and rep range, or 0 without a record.
+     */
+    public double bestOf(UUID userId, UUID exerciseId, int repRange) {
+        return bestsOf(userId).weight(new Bests.Key(exerciseId, repRange));
+    }
+
+    private Bests bestsOf(UUID userId) {
+        Instant now = Instant.now();
+        Bests cached = bests.get(userId, now);
+        if (cached != null) {
+            return cached;
+        }
+        Bests loaded = new Bests(personalRecordRepository.findBests(userId));
+        bests.put(userId, loaded, now.plus(cacheTtl));
+        return loaded;
+    }
+
+    /**
+     * Records raised earlier in the current transaction, bound to it and dropped when it
+     * completes; a fresh map each time outside a transaction.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Bests.Key, Double> uncommittedBestsOf(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new HashMap<>();
+        }
+        Map<UUID, Map<Bests.Key, Double>> byUser =
+                (Map<UUID, Map<Bests.Key, Double>>) TransactionSynchronizationManager.getResource(this);
+        if (byUser == null) {
+            byUser = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, byUser);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PersonalRecordDetector.this);
+                }
+            });
+        }
+        return byUser.computeIfAbsent(userId, id -> new HashMap<>());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Committed best weight per exercise and rep range of one user.
+     */
+    static final class Bests {
+
+        private final Map<Key, Double> weights = new ConcurrentHashMap<>();
+
+        Bests(List<PersonalRecordBest> records) {
+            for (PersonalRecordBest record : records) {
+                weights.merge(new Key(record.exerciseId(), record.repRange()), record.weight(), Math::max);
+            }
+        }
+
+        double weight(Key key) {
+            return weights.getOrDefault(key, 0.0);
+        }
+
+        void raise(Collection<PersonalRecordBatchRepository.BeatenRecord> records) {
+            for (PersonalRecordBatchRepository.BeatenRecord record : records) {
+                weights.merge(new Key(record.exerciseId(), record.repRange()), record.weight(), Math::max);
+            }
+        }
+
+        record Key(UUID exerciseId, int repRange) {}
+    }
+}
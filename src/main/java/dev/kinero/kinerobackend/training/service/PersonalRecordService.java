@@ -0,0 +1,10 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.pagination.CursorPage;
+import dev.kinero.kinerobackend.training.dto.PersonalRecordResponse;
+
+import java.util.UUID;
+
+public interface PersonalRecordService {
+    CursorPage<PersonalRecordResponse> getRecords(UUID userId, String cursor, int limit);
+}
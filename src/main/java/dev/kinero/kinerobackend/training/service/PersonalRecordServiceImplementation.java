@@ -0,0 +1,33 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.pagination.Cursor;
+import dev.kinero.kinerobackend.common.pagination.CursorPage;
+import dev.kinero.kinerobackend.training.dto.PersonalRecordResponse;
+import dev.kinero.kinerobackend.training.mapper.TrainingMapper;
+import dev.kinero.kinerobackend.training.model.PersonalRecord;
+import dev.kinero.kinerobackend.training.repository.PersonalRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class PersonalRecordServiceImplementation implements PersonalRecordService {
+
+    private final PersonalRecordRepository personalRecordRepository;
+    private final TrainingMapper trainingMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PersonalRecordResponse> getRecords(UUID userId, String cursor, int limit) {
+        Cursor after = Cursor.decode(cursor);
+        List<PersonalRecord> rows = after == null
+                ? personalRecordRepository.findRecent(userId, Limit.of(limit + 1))
+                : personalRecordRepository.findRecentAfter(userId, after.date(), after.id(), Limit.of(limit + 1));
+        return CursorPage.of(rows, limit, pr -> new Cursor(pr.getAchievedDate(), pr.getId()), trainingMapper::toResponse);
+    }
+}
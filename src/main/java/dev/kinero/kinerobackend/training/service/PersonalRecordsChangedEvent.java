@@ -0,0 +1,14 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.repository.PersonalRecordBatchRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published inside the writing transaction when sets have raised some of a user's records.
+ */
+public record PersonalRecordsChangedEvent(
+        UUID userId,
+        List<PersonalRecordBatchRepository.BeatenRecord> records
+) {}
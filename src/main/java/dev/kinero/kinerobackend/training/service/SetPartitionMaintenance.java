@@ -0,0 +1,64 @@
+package dev.kinero.kinerobackend.training.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * Keeps the monthly partitions of the sets table ahead of the calendar.
+ * <p>
+ * Every run creates the partitions of the coming months and moves rows that landed in the
+ * default partition (history imported for months without a partition) into partitions of
+ * their own. When archiving is enabled, partitions older than {@code archive-after-months}
+ * are detached into the {@code sets_archive} schema, but only once none of their sets belongs
+ * to a live workout, so a listed workout never loses its sets. The work itself lives in the
+ * database functions created by the V18 and V22 migrations.
+ */
+@Slf4j
+@Component
+public class SetPartitionMaintenance {
+
+    private static final String FUNCTIONS_INSTALLED = "SELECT to_regproc('create_sets_partitions') IS NOT NULL";
+    private static final String CREATE_PARTITIONS = "SELECT create_sets_partitions(?)";
+    private static final String ARCHIVE_PARTITIONS = "SELECT archive_sets_partitions(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int archiveAfterMonths;
+
+    public SetPartitionMaintenance(
+            JdbcTemplate jdbcTemplate,
+            @Value("${training.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${training.partitions.archive-after-months:0}") int archiveAfterMonths
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.archiveAfterMonths = archiveAfterMonths;
+    }
+
+    @Scheduled(cron = "${training.partitions.maintenance-cron:0 15 2 * * *}")
+    public void maintain() {
+        // Schemas generated by Hibernate (tests, local dev) have a plain sets table
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(FUNCTIONS_INSTALLED, Boolean.class))) {
+            return;
+        }
+
+        Integer created = jdbcTemplate.queryForObject(CREATE_PARTITIONS, Integer.class, monthsAhead);
+        if (created != null && created > 0) {
+            log.info("Created {} sets partitions", created);
+        }
+
+        if (archiveAfterMonths > 0) {
+            LocalDate cutoff = LocalDate.now().withDayOfMonth(1).minusMonths(archiveAfterMonths);
+            Integer archived = jdbcTemplate.queryForObject(ARCHIVE_PARTITIONS, Integer.class, Date.valueOf(cutoff));
+            if (archived != null && archived > 0) {
+                log.info("Archived {} sets partitions ending before {}", archived, cutoff);
+            }
+        }
+    }
+}
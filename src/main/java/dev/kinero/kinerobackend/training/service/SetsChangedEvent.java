@@ -0,0 +1,50 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.model.ExerciseSet;
+import dev.kinero.kinerobackend.training.model.OneRepMaxFormula;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published inside the writing transaction whenever sets that count towards a user's
+ * statistics are added or removed. An edit is a removal of the old values plus an addition
+ * of the new ones.
+ */
+public record SetsChangedEvent(
+        UUID userId,
+        List<SetFact> added,
+        List<SetFact> removed
+) {
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * The values of one completed set that derived statistics are built from.
+     */
+    public record SetFact(UUID exerciseId, LocalDate trainedOn, double weight, int reps) {
+
+        public double volume() {
+            return weight * reps;
+        }
+
+        public double estimatedOneRepMax(OneRepMaxFormula formula) {
+            return formula.estimate(weight, reps);
+        }
+    }
+
+    /**
+     * Facts of the sets that count: completed and not deleted. The exercise id is read from the
+     * workout exercise without initialising the lazy exercise.
+     */
+    public static List<SetFact> factsOf(Collection<ExerciseSet> sets, LocalDate trainedOn) {
+        return sets.stream()
+                .filter(set -> Boolean.TRUE.equals(set.getCompleted()) && !set.isDeleted())
+                .map(set -> new SetFact(set.getWorkoutExercise().getExercise().getId(), trainedOn, set.getWeight(), set.getReps()))
+                .toList();
+    }
+}
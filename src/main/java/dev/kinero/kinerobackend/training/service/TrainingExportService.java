@@ -0,0 +1,21 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.dto.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+public interface TrainingExportService {
+
+    /**
+     * Reserves a slot for the export before anything is written, so a rejection can still be
+     * answered with an error status. The slot is released once the returned export has run.
+     */
+    Export prepare(UUID userId, ExportFormat format);
+
+    @FunctionalInterface
+    interface Export {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,115 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.error.ServiceUnavailableException;
+import dev.kinero.kinerobackend.training.dto.ExportFormat;
+import dev.kinero.kinerobackend.training.repository.TrainingExportRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Streams every section of a user's data into the chosen format inside one read-only,
+ * repeatable-read transaction, so all tables are exported from the same snapshot.
+ * <p>
+ * Each export holds a pooled connection and an open snapshot for as long as the client takes
+ * to download it, so the number running at once is capped per user and per instance.
+ */
+@Slf4j
+@Service
+public class TrainingExportServiceImplementation implements TrainingExportService {
+
+    private final TrainingExportRepository trainingExportRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final Semaphore slots;
+    private final int maxPerUser;
+    private final Map<UUID, Integer> running = new ConcurrentHashMap<>();
+
+    private TransactionTemplate transactionTemplate;
+
+    public TrainingExportServiceImplementation(
+            TrainingExportRepository trainingExportRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${training.export.max-concurrent:4}") int maxConcurrent,
+            @Value("${training.export.max-concurrent-per-user:1}") int maxPerUser
+    ) {
+        this.trainingExportRepository = trainingExportRepository;
+        this.transactionManager = transactionManager;
+        this.objectMapper = objectMapper;
+        this.slots = new Semaphore(maxConcurrent);
+        this.maxPerUser = maxPerUser;
+    }
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @Override
+    public Export prepare(UUID userId, ExportFormat format) {
+        if (!slots.tryAcquire()) {
+            throw new ServiceUnavailableException("Too many exports in progress, please retry later");
+        }
+        boolean[] reserved = new boolean[1];
+        running.compute(userId, (id, count) -> {
+            int current = count != null ? count : 0;
+            reserved[0] = current < maxPerUser;
+            return reserved[0] ? current + 1 : count;
+        });
+        if (!reserved[0]) {
+            slots.release();
+            throw new ServiceUnavailableException("An export of your data is already running");
+        }
+
+        return out -> {
+            try {
+                export(userId, format, out);
+            } finally {
+                running.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+                slots.release();
+            }
+        };
+    }
+
+    private void export(UUID userId, ExportFormat format, OutputStream out) throws IOException {
+        ExportWriter writer = switch (format) {
+            case NDJSON -> new ExportWriter.Ndjson(out, objectMapper);
+            case CSV -> new ExportWriter.Csv(out);
+        };
+
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    for (TrainingExportRepository.Section section : TrainingExportRepository.Section.values()) {
+                        writer.beginSection(section);
+                        trainingExportRepository.stream(section, userId, writer::writeRow);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client went away mid-download
+            throw e.getCause();
+        }
+        writer.finish();
+        log.info("Exported data of user {} as {} in {} ms", userId, format, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,9 @@
+package dev.kinero.kinerobackend.training.service;
+
+import java.util.UUID;
+
+/**
+ * Published inside the writing transaction once a workout has been stored as finished,
+ * after all of its sets are in the database.
+ */
+public record WorkoutFinishedEvent(UUID userId, UUID workoutId) {}
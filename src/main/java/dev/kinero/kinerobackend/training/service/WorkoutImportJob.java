@@ -0,0 +1,70 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.dto.ImportJobResponse;
+import dev.kinero.kinerobackend.training.dto.ImportJobStatus;
+import dev.kinero.kinerobackend.training.dto.ImportSource;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one import, written by the worker thread and read by status requests.
+ */
+@Getter
+class WorkoutImportJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final UUID userId;
+    private final Instant createdAt = Instant.now();
+    private final int maxUnknownExercises;
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong workoutsImported = new AtomicLong();
+    private final AtomicLong setsImported = new AtomicLong();
+    private final AtomicLong rowsSkipped = new AtomicLong();
+    private final Set<String> unknownExercises = new LinkedHashSet<>();
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    private volatile ImportSource source;
+    private volatile String error;
+    private volatile Instant finishedAt;
+    private volatile boolean cancelRequested;
+
+    WorkoutImportJob(UUID userId, int maxUnknownExercises) {
+        this.userId = userId;
+        this.maxUnknownExercises = maxUnknownExercises;
+    }
+
+    void start(ImportSource source) {
+        this.source = source;
+        this.status = ImportJobStatus.RUNNING;
+    }
+
+    void finish(ImportJobStatus status, String error) {
+        this.error = error;
+        this.finishedAt = Instant.now();
+        this.status = status;
+    }
+
+    void requestCancel() {
+        cancelRequested = true;
+    }
+
+    boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    synchronized void addUnknownExercise(String name) {
+        if (unknownExercises.size() < maxUnknownExercises) {
+            unknownExercises.add(name);
+        }
+    }
+
+    synchronized ImportJobResponse toResponse() {
+        return new ImportJobResponse(id, status, source, rowsRead.get(), workoutsImported.get(), setsImported.get(),
+                rowsSkipped.get(), List.copyOf(unknownExercises), error, createdAt, finishedAt);
+    }
+}
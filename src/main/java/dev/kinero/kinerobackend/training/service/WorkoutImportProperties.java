@@ -0,0 +1,19 @@
+package dev.kinero.kinerobackend.training.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Data
+@ConfigurationProperties(prefix = "training.import")
+public class WorkoutImportProperties {
+
+    private int poolSize = 2;
+    private int queueCapacity = 8;
+    private int batchSize = 5000;
+    private int maxUnknownExercises = 50;
+    private Duration jobRetention = Duration.ofHours(1);
+}
@@ -0,0 +1,14 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.dto.ImportJobResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+public interface WorkoutImportService {
+    ImportJobResponse startImport(UUID userId, MultipartFile file);
+
+    ImportJobResponse getJob(UUID userId, UUID jobId);
+
+    ImportJobResponse cancelJob(UUID userId, UUID jobId);
+}
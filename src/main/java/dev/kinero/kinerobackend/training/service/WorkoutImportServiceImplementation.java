@@ -0,0 +1,375 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.error.BadRequestException;
+import dev.kinero.kinerobackend.common.error.ResourceNotFoundException;
+import dev.kinero.kinerobackend.common.error.ServiceUnavailableException;
+import dev.kinero.kinerobackend.training.dto.ImportJobResponse;
+import dev.kinero.kinerobackend.training.dto.ImportJobStatus;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseSet;
+import dev.kinero.kinerobackend.training.model.Workout;
+import dev.kinero.kinerobackend.training.model.WorkoutExercise;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.WorkoutBatchRepository;
+import dev.kinero.kinerobackend.user.model.User;
+import dev.kinero.kinerobackend.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Imports Strong and Hevy CSV exports on a small background pool.
+ * <p>
+ * The upload is parsed as a stream and written through {@link WorkoutBatchRepository} in
+ * batches of whole workouts, so only one batch is ever held in memory. The whole file is
+ * imported in a single transaction: a failed or cancelled import rolls back completely
+ * instead of leaving half a history behind. Each batch is published as finished workouts in
+ * one {@link WorkoutsImportedEvent}, so listeners can update for the whole batch at once.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkoutImportServiceImplementation implements WorkoutImportService {
+
+    private final WorkoutImportProperties properties;
+    private final WorkoutBatchRepository workoutBatchRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<UUID, WorkoutImportJob> jobs = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+    private TransactionTemplate transactionTemplate;
+    private Counter importedSets;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                properties.getPoolSize(),
+                properties.getPoolSize(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "workout-import-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        importedSets = meterRegistry.counter("workout_import.sets");
+        Gauge.builder("workout_import.queue.depth", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobs.values().forEach(WorkoutImportJob::requestCancel);
+        executor.shutdown();
+    }
+
+    @Override
+    public ImportJobResponse startImport(UUID userId, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("The import file is empty");
+        }
+
+        Path upload;
+        try {
+            upload = Files.createTempFile("workout-import-", ".csv");
+            file.transferTo(upload);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store the uploaded file", e);
+        }
+
+        WorkoutImportJob job = new WorkoutImportJob(userId, properties.getMaxUnknownExercises());
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, upload));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            deleteQuietly(upload);
+            meterRegistry.counter("workout_import.rejected").increment();
+            throw new ServiceUnavailableException("Too many imports in progress, please retry later");
+        }
+        return job.toResponse();
+    }
+
+    @Override
+    public ImportJobResponse getJob(UUID userId, UUID jobId) {
+        return ownedJob(userId, jobId).toResponse();
+    }
+
+    @Override
+    public ImportJobResponse cancelJob(UUID userId, UUID jobId) {
+        WorkoutImportJob job = ownedJob(userId, jobId);
+        job.requestCancel();
+        return job.toResponse();
+    }
+
+    @Scheduled(fixedDelayString = "PT10M")
+    void purgeFinishedJobs() {
+        Instant cutoff = Instant.now().minus(properties.getJobRetention());
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    private WorkoutImportJob ownedJob(UUID userId, UUID jobId) {
+        WorkoutImportJob job = jobs.get(jobId);
+        if (job == null || !job.getUserId().equals(userId)) {
+            throw new ResourceNotFoundException("Import job", "id", jobId);
+        }
+        return job;
+    }
+
+    private void run(WorkoutImportJob job, Path upload) {
+        long start = System.nanoTime();
+        try (BufferedReader reader = Files.newBufferedReader(upload, StandardCharsets.UTF_8)) {
+            reader.mark(8192);
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new BadRequestException("The import file is empty");
+            }
+            reader.reset();
+
+            CsvRecordReader records = new CsvRecordReader(reader, ImportedRowParser.delimiterOf(headerLine));
+            ImportedRowParser parser = ImportedRowParser.forHeader(records.next());
+            job.start(parser.source());
+            Map<String, Exercise> exercises = exerciseIndex(job.getUserId());
+
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    importRows(job, records, parser, exercises);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            job.finish(ImportJobStatus.COMPLETED, null);
+            long millis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            log.info("Imported {} sets in {} workouts for user {} from {} in {} ms",
+                    job.getSetsImported().get(), job.getWorkoutsImported().get(), job.getUserId(), job.getSource(), millis);
+        } catch (CancellationException e) {
+            job.finish(ImportJobStatus.CANCELLED, null);
+        } catch (BadRequestException e) {
+            job.finish(ImportJobStatus.FAILED, e.getMessage());
+        } catch (Exception e) {
+            log.error("Import {} for user {} failed", job.getId(), job.getUserId(), e);
+            job.finish(ImportJobStatus.FAILED, "The import failed, nothing was imported");
+        } finally {
+            meterRegistry.counter("workout_import.jobs", "result", job.getStatus().name().toLowerCase(Locale.ROOT)).increment();
+            deleteQuietly(upload);
+        }
+    }
+
+    private void importRows(
+            WorkoutImportJob job,
+            CsvRecordReader records,
+            ImportedRowParser parser,
+            Map<String, Exercise> exercises
+    ) throws IOException {
+        User user = userRepository.getReferenceById(job.getUserId());
+        Batch batch = new Batch();
+        Map<UUID, OpenExercise> openExercises = new HashMap<>();
+        String workoutKey = null;
+        Workout workout = null;
+
+        String[] record;
+        while ((record = records.next()) != null) {
+            job.getRowsRead().incrementAndGet();
+            ImportedRowParser.ImportedRow row = parser.parse(record);
+            if (row == null) {
+                job.getRowsSkipped().incrementAndGet();
+                continue;
+            }
+            Exercise exercise = resolve(exercises, row.exerciseName());
+            if (exercise == null) {
+                job.getRowsSkipped().incrementAndGet();
+                if (row.exerciseName() != null) {
+                    job.addUnknownExercise(row.exerciseName());
+                }
+                continue;
+            }
+
+            if (!row.workoutKey().equals(workoutKey)) {
+                if (job.isCancelRequested()) {
+                    throw new CancellationException();
+                }
+                if (batch.sets.size() >= properties.getBatchSize()) {
+                    flush(job, batch);
+                }
+                workoutKey = row.workoutKey();
+                workout = newWorkout(user, row);
+                batch.workouts.add(workout);
+                openExercises.clear();
+            }
+
+            Workout owner = workout;
+            OpenExercise open = openExercises.computeIfAbsent(exercise.getId(), id -> {
+                WorkoutExercise workoutExercise = WorkoutExercise.builder()
+                        .workout(owner)
+                        .exercise(exercise)
+                        .position(openExercises.size() + 1)
+                        .plannedSets(0)
+                        .plannedReps(0)
+                        .completed(true)
+                        .build();
+                batch.workoutExercises.add(workoutExercise);
+                return new OpenExercise(workoutExercise);
+            });
+
+            batch.sets.add(ExerciseSet.builder()
+                    .workoutExercise(open.workoutExercise)
+                    .setNumber(++open.sets)
+                    .weight(row.weight())
+                    .reps(row.reps())
+                    .duration(row.duration())
+                    .rpe(row.rpe())
+                    .setType(row.setType())
+                    .notes(row.notes())
+                    .completed(true)
+                    .build());
+            workout.setTotalSets(workout.getTotalSets() + 1);
+            workout.setTotalVolume(workout.getTotalVolume().add(BigDecimal.valueOf(row.weight()).multiply(BigDecimal.valueOf(row.reps()))));
+        }
+
+        flush(job, batch);
+    }
+
+    private void flush(WorkoutImportJob job, Batch batch) {
+        if (batch.workouts.isEmpty()) {
+            return;
+        }
+        workoutBatchRepository.insertWorkouts(batch.workouts);
+        workoutBatchRepository.insertWorkoutExercises(batch.workoutExercises);
+        workoutBatchRepository.insertSets(batch.sets);
+
+        List<SetsChangedEvent.SetFact> facts = new ArrayList<>(batch.sets.size());
+        for (ExerciseSet set : batch.sets) {
+            WorkoutExercise workoutExercise = set.getWorkoutExercise();
+            facts.add(new SetsChangedEvent.SetFact(workoutExercise.getExercise().getId(),
+                    workoutExercise.getWorkout().getWorkoutDate(), set.getWeight(), set.getReps()));
+        }
+        eventPublisher.publishEvent(new SetsChangedEvent(job.getUserId(), facts, List.of()));
+        eventPublisher.publishEvent(new WorkoutsImportedEvent(job.getUserId(),
+                batch.workouts.stream().map(Workout::getId).toList()));
+
+        job.getWorkoutsImported().addAndGet(batch.workouts.size());
+        job.getSetsImported().addAndGet(batch.sets.size());
+        importedSets.increment(batch.sets.size());
+        batch.clear();
+    }
+
+    private static Workout newWorkout(User user, ImportedRowParser.ImportedRow row) {
+        return Workout.builder()
+                .user(user)
+                .name(row.workoutName() != null ? row.workoutName() : "Imported workout")
+                .notes(row.workoutNotes())
+                .startTime(row.startTime())
+                .endTime(row.endTime())
+                .workoutDate(row.startTime().toLocalDate())
+                .durationMinutes((int) Duration.between(row.startTime(), row.endTime()).toMinutes())
+                .totalSets(0)
+                .totalVolume(BigDecimal.ZERO)
+                .completed(true)
+                .build();
+    }
+
+    /**
+     * The catalogue by normalised name: shared exercises plus the user's own custom ones.
+     */
+    private Map<String, Exercise> exerciseIndex(UUID userId) {
+        Map<String, Exercise> index = new HashMap<>();
+        for (Exercise exercise : exerciseRepository.findAllActive()) {
+            if (!exercise.isCustom() || userId.equals(exercise.getCreatedByUserId())) {
+                index.putIfAbsent(normalize(exercise.getName()), exercise);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Matches the exact name first, then without the equipment suffix other apps append,
+     * as in "Bench Press (Barbell)".
+     */
+    private static Exercise resolve(Map<String, Exercise> exercises, String name) {
+        if (name == null) {
+            return null;
+        }
+        Exercise exercise = exercises.get(normalize(name));
+        int suffix = name.indexOf('(');
+        if (exercise == null && suffix > 0) {
+            exercise = exercises.get(normalize(name.substring(0, suffix)));
+        }
+        return exercise;
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete import upload {}", path, e);
+        }
+    }
+
+    private static final class OpenExercise {
+        private final WorkoutExercise workoutExercise;
+        private int sets;
+
+        private OpenExercise(WorkoutExercise workoutExercise) {
+            this.workoutExercise = workoutExercise;
+        }
+    }
+
+    private static final class Batch {
+        private final List<Workout> workouts = new ArrayList<>();
+        private final List<WorkoutExercise> workoutExercises = new ArrayList<>();
+        private final List<ExerciseSet> sets = new ArrayList<>();
+
+        private void clear() {
+            workouts.clear();
+            workoutExercises.clear();
+            sets.clear();
+        }
+    }
+}
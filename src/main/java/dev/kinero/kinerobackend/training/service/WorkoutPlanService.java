@@ -0,0 +1,10 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.pagination.CursorPage;
+import dev.kinero.kinerobackend.training.dto.WorkoutPlanResponse;
+
+import java.util.UUID;
+
+public interface WorkoutPlanService {
+    CursorPage<WorkoutPlanResponse> getPlans(UUID userId, String cursor, int limit);
+}
@@ -0,0 +1,33 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.pagination.Cursor;
+import dev.kinero.kinerobackend.common.pagination.CursorPage;
+import dev.kinero.kinerobackend.training.dto.WorkoutPlanResponse;
+import dev.kinero.kinerobackend.training.mapper.TrainingMapper;
+import dev.kinero.kinerobackend.training.model.WorkoutPlan;
+import dev.kinero.kinerobackend.training.repository.WorkoutPlanRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class WorkoutPlanServiceImplementation implements WorkoutPlanService {
+
+    private final WorkoutPlanRepository workoutPlanRepository;
+    private final TrainingMapper trainingMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<WorkoutPlanResponse> getPlans(UUID userId, String cursor, int limit) {
+        Cursor after = Cursor.decode(cursor);
+        List<WorkoutPlan> rows = after == null
+                ? workoutPlanRepository.findByUserIdOrderByStartDate(userId, Limit.of(limit + 1))
+                : workoutPlanRepository.findByUserIdOrderByStartDateAfter(userId, after.date(), after.id(), Limit.of(limit + 1));
+        return CursorPage.of(rows, limit, wp -> new Cursor(wp.getStartDate(), wp.getId()), trainingMapper::toSummaryResponse);
+    }
+}
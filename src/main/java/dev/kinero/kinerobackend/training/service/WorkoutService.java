@@ -0,0 +1,28 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.pagination.CursorPage;
+import dev.kinero.kinerobackend.training.dto.BulkLogSetRequest;
+import dev.kinero.kinerobackend.training.dto.ExerciseSetResponse;
+import dev.kinero.kinerobackend.training.dto.LogSetRequest;
+import dev.kinero.kinerobackend.training.dto.UpdateSetRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutResponse;
+import dev.kinero.kinerobackend.training.dto.WorkoutSummaryResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface WorkoutService {
+    WorkoutResponse getWorkout(UUID userId, UUID workoutId);
+    CursorPage<WorkoutSummaryResponse> getHistory(UUID userId, String cursor, int limit);
+    List<WorkoutSummaryResponse> getCalendar(UUID userId, LocalDate from, LocalDate to);
+    ExerciseSetResponse logSet(UUID userId, UUID workoutId, UUID workoutExerciseId, LogSetRequest request);
+    List<ExerciseSetResponse> logSets(UUID userId, UUID workoutId, BulkLogSetRequest request);
+    WorkoutSyncResult syncWorkout(UUID userId, String idempotencyKey, WorkoutRequest request);
+    WorkoutResponse startFromRoutine(UUID userId, UUID routineId);
+    ExerciseSetResponse updateSet(UUID userId, UUID workoutId, UUID setId, UpdateSetRequest request);
+    ExerciseSetResponse completeSet(UUID userId, UUID workoutId, UUID setId);
+    void deleteSet(UUID userId, UUID workoutId, UUID setId);
+    WorkoutResponse finishWorkout(UUID userId, UUID workoutId);
+}
@@ -0,0 +1,525 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.error.BadRequestException;
+import dev.kinero.kinerobackend.common.error.ResourceNotFoundException;
+import dev.kinero.kinerobackend.common.idempotency.IdempotencyStore;
+import dev.kinero.kinerobackend.common.pagination.Cursor;
+import dev.kinero.kinerobackend.common.pagination.CursorPage;
+import dev.kinero.kinerobackend.training.dto.BulkLogSetRequest;
+import dev.kinero.kinerobackend.training.dto.ExerciseSetRequest;
+import dev.kinero.kinerobackend.training.dto.ExerciseSetResponse;
+import dev.kinero.kinerobackend.training.dto.LogSetRequest;
+import dev.kinero.kinerobackend.training.dto.UpdateSetRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseResponse;
+import dev.kinero.kinerobackend.training.dto.WorkoutRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutResponse;
+import dev.kinero.kinerobackend.training.dto.WorkoutSummaryResponse;
+import dev.kinero.kinerobackend.training.mapper.TrainingMapper;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseSet;
+import dev.kinero.kinerobackend.training.model.Routine;
+import dev.kinero.kinerobackend.training.model.RoutineExercise;
+import dev.kinero.kinerobackend.training.model.Workout;
+import dev.kinero.kinerobackend.training.model.WorkoutExercise;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.ExerciseSetRepository;
+import dev.kinero.kinerobackend.training.repository.LastPerformanceRepository;
+import dev.kinero.kinerobackend.training.repository.RoutineExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.RoutineRepository;
+import dev.kinero.kinerobackend.training.repository.WorkoutBatchRepository;
+import dev.kinero.kinerobackend.training.repository.WorkoutExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.WorkoutRepository;
+import dev.kinero.kinerobackend.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class WorkoutServiceImplementation implements WorkoutService {
+
+    private static final int MAX_CALENDAR_DAYS = 366;
+
+    private final UserRepository userRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final WorkoutRepository workoutRepository;
+    private final WorkoutExerciseRepository workoutExerciseRepository;
+    private final ExerciseSetRepository exerciseSetRepository;
+    private final WorkoutBatchRepository workoutBatchRepository;
+    private final RoutineRepository routineRepository;
+    private final RoutineExerciseRepository routineExerciseRepository;
+    private final LastPerformanceRepository lastPerformanceRepository;
+    private final IdempotencyStore idempotencyStore;
+    private final TrainingMapper trainingMapper;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Assembles the full workout tree in three statements regardless of its size: the workout,
+     * its exercises with their catalog entries, and all of its sets. The lazy associations on
+     * the entities are never touched.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public WorkoutResponse getWorkout(UUID userId, UUID workoutId) {
+        Workout workout = findOwnedWorkout(userId, workoutId);
+        List<WorkoutExercise> workoutExercises = workoutExerciseRepository.findActiveWithExerciseByWorkoutId(workoutId);
+        Map<UUID, List<ExerciseSet>> setsByExercise = exerciseSetRepository.findActiveByWorkoutId(workoutId, workout.getWorkoutDate()).stream()
+                .collect(Collectors.groupingBy(set -> set.getWorkoutExercise().getId()));
+
+        List<WorkoutExerciseResponse> exercises = workoutExercises.stream()
+                .map(we -> trainingMapper.toResponse(we, setsByExercise.getOrDefault(we.getId(), List.of())))
+                .toList();
+        return trainingMapper.toResponse(workout, exercises);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<WorkoutSummaryResponse> getHistory(UUID userId, String cursor, int limit) {
+        Cursor after = Cursor.decode(cursor);
+        List<WorkoutSummaryResponse> rows = after == null
+                ? workoutRepository.findHistory(userId, Limit.of(limit + 1))
+                : workoutRepository.findHistoryAfter(userId, after.date(), after.id(), Limit.of(limit + 1));
+        return CursorPage.of(rows, limit, w -> new Cursor(w.workoutDate(), w.id()), Function.identity());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<WorkoutSummaryResponse> getCalendar(UUID userId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BadRequestException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_CALENDAR_DAYS) {
+            throw new BadRequestException("Calendar range must not exceed " + MAX_CALENDAR_DAYS + " days");
+        }
+        return workoutRepository.findSummariesBetween(userId, from, to);
+    }
+
+    @Override
+    @Transactional
+    public ExerciseSetResponse logSet(UUID userId, UUID workoutId, UUID workoutExerciseId, LogSetRequest request) {
+        BulkLogSetRequest bulk = new BulkLogSetRequest(
+                List.of(new BulkLogSetRequest.ExerciseSets(workoutExerciseId, List.of(request)))
+        );
+        return logSets(userId, workoutId, bulk).getFirst();
+    }
+
+    @Override
+    @Transactional
+    public List<ExerciseSetResponse> logSets(UUID userId, UUID workoutId, BulkLogSetRequest request) {
+        Workout workout = findOwnedWorkout(userId, workoutId);
+
+        List<UUID> workoutExerciseIds = request.getExercises().stream()
+                .map(BulkLogSetRequest.ExerciseSets::getWorkoutExerciseId)
+                .distinct()
+                .toList();
+        Map<UUID, WorkoutExercise> workoutExercises = workoutExerciseRepository.findAllById(workoutExerciseIds).stream()
+                .filter(we -> !we.isDeleted() && we.getWorkout().getId().equals(workout.getId()))
+                .collect(Collectors.toMap(WorkoutExercise::getId, Function.identity()));
+        for (UUID id : workoutExerciseIds) {
+            if (!workoutExercises.containsKey(id)) {
+                throw new ResourceNotFoundException("WorkoutExercise", "id", id);
+            }
+        }
+
+        Map<UUID, Integer> nextSetNumbers = nextSetNumbers(request, workout, workoutExerciseIds);
+
+        List<ExerciseSet> sets = new ArrayList<>();
+        for (BulkLogSetRequest.ExerciseSets exerciseSets : request.getExercises()) {
+            WorkoutExercise workoutExercise = workoutExercises.get(exerciseSets.getWorkoutExerciseId());
+            for (LogSetRequest setRequest : exerciseSets.getSets()) {
+                Integer setNumber = setRequest.getSetNumber() != null
+                        ? setRequest.getSetNumber()
+                        : nextSetNumbers.merge(workoutExercise.getId(), 1, Integer::sum);
+                sets.add(ExerciseSet.builder()
+                        .workoutExercise(workoutExercise)
+                        .setNumber(setNumber)
+                        .weight(setRequest.getWeight())
+                        .reps(setRequest.getReps())
+                        .duration(setRequest.getDuration())
+                        .rpe(setRequest.getRpe())
+                        .setType(setRequest.getSetType())
+                        .completed(true)
+                        .build());
+            }
+        }
+
+        workoutBatchRepository.insertSets(sets);
+        workoutBatchRepository.applyTotals(List.of(WorkoutBatchRepository.TotalsDelta.of(workout.getId(), sets, elapsedMinutes(workout))));
+        eventPublisher.publishEvent(new SetsChangedEvent(userId, SetsChangedEvent.factsOf(sets, workout.getWorkoutDate()), List.of()));
+
+        return sets.stream().map(trainingMapper::toResponse).toList();
+    }
+
+    @Override
+    @Transactional
+    public WorkoutSyncResult syncWorkout(UUID userId, String idempotencyKey, WorkoutRequest request) {
+        if (request.getEndTime() != null && request.getEndTime().isBefore(request.getStartTime())) {
+            throw new BadRequestException("'endTime' must not be before 'startTime'");
+        }
+        Optional<String> stored = idempotencyStore.claim(userId, idempotencyKey, hashOf(request));
+        if (stored.isPresent()) {
+            return new WorkoutSyncResult(objectMapper.readValue(stored.get(), WorkoutResponse.class), true);
+        }
+
+        List<WorkoutExerciseRequest> exerciseRequests = request.getExercises() != null ? request.getExercises() : List.of();
+        Map<UUID, Exercise> exercises = findAccessibleExercises(userId, exerciseRequests);
+
+        Workout workout = Workout.builder()
+                .user(userRepository.getReferenceById(userId))
+                .routineId(request.getRoutineId())
+                .name(request.getName())
+                .notes(request.getNotes())
+                .startTime(request.getStartTime())
+                .endTime(request.getEndTime())
+                .workoutDate(request.getWorkoutDate() != null ? request.getWorkoutDate() : request.getStartTime().toLocalDate())
+                .completed(request.getEndTime() != null)
+                .durationMinutes(request.getEndTime() != null
+                        ? (int) Duration.between(request.getStartTime(), request.getEndTime()).toMinutes()
+                        : 0)
+                .build();
+
+        List<WorkoutExercise> workoutExercises = new ArrayList<>();
+        List<ExerciseSet> sets = new ArrayList<>();
+        Map<WorkoutExercise, List<ExerciseSet>> setsByExercise = new HashMap<>();
+        int position = 0;
+        for (WorkoutExerciseRequest exerciseRequest : exerciseRequests) {
+            position++;
+            WorkoutExercise workoutExercise = WorkoutExercise.builder()
+                    .workout(workout)
+                    .exercise(exercises.get(parseId(exerciseRequest.getExerciseId())))
+                    .position(exerciseRequest.getPosition() != null ? exerciseRequest.getPosition() : position)
+                    .plannedSets(exerciseRequest.getPlannedSets() != null ? exerciseRequest.getPlannedSets() : 3)
+                    .plannedReps(exerciseRequest.getPlannedReps() != null ? exerciseRequest.getPlannedReps() : 8)
+                    .notes(exerciseRequest.getNotes())
+                    .completed(workout.getCompleted())
+                    .build();
+            workoutExercises.add(workoutExercise);
+
+            List<ExerciseSet> exerciseSets = new ArrayList<>();
+            int setNumber = 0;
+            for (ExerciseSetRequest setRequest : exerciseRequest.getSets() != null ? exerciseRequest.getSets() : List.<ExerciseSetRequest>of()) {
+                setNumber++;
+                if (setRequest.getWeight() == null || setRequest.getReps() == null) {
+                    throw new BadRequestException("Weight and reps are required for every set");
+                }
+                exerciseSets.add(ExerciseSet.builder()
+                        .workoutExercise(workoutExercise)
+                        .setNumber(setRequest.getSetNumber() != null ? setRequest.getSetNumber() : setNumber)
+                        .weight(setRequest.getWeight())
+                        .reps(setRequest.getReps())
+                        .duration(setRequest.getDuration())
+                        .rpe(setRequest.getRpe() != null ? setRequest.getRpe().doubleValue() : null)
+                        .setType(setRequest.getSetType())
+                        .notes(setRequest.getNotes())
+                        .completed(true)
+                        .build());
+            }
+            sets.addAll(exerciseSets);
+            setsByExercise.put(workoutExercise, exerciseSets);
+        }
+
+        WorkoutBatchRepository.TotalsDelta totals = WorkoutBatchRepository.TotalsDelta.of(workout.getId(), sets, 0);
+        workout.setTotalSets(totals.sets());
+        workout.setTotalVolume(totals.volume());
+
+        workoutBatchRepository.insertWorkouts(List.of(workout));
+        workoutBatchRepository.insertWorkoutExercises(workoutExercises);
+        workoutBatchRepository.insertSets(sets);
+        eventPublisher.publishEvent(new SetsChangedEvent(userId, SetsChangedEvent.factsOf(sets, workout.getWorkoutDate()), List.of()));
+        if (workout.getCompleted()) {
+            eventPublisher.publishEvent(new WorkoutFinishedEvent(userId, workout.getId()));
+        }
+
+        List<WorkoutExerciseResponse> exerciseResponses = workoutExercises.stream()
+                .map(we -> trainingMapper.toResponse(we, setsByExercise.get(we)))
+                .toList();
+        WorkoutResponse response = trainingMapper.toResponse(workout, exerciseResponses);
+
+        idempotencyStore.complete(userId, idempotencyKey, objectMapper.writeValueAsString(response));
+        return new WorkoutSyncResult(response, false);
+    }
+
+    /**
+     * Starts a workout with one exercise per routine exercise and their sets laid out as targets:
+     * not completed, weights from the user's last performance and reps from the routine. The
+     * routine, the last performances and each table written take one statement each.
+     */
+    @Override
+    @Transactional
+    public WorkoutResponse startFromRoutine(UUID userId, UUID routineId) {
+        Routine routine = routineRepository.findByIdAndUserIdAndDeletedFalse(routineId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Routine", "id", routineId));
+        List<RoutineExercise> routineExercises = routineExerciseRepository.findActiveWithExerciseByRoutineId(routineId).stream()
+                .filter(re -> !re.getExercise().isDeleted())
+                .filter(re -> !re.getExercise().isCustom() || userId.equals(re.getExercise().getCreatedByUserId()))
+                .toList();
+        Map<UUID, LastPerformanceRepository.LastPerformance> previous = lastPerformanceRepository.findByExercises(userId,
+                routineExercises.stream().map(re -> re.getExercise().getId()).distinct().toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        Workout workout = Workout.builder()
+                .user(userRepository.getReferenceById(userId))
+                .routineId(routine.getId())
+                .name(routine.getName())
+                .startTime(now)
+                .workoutDate(now.toLocalDate())
+                .totalVolume(BigDecimal.ZERO)
+                .build();
+
+        List<WorkoutExercise> workoutExercises = new ArrayList<>();
+        List<ExerciseSet> sets = new ArrayList<>();
+        Map<WorkoutExercise, List<ExerciseSet>> setsByExercise = new HashMap<>();
+        int position = 0;
+        for (RoutineExercise routineExercise : routineExercises) {
+            position++;
+            List<ExerciseSet> targetSets = targetSets(routineExercise, previous.get(routineExercise.getExercise().getId()));
+            WorkoutExercise workoutExercise = WorkoutExercise.builder()
+                    .workout(workout)
+                    .exercise(routineExercise.getExercise())
+                    .position(position)
+                    .plannedSets(targetSets.size())
+                    .plannedReps(routineExercise.getTargetReps() != null ? routineExercise.getTargetReps() : 8)
+                    .build();
+            targetSets.forEach(set -> set.setWorkoutExercise(workoutExercise));
+            workoutExercises.add(workoutExercise);
+            sets.addAll(targetSets);
+            setsByExercise.put(workoutExercise, targetSets);
+        }
+
+        workoutBatchRepository.insertWorkouts(List.of(workout));
+        workoutBatchRepository.insertWorkoutExercises(workoutExercises);
+        workoutBatchRepository.insertSets(sets);
+
+        List<WorkoutExerciseResponse> exerciseResponses = workoutExercises.stream()
+                .map(we -> trainingMapper.toResponse(we, setsByExercise.get(we)))
+                .toList();
+        return trainingMapper.toResponse(workout, exerciseResponses);
+    }
+
+    @Override
+    @Transactional
+    public ExerciseSetResponse updateSet(UUID userId, UUID workoutId, UUID setId, UpdateSetRequest request) {
+        Workout workout = findOwnedWorkout(userId, workoutId);
+        ExerciseSet set = findWorkoutSet(workout, setId);
+        changeSet(workout, set, s -> {
+            if (request.getWeight() != null) {
+                s.setWeight(request.getWeight());
+            }
+            if (request.getReps() != null) {
+                s.setReps(request.getReps());
+            }
+            if (request.getDuration() != null) {
+                s.setDuration(request.getDuration());
+            }
+            if (request.getRpe() != null) {
+                s.setRpe(request.getRpe());
+            }
+            if (request.getSetType() != null) {
+                s.setSetType(request.getSetType());
+            }
+            if (request.getNotes() != null) {
+                s.setNotes(request.getNotes());
+            }
+            if (request.getCompleted() != null) {
+                s.setCompleted(request.getCompleted());
+            }
+        });
+        return trainingMapper.toResponse(set);
+    }
+
+    @Override
+    @Transactional
+    public ExerciseSetResponse completeSet(UUID userId, UUID workoutId, UUID setId) {
+        Workout workout = findOwnedWorkout(userId, workoutId);
+        ExerciseSet set = findWorkoutSet(workout, setId);
+        changeSet(workout, set, s -> s.setCompleted(true));
+        return trainingMapper.toResponse(set);
+    }
+
+    @Override
+    @Transactional
+    public void deleteSet(UUID userId, UUID workoutId, UUID setId) {
+        Workout workout = findOwnedWorkout(userId, workoutId);
+        ExerciseSet set = findWorkoutSet(workout, setId);
+        changeSet(workout, set, s -> s.setDeleted(true));
+    }
+
+    /**
+     * Finishes the workout. The response carries the stored totals but not the exercises,
+     * which are never loaded here.
+     */
+    @Override
+    @Transactional
+    public WorkoutResponse finishWorkout(UUID userId, UUID workoutId) {
+        Workout workout = findOwnedWorkout(userId, workoutId);
+        if (Boolean.TRUE.equals(workout.getCompleted())) {
+            return trainingMapper.toResponse(workout, List.of());
+        }
+
+        LocalDateTime endTime = LocalDateTime.now();
+        if (endTime.isBefore(workout.getStartTime())) {
+            endTime = workout.getStartTime();
+        }
+        int durationMinutes = (int) Duration.between(workout.getStartTime(), endTime).toMinutes();
+        WorkoutBatchRepository.WorkoutTotals totals = workoutBatchRepository.finishWorkout(workout.getId(), endTime, durationMinutes);
+        eventPublisher.publishEvent(new WorkoutFinishedEvent(userId, workout.getId()));
+
+        WorkoutResponse response = trainingMapper.toResponse(workout, List.of());
+        response.setEndTime(endTime);
+        response.setCompleted(true);
+        response.setTotalSets(totals.totalSets());
+        response.setTotalVolume(totals.totalVolume());
+        response.setDurationMinutes(totals.durationMinutes());
+        return response;
+    }
+
+    /**
+     * Target sets for a routine exercise: as many as the routine asks for, or as last time. Set
+     * {@code i} repeats the weight of set {@code i} last time (extra sets repeat the last one);
+     * reps are the routine's target, or last time's when the routine has none.
+     */
+    static List<ExerciseSet> targetSets(RoutineExercise routineExercise, LastPerformanceRepository.LastPerformance previous) {
+        int previousSets = previous != null ? previous.weights().length : 0;
+        int count = routineExercise.getTargetSets() != null ? routineExercise.getTargetSets()
+                : previousSets > 0 ? previousSets : 3;
+
+        List<ExerciseSet> sets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int last = Math.min(i, previousSets - 1);
+            int reps = routineExercise.getTargetReps() != null ? routineExercise.getTargetReps()
+                    : last >= 0 ? previous.reps()[last] : 8;
+            sets.add(ExerciseSet.builder()
+                    .setNumber(i + 1)
+                    .weight(last >= 0 ? previous.weights()[last] : 0.0)
+                    .reps(reps)
+                    .completed(false)
+                    .build());
+        }
+        return sets;
+    }
+
+    /**
+     * Applies the change to a managed set and moves the workout totals by the difference in the
+     * set's contribution, so the totals never have to be recomputed from the sets table.
+     */
+    private void changeSet(Workout workout, ExerciseSet set, Consumer<ExerciseSet> change) {
+        WorkoutBatchRepository.TotalsDelta before = WorkoutBatchRepository.TotalsDelta.of(workout.getId(), List.of(set), 0);
+        List<SetsChangedEvent.SetFact> factsBefore = SetsChangedEvent.factsOf(List.of(set), workout.getWorkoutDate());
+        change.accept(set);
+        WorkoutBatchRepository.TotalsDelta after = WorkoutBatchRepository.TotalsDelta.of(workout.getId(), List.of(set), 0);
+        List<SetsChangedEvent.SetFact> factsAfter = SetsChangedEvent.factsOf(List.of(set), workout.getWorkoutDate());
+
+        if (!factsBefore.equals(factsAfter)) {
+            // Listeners read the sets with plain SQL, so the change has to be in the database first
+            exerciseSetRepository.flush();
+            eventPublisher.publishEvent(new SetsChangedEvent(workout.getUser().getId(), factsAfter, factsBefore));
+        }
+
+        int sets = after.sets() - before.sets();
+        BigDecimal volume = after.volume().subtract(before.volume());
+        if (sets != 0 || volume.signum() != 0) {
+            workoutBatchRepository.applyTotals(List.of(
+                    new WorkoutBatchRepository.TotalsDelta(workout.getId(), sets, volume, elapsedMinutes(workout))
+            ));
+        }
+    }
+
+    private ExerciseSet findWorkoutSet(Workout workout, UUID setId) {
+        return exerciseSetRepository.findActiveByIdAndWorkoutId(setId, workout.getId(), workout.getWorkoutDate())
+                .orElseThrow(() -> new ResourceNotFoundException("ExerciseSet", "id", setId));
+    }
+
+    /**
+     * Minutes since the workout started, used to extend the duration of a workout still in progress.
+     */
+    private static int elapsedMinutes(Workout workout) {
+        if (Boolean.TRUE.equals(workout.getCompleted())) {
+            return 0;
+        }
+        return (int) Math.max(0, Duration.between(workout.getStartTime(), LocalDateTime.now()).toMinutes());
+    }
+
+    /**
+     * Loads every referenced exercise in one query; custom exercises of other users are treated as missing.
+     */
+    private Map<UUID, Exercise> findAccessibleExercises(UUID userId, List<WorkoutExerciseRequest> exerciseRequests) {
+        List<UUID> exerciseIds = exerciseRequests.stream()
+                .map(exerciseRequest -> parseId(exerciseRequest.getExerciseId()))
+                .distinct()
+                .toList();
+        Map<UUID, Exercise> exercises = exerciseRepository.findAllById(exerciseIds).stream()
+                .filter(exercise -> !exercise.isDeleted())
+                .filter(exercise -> !exercise.isCustom() || userId.equals(exercise.getCreatedByUserId()))
+                .collect(Collectors.toMap(Exercise::getId, Function.identity()));
+        for (UUID id : exerciseIds) {
+            if (!exercises.containsKey(id)) {
+                throw new ResourceNotFoundException("Exercise", "id", id);
+            }
+        }
+        return exercises;
+    }
+
+    private static UUID parseId(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new BadRequestException("Invalid exercise id: '" + id + "'");
+        }
+    }
+
+    private String hashOf(WorkoutRequest request) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private Workout findOwnedWorkout(UUID userId, UUID workoutId) {
+        return workoutRepository.findByIdAndUserIdAndDeletedFalse(workoutId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Workout", "id", workoutId));
+    }
+
+    /**
+     * Current highest set number per exercise, only looked up when a request omits set numbers.
+     */
+    private Map<UUID, Integer> nextSetNumbers(BulkLogSetRequest request, Workout workout, List<UUID> workoutExerciseIds) {
+        boolean anyMissing = request.getExercises().stream()
+                .flatMap(exerciseSets -> exerciseSets.getSets().stream())
+                .map(LogSetRequest::getSetNumber)
+                .anyMatch(Objects::isNull);
+        Map<UUID, Integer> highest = new HashMap<>();
+        if (anyMissing) {
+            for (Object[] row : exerciseSetRepository.findMaxSetNumbers(workoutExerciseIds, workout.getWorkoutDate())) {
+                highest.put((UUID) row[0], (Integer) row[1]);
+            }
+        }
+        return highest;
+    }
+}
@@ -0,0 +1,12 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.dto.WorkoutResponse;
+
+/**
+ * Outcome of an offline workout upload; {@code replayed} is set when the response was
+ * answered from the idempotency record of an earlier identical upload.
+ */
+public record WorkoutSyncResult(
+        WorkoutResponse workout,
+        boolean replayed
+) {}
@@ -0,0 +1,94 @@
+package dev.kinero.kinerobackend.training.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Periodically recomputes the totals of a random sample of workouts from their sets and
+ * reports any difference to the incrementally maintained values.
+ * <p>
+ * Drift is only reported, never repaired, so that a bug in a write path shows up in
+ * {@code workout.totals.drift} instead of being silently papered over.
+ */
+@Slf4j
+@Component
+public class WorkoutTotalsVerifier {
+
+    private static final BigDecimal VOLUME_TOLERANCE = new BigDecimal("0.01");
+
+    private static final String SAMPLE_TOTALS = """
+            SELECT w.id, w.total_sets, COALESCE(w.total_volume, 0) AS total_volume,
+                   COALESCE(actual.sets, 0) AS actual_sets, COALESCE(actual.volume, 0) AS actual_volume
+            FROM workouts w TABLESAMPLE SYSTEM (?)
+            LEFT JOIN LATERAL (
+                SELECT COUNT(*) AS sets, SUM(CAST(s.weight AS NUMERIC) * s.reps) AS volume
+                FROM workout_exercises we
+                JOIN sets s ON s.workout_exercise_id = we.id
+                WHERE we.workout_id = w.id AND s.performed_on = w.workout_date
+                  AND we.deleted = FALSE AND s.deleted = FALSE AND s.completed = TRUE
+            ) actual ON TRUE
+            WHERE w.deleted = FALSE
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double samplePercent;
+    private final int maxSampleSize;
+    private final Counter verified;
+    private final Counter drifted;
+
+    public WorkoutTotalsVerifier(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${training.totals-verification.sample-percent:1.0}") double samplePercent,
+            @Value("${training.totals-verification.max-sample-size:500}") int maxSampleSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.samplePercent = samplePercent;
+        this.maxSampleSize = maxSampleSize;
+        this.verified = meterRegistry.counter("workout.totals.verified");
+        this.drifted = meterRegistry.counter("workout.totals.drift");
+    }
+
+    @Scheduled(fixedDelayString = "${training.totals-verification.interval:PT1H}", initialDelayString = "PT5M")
+    public void verifySample() {
+        List<Drift> drifts = jdbcTemplate.query(SAMPLE_TOTALS, (rs, rowNum) -> new Drift(
+                rs.getObject("id", UUID.class),
+                rs.getInt("total_sets"),
+                rs.getInt("actual_sets"),
+                rs.getBigDecimal("total_volume"),
+                rs.getBigDecimal("actual_volume")
+        ), samplePercent, maxSampleSize);
+
+        int driftCount = 0;
+        for (Drift drift : drifts) {
+            if (drift.isDrifted()) {
+                driftCount++;
+                log.warn("Workout {} totals drifted: sets {} (actual {}), volume {} (actual {})",
+                        drift.workoutId(), drift.storedSets(), drift.actualSets(),
+                        drift.storedVolume(), drift.actualVolume());
+            }
+        }
+
+        verified.increment(drifts.size());
+        drifted.increment(driftCount);
+        log.debug("Verified totals of {} workouts, {} drifted", drifts.size(), driftCount);
+    }
+
+    record Drift(UUID workoutId, int storedSets, int actualSets, BigDecimal storedVolume, BigDecimal actualVolume) {
+
+        boolean isDrifted() {
+            return storedSets != actualSets
+                    || storedVolume.subtract(actualVolume).abs().compareTo(VOLUME_TOLERANCE) > 0;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package dev.kinero.kinerobackend.training.service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published inside the import transaction once a batch of finished workouts and all of their
+ * sets are in the database; the bulk counterpart of {@link WorkoutFinishedEvent}.
+ */
+public record WorkoutsImportedEvent(UUID userId, List<UUID> workoutIds) {}
@@ -0,0 +1,27 @@
+package dev.kinero.kinerobackend.user.listener;
+
+import dev.kinero.kinerobackend.auth.service.PrincipalResolver;
+import dev.kinero.kinerobackend.user.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts cached principals whenever a user row changes, so the security context never
+ * outlives the data it was built from.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserChangeListener {
+
+    // Resolved lazily: the resolver depends on repositories that are built after entity listeners
+    private final ObjectProvider<PrincipalResolver> principalResolver;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        principalResolver.ifAvailable(resolver -> resolver.invalidate(user));
+    }
+}
@@ -1,8 +1,10 @@
 package dev.kinero.kinerobackend.user.model;
 
 import dev.kinero.kinerobackend.common.model.BaseEntity;
+import dev.kinero.kinerobackend.user.listener.UserChangeListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 import lombok.*;
 
@@ -10,6 +12,7 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -8,5 +8,6 @@ public interface UserService {
     User register(String email, String rawPassword);
     User findByEmail(String email);
     User findById(UUID id);
+    void updatePasswordHash(User user, String encodedPassword);
 
 }
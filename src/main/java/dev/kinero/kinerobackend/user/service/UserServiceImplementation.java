@@ -1,11 +1,11 @@
 package dev.kinero.kinerobackend.user.service;
 
+import dev.kinero.kinerobackend.auth.service.PasswordHashingService;
 import dev.kinero.kinerobackend.common.error.ResourceAlreadyExistsException;
 import dev.kinero.kinerobackend.common.error.ResourceNotFoundException;
 import dev.kinero.kinerobackend.user.model.User;
 import dev.kinero.kinerobackend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -17,7 +17,7 @@ import java.util.UUID;
 public class UserServiceImplementation implements UserService{
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
 
     @Override
     public User register(String email, String rawPassword) {
@@ -27,7 +27,7 @@ public class UserServiceImplementation implements UserService{
 
         User user = User.builder()
                 .email(email)
-                .password(passwordEncoder.encode(rawPassword))
+                .password(passwordHashingService.encode(rawPassword))
                 .build();
         return userRepository.save(user);
     }
@@ -44,6 +44,12 @@ public class UserServiceImplementation implements UserService{
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
     }
 
+    @Override
+    public void updatePasswordHash(User user, String encodedPassword) {
+        user.setPassword(encodedPassword);
+        userRepository.save(user);
+    }
+
     public Integer calculateAge(User user) {
         if (user.getDateOfBirth() == null) {
             return null;
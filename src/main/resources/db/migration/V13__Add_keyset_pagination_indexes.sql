@@ -0,0 +1,11 @@
+-- V13__Add_keyset_pagination_indexes.sql
+-- Composite indexes matching the (date DESC, id DESC) keyset order of the history endpoints.
+-- Partial on live rows, since every list query filters soft-deleted rows out.
+CREATE INDEX IF NOT EXISTS idx_workouts_user_date_id
+    ON workouts (user_id, workout_date DESC, id DESC) WHERE deleted = FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_personal_records_user_date_id
+    ON personal_records (user_id, achieved_date DESC, id DESC) WHERE deleted = FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_workout_plans_user_start_id
+    ON workout_plans (user_id, start_date DESC, id DESC) WHERE deleted = FALSE;
@@ -0,0 +1,33 @@
+-- V14__Create_exercise_daily_rollups.sql
+-- Per (user, exercise, day) aggregates of completed sets, kept current on every set write
+CREATE TABLE IF NOT EXISTS exercise_daily_rollups (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    exercise_id UUID NOT NULL,
+    trained_on DATE NOT NULL,
+    max_weight DOUBLE PRECISION NOT NULL,
+    max_reps INTEGER NOT NULL,
+    best_set_volume DOUBLE PRECISION NOT NULL,
+    total_volume DOUBLE PRECISION NOT NULL,
+    set_count INTEGER NOT NULL,
+    best_estimated_one_rep_max DOUBLE PRECISION NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    UNIQUE (user_id, exercise_id, trained_on)
+);
+
+-- Backfill from the sets logged so far
+INSERT INTO exercise_daily_rollups (id, user_id, exercise_id, trained_on, max_weight, max_reps, best_set_volume,
+                                    total_volume, set_count, best_estimated_one_rep_max)
+SELECT gen_random_uuid(), w.user_id, we.exercise_id, w.workout_date,
+       MAX(s.weight), MAX(s.reps), MAX(s.weight * s.reps), SUM(s.weight * s.reps), COUNT(*),
+       MAX(CASE WHEN s.reps <= 0 THEN 0
+                WHEN s.reps = 1 THEN s.weight
+                ELSE s.weight * (1 + s.reps / 30.0) END)
+FROM sets s
+JOIN workout_exercises we ON we.id = s.workout_exercise_id
+JOIN workouts w ON w.id = we.workout_id
+WHERE s.completed = TRUE AND s.deleted = FALSE AND we.deleted = FALSE AND w.deleted = FALSE
+GROUP BY w.user_id, we.exercise_id, w.workout_date
+ON CONFLICT (user_id, exercise_id, trained_on) DO NOTHING;
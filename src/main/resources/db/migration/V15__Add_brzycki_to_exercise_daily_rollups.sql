@@ -0,0 +1,19 @@
+-- V15__Add_brzycki_to_exercise_daily_rollups.sql
+-- Best Brzycki estimate per day, next to the Epley one, so progress charts can use either formula
+ALTER TABLE exercise_daily_rollups
+    ADD COLUMN IF NOT EXISTS best_brzycki_one_rep_max DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+UPDATE exercise_daily_rollups r
+SET best_brzycki_one_rep_max = b.best
+FROM (
+    SELECT w.user_id, we.exercise_id, w.workout_date,
+           MAX(CASE WHEN s.reps <= 0 THEN 0
+                    WHEN s.reps = 1 THEN s.weight
+                    ELSE s.weight * 36 / (37 - LEAST(s.reps, 36)) END) AS best
+    FROM sets s
+    JOIN workout_exercises we ON we.id = s.workout_exercise_id
+    JOIN workouts w ON w.id = we.workout_id
+    WHERE s.completed = TRUE AND s.deleted = FALSE AND we.deleted = FALSE AND w.deleted = FALSE
+    GROUP BY w.user_id, we.exercise_id, w.workout_date
+) b
+WHERE r.user_id = b.user_id AND r.exercise_id = b.exercise_id AND r.trained_on = b.workout_date;
@@ -0,0 +1,68 @@
+-- V16__Create_muscle_weekly_rollups.sql
+-- Per (user, ISO week) sets and volume per muscle group, kept current on every set write.
+-- Array element i is MuscleGroup ordinal i - 1; primary and secondary muscle are kept apart
+-- so the weight given to secondary work can be chosen when reading.
+CREATE TABLE IF NOT EXISTS muscle_weekly_rollups (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    week_start DATE NOT NULL,
+    primary_sets INTEGER[] NOT NULL,
+    primary_volume DOUBLE PRECISION[] NOT NULL,
+    secondary_sets INTEGER[] NOT NULL,
+    secondary_volume DOUBLE PRECISION[] NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    UNIQUE (user_id, week_start)
+);
+
+-- Backfill from the sets logged so far; the name list must match the MuscleGroup declaration order
+WITH muscles AS (
+    SELECT ARRAY['CHEST', 'BACK', 'SHOULDERS', 'BICEPS', 'TRICEPS', 'FOREARMS', 'ABS', 'OBLIQUES',
+                 'QUADRICEPS', 'HAMSTRINGS', 'CALVES', 'GLUTES', 'LOWER_BACK', 'TRAPS', 'LEGS']::TEXT[] AS names
+),
+facts AS (
+    SELECT w.user_id, date_trunc('week', w.workout_date)::DATE AS week_start,
+           e.primary_muscle::TEXT AS primary_muscle, e.secondary_muscle::TEXT AS secondary_muscle,
+           s.weight * s.reps AS volume
+    FROM sets s
+    JOIN workout_exercises we ON we.id = s.workout_exercise_id
+    JOIN workouts w ON w.id = we.workout_id
+    JOIN exercises e ON e.id = we.exercise_id
+    WHERE s.completed = TRUE AND s.deleted = FALSE AND we.deleted = FALSE AND w.deleted = FALSE
+),
+cells AS (
+    SELECT f.user_id, f.week_start, f.role, array_position(m.names, f.muscle) AS slot,
+           COUNT(*)::INTEGER AS sets, SUM(f.volume) AS volume
+    FROM (
+        SELECT user_id, week_start, 'primary' AS role, primary_muscle AS muscle, volume FROM facts
+        UNION ALL
+        SELECT user_id, week_start, 'secondary', secondary_muscle, volume FROM facts WHERE secondary_muscle IS NOT NULL
+    ) f
+    CROSS JOIN muscles m
+    GROUP BY f.user_id, f.week_start, f.role, array_position(m.names, f.muscle)
+),
+weeks AS (
+    SELECT DISTINCT user_id, week_start FROM cells
+)
+INSERT INTO muscle_weekly_rollups (id, user_id, week_start, primary_sets, primary_volume,
+                                   secondary_sets, secondary_volume)
+SELECT gen_random_uuid(), wk.user_id, wk.week_start,
+       ARRAY(SELECT COALESCE(c.sets, 0) FROM generate_series(1, 15) g(i)
+             LEFT JOIN cells c ON c.user_id = wk.user_id AND c.week_start = wk.week_start
+                              AND c.role = 'primary' AND c.slot = g.i
+             ORDER BY g.i),
+       ARRAY(SELECT COALESCE(c.volume, 0) FROM generate_series(1, 15) g(i)
+             LEFT JOIN cells c ON c.user_id = wk.user_id AND c.week_start = wk.week_start
+                              AND c.role = 'primary' AND c.slot = g.i
+             ORDER BY g.i),
+       ARRAY(SELECT COALESCE(c.sets, 0) FROM generate_series(1, 15) g(i)
+             LEFT JOIN cells c ON c.user_id = wk.user_id AND c.week_start = wk.week_start
+                              AND c.role = 'secondary' AND c.slot = g.i
+             ORDER BY g.i),
+       ARRAY(SELECT COALESCE(c.volume, 0) FROM generate_series(1, 15) g(i)
+             LEFT JOIN cells c ON c.user_id = wk.user_id AND c.week_start = wk.week_start
+                              AND c.role = 'secondary' AND c.slot = g.i
+             ORDER BY g.i)
+FROM weeks wk
+ON CONFLICT (user_id, week_start) DO NOTHING;
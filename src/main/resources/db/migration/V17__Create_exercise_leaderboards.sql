@@ -0,0 +1,12 @@
+-- V17__Create_exercise_leaderboards.sql
+-- Persisted leaderboard state per exercise and rep range: a KLL quantile sketch of every
+-- lifter's record and the top records, both in their binary form. Rebuilt from
+-- personal_records periodically; this table only saves the rebuild on startup.
+CREATE TABLE IF NOT EXISTS exercise_leaderboards (
+    exercise_id UUID NOT NULL,
+    rep_range INTEGER NOT NULL,
+    sketch BYTEA NOT NULL,
+    top_records BYTEA NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (exercise_id, rep_range)
+);
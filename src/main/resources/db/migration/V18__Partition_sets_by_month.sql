@@ -0,0 +1,110 @@
+-- V18__Partition_sets_by_month.sql
+-- Range-partitions sets by month on performed_on, a copy of the workout date, so that
+-- queries for one workout or day only touch one month and old months can be detached.
+-- workouts stays unpartitioned: workout_exercises references workouts.id,
+-- and a partitioned table can only back a foreign key that includes its partition key.
+ALTER TABLE sets RENAME TO sets_unpartitioned;
+
+CREATE TABLE sets (
+    LIKE sets_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+    performed_on DATE NOT NULL,
+    CONSTRAINT sets_id_performed_on_pkey PRIMARY KEY (id, performed_on),
+    CONSTRAINT sets_workout_exercise_id_fk FOREIGN KEY (workout_exercise_id) REFERENCES workout_exercises (id)
+) PARTITION BY RANGE (performed_on);
+
+-- Catches rows outside every monthly partition (e.g. imported history) until maintenance moves them
+CREATE TABLE sets_default PARTITION OF sets DEFAULT;
+
+-- Creates the partition of the month containing month_start if it does not exist yet, moving
+-- any rows of that month out of the default partition first. Returns whether it was created.
+CREATE OR REPLACE FUNCTION create_sets_partition(month_start DATE) RETURNS BOOLEAN
+LANGUAGE plpgsql AS $$
+DECLARE
+    lower_bound DATE := date_trunc('month', month_start)::DATE;
+    upper_bound DATE := (date_trunc('month', month_start) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := 'sets_p' || to_char(month_start, 'YYYYMM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    IF EXISTS (SELECT 1 FROM sets_default WHERE performed_on >= lower_bound AND performed_on < upper_bound) THEN
+        EXECUTE format('CREATE TABLE %I (LIKE sets INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+        EXECUTE format('WITH moved AS (DELETE FROM sets_default WHERE performed_on >= $1 AND performed_on < $2 RETURNING *) '
+                       'INSERT INTO %I SELECT * FROM moved', partition_name)
+            USING lower_bound, upper_bound;
+        EXECUTE format('ALTER TABLE sets ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, lower_bound, upper_bound);
+    ELSE
+        EXECUTE format('CREATE TABLE %I PARTITION OF sets FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, lower_bound, upper_bound);
+    END IF;
+    RETURN TRUE;
+END;
+$$;
+
+-- Creates the partitions of the current month and the next months_ahead months, plus any
+-- month that has rows waiting in the default partition. Returns the number created.
+CREATE OR REPLACE FUNCTION create_sets_partitions(months_ahead INTEGER) RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    month_start DATE;
+    created INTEGER := 0;
+BEGIN
+    FOR month_start IN
+        SELECT generate_series(date_trunc('month', CURRENT_DATE),
+                               date_trunc('month', CURRENT_DATE) + make_interval(months => months_ahead),
+                               INTERVAL '1 month')::DATE
+        UNION
+        SELECT DISTINCT date_trunc('month', performed_on)::DATE FROM sets_default
+        ORDER BY 1
+    LOOP
+        IF create_sets_partition(month_start) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- Detaches the monthly partitions that end on or before the cutoff and moves them to the
+-- sets_archive schema, where they can be dumped or dropped. Returns the number archived.
+CREATE SCHEMA IF NOT EXISTS sets_archive;
+
+CREATE OR REPLACE FUNCTION archive_sets_partitions(cutoff DATE) RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    partition_name TEXT;
+    archived INTEGER := 0;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'sets'::REGCLASS
+          AND c.relname ~ '^sets_p[0-9]{6}$'
+          AND to_date(substring(c.relname FROM 7), 'YYYYMM') + INTERVAL '1 month' <= cutoff
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE sets DETACH PARTITION %I', partition_name);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA sets_archive', partition_name);
+        archived := archived + 1;
+    END LOOP;
+    RETURN archived;
+END;
+$$;
+
+-- One partition per month that has workouts, then the months ahead
+SELECT create_sets_partition(month_start)
+FROM (SELECT DISTINCT date_trunc('month', workout_date)::DATE AS month_start FROM workouts) months;
+
+SELECT create_sets_partitions(3);
+
+INSERT INTO sets
+SELECT s.*, w.workout_date
+FROM sets_unpartitioned s
+JOIN workout_exercises we ON we.id = s.workout_exercise_id
+JOIN workouts w ON w.id = we.workout_id;
+
+DROP TABLE sets_unpartitioned;
+
+CREATE INDEX IF NOT EXISTS idx_sets_workout_exercise_id ON sets (workout_exercise_id);
@@ -0,0 +1,8 @@
+-- V19__Add_exercise_sync_indexes.sql
+-- Range scans on updated_at for delta sync of the exercise catalog and of each user's custom
+-- exercises. Not partial on deleted: soft-deleted rows are the tombstones clients need.
+CREATE INDEX IF NOT EXISTS idx_exercises_catalog_updated_at
+    ON exercises (updated_at, id) WHERE is_custom = FALSE;
+
+CREATE INDEX IF NOT EXISTS idx_exercises_custom_user_updated_at
+    ON exercises (created_by_user_id, updated_at, id) WHERE is_custom = TRUE;
@@ -0,0 +1,34 @@
+-- V20__Create_exercise_last_performances.sql
+-- The sets of the most recent finished workout per (user, exercise), weights and reps in set
+-- order. Rewritten for the exercises of a workout whenever it is finished, so starting from a
+-- routine can prefill every exercise with one indexed lookup.
+CREATE TABLE IF NOT EXISTS exercise_last_performances (
+    user_id UUID NOT NULL,
+    exercise_id UUID NOT NULL,
+    workout_id UUID NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    performed_on DATE NOT NULL,
+    weights DOUBLE PRECISION[] NOT NULL,
+    reps INTEGER[] NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (user_id, exercise_id)
+);
+
+-- Backfill from the finished workouts so far, keeping the latest one per exercise
+WITH performances AS (
+    SELECT w.user_id, we.exercise_id, w.id AS workout_id, w.started_at, w.workout_date,
+           array_agg(s.weight ORDER BY we.position, s.set_number, s.id) AS weights,
+           array_agg(s.reps ORDER BY we.position, s.set_number, s.id) AS reps
+    FROM workouts w
+    JOIN workout_exercises we ON we.workout_id = w.id AND we.deleted = FALSE
+    JOIN sets s ON s.workout_exercise_id = we.id AND s.performed_on = w.workout_date
+               AND s.completed = TRUE AND s.deleted = FALSE
+    WHERE w.completed = TRUE AND w.deleted = FALSE
+    GROUP BY w.user_id, we.exercise_id, w.id, w.started_at, w.workout_date
+)
+INSERT INTO exercise_last_performances (user_id, exercise_id, workout_id, started_at, performed_on, weights, reps)
+SELECT DISTINCT ON (user_id, exercise_id)
+       user_id, exercise_id, workout_id, started_at, workout_date, weights, reps
+FROM performances
+ORDER BY user_id, exercise_id, started_at DESC, workout_id
+ON CONFLICT (user_id, exercise_id) DO NOTHING;
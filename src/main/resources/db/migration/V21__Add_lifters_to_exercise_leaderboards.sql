@@ -0,0 +1,5 @@
+-- V21__Add_lifters_to_exercise_leaderboards.sql
+-- Distinct lifters with a record per exercise and rep range. The sketch counts a lifter once
+-- per record they set, so it cannot give this number. Rows saved before this column existed
+-- read 0 until the next rebuild counts them.
+ALTER TABLE exercise_leaderboards ADD COLUMN IF NOT EXISTS lifters BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,36 @@
+-- V22__Archive_only_months_without_live_sets.sql
+-- Detaching a month also took away the sets of workouts that are still listed, so their totals
+-- no longer matched their sets. A month is now only archived once none of its sets belongs to
+-- a live workout. The partition is locked against writes before the check so that no set can
+-- be restored or added to it between the check and the detach.
+CREATE OR REPLACE FUNCTION archive_sets_partitions(cutoff DATE) RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    partition_name TEXT;
+    has_live_sets BOOLEAN;
+    archived INTEGER := 0;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'sets'::REGCLASS
+          AND c.relname ~ '^sets_p[0-9]{6}$'
+          AND to_date(substring(c.relname FROM 7), 'YYYYMM') + INTERVAL '1 month' <= cutoff
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('LOCK TABLE %I IN SHARE MODE', partition_name);
+        EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I s '
+                       'JOIN workout_exercises we ON we.id = s.workout_exercise_id '
+                       'JOIN workouts w ON w.id = we.workout_id '
+                       'WHERE s.deleted = FALSE AND we.deleted = FALSE AND w.deleted = FALSE)', partition_name)
+            INTO has_live_sets;
+        CONTINUE WHEN has_live_sets;
+
+        EXECUTE format('ALTER TABLE sets DETACH PARTITION %I', partition_name);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA sets_archive', partition_name);
+        archived := archived + 1;
+    END LOOP;
+    RETURN archived;
+END;
+$$;
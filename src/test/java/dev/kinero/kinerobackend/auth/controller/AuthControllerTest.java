@@ -1,7 +1,11 @@
 package dev.kinero.kinerobackend.auth.controller;
 
+import dev.kinero.kinerobackend.auth.dto.LoginRequest;
+import dev.kinero.kinerobackend.auth.dto.RefreshRequest;
 import dev.kinero.kinerobackend.auth.dto.RegisterRequest;
+import dev.kinero.kinerobackend.auth.model.AuthenticatedUser;
 import dev.kinero.kinerobackend.auth.service.JwtService;
+import dev.kinero.kinerobackend.auth.service.RefreshTokenService;
 import dev.kinero.kinerobackend.common.error.ResourceAlreadyExistsException;
 import dev.kinero.kinerobackend.user.model.Gender;
 import dev.kinero.kinerobackend.user.model.UnitPreference;
@@ -16,6 +20,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -23,12 +29,17 @@ import org.springframework.test.web.servlet.ResultActions;
 import tools.jackson.databind.ObjectMapper;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -50,6 +61,9 @@ class AuthControllerTest {
     @MockitoBean
     private JwtService jwtService;
 
+    @MockitoBean
+    private RefreshTokenService refreshTokenService;
+
     @Test
     @WithMockUser
     @DisplayName("Should return 201 Created with JWT token when registering with valid credentials")
@@ -58,6 +72,7 @@ class AuthControllerTest {
         String email = "test@example.com";
         String password = "password123";
         String token = "jwt.token.here";
+        String refreshToken = "opaque-refresh-token";
         UUID userId = UUID.randomUUID();
 
         User user = User.builder()
@@ -73,6 +88,7 @@ class AuthControllerTest {
 
         when(userService.register(eq(email), eq(password))).thenReturn(user);
         when(jwtService.generateToken(user)).thenReturn(token);
+        when(refreshTokenService.issue(user)).thenReturn(refreshToken);
 
         RegisterRequest request = new RegisterRequest(email, password);
 
@@ -82,7 +98,8 @@ class AuthControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.accessToken").value(token));
+                .andExpect(jsonPath("$.accessToken").value(token))
+                .andExpect(jsonPath("$.refreshToken").value(refreshToken));
     }
 
     static Stream<Arguments> invalidRegistrationRequests() {
@@ -132,4 +149,77 @@ class AuthControllerTest {
                 .andExpect(status().isConflict())
                 .andExpect(jsonPath("$.message").value("User already exists with email: '" + email + "'"));
     }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should rehash a password stored with an outdated cost after a successful login")
+    void login_outdatedHashCost_rehashesPassword() throws Exception {
+        // Given
+        String email = "legacy@example.com";
+        String password = "password123";
+        User user = User.builder()
+                .email(email)
+                .password(new BCryptPasswordEncoder(4).encode(password))
+                .build();
+        user.setId(UUID.randomUUID());
+        when(userService.findByEmail(email)).thenReturn(user);
+        when(jwtService.generateToken(user)).thenReturn("jwt.token.here");
+        when(refreshTokenService.issue(user)).thenReturn("opaque-refresh-token");
+
+        // When
+        mockMvc.perform(post("/api/auth/login")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, password))))
+                .andExpect(status().isOk());
+
+        // Then
+        verify(userService).updatePasswordHash(eq(user), argThat(hash ->
+                hash.startsWith("$2a$10$") && new BCryptPasswordEncoder().matches(password, hash)));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Should keep a password hash that already has the configured cost")
+    void login_currentHashCost_keepsPassword() throws Exception {
+        // Given
+        String email = "current@example.com";
+        String password = "password123";
+        User user = User.builder()
+                .email(email)
+                .password(new BCryptPasswordEncoder(10).encode(password))
+                .build();
+        user.setId(UUID.randomUUID());
+        when(userService.findByEmail(email)).thenReturn(user);
+        when(jwtService.generateToken(user)).thenReturn("jwt.token.here");
+        when(refreshTokenService.issue(user)).thenReturn("opaque-refresh-token");
+
+        // When
+        mockMvc.perform(post("/api/auth/login")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, password))))
+                .andExpect(status().isOk());
+
+        // Then
+        verify(userService, never()).updatePasswordHash(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should revoke the posted refresh token on behalf of the authenticated user only")
+    void logout_withRefreshToken_revokesForCaller() throws Exception {
+        // Given
+        AuthenticatedUser caller = new AuthenticatedUser(UUID.randomUUID(), "test@example.com");
+
+        // When
+        mockMvc.perform(post("/api/auth/logout")
+                        .with(authentication(new UsernamePasswordAuthenticationToken(caller, null, List.of())))
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new RefreshRequest("someone-elses-token"))))
+                .andExpect(status().isNoContent());
+
+        // Then
+        verify(refreshTokenService).revoke("someone-elses-token", caller.id());
+    }
 }
@@ -0,0 +1,80 @@
+package dev.kinero.kinerobackend.auth.service;
+
+import dev.kinero.kinerobackend.user.model.User;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JWT Token Verifier Tests")
+class JwtTokenVerifierTest {
+
+    private JwtService jwtService;
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenVerifier tokenVerifier;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService();
+        jwtService.setSecret("test-secret-key-for-unit-tests-must-be-at-least-32-characters");
+        jwtService.setExpiration(60_000);
+        jwtService.setCacheSize(10);
+        jwtService.init();
+
+        meterRegistry = new SimpleMeterRegistry();
+        tokenVerifier = new JwtTokenVerifier(jwtService, meterRegistry);
+        tokenVerifier.init();
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and serve repeats from the cache")
+    void verify_sameTokenTwice_secondCallIsCacheHit() {
+        // Given
+        String token = jwtService.generateToken(User.builder().email("test@example.com").build());
+
+        // When
+        VerifiedToken first = tokenVerifier.verify(token);
+        VerifiedToken second = tokenVerifier.verify(token);
+
+        // Then
+        assertThat(first.email()).isEqualTo("test@example.com");
+        assertThat(second).isEqualTo(first);
+        assertThat(meterRegistry.counter("jwt.verification.cache", "result", "miss").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("jwt.verification.cache", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should carry the user id so the principal can be built without a lookup")
+    void verify_tokenWithUserId_exposesIdentityClaims() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        User user = User.builder().email("test@example.com").build();
+        user.setId(userId);
+
+        // When
+        VerifiedToken verified = tokenVerifier.verify(jwtService.generateToken(user));
+
+        // Then
+        assertThat(verified.hasIdentityClaims()).isTrue();
+        assertThat(verified.userId()).isEqualTo(userId);
+    }
+
+    @Test
+    @DisplayName("Should reject a tampered token without caching it")
+    void verify_tamperedToken_throws() {
+        // Given
+        String token = jwtService.generateToken(User.builder().email("test@example.com").build());
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        // When & Then
+        assertThatThrownBy(() -> tokenVerifier.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> tokenVerifier.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThat(meterRegistry.counter("jwt.verification.cache", "result", "hit").count()).isZero();
+    }
+}
@@ -0,0 +1,118 @@
+package dev.kinero.kinerobackend.auth.service;
+
+import dev.kinero.kinerobackend.common.error.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Password Hashing Service Tests")
+class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should flag hashes produced with a lower cost than the configured strength")
+    void needsRehash_outdatedCost_returnsTrue() {
+        // Given
+        service = start(new BCryptPasswordEncoder(10), properties(2, 8, Duration.ofSeconds(5)));
+        String outdated = new BCryptPasswordEncoder(4).encode("password123");
+        String current = service.encode("password123");
+
+        // When / Then
+        assertThat(service.needsRehash(outdated)).isTrue();
+        assertThat(service.needsRehash(current)).isFalse();
+        assertThat(service.matches("password123", outdated)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject work with a 503 once the pool and its queue are full")
+    void encode_saturatedPool_rejects() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.encode(anyString())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "hashed-" + invocation.getArgument(0);
+        });
+        service = start(encoder, properties(1, 1, Duration.ofSeconds(5)));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("first"));
+        awaitGauge("password.hashing.active", 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("second"));
+        awaitGauge("password.hashing.queue.depth", 1);
+
+        // When / Then
+        assertThatThrownBy(() -> service.encode("third"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.counter("password.hashing.rejected").count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed-first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed-second");
+    }
+
+    @Test
+    @DisplayName("Should give up with a 503 when hashing exceeds the timeout")
+    void matches_slowHash_timesOut() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        service = start(encoder, properties(1, 1, Duration.ofMillis(50)));
+
+        // When / Then
+        assertThatThrownBy(() -> service.matches("password123", "hash"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.counter("password.hashing.timeout").count()).isEqualTo(1.0);
+        release.countDown();
+    }
+
+    private PasswordHashingService start(PasswordEncoder encoder, PasswordHashingProperties properties) {
+        PasswordHashingService hashingService = new PasswordHashingService(encoder, properties, meterRegistry);
+        hashingService.init();
+        return hashingService;
+    }
+
+    private static PasswordHashingProperties properties(int poolSize, int queueCapacity, Duration timeout) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(poolSize);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setTimeout(timeout);
+        return properties;
+    }
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(name).gauge().value() != expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError(name + " never reached " + expected);
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package dev.kinero.kinerobackend.auth.service;
+
+import dev.kinero.kinerobackend.auth.model.RefreshToken;
+import dev.kinero.kinerobackend.auth.repository.RefreshTokenRepository;
+import dev.kinero.kinerobackend.user.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Refresh Token Service Tests")
+class RefreshTokenServiceTest {
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenService refreshTokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, mock(JwtService.class));
+        user = User.builder().email("test@example.com").build();
+        user.setId(UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("Should hand out the user when the conditional revoke wins")
+    void consume_firstUse_returnsUser() {
+        // Given
+        RefreshToken token = givenToken(Instant.now().plus(Duration.ofDays(1)));
+        when(refreshTokenRepository.revokeIfActive(token.getId())).thenReturn(1);
+
+        // When
+        User consumed = refreshTokenService.consume("raw-token");
+
+        // Then
+        assertThat(consumed).isSameAs(user);
+        verify(refreshTokenRepository, never()).revokeAllForUser(any());
+    }
+
+    @Test
+    @DisplayName("Should treat a token another request already revoked as reuse")
+    void consume_lostRace_revokesAllSessions() {
+        // Given: the loaded row still says active, but the conditional update finds it revoked
+        RefreshToken token = givenToken(Instant.now().plus(Duration.ofDays(1)));
+        when(refreshTokenRepository.revokeIfActive(token.getId())).thenReturn(0);
+
+        // When / Then
+        assertThatThrownBy(() -> refreshTokenService.consume("raw-token"))
+                .isInstanceOf(BadCredentialsException.class);
+        verify(refreshTokenRepository).revokeAllForUser(user.getId());
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token")
+    void consume_expired_throws() {
+        // Given
+        RefreshToken token = givenToken(Instant.now().minus(Duration.ofMinutes(1)));
+        when(refreshTokenRepository.revokeIfActive(token.getId())).thenReturn(1);
+
+        // When / Then
+        assertThatThrownBy(() -> refreshTokenService.consume("raw-token"))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessage("Refresh token expired");
+        verify(refreshTokenRepository, never()).revokeAllForUser(any());
+    }
+
+    @Test
+    @DisplayName("Should only revoke a refresh token on behalf of its owner")
+    void revoke_scopesToUser() {
+        // When
+        refreshTokenService.revoke("raw-token", user.getId());
+
+        // Then
+        verify(refreshTokenRepository).revokeByTokenHashForUser(anyString(), eq(user.getId()));
+    }
+
+    private RefreshToken givenToken(Instant expiresAt) {
+        RefreshToken token = RefreshToken.builder()
+                .user(user)
+                .tokenHash("hash")
+                .expiresAt(expiresAt)
+                .build();
+        token.setId(UUID.randomUUID());
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(token));
+        return token;
+    }
+}
@@ -0,0 +1,38 @@
+package dev.kinero.kinerobackend.auth.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Revoked Token Set Tests")
+class RevokedTokenSetTest {
+
+    @Test
+    @DisplayName("Should report every revoked id and no id that was never revoked")
+    void contains_mixedIds_isExact() {
+        // Given
+        List<UUID> revokedIds = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            revokedIds.add(UUID.randomUUID());
+        }
+        RevokedTokenSet revoked = new RevokedTokenSet(revokedIds, 0.01);
+
+        // When & Then
+        assertThat(revokedIds).allMatch(revoked::contains);
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(revoked.contains(UUID.randomUUID())).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("Should treat nothing as revoked when empty")
+    void contains_emptySet_returnsFalse() {
+        assertThat(RevokedTokenSet.EMPTY.contains(UUID.randomUUID())).isFalse();
+        assertThat(RevokedTokenSet.EMPTY.size()).isZero();
+    }
+}
@@ -0,0 +1,57 @@
+package dev.kinero.kinerobackend.common.pagination;
+
+import dev.kinero.kinerobackend.common.error.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Keyset Cursor Tests")
+class CursorTest {
+
+    @Test
+    @DisplayName("Should decode an encoded cursor to the same position")
+    void encode_decode_roundTrips() {
+        // Given
+        Cursor cursor = new Cursor(LocalDate.of(2025, 3, 14), UUID.randomUUID());
+
+        // When
+        Cursor decoded = Cursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Should treat a missing cursor as the first page and reject a forged one")
+    void decode_missingOrInvalid() {
+        assertThat(Cursor.decode(null)).isNull();
+        assertThat(Cursor.decode("")).isNull();
+        assertThatThrownBy(() -> Cursor.decode("not-a-cursor")).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should return only the requested rows and point the next cursor at the last of them")
+    void of_extraRow_setsNextCursor() {
+        // Given
+        List<Cursor> rows = List.of(
+                new Cursor(LocalDate.of(2025, 3, 3), UUID.randomUUID()),
+                new Cursor(LocalDate.of(2025, 3, 2), UUID.randomUUID()),
+                new Cursor(LocalDate.of(2025, 3, 1), UUID.randomUUID())
+        );
+
+        // When
+        CursorPage<LocalDate> page = CursorPage.of(rows, 2, row -> row, Cursor::date);
+        CursorPage<LocalDate> last = CursorPage.of(rows.subList(2, 3), 2, row -> row, Cursor::date);
+
+        // Then
+        assertThat(page.items()).containsExactly(LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 2));
+        assertThat(Cursor.decode(page.nextCursor())).isEqualTo(rows.get(1));
+        assertThat(last.nextCursor()).isNull();
+    }
+}
@@ -0,0 +1,132 @@
+package dev.kinero.kinerobackend.common.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("Facet Index Tests")
+class FacetIndexTest {
+
+    private static final List<Item> ITEMS = List.of(
+            new Item("Bench Press", "CHEST", "Barbell"),
+            new Item("Dumbbell Fly", "CHEST", "Dumbbell"),
+            new Item("Barbell Row", "BACK", "Barbell"),
+            new Item("Lat Pulldown", "BACK", "Cable"),
+            new Item("Plank", "ABS", null)
+    );
+
+    private static final Map<String, Function<Item, String>> FACETS = new LinkedHashMap<>();
+
+    static {
+        FACETS.put("muscle", Item::muscle);
+        FACETS.put("equipment", Item::equipment);
+    }
+
+    private final FacetIndex<Item> index = FacetIndex.build(ITEMS, FACETS);
+
+    @Test
+    @DisplayName("Should return everything and plain value counts without a selection")
+    void query_noSelection_countsAll() {
+        // When
+        FacetIndex.Result<Item> result = index.query(Map.of());
+
+        // Then
+        assertThat(result.matches()).containsExactlyElementsOf(ITEMS);
+        assertThat(result.counts().get("muscle"))
+                .containsExactly(entry("CHEST", 2), entry("BACK", 2), entry("ABS", 1));
+        assertThat(result.counts().get("equipment"))
+                .containsExactly(entry("Barbell", 2), entry("Dumbbell", 1), entry("Cable", 1));
+    }
+
+    @Test
+    @DisplayName("Should OR values within a facet and AND across facets")
+    void query_selection_intersectsFacets() {
+        // When
+        FacetIndex.Result<Item> result = index.query(Map.of(
+                "muscle", List.of("CHEST", "BACK"),
+                "equipment", List.of("Barbell")));
+
+        // Then
+        assertThat(result.matches()).extracting(Item::name).containsExactly("Bench Press", "Barbell Row");
+    }
+
+    @Test
+    @DisplayName("Should count each facet against the selection of the other facets only")
+    void query_selection_countsDisjunctively() {
+        // When
+        FacetIndex.Result<Item> result = index.query(Map.of("muscle", List.of("CHEST")));
+
+        // Then
+        assertThat(result.counts().get("muscle"))
+                .containsExactly(entry("CHEST", 2), entry("BACK", 2), entry("ABS", 1));
+        assertThat(result.counts().get("equipment"))
+                .containsExactly(entry("Barbell", 1), entry("Dumbbell", 1), entry("Cable", 0));
+    }
+
+    @Test
+    @DisplayName("Should match nothing for a value no document has")
+    void query_unknownValue_matchesNothing() {
+        // When
+        FacetIndex.Result<Item> result = index.query(Map.of("equipment", List.of("Kettlebell")));
+
+        // Then
+        assertThat(result.matches()).isEmpty();
+        assertThat(result.counts().get("muscle")).containsOnly(entry("CHEST", 0), entry("BACK", 0), entry("ABS", 0));
+    }
+
+    @Test
+    @DisplayName("Should reject a facet the index was not built with")
+    void query_unknownFacet_throws() {
+        assertThatThrownBy(() -> index.query(Map.of("colour", List.of("red"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should intersect correctly past the first 64-document word")
+    void query_manyDocuments_spansWords() {
+        // Given
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            items.add(new Item("Item " + i, i % 2 == 0 ? "CHEST" : "BACK", i % 3 == 0 ? "Barbell" : "Cable"));
+        }
+        FacetIndex<Item> large = FacetIndex.build(items, FACETS);
+
+        // When
+        FacetIndex.Result<Item> result = large.query(Map.of(
+                "muscle", List.of("CHEST"),
+                "equipment", List.of("Barbell")));
+
+        // Then
+        assertThat(result.matches()).hasSize(34)
+                .extracting(Item::name).endsWith("Item 198");
+        assertThat(result.counts().get("equipment")).containsExactly(entry("Barbell", 34), entry("Cable", 66));
+    }
+
+    @Test
+    @DisplayName("Should add up matches and counts of two indexes")
+    void merge_addsUpCounts() {
+        // Given
+        FacetIndex<Item> other = FacetIndex.build(List.of(new Item("Cable Crossover", "CHEST", "Cable")), FACETS);
+
+        // When
+        FacetIndex.Result<Item> result = index.query(Map.of("muscle", List.of("CHEST")))
+                .merge(other.query(Map.of("muscle", List.of("CHEST"))));
+
+        // Then
+        assertThat(result.matches()).extracting(Item::name)
+                .containsExactly("Bench Press", "Dumbbell Fly", "Cable Crossover");
+        assertThat(result.counts().get("muscle")).containsEntry("CHEST", 3);
+        assertThat(result.counts().get("equipment")).containsEntry("Cable", 1);
+    }
+
+    private record Item(String name, String muscle, String equipment) {}
+}
@@ -0,0 +1,76 @@
+package dev.kinero.kinerobackend.common.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Trigram Index Tests")
+class TrigramIndexTest {
+
+    private static final List<Item> ITEMS = List.of(
+            new Item("Bench Press", "Barbell"),
+            new Item("Incline Bench Press", "Dumbbell"),
+            new Item("Lateral Raise", "Cable"),
+            new Item("Romanian Deadlift", "Barbell"),
+            new Item("Cr\u00e8me Curl", "Dumbbell")
+    );
+
+    private final TrigramIndex<Item> index = TrigramIndex.build(ITEMS, Item::name, Item::attributes);
+
+    @Test
+    @DisplayName("Should complete a partial last word and rank names starting with the query first")
+    void search_prefix_completes() {
+        // When
+        List<TrigramIndex.Hit<Item>> hits = index.search("ben", 10);
+
+        // Then
+        assertThat(hits).extracting(hit -> hit.document().name())
+                .containsExactly("Bench Press", "Incline Bench Press");
+    }
+
+    @Test
+    @DisplayName("Should find names despite transposed and missing letters")
+    void search_typos_tolerated() {
+        // When
+        List<TrigramIndex.Hit<Item>> hits = index.search("latral riase", 10);
+
+        // Then
+        assertThat(hits).extracting(hit -> hit.document().name()).first().isEqualTo("Lateral Raise");
+    }
+
+    @Test
+    @DisplayName("Should match attributes at a lower weight than names")
+    void search_attributes_matchedWithLowerWeight() {
+        // When
+        List<TrigramIndex.Hit<Item>> hits = index.search("barbell", 10);
+
+        // Then
+        assertThat(hits).extracting(hit -> hit.document().name())
+                .containsExactlyInAnyOrder("Bench Press", "Romanian Deadlift");
+        assertThat(hits.getFirst().score()).isLessThan(1.0);
+    }
+
+    @Test
+    @DisplayName("Should ignore case and accents, and return nothing for an empty query")
+    void search_normalizesText() {
+        // Then
+        assertThat(index.search("CREME", 10)).extracting(hit -> hit.document().name()).containsExactly("Cr\u00e8me Curl");
+        assertThat(index.search(" -- ", 10)).isEmpty();
+        assertThat(TrigramIndex.normalize("  Dumbbell  (Seated) ")).isEqualTo("dumbbell seated");
+    }
+
+    @Test
+    @DisplayName("Should return at most the requested number of hits, best first")
+    void search_limit_keepsBest() {
+        // When
+        List<TrigramIndex.Hit<Item>> hits = index.search("press", 1);
+
+        // Then
+        assertThat(hits).extracting(hit -> hit.document().name()).containsExactly("Bench Press");
+    }
+
+    record Item(String name, String attributes) {}
+}
@@ -0,0 +1,89 @@
+package dev.kinero.kinerobackend.common.sketch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("KLL Sketch Tests")
+class KllSketchTest {
+
+    private static final int VALUES = 100_000;
+
+    @Test
+    @DisplayName("Should estimate ranks and quantiles of a large stream within the error bound")
+    void update_largeStream_accurateRanks() {
+        // Given
+        KllSketch sketch = new KllSketch(KllSketch.DEFAULT_K, new SplittableRandom(42));
+
+        // When
+        for (double value : shuffled(VALUES, 7)) {
+            sketch.update(value);
+        }
+
+        // Then
+        assertThat(sketch.count()).isEqualTo(VALUES);
+        assertThat(sketch.fractionBelow(VALUES * 0.5)).isCloseTo(0.5, within(0.02));
+        assertThat(sketch.fractionBelow(VALUES * 0.8)).isCloseTo(0.8, within(0.02));
+        assertThat(sketch.quantile(0.9)).isCloseTo(VALUES * 0.9, within(VALUES * 0.02));
+        assertThat(sketch.toBytes().length).isLessThan(16 * 1024);
+    }
+
+    @Test
+    @DisplayName("Should give the same answers after merging two halves as one sketch of everything")
+    void merge_twoHalves_matchesWhole() {
+        // Given
+        double[] values = shuffled(VALUES, 11);
+        KllSketch first = new KllSketch(KllSketch.DEFAULT_K, new SplittableRandom(1));
+        KllSketch second = new KllSketch(KllSketch.DEFAULT_K, new SplittableRandom(2));
+        for (int i = 0; i < values.length; i++) {
+            (i % 2 == 0 ? first : second).update(values[i]);
+        }
+
+        // When
+        first.merge(second);
+
+        // Then
+        assertThat(first.count()).isEqualTo(VALUES);
+        assertThat(first.fractionBelow(VALUES * 0.25)).isCloseTo(0.25, within(0.02));
+        assertThat(first.fractionBelow(VALUES * 0.75)).isCloseTo(0.75, within(0.02));
+    }
+
+    @Test
+    @DisplayName("Should be exact while few values have been seen and survive serialisation")
+    void smallStream_exactAndRoundTrips() {
+        // Given
+        KllSketch sketch = new KllSketch();
+        for (int value = 1; value <= 10; value++) {
+            sketch.update(value * 10);
+        }
+
+        // When
+        KllSketch restored = KllSketch.fromBytes(sketch.toBytes());
+
+        // Then
+        assertThat(sketch.rank(55)).isEqualTo(5);
+        assertThat(restored.count()).isEqualTo(10);
+        assertThat(restored.rank(55)).isEqualTo(5);
+        assertThat(restored.quantile(1.0)).isEqualTo(100);
+        assertThat(new KllSketch().fractionBelow(1)).isZero();
+    }
+
+    private static double[] shuffled(int size, long seed) {
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            double swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,85 @@
+package dev.kinero.kinerobackend.common.web;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Cached Body Request Tests")
+class CachedBodyHttpServletRequestTest {
+
+    @Test
+    @DisplayName("Should notify an async read listener of the cached body right away")
+    void setReadListener_notifiesImmediately() throws IOException {
+        // Given
+        byte[] body = "{\"email\":\"a@b.c\"}".getBytes(StandardCharsets.UTF_8);
+        ServletInputStream input = new CachedBodyHttpServletRequest(new MockHttpServletRequest(), body).getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> calls = new ArrayList<>();
+
+        // When
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                calls.add("data");
+                byte[] buffer = new byte[4];
+                while (input.isReady() && !input.isFinished()) {
+                    int n = input.read(buffer, 0, buffer.length);
+                    read.write(buffer, 0, n);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                calls.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                calls.add("error");
+            }
+        });
+
+        // Then
+        assertThat(calls).containsExactly("data", "done");
+        assertThat(read.toByteArray()).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("Should report an empty body as fully read without data callbacks")
+    void setReadListener_emptyBody_onlyCompletes() {
+        // Given
+        ServletInputStream input = new CachedBodyHttpServletRequest(new MockHttpServletRequest(), new byte[0]).getInputStream();
+        List<String> calls = new ArrayList<>();
+
+        // When
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() {
+                calls.add("data");
+            }
+
+            @Override
+            public void onAllDataRead() {
+                calls.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                calls.add("error");
+            }
+        });
+
+        // Then
+        assertThat(calls).containsExactly("done");
+    }
+}
@@ -0,0 +1,84 @@
+package dev.kinero.kinerobackend.config.security;
+
+import dev.kinero.kinerobackend.common.error.ApiError;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("Auth Rate Limit Filter Tests")
+class AuthRateLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new JsonMapper();
+
+    private RateLimitProperties properties;
+    private AuthRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setMaxBodyBytes(64);
+        filter = new AuthRateLimitFilter(properties, objectMapper, new SimpleMeterRegistry());
+        filter.init();
+    }
+
+    @Test
+    @DisplayName("Should answer an oversized body with a 413 error body instead of an error dispatch")
+    void doFilter_oversizedBody_writes413() throws Exception {
+        // Given
+        MockHttpServletRequest request = login("{\"email\":\"a@example.com\",\"password\":\"" + "x".repeat(100) + "\"}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        verify(chain, never()).doFilter(any(), any());
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.CONTENT_TOO_LARGE.value());
+        assertThat(response.getErrorMessage()).isNull();
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        ApiError error = objectMapper.readValue(response.getContentAsString(), ApiError.class);
+        assertThat(error.status()).isEqualTo(HttpStatus.CONTENT_TOO_LARGE.value());
+        assertThat(error.path()).isEqualTo("/api/auth/login");
+    }
+
+    @Test
+    @DisplayName("Should pass a body within the limit on with its content intact")
+    void doFilter_bodyWithinLimit_passesOn() throws Exception {
+        // Given
+        String body = "{\"email\":\"a@example.com\",\"password\":\"secret\"}";
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        StringBuilder received = new StringBuilder();
+        FilterChain chain = (req, res) -> received.append(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+
+        // When
+        filter.doFilter(login(body), response, chain);
+
+        // Then
+        assertThat(received.toString()).isEqualTo(body);
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    private static MockHttpServletRequest login(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
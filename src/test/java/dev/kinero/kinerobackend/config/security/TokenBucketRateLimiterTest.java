@@ -0,0 +1,57 @@
+package dev.kinero.kinerobackend.config.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Token Bucket Rate Limiter Tests")
+class TokenBucketRateLimiterTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    @DisplayName("Should admit a full burst and reject the next attempt until a token refills")
+    void tryAcquire_burstExhausted_rejectsUntilRefill() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, MINUTE, 10 * MINUTE, 100);
+        long now = 0;
+
+        // When & Then
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("10.0.0.1", now)).isEqualTo(TokenBucketRateLimiter.ALLOWED);
+        }
+        long retryAfter = limiter.tryAcquire("10.0.0.1", now);
+        assertThat(retryAfter).isEqualTo(MINUTE / 3);
+        assertThat(limiter.tryAcquire("10.0.0.1", now + retryAfter)).isEqualTo(TokenBucketRateLimiter.ALLOWED);
+    }
+
+    @Test
+    @DisplayName("Should keep buckets independent per key")
+    void tryAcquire_differentKeys_doNotShareTokens() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, MINUTE, 10 * MINUTE, 100);
+
+        // When & Then
+        assertThat(limiter.tryAcquire("a@example.com", 0)).isEqualTo(TokenBucketRateLimiter.ALLOWED);
+        assertThat(limiter.tryAcquire("a@example.com", 0)).isPositive();
+        assertThat(limiter.tryAcquire("b@example.com", 0)).isEqualTo(TokenBucketRateLimiter.ALLOWED);
+    }
+
+    @Test
+    @DisplayName("Should evict buckets that have been idle longer than the timeout")
+    void evictIdle_idleBuckets_areRemoved() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(5, MINUTE, 10 * MINUTE, 100);
+        limiter.tryAcquire("idle", 0);
+        limiter.tryAcquire("active", 15 * MINUTE);
+
+        // When
+        limiter.evictIdle(15 * MINUTE);
+
+        // Then
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+}
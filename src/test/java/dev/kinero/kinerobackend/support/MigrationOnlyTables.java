@@ -0,0 +1,36 @@
+package dev.kinero.kinerobackend.support;
+
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+/**
+ * Container tests let Hibernate create the schema from the entities with Flyway disabled.
+ * Tables written through JDBC only have no entity, so their migrations are run on top of the
+ * Hibernate schema once it exists.
+ */
+public final class MigrationOnlyTables {
+
+    public static final String MIGRATIONS = String.join(",",
+            "classpath:db/migration/V16__Create_muscle_weekly_rollups.sql",
+            "classpath:db/migration/V17__Create_exercise_leaderboards.sql",
+            "classpath:db/migration/V21__Add_lifters_to_exercise_leaderboards.sql",
+            "classpath:db/migration/V20__Create_exercise_last_performances.sql");
+
+    private MigrationOnlyTables() {
+    }
+
+    /**
+     * Runs the given scripts after Hibernate created the schema, each file as one statement so
+     * dollar-quoted function bodies reach the server intact.
+     */
+    public static void register(DynamicPropertyRegistry registry, String... scripts) {
+        registry.add("spring.jpa.defer-datasource-initialization", () -> "true");
+        registry.add("spring.sql.init.mode", () -> "always");
+        registry.add("spring.sql.init.schema-locations", () -> String.join(",", scripts));
+        registry.add("spring.sql.init.separator", () -> ScriptUtils.EOF_STATEMENT_SEPARATOR);
+    }
+
+    public static void register(DynamicPropertyRegistry registry) {
+        register(registry, MIGRATIONS);
+    }
+}
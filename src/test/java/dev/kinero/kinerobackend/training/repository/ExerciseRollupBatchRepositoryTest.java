@@ -0,0 +1,352 @@
+package dev.kinero.kinerobackend.training.repository;
+
+import dev.kinero.kinerobackend.support.MigrationOnlyTables;
+import dev.kinero.kinerobackend.training.dto.ExerciseSetRequest;
+import dev.kinero.kinerobackend.training.dto.ExerciseSetResponse;
+import dev.kinero.kinerobackend.training.dto.LogSetRequest;
+import dev.kinero.kinerobackend.training.dto.UpdateSetRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseResponse;
+import dev.kinero.kinerobackend.training.dto.WorkoutRequest;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseType;
+import dev.kinero.kinerobackend.training.model.MuscleGroup;
+import dev.kinero.kinerobackend.training.service.WorkoutService;
+import dev.kinero.kinerobackend.user.model.User;
+import dev.kinero.kinerobackend.user.service.UserService;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives set writes through the workout service and checks the incrementally maintained
+ * {@code exercise_daily_rollups} against the same aggregates computed from scratch over {@code sets}.
+ */
+@SpringBootTest
+@Testcontainers
+class ExerciseRollupBatchRepositoryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 14, 18, 0);
+
+    private static final String ROLLUPS = """
+            SELECT exercise_id, trained_on, max_weight, max_reps, best_set_volume, total_volume, set_count,
+                   best_estimated_one_rep_max, best_brzycki_one_rep_max
+            FROM exercise_daily_rollups
+            WHERE user_id = ?
+            ORDER BY exercise_id, trained_on
+            """;
+
+    private static final String FROM_SETS = """
+            SELECT we.exercise_id, w.workout_date AS trained_on, MAX(s.weight) AS max_weight, MAX(s.reps) AS max_reps,
+                   MAX(s.weight * s.reps) AS best_set_volume, SUM(s.weight * s.reps) AS total_volume,
+                   COUNT(*) AS set_count,
+                   MAX(CASE WHEN s.reps <= 0 THEN 0 WHEN s.reps = 1 THEN s.weight
+                            ELSE s.weight * (1 + s.reps / 30.0) END) AS best_estimated_one_rep_max,
+                   MAX(CASE WHEN s.reps <= 0 THEN 0 WHEN s.reps = 1 THEN s.weight
+                            ELSE s.weight * 36 / (37 - LEAST(s.reps, 36)) END) AS best_brzycki_one_rep_max
+            FROM sets s
+            JOIN workout_exercises we ON we.id = s.workout_exercise_id
+            JOIN workouts w ON w.id = we.workout_id
+            WHERE w.user_id = ? AND s.completed = TRUE AND s.deleted = FALSE
+              AND we.deleted = FALSE AND w.deleted = FALSE
+            GROUP BY we.exercise_id, w.workout_date
+            ORDER BY we.exercise_id, w.workout_date
+            """;
+
+    private static final RowMapper<Rollup> ROLLUP = (rs, rowNum) -> new Rollup(
+            rs.getObject("exercise_id", UUID.class), rs.getObject("trained_on", LocalDate.class),
+            rs.getDouble("max_weight"), rs.getInt("max_reps"), rs.getDouble("best_set_volume"),
+            rs.getDouble("total_volume"), rs.getInt("set_count"),
+            rs.getDouble("best_estimated_one_rep_max"), rs.getDouble("best_brzycki_one_rep_max"));
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.flyway.enabled", () -> "false");
+        MigrationOnlyTables.register(registry);
+    }
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private ExerciseRollupBatchRepository exerciseRollupBatchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+    private Exercise bench;
+    private Exercise row;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.register(UUID.randomUUID() + "@example.com", "password123");
+        bench = createExercise();
+        row = createExercise();
+    }
+
+    @Test
+    @DisplayName("Synced sets are merged into one row per exercise and day")
+    void sync_mergesRowPerExerciseAndDay() {
+        // When
+        syncWorkout(START);
+        syncWorkout(START.plusDays(2));
+
+        // Then
+        List<Rollup> rollups = assertRollupsMatchSets();
+        assertThat(rollups).hasSize(4);
+        assertThat(rollups).filteredOn(r -> r.exerciseId().equals(bench.getId()))
+                .allSatisfy(r -> {
+                    assertThat(r.setCount()).isEqualTo(2);
+                    assertThat(r.maxWeight()).isEqualTo(100.0);
+                    assertThat(r.totalVolume()).isEqualTo(100 * 5 + 90 * 8);
+                });
+    }
+
+    @Test
+    @DisplayName("A set logged later the same day is merged into the existing row")
+    void logSet_sameDay_mergesIntoRow() {
+        // Given
+        UUID workoutId = syncWorkout(START);
+        WorkoutExerciseResponse benchEntry = entryOf(workoutId, bench);
+
+        // When
+        workoutService.logSet(user.getId(), workoutId, benchEntry.getId(),
+                LogSetRequest.builder().weight(105.0).reps(3).build());
+
+        // Then
+        Rollup benchDay = rollupOf(assertRollupsMatchSets(), bench);
+        assertThat(benchDay.setCount()).isEqualTo(3);
+        assertThat(benchDay.maxWeight()).isEqualTo(105.0);
+    }
+
+    @Test
+    @DisplayName("Editing the heaviest set down recomputes the day's maxima")
+    void updateSet_editHeaviestDown_recomputesMaxima() {
+        // Given
+        UUID workoutId = syncWorkout(START);
+        ExerciseSetResponse heaviest = heaviestSet(workoutId, bench);
+
+        // When
+        workoutService.updateSet(user.getId(), workoutId, heaviest.getId(),
+                UpdateSetRequest.builder().weight(70.0).build());
+
+        // Then
+        Rollup benchDay = rollupOf(assertRollupsMatchSets(), bench);
+        assertThat(benchDay.maxWeight()).isEqualTo(90.0);
+        assertThat(benchDay.setCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Uncompleting a set takes it out of the day's row")
+    void updateSet_uncomplete_recomputesDay() {
+        // Given
+        UUID workoutId = syncWorkout(START);
+        ExerciseSetResponse heaviest = heaviestSet(workoutId, bench);
+
+        // When
+        workoutService.updateSet(user.getId(), workoutId, heaviest.getId(),
+                UpdateSetRequest.builder().completed(false).build());
+
+        // Then
+        Rollup benchDay = rollupOf(assertRollupsMatchSets(), bench);
+        assertThat(benchDay.setCount()).isEqualTo(1);
+        assertThat(benchDay.maxWeight()).isEqualTo(90.0);
+    }
+
+    @Test
+    @DisplayName("Deleting every set of an exercise drops its row for that day")
+    void deleteSet_lastSets_dropsRow() {
+        // Given
+        UUID workoutId = syncWorkout(START);
+        WorkoutExerciseResponse rowEntry = entryOf(workoutId, row);
+
+        // When
+        for (ExerciseSetResponse set : rowEntry.getSets()) {
+            workoutService.deleteSet(user.getId(), workoutId, set.getId());
+        }
+
+        // Then
+        List<Rollup> rollups = assertRollupsMatchSets();
+        assertThat(rollups).extracting(Rollup::exerciseId).containsExactly(bench.getId());
+    }
+
+    @Test
+    @DisplayName("Recomputing a day restores a row that drifted from its sets")
+    void recompute_driftedRow_matchesSets() {
+        // Given
+        syncWorkout(START);
+        jdbcTemplate.update("UPDATE exercise_daily_rollups SET max_weight = 500, set_count = 9 WHERE user_id = ?",
+                user.getId());
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                exerciseRollupBatchRepository.recompute(user.getId(), List.of(
+                        new ExerciseRollupBatchRepository.DayKey(bench.getId(), START.toLocalDate()),
+                        new ExerciseRollupBatchRepository.DayKey(row.getId(), START.toLocalDate()))));
+
+        // Then
+        assertRollupsMatchSets();
+    }
+
+    @Test
+    @DisplayName("Recomputing a day whose row a concurrent first write inserts overwrites it instead of failing")
+    void recompute_concurrentFirstWrite_overwritesRow() throws Exception {
+        // Given: the day's row is missing and another transaction inserts it without committing yet
+        syncWorkout(START);
+        jdbcTemplate.update("DELETE FROM exercise_daily_rollups WHERE user_id = ?", user.getId());
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> firstWrite = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                exerciseRollupBatchRepository.merge(user.getId(), List.of(new ExerciseRollupBatchRepository.DayAggregate(
+                        bench.getId(), START.toLocalDate(), 100, 5, 500, 500, 1, 116.7, 112.5)));
+                inserted.countDown();
+                try {
+                    commit.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // When: the recompute waits on the uncommitted row, which then commits
+            Future<?> recompute = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    exerciseRollupBatchRepository.recompute(user.getId(), List.of(
+                            new ExerciseRollupBatchRepository.DayKey(bench.getId(), START.toLocalDate())))));
+            awaitLockWait();
+            commit.countDown();
+            firstWrite.get(10, TimeUnit.SECONDS);
+            recompute.get(10, TimeUnit.SECONDS);
+        } finally {
+            commit.countDown();
+            executor.shutdownNow();
+        }
+
+        // Then
+        Rollup benchDay = rollupOf(jdbcTemplate.query(ROLLUPS, ROLLUP, user.getId()), bench);
+        assertThat(benchDay.setCount()).isEqualTo(2);
+        assertThat(benchDay.maxWeight()).isEqualTo(100.0);
+    }
+
+    private void awaitLockWait() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'", Integer.class) == 0) {
+            assertThat(System.nanoTime()).as("recompute waiting on the inserted row").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Asserts that the stored rows equal the aggregates recomputed from the sets and returns them.
+     */
+    private List<Rollup> assertRollupsMatchSets() {
+        List<Rollup> stored = jdbcTemplate.query(ROLLUPS, ROLLUP, user.getId());
+        List<Rollup> recomputed = jdbcTemplate.query(FROM_SETS, ROLLUP, user.getId());
+        assertThat(stored)
+                .usingRecursiveFieldByFieldElementComparator(RecursiveComparisonConfiguration.builder()
+                        .withComparatorForType(Comparator.comparingLong(d -> Math.round(d * 1e6)), Double.class)
+                        .build())
+                .containsExactlyElementsOf(recomputed);
+        return stored;
+    }
+
+    private UUID syncWorkout(LocalDateTime startTime) {
+        WorkoutRequest request = WorkoutRequest.builder()
+                .name("Push")
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(60))
+                .exercises(List.of(
+                        WorkoutExerciseRequest.builder()
+                                .exerciseId(bench.getId().toString())
+                                .sets(List.of(
+                                        ExerciseSetRequest.builder().weight(100.0).reps(5).build(),
+                                        ExerciseSetRequest.builder().weight(90.0).reps(8).build()))
+                                .build(),
+                        WorkoutExerciseRequest.builder()
+                                .exerciseId(row.getId().toString())
+                                .sets(List.of(
+                                        ExerciseSetRequest.builder().weight(60.0).reps(10).build(),
+                                        ExerciseSetRequest.builder().weight(62.5).reps(10).build()))
+                                .build()))
+                .build();
+        return workoutService.syncWorkout(user.getId(), UUID.randomUUID().toString(), request).workout().getId();
+    }
+
+    private WorkoutExerciseResponse entryOf(UUID workoutId, Exercise exercise) {
+        return workoutService.getWorkout(user.getId(), workoutId).getExercises().stream()
+                .filter(entry -> entry.getExercise().getId().equals(exercise.getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private ExerciseSetResponse heaviestSet(UUID workoutId, Exercise exercise) {
+        return entryOf(workoutId, exercise).getSets().stream()
+                .max(Comparator.comparingDouble(ExerciseSetResponse::getWeight))
+                .orElseThrow();
+    }
+
+    private static Rollup rollupOf(List<Rollup> rollups, Exercise exercise) {
+        return rollups.stream()
+                .filter(r -> r.exerciseId().equals(exercise.getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Exercise createExercise() {
+        return exerciseRepository.save(Exercise.builder()
+                .name("Exercise " + UUID.randomUUID())
+                .primaryMuscle(MuscleGroup.CHEST)
+                .type(ExerciseType.BARBELL)
+                .compound(true)
+                .build());
+    }
+
+    record Rollup(UUID exerciseId, LocalDate trainedOn, double maxWeight, int maxReps, double bestSetVolume,
+                  double totalVolume, int setCount, double bestEstimatedOneRepMax, double bestBrzyckiOneRepMax) {}
+}
@@ -0,0 +1,143 @@
+package dev.kinero.kinerobackend.training.repository;
+
+import dev.kinero.kinerobackend.support.MigrationOnlyTables;
+import dev.kinero.kinerobackend.training.dto.ExerciseSetRequest;
+import dev.kinero.kinerobackend.training.dto.ExerciseSetResponse;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutRequest;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseType;
+import dev.kinero.kinerobackend.training.model.MuscleGroup;
+import dev.kinero.kinerobackend.training.service.WorkoutService;
+import dev.kinero.kinerobackend.user.model.User;
+import dev.kinero.kinerobackend.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+class MuscleWeeklyRollupRepositoryTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 11, 18, 0);
+    private static final LocalDate WEEK = LocalDate.of(2026, 3, 9);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.flyway.enabled", () -> "false");
+        MigrationOnlyTables.register(registry);
+    }
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private MuscleWeeklyRollupRepository muscleWeeklyRollupRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.register(UUID.randomUUID() + "@example.com", "password123");
+    }
+
+    @Test
+    @DisplayName("Deleting a set after its exercise changed muscles leaves no negative counts")
+    void deleteSet_afterMuscleChange_recomputesWeek() {
+        // Given: two chest sets, then the exercise is moved to shoulders
+        Exercise press = exerciseRepository.save(Exercise.builder()
+                .name("Exercise " + UUID.randomUUID())
+                .primaryMuscle(MuscleGroup.CHEST)
+                .secondaryMuscle(MuscleGroup.TRICEPS)
+                .type(ExerciseType.BARBELL)
+                .build());
+        UUID workoutId = syncWorkout(press);
+        press.setPrimaryMuscle(MuscleGroup.SHOULDERS);
+        exerciseRepository.save(press);
+        ExerciseSetResponse set = workoutService.getWorkout(user.getId(), workoutId).getExercises().iterator().next()
+                .getSets().iterator().next();
+
+        // When
+        workoutService.deleteSet(user.getId(), workoutId, set.getId());
+
+        // Then
+        MuscleWeeklyRollupRepository.MuscleWeek week = onlyWeek();
+        assertThat(week.primarySets()[MuscleGroup.CHEST.ordinal()]).isZero();
+        assertThat(week.primaryVolume()[MuscleGroup.CHEST.ordinal()]).isZero();
+        assertThat(week.primarySets()[MuscleGroup.SHOULDERS.ordinal()]).isEqualTo(1);
+        assertThat(week.primaryVolume()[MuscleGroup.SHOULDERS.ordinal()]).isEqualTo(60 * 8);
+        assertThat(week.secondarySets()[MuscleGroup.TRICEPS.ordinal()]).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deleting every set of a week drops its row")
+    void deleteSet_lastSets_dropsWeek() {
+        // Given
+        Exercise squat = exerciseRepository.save(Exercise.builder()
+                .name("Exercise " + UUID.randomUUID())
+                .primaryMuscle(MuscleGroup.QUADRICEPS)
+                .type(ExerciseType.BARBELL)
+                .build());
+        UUID workoutId = syncWorkout(squat);
+        assertThat(onlyWeek().primarySets()[MuscleGroup.QUADRICEPS.ordinal()]).isEqualTo(2);
+
+        // When
+        for (ExerciseSetResponse set : workoutService.getWorkout(user.getId(), workoutId).getExercises().iterator().next().getSets()) {
+            workoutService.deleteSet(user.getId(), workoutId, set.getId());
+        }
+
+        // Then
+        assertThat(muscleWeeklyRollupRepository.findWeeks(user.getId(), WEEK, WEEK)).isEmpty();
+    }
+
+    private MuscleWeeklyRollupRepository.MuscleWeek onlyWeek() {
+        List<MuscleWeeklyRollupRepository.MuscleWeek> weeks = muscleWeeklyRollupRepository.findWeeks(user.getId(), WEEK, WEEK);
+        assertThat(weeks).hasSize(1);
+        return weeks.getFirst();
+    }
+
+    private UUID syncWorkout(Exercise exercise) {
+        WorkoutRequest request = WorkoutRequest.builder()
+                .name("Workout")
+                .startTime(START)
+                .endTime(START.plusMinutes(45))
+                .exercises(List.of(WorkoutExerciseRequest.builder()
+                        .exerciseId(exercise.getId().toString())
+                        .sets(List.of(
+                                ExerciseSetRequest.builder().weight(60.0).reps(8).build(),
+                                ExerciseSetRequest.builder().weight(60.0).reps(8).build()))
+                        .build()))
+                .build();
+        return workoutService.syncWorkout(user.getId(), UUID.randomUUID().toString(), request).workout().getId();
+    }
+}
@@ -0,0 +1,186 @@
+package dev.kinero.kinerobackend.training.repository;
+
+import dev.kinero.kinerobackend.support.MigrationOnlyTables;
+import dev.kinero.kinerobackend.training.dto.WorkoutSummaryResponse;
+import dev.kinero.kinerobackend.training.model.Workout;
+import dev.kinero.kinerobackend.user.model.User;
+import dev.kinero.kinerobackend.user.service.UserService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JMH benchmark of a history read for a user with {@value #WORKOUTS} workouts: the summary
+ * projection against full {@code Workout} entities for the same range, each in its own
+ * read-only transaction like a request. The bytes each path reads are printed alongside.
+ * The reads need this test's Spring context and database, so JMH runs in-process.
+ * Run with {@code -Dbenchmarks=true}.
+ */
+@SpringBootTest
+@Testcontainers
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+public class WorkoutSummaryBenchmarkTest {
+
+    static final int WORKOUTS = 2_500;
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2019, 1, 1);
+    private static final LocalDate LAST_DAY = FIRST_DAY.plusDays(WORKOUTS - 1);
+
+    private static final String ENTITIES = """
+            SELECT w FROM Workout w
+            WHERE w.user.id = :userId AND w.deleted = false AND w.workoutDate BETWEEN :from AND :to
+            ORDER BY w.workoutDate, w.id
+            """;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    // Handed over from the Spring-managed test instance to the instances JMH creates
+    private static WorkoutRepository benchmarkedRepository;
+    private static EntityManager benchmarkedEntityManager;
+    private static TransactionTemplate readOnlyTransaction;
+    private static UUID benchmarkedUserId;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.flyway.enabled", () -> "false");
+        MigrationOnlyTables.register(registry);
+    }
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private WorkoutBatchRepository workoutBatchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Benchmark
+    public List<Workout> entities() {
+        return readOnlyTransaction.execute(status -> benchmarkedEntityManager.createQuery(ENTITIES, Workout.class)
+                .setParameter("userId", benchmarkedUserId)
+                .setParameter("from", FIRST_DAY)
+                .setParameter("to", LAST_DAY)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<WorkoutSummaryResponse> projection() {
+        return readOnlyTransaction.execute(status ->
+                benchmarkedRepository.findSummariesBetween(benchmarkedUserId, FIRST_DAY, LAST_DAY));
+    }
+
+    @Test
+    @DisplayName("Benchmark the workout summary projection against loading entities")
+    void runBenchmarks() throws RunnerException {
+        // Given
+        User user = userService.register(UUID.randomUUID() + "@example.com", "password123");
+        List<Workout> workouts = new ArrayList<>(WORKOUTS);
+        for (int i = 0; i < WORKOUTS; i++) {
+            workouts.add(Workout.builder()
+                    .user(user)
+                    .name("Workout " + i)
+                    .notes("Felt strong today, added a back-off set on the last exercise. ".repeat(4))
+                    .startTime(FIRST_DAY.plusDays(i).atTime(18, 0))
+                    .endTime(FIRST_DAY.plusDays(i).atTime(19, 15))
+                    .workoutDate(FIRST_DAY.plusDays(i))
+                    .totalSets(20)
+                    .totalVolume(BigDecimal.valueOf(12_500))
+                    .durationMinutes(75)
+                    .completed(true)
+                    .build());
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> workoutBatchRepository.insertWorkouts(workouts));
+
+        benchmarkedRepository = workoutRepository;
+        benchmarkedEntityManager = entityManager;
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        benchmarkedUserId = user.getId();
+
+        Long entityBytes = jdbcTemplate.queryForObject(
+                "SELECT SUM(pg_column_size(w.*)) FROM workouts w WHERE w.user_id = ?", Long.class, user.getId());
+        Long projectionBytes = jdbcTemplate.queryForObject("""
+                SELECT SUM(pg_column_size(ROW(w.id, w.name, w.workout_date, w.duration_minutes,
+                                              w.total_sets, w.total_volume, w.completed)))
+                FROM workouts w WHERE w.user_id = ?
+                """, Long.class, user.getId());
+
+        // When
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(WorkoutSummaryBenchmarkTest.class.getSimpleName())
+                .forks(0)
+                .build()).run();
+
+        // Then
+        System.out.printf("workouts=%d entity rows: %d bytes | projection rows: %d bytes%n",
+                WORKOUTS, entityBytes, projectionBytes);
+        assertThat(projectionBytes).isLessThan(entityBytes);
+        assertThat(score(results, "projection")).isLessThan(score(results, "entities"));
+    }
+
+    private static double score(Collection<RunResult> results, String benchmark) {
+        return results.stream()
+                .filter(result -> result.getParams().getBenchmark().endsWith("." + benchmark))
+                .findFirst()
+                .orElseThrow()
+                .getPrimaryResult()
+                .getScore();
+    }
+}
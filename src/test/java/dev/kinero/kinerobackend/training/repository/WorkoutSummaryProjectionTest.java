@@ -0,0 +1,173 @@
+package dev.kinero.kinerobackend.training.repository;
+
+import dev.kinero.kinerobackend.support.MigrationOnlyTables;
+import dev.kinero.kinerobackend.training.model.Workout;
+import dev.kinero.kinerobackend.user.model.User;
+import dev.kinero.kinerobackend.user.service.UserService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the summary projection only fetches the columns a history row needs, compared
+ * with loading full {@code Workout} entities for the same user.
+ */
+@SpringBootTest
+@Testcontainers
+class WorkoutSummaryProjectionTest {
+
+    private static final int WORKOUTS = 50;
+    private static final String ENTITIES = """
+            SELECT w FROM Workout w
+            WHERE w.user.id = :userId AND w.deleted = false AND w.workoutDate BETWEEN :from AND :to
+            ORDER BY w.workoutDate, w.id
+            """;
+    private static final Pattern SELECT_LIST = Pattern.compile("^select (.+?) from ", Pattern.DOTALL);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.flyway.enabled", () -> "false");
+        MigrationOnlyTables.register(registry);
+        registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector",
+                RecordingStatementInspector.class::getName);
+    }
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private WorkoutBatchRepository workoutBatchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Summary projection selects only the summary columns in a single statement")
+    void summaryProjection_fetchesSummaryColumnsOnly() {
+        // Given
+        User user = userService.register(UUID.randomUUID() + "@example.com", "password123");
+        LocalDate firstDay = LocalDate.of(2019, 1, 1);
+        List<Workout> workouts = new ArrayList<>();
+        for (int i = 0; i < WORKOUTS; i++) {
+            workouts.add(Workout.builder()
+                    .user(user)
+                    .name("Workout " + i)
+                    .notes("Felt strong today, added a back-off set on the last exercise. ".repeat(4))
+                    .startTime(firstDay.plusDays(i).atTime(18, 0))
+                    .endTime(firstDay.plusDays(i).atTime(19, 15))
+                    .workoutDate(firstDay.plusDays(i))
+                    .totalSets(20)
+                    .totalVolume(BigDecimal.valueOf(12_500))
+                    .durationMinutes(75)
+                    .completed(true)
+                    .build());
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> workoutBatchRepository.insertWorkouts(workouts));
+        LocalDate lastDay = firstDay.plusDays(WORKOUTS - 1);
+
+        // When
+        List<String> entityStatements = recordStatements(() -> entityManager.createQuery(ENTITIES, Workout.class)
+                .setParameter("userId", user.getId())
+                .setParameter("from", firstDay)
+                .setParameter("to", lastDay)
+                .getResultList());
+        List<String> projectionStatements = recordStatements(() -> {
+            assertThat(workoutRepository.findSummariesBetween(user.getId(), firstDay, lastDay)).hasSize(WORKOUTS);
+            return null;
+        });
+
+        Long entityBytes = jdbcTemplate.queryForObject(
+                "SELECT SUM(pg_column_size(w.*)) FROM workouts w WHERE w.user_id = ?", Long.class, user.getId());
+        Long projectionBytes = jdbcTemplate.queryForObject("""
+                SELECT SUM(pg_column_size(ROW(w.id, w.name, w.workout_date, w.duration_minutes,
+                                              w.total_sets, w.total_volume, w.completed)))
+                FROM workouts w WHERE w.user_id = ?
+                """, Long.class, user.getId());
+
+        // Then
+        assertThat(projectionStatements).hasSize(1);
+        assertThat(selectedColumns(projectionStatements.getFirst()))
+                .containsExactly("id", "name", "workout_date", "duration_minutes", "total_sets", "total_volume", "completed");
+        assertThat(selectedColumns(entityStatements.getFirst())).contains("notes", "started_at", "finished_at");
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    /**
+     * SQL sent by Hibernate while running the read in its own read-only transaction.
+     */
+    private List<String> recordStatements(Supplier<?> read) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        RecordingStatementInspector.STATEMENTS.clear();
+        transactionTemplate.execute(status -> read.get());
+        return List.copyOf(RecordingStatementInspector.STATEMENTS);
+    }
+
+    /**
+     * Column names of the select list, without table aliases.
+     */
+    private static List<String> selectedColumns(String sql) {
+        Matcher matcher = SELECT_LIST.matcher(sql.toLowerCase(Locale.ROOT).strip());
+        assertThat(matcher.find()).as("select list of %s", sql).isTrue();
+        return Arrays.stream(matcher.group(1).split(","))
+                .map(String::strip)
+                .map(column -> column.substring(column.indexOf('.') + 1))
+                .toList();
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
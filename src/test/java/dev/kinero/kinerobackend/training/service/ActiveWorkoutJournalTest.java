@@ -0,0 +1,90 @@
+package dev.kinero.kinerobackend.training.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Active Workout Journal Tests")
+class ActiveWorkoutJournalTest {
+
+    private final ObjectMapper objectMapper = new JsonMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should read back appended entries in order with their types")
+    void append_read_roundTrips() throws Exception {
+        // Given
+        Path path = directory.resolve("session.ndjson");
+        ActiveWorkoutJournal journal = new ActiveWorkoutJournal(path, objectMapper);
+        ActiveWorkoutJournal.WorkoutStarted started = started();
+        ActiveWorkoutJournal.SetLogged set = new ActiveWorkoutJournal.SetLogged(
+                UUID.randomUUID(), UUID.randomUUID(), 1, 100.0, 5, null, 8.5, "normal", false);
+
+        // When
+        journal.append(started);
+        journal.append(set);
+        journal.close();
+
+        // Then
+        assertThat(ActiveWorkoutJournal.read(path, objectMapper)).containsExactly(started, set);
+    }
+
+    @Test
+    @DisplayName("Should skip a torn last line left by a crash during an append")
+    void read_tornLastLine_isSkipped() throws Exception {
+        // Given
+        Path path = directory.resolve("session.ndjson");
+        ActiveWorkoutJournal journal = new ActiveWorkoutJournal(path, objectMapper);
+        ActiveWorkoutJournal.WorkoutStarted started = started();
+        journal.append(started);
+        journal.close();
+        Files.writeString(path, "{\"type\":\"set\",\"setId\":", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // When
+        List<ActiveWorkoutJournal.Entry> entries = ActiveWorkoutJournal.read(path, objectMapper);
+
+        // Then
+        assertThat(entries).containsExactly(started);
+    }
+
+    @Test
+    @DisplayName("Should replace the whole journal on rewrite and keep appending afterwards")
+    void rewrite_replacesContents() throws Exception {
+        // Given
+        Path path = directory.resolve("session.ndjson");
+        ActiveWorkoutJournal journal = new ActiveWorkoutJournal(path, objectMapper);
+        journal.append(started());
+        journal.append(started());
+        ActiveWorkoutJournal.WorkoutStarted checkpoint = started();
+        ActiveWorkoutJournal.ExerciseAdded exercise = new ActiveWorkoutJournal.ExerciseAdded(
+                UUID.randomUUID(), UUID.randomUUID(), 1, 3, 8, null, false);
+
+        // When
+        journal.rewrite(List.of(checkpoint));
+        journal.append(exercise);
+        journal.close();
+
+        // Then
+        assertThat(ActiveWorkoutJournal.read(path, objectMapper)).containsExactly(checkpoint, exercise);
+    }
+
+    private static ActiveWorkoutJournal.WorkoutStarted started() {
+        return new ActiveWorkoutJournal.WorkoutStarted(UUID.randomUUID(), UUID.randomUUID(), null, "Push Day", null,
+                LocalDateTime.of(2025, 3, 14, 18, 0), LocalDate.of(2025, 3, 14), false);
+    }
+}
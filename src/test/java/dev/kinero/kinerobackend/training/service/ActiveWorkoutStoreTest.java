@@ -0,0 +1,236 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.dto.LogSetRequest;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseSet;
+import dev.kinero.kinerobackend.training.model.ExerciseType;
+import dev.kinero.kinerobackend.training.model.MuscleGroup;
+import dev.kinero.kinerobackend.training.model.Workout;
+import dev.kinero.kinerobackend.training.model.WorkoutExercise;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.WorkoutBatchRepository;
+import dev.kinero.kinerobackend.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Active Workout Store Tests")
+class ActiveWorkoutStoreTest {
+
+    private final ObjectMapper objectMapper = new JsonMapper();
+    private final UUID userId = UUID.randomUUID();
+    private final Exercise exercise = exercise();
+
+    @TempDir
+    Path directory;
+
+    private WorkoutBatchRepository workoutBatchRepository;
+    private ExerciseRepository exerciseRepository;
+    private JdbcTemplate jdbcTemplate;
+    private List<List<ExerciseSet>> insertedSets;
+
+    @BeforeEach
+    void setUp() {
+        workoutBatchRepository = batchRepository();
+        exerciseRepository = mock(ExerciseRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(exerciseRepository.findAllById(any())).thenReturn(List.of(exercise));
+    }
+
+    @Test
+    @DisplayName("Should write pending rows once and skip a flush with nothing pending")
+    void flushAll_twice_writesOnce() throws Exception {
+        // Given
+        ActiveWorkoutStore store = store();
+        Workout workout = startWithOneSet(store);
+
+        // When
+        store.flushAll();
+        store.flushAll();
+
+        // Then
+        verify(workoutBatchRepository, times(1)).insertWorkouts(anyList());
+        verify(workoutBatchRepository, times(1)).insertWorkoutExercises(anyList());
+        verify(workoutBatchRepository, times(1)).insertSets(anyList());
+        verify(workoutBatchRepository, never()).applyTotals(anyList());
+        assertThat(ActiveWorkoutJournal.read(journalPath(), objectMapper))
+                .hasSize(3)
+                .allMatch(ActiveWorkoutJournal.Entry::persisted);
+        assertThat(workout.getTotalSets()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should only write the sets logged since the previous flush")
+    void flushAll_afterMoreSets_writesOnlyNewSets() throws Exception {
+        // Given
+        ActiveWorkoutStore store = store();
+        startWithOneSet(store);
+        store.flushAll();
+        ExerciseSet second = logSet(store, 82.5);
+
+        // When
+        store.flushAll();
+
+        // Then
+        assertThat(insertedSets).hasSize(2);
+        assertThat(insertedSets.get(1)).containsExactly(second);
+        verify(workoutBatchRepository, times(1)).applyTotals(anyList());
+    }
+
+    @Test
+    @DisplayName("Should replay and write a session journaled before a crash")
+    @SuppressWarnings("unchecked")
+    void init_afterCrash_recoversAndFlushesJournal() throws Exception {
+        // Given: a session that never reached the database and was never shut down
+        ActiveWorkoutStore crashed = store();
+        Workout workout = startWithOneSet(crashed);
+        ExerciseSet set = crashed.withSession(userId, session -> session.allSets().getFirst());
+
+        // When
+        WorkoutBatchRepository restarted = batchRepository();
+        workoutBatchRepository = restarted;
+        ActiveWorkoutStore recovered = store();
+
+        // Then
+        ArgumentCaptor<List<Workout>> workouts = ArgumentCaptor.forClass(List.class);
+        verify(restarted).insertWorkouts(workouts.capture());
+        assertThat(workouts.getValue()).extracting(Workout::getId).containsExactly(workout.getId());
+        assertThat(insertedSets).singleElement().satisfies(sets ->
+                assertThat(sets).extracting(ExerciseSet::getId).containsExactly(set.getId()));
+        assertThat(recovered.withSession(userId, ActiveWorkoutSession::hasPendingChanges)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not write rows again that a flush committed before the crash")
+    void init_afterCrashBetweenCommitAndCompaction_skipsWrittenRows() throws Exception {
+        // Given: the journal still says pending, but the database already has every row
+        ActiveWorkoutStore crashed = store();
+        Workout workout = startWithOneSet(crashed);
+        ActiveWorkoutSession session = crashed.withSession(userId, s -> s);
+        UUID workoutExerciseId = session.getExercises().iterator().next().getId();
+        UUID setId = session.allSets().getFirst().getId();
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM workouts "), eq(UUID.class), any(Object[].class)))
+                .thenReturn(List.of(workout.getId()));
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM workout_exercises "), eq(UUID.class), any(Object[].class)))
+                .thenReturn(List.of(workoutExerciseId));
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM sets "), eq(UUID.class), any(Object[].class)))
+                .thenReturn(List.of(setId));
+
+        // When
+        WorkoutBatchRepository restarted = batchRepository();
+        workoutBatchRepository = restarted;
+        store();
+
+        // Then
+        verify(restarted, never()).insertWorkouts(anyList());
+        verify(restarted, never()).insertWorkoutExercises(anyList());
+        verify(restarted, never()).insertSets(anyList());
+    }
+
+    @Test
+    @DisplayName("Should keep journaling after a flush whose journal compaction failed")
+    void flushAll_failedCompaction_journalStaysUsable() throws Exception {
+        // Given: the temp file used for compaction cannot be created
+        ActiveWorkoutStore store = store();
+        startWithOneSet(store);
+        Path blocked = Files.createDirectories(directory.resolve(userId + ".ndjson.tmp"));
+        Files.writeString(blocked.resolve("occupied"), "x");
+
+        // When
+        store.flushAll();
+        ExerciseSet second = logSet(store, 85.0);
+        store.flushAll();
+
+        // Then
+        assertThat(insertedSets).hasSize(2);
+        assertThat(insertedSets.get(1)).containsExactly(second);
+        assertThat(ActiveWorkoutJournal.read(journalPath(), objectMapper))
+                .filteredOn(ActiveWorkoutJournal.SetLogged.class::isInstance)
+                .extracting(entry -> ((ActiveWorkoutJournal.SetLogged) entry).setId())
+                .contains(second.getId());
+    }
+
+    /**
+     * A batch repository mock that records copies of the inserted sets, since the store hands
+     * over its pending list and clears it after the flush.
+     */
+    private WorkoutBatchRepository batchRepository() {
+        WorkoutBatchRepository repository = mock(WorkoutBatchRepository.class);
+        insertedSets = new ArrayList<>();
+        doAnswer(invocation -> insertedSets.add(List.copyOf(invocation.<List<ExerciseSet>>getArgument(0))))
+                .when(repository).insertSets(anyList());
+        return repository;
+    }
+
+    private ActiveWorkoutStore store() throws Exception {
+        ActiveWorkoutProperties properties = new ActiveWorkoutProperties();
+        properties.setJournalDirectory(directory);
+        ActiveWorkoutStore store = new ActiveWorkoutStore(properties, workoutBatchRepository, exerciseRepository,
+                mock(UserRepository.class), jdbcTemplate, mock(PlatformTransactionManager.class), objectMapper,
+                mock(ApplicationEventPublisher.class), new SimpleMeterRegistry());
+        store.init();
+        return store;
+    }
+
+    private Workout startWithOneSet(ActiveWorkoutStore store) {
+        LocalDateTime now = LocalDateTime.now();
+        Workout workout = Workout.builder()
+                .name("Push")
+                .startTime(now)
+                .workoutDate(now.toLocalDate())
+                .build();
+        workout.setId(UUID.randomUUID());
+        store.start(userId, workout);
+        store.withSession(userId, session -> session.addExercise(exercise, null, null, null, null));
+        logSet(store, 80.0);
+        return workout;
+    }
+
+    private ExerciseSet logSet(ActiveWorkoutStore store, double weight) {
+        return store.withSession(userId, session -> {
+            WorkoutExercise workoutExercise = session.getExercises().iterator().next();
+            return session.logSet(workoutExercise.getId(), LogSetRequest.builder().weight(weight).reps(8).build());
+        });
+    }
+
+    private Path journalPath() {
+        return directory.resolve(userId + ".ndjson");
+    }
+
+    private static Exercise exercise() {
+        Exercise exercise = Exercise.builder()
+                .name("Bench Press")
+                .primaryMuscle(MuscleGroup.CHEST)
+                .type(ExerciseType.BARBELL)
+                .build();
+        exercise.setId(UUID.randomUUID());
+        return exercise;
+    }
+}
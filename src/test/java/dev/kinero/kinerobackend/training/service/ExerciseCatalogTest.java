@@ -0,0 +1,122 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.mapper.TrainingMapper;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseType;
+import dev.kinero.kinerobackend.training.model.MuscleGroup;
+import dev.kinero.kinerobackend.training.repository.CatalogFingerprint;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Exercise Catalog Tests")
+class ExerciseCatalogTest {
+
+    private static final Instant UPDATED = Instant.parse("2025-06-01T10:00:00Z");
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private ExerciseRepository exerciseRepository;
+    private ExerciseCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        exerciseRepository = mock(ExerciseRepository.class);
+        when(exerciseRepository.findCatalogFingerprint()).thenReturn(new CatalogFingerprint(1L, UPDATED));
+        when(exerciseRepository.findCatalog()).thenReturn(List.of(exercise("Bench Press")));
+        catalog = new ExerciseCatalog(exerciseRepository, new TrainingMapper(), objectMapper, new SimpleMeterRegistry());
+        catalog.init();
+    }
+
+    @Test
+    @DisplayName("Should serialize the catalog once, plain and gzip-compressed")
+    void shouldSerializeCatalogOnce() throws IOException {
+        // When
+        ExerciseCatalog.Snapshot snapshot = catalog.current();
+
+        // Then
+        assertThat(snapshot.version()).isEqualTo(UPDATED.toEpochMilli() * 1_000);
+        JsonNode plain = objectMapper.readTree(snapshot.json());
+        assertThat(plain.get("version").asLong()).isEqualTo(UPDATED.toEpochMilli() * 1_000);
+        assertThat(plain.get("exercises").get(0).get("name").asString()).isEqualTo("Bench Press");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(snapshot.gzippedJson()))) {
+            assertThat(in.readAllBytes()).isEqualTo(snapshot.json());
+        }
+        assertThat(snapshot.etag()).startsWith("W/\"" + UPDATED.toEpochMilli() * 1_000 + "-");
+    }
+
+    @Test
+    @DisplayName("Should keep the snapshot while the stored catalog is unchanged")
+    void shouldKeepSnapshotWhileUnchanged() {
+        // Given
+        ExerciseCatalog.Snapshot first = catalog.current();
+
+        // When
+        catalog.poll();
+        catalog.onExerciseChanged(new ExerciseChangedEvent(UUID.randomUUID(), null));
+
+        // Then
+        assertThat(catalog.current()).isSameAs(first);
+        verify(exerciseRepository, times(1)).findCatalog();
+    }
+
+    @Test
+    @DisplayName("Should rebuild with a higher version and new ETag when the catalog changes")
+    void shouldRebuildWhenCatalogChanges() {
+        // Given
+        ExerciseCatalog.Snapshot first = catalog.current();
+        when(exerciseRepository.findCatalogFingerprint()).thenReturn(new CatalogFingerprint(2L, UPDATED));
+        when(exerciseRepository.findCatalog()).thenReturn(List.of(exercise("Bench Press"), exercise("Squat")));
+
+        // When
+        catalog.onExerciseChanged(new ExerciseChangedEvent(UUID.randomUUID(), null));
+
+        // Then
+        ExerciseCatalog.Snapshot second = catalog.current();
+        assertThat(second.version()).isGreaterThan(first.version());
+        assertThat(second.etag()).isNotEqualTo(first.etag());
+        assertThat(second.exercises()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should ignore changes to custom exercises")
+    void shouldIgnoreCustomExerciseChanges() {
+        // Given
+        catalog.current();
+
+        // When
+        catalog.onExerciseChanged(new ExerciseChangedEvent(UUID.randomUUID(), UUID.randomUUID()));
+
+        // Then
+        verify(exerciseRepository, times(1)).findCatalogFingerprint();
+    }
+
+    private static Exercise exercise(String name) {
+        Exercise exercise = Exercise.builder()
+                .name(name)
+                .primaryMuscle(MuscleGroup.CHEST)
+                .type(ExerciseType.BARBELL)
+                .compound(true)
+                .build();
+        exercise.setId(UUID.randomUUID());
+        return exercise;
+    }
+}
@@ -0,0 +1,162 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.dto.ExerciseChangesResponse;
+import dev.kinero.kinerobackend.training.dto.ExerciseResponse;
+import dev.kinero.kinerobackend.training.mapper.TrainingMapper;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseType;
+import dev.kinero.kinerobackend.training.model.MuscleGroup;
+import dev.kinero.kinerobackend.training.repository.CatalogFingerprint;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Exercise Changes Tests")
+class ExerciseChangesTest {
+
+    private static final int MAX_CHANGES = 2;
+
+    private final UUID userId = UUID.randomUUID();
+
+    private ExerciseRepository exerciseRepository;
+    private ExerciseCatalog exerciseCatalog;
+    private ExerciseServiceImplementation exerciseService;
+
+    @BeforeEach
+    void setUp() {
+        exerciseRepository = mock(ExerciseRepository.class);
+        exerciseCatalog = mock(ExerciseCatalog.class);
+        exerciseService = new ExerciseServiceImplementation(exerciseCatalog, mock(ExerciseSearch.class),
+                mock(ExerciseFacets.class), exerciseRepository, new TrainingMapper(), MAX_CHANGES,
+                Duration.ofDays(90), Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should return changed exercises and tombstones since the client's version")
+    void shouldReturnChangesSinceVersion() {
+        // Given
+        Instant since = Instant.now().truncatedTo(ChronoUnit.MICROS).minus(Duration.ofHours(1));
+        Exercise updated = exercise("Bench Press", since.plusSeconds(60), false);
+        Exercise removed = exercise("Old Curl", since.plusSeconds(120), true);
+        when(exerciseRepository.findCatalogChangedSince(eq(since), any())).thenReturn(List.of(updated));
+        when(exerciseRepository.findCustomChangedSince(eq(userId), eq(since), any())).thenReturn(List.of(removed));
+
+        // When
+        ExerciseChangesResponse changes = exerciseService.getChanges(userId, ExerciseCatalog.versionOf(since));
+
+        // Then
+        assertThat(changes.full()).isFalse();
+        assertThat(changes.upserted()).extracting(ExerciseResponse::getName).containsExactly("Bench Press");
+        assertThat(changes.deleted()).containsExactly(removed.getId());
+        assertThat(changes.version()).isEqualTo(ExerciseCatalog.versionOf(since.plusSeconds(120)));
+    }
+
+    @Test
+    @DisplayName("Should not send the newest change again when it has sub-millisecond precision")
+    void shouldNotResendNewestSubMillisecondChange() {
+        // Given
+        Instant since = Instant.now().truncatedTo(ChronoUnit.MICROS).minus(Duration.ofHours(1));
+        Instant written = since.plusSeconds(60).plus(123, ChronoUnit.MICROS);
+        when(exerciseRepository.findCatalogChangedSince(eq(since), any()))
+                .thenReturn(List.of(exercise("Bench Press", written, false)));
+        when(exerciseRepository.findCustomChangedSince(eq(userId), any(), any())).thenReturn(List.of());
+
+        // When
+        ExerciseChangesResponse changes = exerciseService.getChanges(userId, ExerciseCatalog.versionOf(since));
+        exerciseService.getChanges(userId, changes.version());
+
+        // Then
+        assertThat(changes.version()).isEqualTo(ExerciseCatalog.versionOf(written));
+        verify(exerciseRepository).findCatalogChangedSince(eq(written), any());
+    }
+
+    @Test
+    @DisplayName("Should hold the version back from changes inside the commit window")
+    void shouldHoldVersionBackInsideCommitWindow() {
+        // Given
+        Instant since = Instant.now().truncatedTo(ChronoUnit.MICROS).minus(Duration.ofMinutes(1));
+        Exercise justWritten = exercise("Squat", Instant.now(), false);
+        when(exerciseRepository.findCatalogChangedSince(eq(since), any())).thenReturn(List.of(justWritten));
+        when(exerciseRepository.findCustomChangedSince(eq(userId), eq(since), any())).thenReturn(List.of());
+
+        // When
+        ExerciseChangesResponse changes = exerciseService.getChanges(userId, ExerciseCatalog.versionOf(since));
+
+        // Then
+        assertThat(changes.upserted()).hasSize(1);
+        assertThat(changes.version()).isLessThan(ExerciseCatalog.versionOf(justWritten.getUpdatedAt()));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the full list when too many exercises changed")
+    void shouldFallBackWhenTooManyChanges() {
+        // Given
+        Instant since = Instant.now().truncatedTo(ChronoUnit.MICROS).minus(Duration.ofHours(1));
+        when(exerciseRepository.findCatalogChangedSince(eq(since), any())).thenReturn(List.of(
+                exercise("A", since.plusSeconds(1), false),
+                exercise("B", since.plusSeconds(2), false),
+                exercise("C", since.plusSeconds(3), false)));
+        when(exerciseRepository.findCustomChangedSince(eq(userId), eq(since), any())).thenReturn(List.of());
+        givenCatalog(since, "Bench Press");
+
+        // When
+        ExerciseChangesResponse changes = exerciseService.getChanges(userId, ExerciseCatalog.versionOf(since));
+
+        // Then
+        assertThat(changes.full()).isTrue();
+        assertThat(changes.upserted()).extracting(ExerciseResponse::getName).containsExactly("Bench Press", "My Row");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the full list when the client is too far behind")
+    void shouldFallBackWhenTooFarBehind() {
+        // Given
+        Instant since = Instant.now().truncatedTo(ChronoUnit.MICROS).minus(Duration.ofDays(365));
+        givenCatalog(Instant.now().minus(Duration.ofDays(1)), "Bench Press");
+
+        // When
+        ExerciseChangesResponse changes = exerciseService.getChanges(userId, ExerciseCatalog.versionOf(since));
+
+        // Then
+        assertThat(changes.full()).isTrue();
+        verify(exerciseRepository, never()).findCatalogChangedSince(any(), any());
+    }
+
+    private void givenCatalog(Instant version, String name) {
+        ExerciseResponse catalogExercise = new TrainingMapper().toResponse(exercise(name, version, false));
+        when(exerciseCatalog.current()).thenReturn(new ExerciseCatalog.Snapshot(ExerciseCatalog.versionOf(version),
+                new CatalogFingerprint(1L, version), List.of(catalogExercise), new byte[0], new byte[0], "W/\"1\"",
+                Instant.now()));
+        Exercise custom = exercise("My Row", version, false);
+        custom.setCustom(true);
+        custom.setCreatedByUserId(userId);
+        when(exerciseRepository.findActiveCustomByUserId(userId)).thenReturn(List.of(custom));
+    }
+
+    private static Exercise exercise(String name, Instant updatedAt, boolean deleted) {
+        Exercise exercise = Exercise.builder()
+                .name(name)
+                .primaryMuscle(MuscleGroup.BACK)
+                .type(ExerciseType.BARBELL)
+                .build();
+        exercise.setId(UUID.randomUUID());
+        exercise.setUpdatedAt(updatedAt);
+        exercise.setDeleted(deleted);
+        return exercise;
+    }
+}
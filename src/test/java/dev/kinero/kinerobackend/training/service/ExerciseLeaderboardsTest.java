@@ -0,0 +1,93 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.repository.ExerciseLeaderboardRepository;
+import dev.kinero.kinerobackend.training.repository.PersonalRecordBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Exercise Leaderboards Tests")
+class ExerciseLeaderboardsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+    private static final int REP_RANGE = 5;
+
+    private final UUID exerciseId = UUID.randomUUID();
+
+    private ExerciseLeaderboardRepository exerciseLeaderboardRepository;
+    private ExerciseLeaderboards leaderboards;
+
+    @BeforeEach
+    void setUp() {
+        exerciseLeaderboardRepository = mock(ExerciseLeaderboardRepository.class);
+        when(exerciseLeaderboardRepository.findAll()).thenReturn(List.of());
+        leaderboards = new ExerciseLeaderboards(exerciseLeaderboardRepository, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), 10);
+        leaderboards.init();
+    }
+
+    @Test
+    @DisplayName("Should count a lifter who beats their own record once")
+    void onRecordsChanged_ownRecordBeaten_countsLifterOnce() {
+        // Given
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+
+        // When
+        leaderboards.onRecordsChanged(recordChanged(alice, 100, 0));
+        leaderboards.onRecordsChanged(recordChanged(alice, 110, 100));
+        long afterAlice = leaderboards.standing(exerciseId, REP_RANGE, 0, 10).lifters();
+        leaderboards.onRecordsChanged(recordChanged(bob, 90, 0));
+
+        // Then
+        assertThat(afterAlice).isEqualTo(1);
+        assertThat(leaderboards.standing(exerciseId, REP_RANGE, 0, 10).lifters()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep a record committed while the rebuild reads the stored records")
+    void rebuild_recordDuringRead_survivesSwap() throws Exception {
+        // Given: the table holds alice's record, and bob's commits halfway through the read
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        ResultSet row = mock(ResultSet.class);
+        when(row.getObject("exercise_id", UUID.class)).thenReturn(exerciseId);
+        when(row.getInt("rep_range")).thenReturn(REP_RANGE);
+        when(row.getDouble("weight")).thenReturn(100.0);
+        when(row.getObject("user_id", UUID.class)).thenReturn(alice);
+        when(row.getDate("achieved_date")).thenReturn(Date.valueOf(TODAY));
+        doAnswer(invocation -> {
+            leaderboards.onRecordsChanged(recordChanged(bob, 120, 0));
+            invocation.<RowCallbackHandler>getArgument(0).processRow(row);
+            return null;
+        }).when(exerciseLeaderboardRepository).streamRecords(any());
+
+        // When
+        leaderboards.rebuild();
+
+        // Then
+        ExerciseLeaderboards.Standing standing = leaderboards.standing(exerciseId, REP_RANGE, 110, 10);
+        assertThat(standing.lifters()).isEqualTo(2);
+        assertThat(standing.top()).extracting(Leaderboard.Entry::userId).containsExactly(bob, alice);
+    }
+
+    private PersonalRecordsChangedEvent recordChanged(UUID userId, double weight, double previousWeight) {
+        return new PersonalRecordsChangedEvent(userId, List.of(
+                new PersonalRecordBatchRepository.BeatenRecord(exerciseId, REP_RANGE, weight, TODAY, previousWeight)));
+    }
+}
@@ -0,0 +1,106 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.search.TrigramIndex;
+import dev.kinero.kinerobackend.training.dto.ExerciseResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of building the exercise search index and of queries against it, for a
+ * synthetic catalog of {@value #EXERCISES} exercises. Query times are sampled, so the report
+ * includes p99. Run with {@code -Dbenchmarks=true}.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+public class ExerciseSearchBenchmarkTest {
+
+    static final int EXERCISES = 5_000;
+
+    private static final String[] MODIFIERS = {"Incline", "Decline", "Seated", "Standing", "Single Arm", "Close Grip",
+            "Wide Grip", "Paused", "Deficit", "Tempo", "Kneeling", "Reverse"};
+    private static final String[] MOVEMENTS = {"Bench Press", "Row", "Curl", "Squat", "Deadlift", "Lunge", "Fly",
+            "Triceps Extension", "Lateral Raise", "Pulldown", "Shoulder Press", "Shrug", "Crunch", "Kickback",
+            "Pullover", "Hip Thrust", "Calf Raise", "Good Morning"};
+    private static final String[] EQUIPMENT = {"Barbell", "Dumbbell", "Cable", "Machine", "Band", "Kettlebell",
+            "Smith Machine", "Bodyweight"};
+    private static final String[] CATEGORIES = {"Strength", "Hypertrophy", "Power", "Mobility"};
+
+    private List<ExerciseResponse> exercises;
+    private TrigramIndex<ExerciseResponse> index;
+
+    @Setup
+    public void setUp() {
+        exercises = catalog(EXERCISES, new SplittableRandom(42));
+        index = ExerciseSearch.index(exercises);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public TrigramIndex<ExerciseResponse> build() {
+        return ExerciseSearch.index(exercises);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<TrigramIndex.Hit<ExerciseResponse>> search(Query query) {
+        return index.search(query.text, 10);
+    }
+
+    @Test
+    @DisplayName("Benchmark exercise search index build and queries")
+    void runBenchmarks() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ExerciseSearchBenchmarkTest.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+    static List<ExerciseResponse> catalog(int size, SplittableRandom random) {
+        List<ExerciseResponse> catalog = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String equipment = EQUIPMENT[random.nextInt(EQUIPMENT.length)];
+            String name = MODIFIERS[random.nextInt(MODIFIERS.length)] + " "
+                    + MOVEMENTS[random.nextInt(MOVEMENTS.length)] + " (" + equipment + ")";
+            catalog.add(ExerciseResponse.builder()
+                    .id(UUID.randomUUID())
+                    .name(i < MODIFIERS.length * MOVEMENTS.length ? name : name + " " + i)
+                    .equipment(equipment)
+                    .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                    .build());
+        }
+        return catalog;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Query {
+        @Param({"ben", "bnech pres", "incline dumbel", "cable fly", "kettlebell swing", "s"})
+        public String text;
+    }
+}
@@ -0,0 +1,96 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.repository.TrainingExportRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Export Writer Tests")
+class ExportWriterTest {
+
+    @Test
+    @DisplayName("Should write one gzip-compressed JSON line per row, tagged with its table")
+    void ndjson_writesTaggedLines() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter writer = new ExportWriter.Ndjson(out, new JsonMapper());
+        UUID id = UUID.randomUUID();
+
+        // When
+        writer.beginSection(TrainingExportRepository.Section.ROUTINES);
+        writer.writeRow(new Object[]{id, "Push", null});
+        writer.finish();
+
+        // Then
+        String json = new String(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(json).isEqualTo("{\"table\":\"routines\",\"id\":\"" + id + "\",\"name\":\"Push\",\"description\":null}\n");
+    }
+
+    @Test
+    @DisplayName("Should write one CSV per table with a header and quote fields that need it")
+    void csv_writesZipEntriesWithQuoting() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter writer = new ExportWriter.Csv(out);
+
+        // When
+        writer.beginSection(TrainingExportRepository.Section.ROUTINES);
+        writer.writeRow(new Object[]{"r1", "Push, \"heavy\"", null});
+        writer.beginSection(TrainingExportRepository.Section.PERSONAL_RECORDS);
+        writer.writeRow(new Object[]{"pr1", "e1", 100.0, 5, LocalDate.of(2025, 6, 1), "line\nbreak"});
+        writer.finish();
+
+        // Then
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry routines = zip.getNextEntry();
+            assertThat(routines.getName()).isEqualTo("routines.csv");
+            assertThat(new String(zip.readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo("id,name,description\r\nr1,\"Push, \"\"heavy\"\"\",\r\n");
+
+            ZipEntry records = zip.getNextEntry();
+            assertThat(records.getName()).isEqualTo("personal_records.csv");
+            assertThat(new String(zip.readAllBytes(), StandardCharsets.UTF_8))
+                    .endsWith("pr1,e1,100.0,5,2025-06-01,\"line\nbreak\"\r\n");
+            assertThat(zip.getNextEntry()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should prefix text that a spreadsheet would evaluate as a formula")
+    void csv_prefixesFormulaText() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter writer = new ExportWriter.Csv(out);
+
+        // When
+        writer.beginSection(TrainingExportRepository.Section.ROUTINES);
+        writer.writeRow(new Object[]{"r1", "=HYPERLINK(\"http://x\",\"y\")", "@SUM(A1)"});
+        writer.writeRow(new Object[]{"r2", "+1", "-2, or so"});
+        writer.beginSection(TrainingExportRepository.Section.PERSONAL_RECORDS);
+        writer.writeRow(new Object[]{"pr1", "e1", -2.5, 5, LocalDate.of(2025, 6, 1), "Push - heavy"});
+        writer.finish();
+
+        // Then
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            zip.getNextEntry();
+            assertThat(new String(zip.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(
+                    "id,name,description\r\n"
+                            + "r1,\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\",'@SUM(A1)\r\n"
+                            + "r2,'+1,\"'-2, or so\"\r\n");
+            zip.getNextEntry();
+            assertThat(new String(zip.readAllBytes(), StandardCharsets.UTF_8))
+                    .endsWith("pr1,e1,-2.5,5,2025-06-01,Push - heavy\r\n");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.error.BadRequestException;
+import dev.kinero.kinerobackend.training.dto.ImportSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("CSV Import Parsing Tests")
+class ImportedRowParserTest {
+
+    @Test
+    @DisplayName("Should read quoted fields with delimiters, doubled quotes and line breaks")
+    void csvRecordReader_quotedFields() throws IOException {
+        // Given
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\uFEFFa,\"b,c\",\"say \"\"hi\"\"\"\r\n\r\n1,\"two\nlines\",\n"), ',');
+
+        // When & Then
+        assertThat(reader.next()).containsExactly("a", "b,c", "say \"hi\"");
+        assertThat(reader.next()).containsExactly("1", "two\nlines", "");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should recognise a semicolon-separated Strong export and skip rest timer rows")
+    void strongExport() throws IOException {
+        // Given
+        String csv = """
+                "Date";"Workout Name";"Duration";"Exercise Name";"Set Order";"Weight";"Reps";"Distance";"Seconds";"Notes";"Workout Notes";"RPE"
+                "2024-03-14 18:02:11";"Push";"1h 5m";"Bench Press (Barbell)";"1";"80";"8";"0";"0";"";"";"8.5"
+                "2024-03-14 18:02:11";"Push";"1h 5m";"Bench Press (Barbell)";"Rest Timer";"";"";"";"90";"";"";""
+                """;
+        String headerLine = csv.lines().findFirst().orElseThrow();
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(csv), ImportedRowParser.delimiterOf(headerLine));
+
+        // When
+        ImportedRowParser parser = ImportedRowParser.forHeader(reader.next());
+        ImportedRowParser.ImportedRow set = parser.parse(reader.next());
+        ImportedRowParser.ImportedRow restTimer = parser.parse(reader.next());
+
+        // Then
+        assertThat(parser.source()).isEqualTo(ImportSource.STRONG);
+        assertThat(set.exerciseName()).isEqualTo("Bench Press (Barbell)");
+        assertThat(set.startTime()).isEqualTo(LocalDateTime.of(2024, 3, 14, 18, 2, 11));
+        assertThat(set.endTime()).isEqualTo(LocalDateTime.of(2024, 3, 14, 19, 7, 11));
+        assertThat(set.weight()).isEqualTo(80);
+        assertThat(set.reps()).isEqualTo(8);
+        assertThat(set.rpe()).isEqualTo(8.5);
+        assertThat(set.setType()).isEqualTo("normal");
+        assertThat(restTimer).isNull();
+    }
+
+    @Test
+    @DisplayName("Should recognise a Hevy export and key rows by workout")
+    void hevyExport() throws IOException {
+        // Given
+        String csv = """
+                "title","start_time","end_time","description","exercise_title","superset_id","exercise_notes","set_index","set_type","weight_kg","reps","distance_km","duration_seconds","rpe"
+                "Legs","14 Mar 2024, 18:00","14 Mar 2024, 19:10","","Squat (Barbell)",,"",0,"warmup",60,10,,,
+                """;
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(csv), ',');
+
+        // When
+        ImportedRowParser parser = ImportedRowParser.forHeader(reader.next());
+        ImportedRowParser.ImportedRow set = parser.parse(reader.next());
+
+        // Then
+        assertThat(parser.source()).isEqualTo(ImportSource.HEVY);
+        assertThat(set.workoutName()).isEqualTo("Legs");
+        assertThat(set.endTime()).isEqualTo(LocalDateTime.of(2024, 3, 14, 19, 10));
+        assertThat(set.setType()).isEqualTo("warmup");
+        assertThat(set.weight()).isEqualTo(60);
+        assertThat(set.rpe()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should convert the weights of a Hevy export in pounds to kilograms")
+    void hevyExport_pounds() throws IOException {
+        // Given
+        String csv = """
+                "title","start_time","end_time","description","exercise_title","superset_id","exercise_notes","set_index","set_type","weight_lbs","reps","distance_miles","duration_seconds","rpe"
+                "Push","14 Mar 2024, 18:00","14 Mar 2024, 19:00","","Bench Press (Barbell)",,"",0,"normal",225,5,,,
+                """;
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(csv), ',');
+
+        // When
+        ImportedRowParser parser = ImportedRowParser.forHeader(reader.next());
+        ImportedRowParser.ImportedRow set = parser.parse(reader.next());
+
+        // Then
+        assertThat(set.weight()).isCloseTo(102.0582, within(1e-4));
+        assertThat(set.reps()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV from an unknown app")
+    void unknownHeader() {
+        assertThatThrownBy(() -> ImportedRowParser.forHeader(new String[]{"foo", "bar"}))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
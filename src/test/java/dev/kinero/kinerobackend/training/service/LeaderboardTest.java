@@ -0,0 +1,56 @@
+package dev.kinero.kinerobackend.training.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("Leaderboard Tests")
+class LeaderboardTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 1);
+
+    @Test
+    @DisplayName("Should keep one entry per lifter and only the heaviest records up to capacity")
+    void offer_boundedAndOnePerUser() {
+        // Given
+        Leaderboard leaderboard = new Leaderboard(2);
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        UUID carol = UUID.randomUUID();
+
+        // When
+        leaderboard.offer(alice, 100, DAY);
+        leaderboard.offer(bob, 110, DAY);
+        leaderboard.offer(carol, 90, DAY);
+        leaderboard.offer(alice, 120, DAY.plusDays(1));
+        leaderboard.offer(alice, 105, DAY.plusDays(2));
+
+        // Then
+        assertThat(leaderboard.top(10))
+                .extracting(Leaderboard.Entry::userId, Leaderboard.Entry::weight)
+                .containsExactly(
+                        tuple(alice, 120.0),
+                        tuple(bob, 110.0));
+    }
+
+    @Test
+    @DisplayName("Should restore the same ranking from its binary form")
+    void toBytes_roundTrips() {
+        // Given
+        Leaderboard leaderboard = new Leaderboard(5);
+        for (int i = 0; i < 5; i++) {
+            leaderboard.offer(UUID.randomUUID(), 100 + i, DAY.plusDays(i));
+        }
+
+        // When
+        Leaderboard restored = Leaderboard.fromBytes(leaderboard.toBytes(), 5);
+
+        // Then
+        assertThat(restored.top(5)).containsExactlyElementsOf(leaderboard.top(5));
+    }
+}
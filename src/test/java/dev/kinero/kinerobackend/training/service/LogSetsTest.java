@@ -0,0 +1,216 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.error.ResourceNotFoundException;
+import dev.kinero.kinerobackend.common.idempotency.IdempotencyStore;
+import dev.kinero.kinerobackend.training.dto.BulkLogSetRequest;
+import dev.kinero.kinerobackend.training.dto.ExerciseSetResponse;
+import dev.kinero.kinerobackend.training.dto.LogSetRequest;
+import dev.kinero.kinerobackend.training.mapper.TrainingMapper;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseSet;
+import dev.kinero.kinerobackend.training.model.ExerciseType;
+import dev.kinero.kinerobackend.training.model.MuscleGroup;
+import dev.kinero.kinerobackend.training.model.Workout;
+import dev.kinero.kinerobackend.training.model.WorkoutExercise;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.ExerciseSetRepository;
+import dev.kinero.kinerobackend.training.repository.LastPerformanceRepository;
+import dev.kinero.kinerobackend.training.repository.RoutineExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.RoutineRepository;
+import dev.kinero.kinerobackend.training.repository.WorkoutBatchRepository;
+import dev.kinero.kinerobackend.training.repository.WorkoutExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.WorkoutRepository;
+import dev.kinero.kinerobackend.user.model.User;
+import dev.kinero.kinerobackend.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Bulk Set Logging Tests")
+class LogSetsTest {
+
+    private final UUID userId = UUID.randomUUID();
+
+    private WorkoutRepository workoutRepository;
+    private WorkoutExerciseRepository workoutExerciseRepository;
+    private ExerciseSetRepository exerciseSetRepository;
+    private WorkoutBatchRepository workoutBatchRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private WorkoutServiceImplementation workoutService;
+    private Workout workout;
+
+    @BeforeEach
+    void setUp() {
+        workoutRepository = mock(WorkoutRepository.class);
+        workoutExerciseRepository = mock(WorkoutExerciseRepository.class);
+        exerciseSetRepository = mock(ExerciseSetRepository.class);
+        workoutBatchRepository = mock(WorkoutBatchRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        workoutService = new WorkoutServiceImplementation(mock(UserRepository.class), mock(ExerciseRepository.class),
+                workoutRepository, workoutExerciseRepository, exerciseSetRepository,
+                workoutBatchRepository, mock(RoutineRepository.class), mock(RoutineExerciseRepository.class),
+                mock(LastPerformanceRepository.class), mock(IdempotencyStore.class), new TrainingMapper(),
+                new JsonMapper(), eventPublisher);
+
+        workout = workout();
+        when(workoutRepository.findByIdAndUserIdAndDeletedFalse(workout.getId(), userId)).thenReturn(Optional.of(workout));
+    }
+
+    @Test
+    @DisplayName("Should continue each exercise's numbering after its highest stored set when numbers are omitted")
+    void logSets_omittedNumbers_continueAfterHighest() {
+        // Given
+        WorkoutExercise bench = workoutExercise(workout);
+        WorkoutExercise row = workoutExercise(workout);
+        givenWorkoutExercises(bench, row);
+        List<Object[]> highest = new ArrayList<>();
+        highest.add(new Object[]{bench.getId(), 3});
+        when(exerciseSetRepository.findMaxSetNumbers(anyList(), eq(workout.getWorkoutDate()))).thenReturn(highest);
+
+        // When
+        List<ExerciseSetResponse> logged = workoutService.logSets(userId, workout.getId(), request(
+                new BulkLogSetRequest.ExerciseSets(bench.getId(), List.of(set(null, 80, 8), set(null, 80, 7))),
+                new BulkLogSetRequest.ExerciseSets(row.getId(), List.of(set(null, 60, 10), set(5, 60, 9)))));
+
+        // Then
+        assertThat(logged).extracting(ExerciseSetResponse::getSetNumber).containsExactly(4, 5, 1, 5);
+    }
+
+    @Test
+    @DisplayName("Should not look up set numbers when every set carries one")
+    void logSets_explicitNumbers_skipLookup() {
+        // Given
+        WorkoutExercise bench = workoutExercise(workout);
+        givenWorkoutExercises(bench);
+
+        // When
+        workoutService.logSets(userId, workout.getId(), request(
+                new BulkLogSetRequest.ExerciseSets(bench.getId(), List.of(set(1, 80, 8), set(2, 80, 8)))));
+
+        // Then
+        verify(exerciseSetRepository, never()).findMaxSetNumbers(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject the whole batch if one workout exercise belongs to another workout")
+    void logSets_foreignWorkoutExercise_throws() {
+        // Given
+        WorkoutExercise own = workoutExercise(workout);
+        WorkoutExercise foreign = workoutExercise(workout());
+        givenWorkoutExercises(own, foreign);
+
+        // When / Then
+        assertThatThrownBy(() -> workoutService.logSets(userId, workout.getId(), request(
+                new BulkLogSetRequest.ExerciseSets(own.getId(), List.of(set(1, 80, 8))),
+                new BulkLogSetRequest.ExerciseSets(foreign.getId(), List.of(set(1, 80, 8))))))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(workoutBatchRepository, never()).insertSets(anyList());
+        verify(workoutBatchRepository, never()).applyTotals(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject a deleted workout exercise")
+    void logSets_deletedWorkoutExercise_throws() {
+        // Given
+        WorkoutExercise deleted = workoutExercise(workout);
+        deleted.setDeleted(true);
+        givenWorkoutExercises(deleted);
+
+        // When / Then
+        assertThatThrownBy(() -> workoutService.logSets(userId, workout.getId(), request(
+                new BulkLogSetRequest.ExerciseSets(deleted.getId(), List.of(set(1, 80, 8))))))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(workoutBatchRepository, never()).insertSets(anyList());
+    }
+
+    @Test
+    @DisplayName("Should insert all sets in one batch and move the totals by their sets and volume once")
+    @SuppressWarnings("unchecked")
+    void logSets_appliesTotalsOnce() {
+        // Given
+        WorkoutExercise bench = workoutExercise(workout);
+        WorkoutExercise row = workoutExercise(workout);
+        givenWorkoutExercises(bench, row);
+
+        // When
+        workoutService.logSets(userId, workout.getId(), request(
+                new BulkLogSetRequest.ExerciseSets(bench.getId(), List.of(set(1, 80, 8), set(2, 82.5, 6))),
+                new BulkLogSetRequest.ExerciseSets(row.getId(), List.of(set(1, 60, 10)))));
+
+        // Then
+        ArgumentCaptor<List<ExerciseSet>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(workoutBatchRepository).insertSets(inserted.capture());
+        assertThat(inserted.getValue()).hasSize(3);
+
+        ArgumentCaptor<List<WorkoutBatchRepository.TotalsDelta>> totals = ArgumentCaptor.forClass(List.class);
+        verify(workoutBatchRepository).applyTotals(totals.capture());
+        assertThat(totals.getValue()).singleElement().satisfies(delta -> {
+            assertThat(delta.workoutId()).isEqualTo(workout.getId());
+            assertThat(delta.sets()).isEqualTo(3);
+            assertThat(delta.volume()).isEqualByComparingTo(BigDecimal.valueOf(80 * 8 + 82.5 * 6 + 60 * 10));
+        });
+        verify(eventPublisher).publishEvent(any(SetsChangedEvent.class));
+    }
+
+    private void givenWorkoutExercises(WorkoutExercise... workoutExercises) {
+        when(workoutExerciseRepository.findAllById(anyList())).thenReturn(List.of(workoutExercises));
+    }
+
+    private static BulkLogSetRequest request(BulkLogSetRequest.ExerciseSets... exercises) {
+        return new BulkLogSetRequest(List.of(exercises));
+    }
+
+    private static LogSetRequest set(Integer setNumber, double weight, int reps) {
+        return LogSetRequest.builder().setNumber(setNumber).weight(weight).reps(reps).build();
+    }
+
+    private Workout workout() {
+        User user = new User();
+        user.setId(userId);
+        Workout created = Workout.builder()
+                .user(user)
+                .name("Push")
+                .startTime(LocalDateTime.now().minusMinutes(30))
+                .workoutDate(LocalDate.now())
+                .completed(false)
+                .build();
+        created.setId(UUID.randomUUID());
+        return created;
+    }
+
+    private static WorkoutExercise workoutExercise(Workout workout) {
+        Exercise exercise = Exercise.builder()
+                .name("Bench Press")
+                .primaryMuscle(MuscleGroup.CHEST)
+                .type(ExerciseType.BARBELL)
+                .build();
+        exercise.setId(UUID.randomUUID());
+        WorkoutExercise workoutExercise = WorkoutExercise.builder()
+                .workout(workout)
+                .exercise(exercise)
+                .build();
+        workoutExercise.setId(UUID.randomUUID());
+        return workoutExercise;
+    }
+}
@@ -0,0 +1,78 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.model.OneRepMaxFormula;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("LTTB Downsampler Tests")
+class LttbDownsamplerTest {
+
+    @Test
+    @DisplayName("Should keep every point when the series already fits the budget")
+    void downsample_withinBudget_keepsAll() {
+        // Given
+        double[] x = {0, 1, 2, 3};
+        double[] y = {5, 6, 7, 8};
+
+        // When
+        int[] kept = LttbDownsampler.downsample(x, y, 10);
+
+        // Then
+        assertThat(kept).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Should return exactly the budget, keeping the endpoints in order")
+    void downsample_overBudget_returnsBudget() {
+        // Given
+        int size = 1_000;
+        double[] x = new double[size];
+        double[] y = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = i;
+            y[i] = Math.sin(i / 20.0);
+        }
+
+        // When
+        int[] kept = LttbDownsampler.downsample(x, y, 50);
+
+        // Then
+        assertThat(kept).hasSize(50);
+        assertThat(kept[0]).isZero();
+        assertThat(kept[49]).isEqualTo(size - 1);
+        assertThat(kept).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should keep an isolated spike that averaging would flatten")
+    void downsample_keepsSpike() {
+        // Given
+        int size = 500;
+        double[] x = new double[size];
+        double[] y = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = i;
+            y[i] = 100;
+        }
+        y[237] = 180;
+
+        // When
+        int[] kept = LttbDownsampler.downsample(x, y, 20);
+
+        // Then
+        assertThat(kept).contains(237);
+    }
+
+    @Test
+    @DisplayName("Should estimate a single as its own max and agree on both formulas at ten reps")
+    void oneRepMaxFormulas() {
+        assertThat(OneRepMaxFormula.EPLEY.estimate(100, 1)).isEqualTo(100);
+        assertThat(OneRepMaxFormula.BRZYCKI.estimate(100, 1)).isEqualTo(100);
+        assertThat(OneRepMaxFormula.EPLEY.estimate(100, 0)).isZero();
+        assertThat(OneRepMaxFormula.EPLEY.estimate(100, 10)).isCloseTo(133.3, within(0.1));
+        assertThat(OneRepMaxFormula.BRZYCKI.estimate(100, 10)).isCloseTo(133.3, within(0.1));
+    }
+}
@@ -0,0 +1,118 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.MuscleGroup;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.MuscleWeeklyRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Muscle Volume Updater Tests")
+class MuscleVolumeUpdaterTest {
+
+    private final UUID userId = UUID.randomUUID();
+
+    private ExerciseRepository exerciseRepository;
+    private MuscleWeeklyRollupRepository muscleWeeklyRollupRepository;
+    private MuscleVolumeUpdater updater;
+    private Exercise benchPress;
+
+    @BeforeEach
+    void setUp() {
+        benchPress = Exercise.builder()
+                .name("Bench Press")
+                .primaryMuscle(MuscleGroup.CHEST)
+                .secondaryMuscle(MuscleGroup.TRICEPS)
+                .build();
+        benchPress.setId(UUID.randomUUID());
+
+        exerciseRepository = mock(ExerciseRepository.class);
+        muscleWeeklyRollupRepository = mock(MuscleWeeklyRollupRepository.class);
+        when(exerciseRepository.findAllById(anyIterable())).thenReturn(List.of(benchPress));
+        updater = new MuscleVolumeUpdater(exerciseRepository, muscleWeeklyRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Should merge one delta per ISO week, crediting primary and secondary muscle")
+    @SuppressWarnings("unchecked")
+    void onSetsChanged_groupsByIsoWeek() {
+        // Given: Monday and Sunday of one ISO week, then the following Monday
+        LocalDate monday = LocalDate.of(2025, 6, 2);
+        SetsChangedEvent event = new SetsChangedEvent(userId, List.of(
+                new SetsChangedEvent.SetFact(benchPress.getId(), monday, 100, 5),
+                new SetsChangedEvent.SetFact(benchPress.getId(), monday.plusDays(6), 100, 5),
+                new SetsChangedEvent.SetFact(benchPress.getId(), monday.plusDays(7), 80, 10)
+        ), List.of());
+
+        // When
+        updater.onSetsChanged(event);
+
+        // Then
+        ArgumentCaptor<Collection<MuscleWeeklyRollupRepository.MuscleWeek>> deltas = ArgumentCaptor.forClass(Collection.class);
+        verify(muscleWeeklyRollupRepository).merge(eq(userId), deltas.capture());
+        List<MuscleWeeklyRollupRepository.MuscleWeek> weeks = List.copyOf(deltas.getValue());
+        assertThat(weeks).extracting(MuscleWeeklyRollupRepository.MuscleWeek::weekStart)
+                .containsExactly(monday, monday.plusWeeks(1));
+        assertThat(weeks.getFirst().primarySets()[MuscleGroup.CHEST.ordinal()]).isEqualTo(2);
+        assertThat(weeks.getFirst().primaryVolume()[MuscleGroup.CHEST.ordinal()]).isEqualTo(1000);
+        assertThat(weeks.getFirst().secondarySets()[MuscleGroup.TRICEPS.ordinal()]).isEqualTo(2);
+        assertThat(weeks.getFirst().primarySets()[MuscleGroup.TRICEPS.ordinal()]).isZero();
+    }
+
+    @Test
+    @DisplayName("Should recompute the week of an edit instead of merging a negative delta")
+    void onSetsChanged_editRecomputesWeek() {
+        // Given
+        LocalDate day = LocalDate.of(2025, 6, 4);
+        SetsChangedEvent event = new SetsChangedEvent(userId,
+                List.of(new SetsChangedEvent.SetFact(benchPress.getId(), day, 105, 5)),
+                List.of(new SetsChangedEvent.SetFact(benchPress.getId(), day, 100, 5)));
+
+        // When
+        updater.onSetsChanged(event);
+
+        // Then: the recompute already includes the new values
+        verify(muscleWeeklyRollupRepository).recompute(userId, Set.of(LocalDate.of(2025, 6, 2)));
+        verify(muscleWeeklyRollupRepository, never()).merge(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should still merge additions to weeks without removals")
+    @SuppressWarnings("unchecked")
+    void onSetsChanged_removalInOtherWeek_mergesRest() {
+        // Given
+        LocalDate monday = LocalDate.of(2025, 6, 2);
+        SetsChangedEvent event = new SetsChangedEvent(userId,
+                List.of(new SetsChangedEvent.SetFact(benchPress.getId(), monday.plusWeeks(1), 100, 5)),
+                List.of(new SetsChangedEvent.SetFact(benchPress.getId(), monday, 100, 5)));
+
+        // When
+        updater.onSetsChanged(event);
+
+        // Then
+        verify(muscleWeeklyRollupRepository).recompute(userId, Set.of(monday));
+        ArgumentCaptor<Collection<MuscleWeeklyRollupRepository.MuscleWeek>> deltas = ArgumentCaptor.forClass(Collection.class);
+        verify(muscleWeeklyRollupRepository).merge(eq(userId), deltas.capture());
+        assertThat(deltas.getValue()).singleElement().satisfies(week -> {
+            assertThat(week.weekStart()).isEqualTo(monday.plusWeeks(1));
+            assertThat(week.primarySets()[MuscleGroup.CHEST.ordinal()]).isEqualTo(1);
+        });
+    }
+}
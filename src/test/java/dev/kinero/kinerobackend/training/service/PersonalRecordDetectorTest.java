@@ -0,0 +1,119 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.repository.PersonalRecordBatchRepository;
+import dev.kinero.kinerobackend.training.repository.PersonalRecordBest;
+import dev.kinero.kinerobackend.training.repository.PersonalRecordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Personal Record Detector Tests")
+class PersonalRecordDetectorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID exerciseId = UUID.randomUUID();
+
+    private PersonalRecordRepository personalRecordRepository;
+    private PersonalRecordBatchRepository personalRecordBatchRepository;
+    private PersonalRecordDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        personalRecordRepository = mock(PersonalRecordRepository.class);
+        personalRecordBatchRepository = mock(PersonalRecordBatchRepository.class);
+        when(personalRecordRepository.findBests(userId))
+                .thenReturn(List.of(new PersonalRecordBest(exerciseId, 5, 100.0)));
+        detector = new PersonalRecordDetector(personalRecordRepository, personalRecordBatchRepository,
+                event -> {}, new SimpleMeterRegistry(), 10, Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("Should load the bests once and write nothing while no record is beaten")
+    void onSetsChanged_noRecordBeaten_noWrites() {
+        // When
+        detector.onSetsChanged(added(new SetsChangedEvent.SetFact(exerciseId, TODAY, 95, 5)));
+        detector.onSetsChanged(added(new SetsChangedEvent.SetFact(exerciseId, TODAY, 100, 5)));
+
+        // Then
+        verify(personalRecordRepository, times(1)).findBests(userId);
+        verify(personalRecordBatchRepository, never()).upsert(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should upsert the heaviest set of a rep range once it beats the record")
+    void onSetsChanged_recordBeaten_upsertsHeaviest() {
+        // When
+        detector.onSetsChanged(added(
+                new SetsChangedEvent.SetFact(exerciseId, TODAY, 102.5, 5),
+                new SetsChangedEvent.SetFact(exerciseId, TODAY, 105, 5),
+                new SetsChangedEvent.SetFact(exerciseId, TODAY, 60, 12)));
+
+        // Then
+        verify(personalRecordBatchRepository).upsert(eq(userId), eq(List.of(
+                new PersonalRecordBatchRepository.BeatenRecord(exerciseId, 5, 105, TODAY, 100),
+                new PersonalRecordBatchRepository.BeatenRecord(exerciseId, 12, 60, TODAY, 0))));
+    }
+
+    @Test
+    @DisplayName("Should compare later sets against a record it has just raised")
+    void onSetsChanged_afterRecord_comparesAgainstNewBest() {
+        // Given
+        detector.onSetsChanged(added(new SetsChangedEvent.SetFact(exerciseId, TODAY, 105, 5)));
+
+        // When
+        detector.onSetsChanged(added(new SetsChangedEvent.SetFact(exerciseId, TODAY, 102.5, 5)));
+
+        // Then
+        verify(personalRecordBatchRepository, times(1)).upsert(any(), any());
+        verify(personalRecordRepository, times(1)).findBests(userId);
+    }
+
+    @Test
+    @DisplayName("Should compare each batch of an import against the records of the batches before it")
+    void onSetsChanged_batchesInOneTransaction_reportEachRecordOnce() {
+        // Given: an import writing two batches in one transaction that has not committed yet
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            detector.onSetsChanged(added(new SetsChangedEvent.SetFact(exerciseId, TODAY.minusDays(7), 110, 5)));
+
+            // When
+            detector.onSetsChanged(added(
+                    new SetsChangedEvent.SetFact(exerciseId, TODAY, 105, 5),
+                    new SetsChangedEvent.SetFact(exerciseId, TODAY, 115, 5)));
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        verify(personalRecordBatchRepository).upsert(eq(userId), eq(List.of(
+                new PersonalRecordBatchRepository.BeatenRecord(exerciseId, 5, 110, TODAY.minusDays(7), 100))));
+        verify(personalRecordBatchRepository).upsert(eq(userId), eq(List.of(
+                new PersonalRecordBatchRepository.BeatenRecord(exerciseId, 5, 115, TODAY, 110))));
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    }
+
+    private SetsChangedEvent added(SetsChangedEvent.SetFact... facts) {
+        return new SetsChangedEvent(userId, List.of(facts), List.of());
+    }
+}
@@ -0,0 +1,206 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.support.MigrationOnlyTables;
+import dev.kinero.kinerobackend.training.dto.ExerciseSetRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseResponse;
+import dev.kinero.kinerobackend.training.dto.WorkoutRequest;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseType;
+import dev.kinero.kinerobackend.training.model.MuscleGroup;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import dev.kinero.kinerobackend.user.model.User;
+import dev.kinero.kinerobackend.user.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the partitioning migration on top of the Hibernate schema and drives the partition
+ * functions through {@link SetPartitionMaintenance}. Each test uses months of its own, since
+ * partitions outlive a test.
+ */
+@SpringBootTest
+@Testcontainers
+class SetPartitionMaintenanceTest {
+
+    private static final String SETS_IN_DEFAULT = """
+            SELECT COUNT(*) FROM sets_default WHERE performed_on >= ? AND performed_on < ?
+            """;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.flyway.enabled", () -> "false");
+        MigrationOnlyTables.register(registry, MigrationOnlyTables.MIGRATIONS,
+                "classpath:db/partitioned_sets_prerequisites.sql",
+                "classpath:db/migration/V18__Partition_sets_by_month.sql",
+                "classpath:db/migration/V22__Archive_only_months_without_live_sets.sql");
+    }
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Exercise bench;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.register(UUID.randomUUID() + "@example.com", "password123");
+        bench = exerciseRepository.save(Exercise.builder()
+                .name("Exercise " + UUID.randomUUID())
+                .primaryMuscle(MuscleGroup.CHEST)
+                .type(ExerciseType.BARBELL)
+                .compound(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Sets of a month without a partition are moved from the default partition into a new one")
+    void maintain_monthWithoutPartition_movesDefaultRows() {
+        // Given
+        LocalDate month = LocalDate.of(2019, 1, 1);
+        UUID workoutId = syncWorkout(month.atTime(18, 0));
+        assertThat(setsInDefault(month)).isEqualTo(2);
+
+        // When
+        maintenance(0).maintain();
+
+        // Then
+        assertThat(partitionExists("sets_p201901")).isTrue();
+        assertThat(setsInDefault(month)).isZero();
+        assertThat(workoutService.getWorkout(user.getId(), workoutId).getExercises())
+                .flatExtracting(WorkoutExerciseResponse::getSets)
+                .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Creating partitions that already exist creates none")
+    void createSetsPartitions_existingMonths_createsNone() {
+        // Given
+        jdbcTemplate.queryForObject("SELECT create_sets_partitions(3)", Integer.class);
+
+        // When
+        Integer created = jdbcTemplate.queryForObject("SELECT create_sets_partitions(3)", Integer.class);
+        Boolean createdAgain = jdbcTemplate.queryForObject("SELECT create_sets_partition(?)", Boolean.class,
+                Date.valueOf(LocalDate.now()));
+
+        // Then
+        assertThat(created).isZero();
+        assertThat(createdAgain).isFalse();
+    }
+
+    @Test
+    @DisplayName("Archiving detaches only months whose sets belong to deleted workouts")
+    void maintain_archiving_keepsMonthsWithLiveWorkouts() {
+        // Given
+        syncWorkout(LocalDateTime.of(2018, 3, 10, 18, 0));
+        UUID deletedId = syncWorkout(LocalDateTime.of(2018, 4, 10, 18, 0));
+        jdbcTemplate.update("UPDATE workouts SET deleted = TRUE WHERE id = ?", deletedId);
+
+        // When
+        maintenance(12).maintain();
+
+        // Then
+        assertThat(partitionExists("sets_p201803")).isTrue();
+        assertThat(partitionExists("sets_p201804")).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass('sets_archive.sets_p201804') IS NOT NULL",
+                Boolean.class)).isTrue();
+        assertNoTotalsDrift();
+    }
+
+    @Test
+    @DisplayName("Archiving keeps a month that mixes deleted and live workouts")
+    void maintain_archiving_mixedMonthStays() {
+        // Given
+        syncWorkout(LocalDateTime.of(2017, 6, 3, 18, 0));
+        UUID deletedId = syncWorkout(LocalDateTime.of(2017, 6, 20, 18, 0));
+        jdbcTemplate.update("UPDATE workouts SET deleted = TRUE WHERE id = ?", deletedId);
+
+        // When
+        maintenance(12).maintain();
+
+        // Then
+        assertThat(partitionExists("sets_p201706")).isTrue();
+        assertNoTotalsDrift();
+    }
+
+    private SetPartitionMaintenance maintenance(int archiveAfterMonths) {
+        return new SetPartitionMaintenance(jdbcTemplate, 3, archiveAfterMonths);
+    }
+
+    /**
+     * Verifies every workout and asserts that none reported drift.
+     */
+    private void assertNoTotalsDrift() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new WorkoutTotalsVerifier(jdbcTemplate, meterRegistry, 100, 10_000).verifySample();
+        assertThat(meterRegistry.counter("workout.totals.verified").count()).isPositive();
+        assertThat(meterRegistry.counter("workout.totals.drift").count()).isZero();
+    }
+
+    /**
+     * Whether the partition is still attached to {@code sets}.
+     */
+    private boolean partitionExists(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("""
+                SELECT EXISTS (SELECT 1 FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                               WHERE i.inhparent = 'sets'::REGCLASS AND c.relname = ?)
+                """, Boolean.class, name));
+    }
+
+    private Integer setsInDefault(LocalDate month) {
+        return jdbcTemplate.queryForObject(SETS_IN_DEFAULT, Integer.class,
+                Date.valueOf(month), Date.valueOf(month.plusMonths(1)));
+    }
+
+    private UUID syncWorkout(LocalDateTime startTime) {
+        WorkoutRequest request = WorkoutRequest.builder()
+                .name("Push")
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(60))
+                .exercises(List.of(WorkoutExerciseRequest.builder()
+                        .exerciseId(bench.getId().toString())
+                        .sets(List.of(
+                                ExerciseSetRequest.builder().weight(100.0).reps(5).build(),
+                                ExerciseSetRequest.builder().weight(90.0).reps(8).build()))
+                        .build()))
+                .build();
+        return workoutService.syncWorkout(user.getId(), UUID.randomUUID().toString(), request).workout().getId();
+    }
+}
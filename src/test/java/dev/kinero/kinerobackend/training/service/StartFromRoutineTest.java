@@ -0,0 +1,185 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.error.ResourceNotFoundException;
+import dev.kinero.kinerobackend.common.idempotency.IdempotencyStore;
+import dev.kinero.kinerobackend.training.dto.ExerciseSetResponse;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseResponse;
+import dev.kinero.kinerobackend.training.dto.WorkoutResponse;
+import dev.kinero.kinerobackend.training.mapper.TrainingMapper;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseSet;
+import dev.kinero.kinerobackend.training.model.ExerciseType;
+import dev.kinero.kinerobackend.training.model.MuscleGroup;
+import dev.kinero.kinerobackend.training.model.Routine;
+import dev.kinero.kinerobackend.training.model.RoutineExercise;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.ExerciseSetRepository;
+import dev.kinero.kinerobackend.training.repository.LastPerformanceRepository;
+import dev.kinero.kinerobackend.training.repository.RoutineExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.RoutineRepository;
+import dev.kinero.kinerobackend.training.repository.WorkoutBatchRepository;
+import dev.kinero.kinerobackend.training.repository.WorkoutExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.WorkoutRepository;
+import dev.kinero.kinerobackend.user.model.User;
+import dev.kinero.kinerobackend.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Start From Routine Tests")
+class StartFromRoutineTest {
+
+    private final UUID userId = UUID.randomUUID();
+
+    private UserRepository userRepository;
+    private RoutineRepository routineRepository;
+    private RoutineExerciseRepository routineExerciseRepository;
+    private LastPerformanceRepository lastPerformanceRepository;
+    private WorkoutBatchRepository workoutBatchRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private WorkoutServiceImplementation workoutService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        routineRepository = mock(RoutineRepository.class);
+        routineExerciseRepository = mock(RoutineExerciseRepository.class);
+        lastPerformanceRepository = mock(LastPerformanceRepository.class);
+        workoutBatchRepository = mock(WorkoutBatchRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        workoutService = new WorkoutServiceImplementation(userRepository, mock(ExerciseRepository.class),
+                mock(WorkoutRepository.class), mock(WorkoutExerciseRepository.class), mock(ExerciseSetRepository.class),
+                workoutBatchRepository, routineRepository, routineExerciseRepository, lastPerformanceRepository,
+                mock(IdempotencyStore.class), new TrainingMapper(), new JsonMapper(), eventPublisher);
+
+        User user = new User();
+        user.setId(userId);
+        when(userRepository.getReferenceById(userId)).thenReturn(user);
+    }
+
+    @Test
+    @DisplayName("Should lay out target sets from the routine and the last performance of each exercise")
+    void startFromRoutine_prefillsFromLastPerformance() {
+        // Given
+        Exercise bench = exercise("Bench Press");
+        Exercise row = exercise("Barbell Row");
+        Routine routine = givenRoutine(
+                routineExercise(bench, 0, 3, 8),
+                routineExercise(row, 1, null, null));
+        when(lastPerformanceRepository.findByExercises(eq(userId), any())).thenReturn(Map.of(
+                bench.getId(), performance(bench, new double[]{80, 82.5}, new int[]{8, 6}),
+                row.getId(), performance(row, new double[]{60, 60}, new int[]{10, 9})));
+
+        // When
+        WorkoutResponse response = workoutService.startFromRoutine(userId, routine.getId());
+
+        // Then
+        assertThat(response.getName()).isEqualTo("Push");
+        assertThat(response.getRoutineId()).isEqualTo(routine.getId());
+        List<WorkoutExerciseResponse> exercises = List.copyOf(response.getExercises());
+        assertThat(exercises).extracting(WorkoutExerciseResponse::getPosition).containsExactly(1, 2);
+        assertThat(exercises.get(0).getSets()).extracting(ExerciseSetResponse::getWeight).containsExactly(80.0, 82.5, 82.5);
+        assertThat(exercises.get(0).getSets()).extracting(ExerciseSetResponse::getReps).containsExactly(8, 8, 8);
+        assertThat(exercises.get(1).getSets()).extracting(ExerciseSetResponse::getReps).containsExactly(10, 9);
+        assertThat(exercises).flatExtracting(WorkoutExerciseResponse::getSets)
+                .extracting(ExerciseSetResponse::getCompleted).containsOnly(false);
+    }
+
+    @Test
+    @DisplayName("Should look up all previous performances and insert each table in one call")
+    void startFromRoutine_batchesWrites() {
+        // Given
+        Routine routine = givenRoutine(
+                routineExercise(exercise("Squat"), 0, 3, 5),
+                routineExercise(exercise("Leg Press"), 1, 3, 10),
+                routineExercise(exercise("Leg Curl"), 2, 3, 12));
+        when(lastPerformanceRepository.findByExercises(eq(userId), any())).thenReturn(Map.of());
+
+        // When
+        workoutService.startFromRoutine(userId, routine.getId());
+
+        // Then
+        verify(lastPerformanceRepository, times(1)).findByExercises(eq(userId), any());
+        verify(workoutBatchRepository, times(1)).insertWorkouts(anyList());
+        verify(workoutBatchRepository, times(1)).insertWorkoutExercises(anyList());
+        verify(workoutBatchRepository, times(1)).insertSets(anyList());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should fall back to empty sets when the exercise was never performed")
+    void targetSets_withoutHistory_usesDefaults() {
+        // When
+        List<ExerciseSet> sets = WorkoutServiceImplementation.targetSets(
+                routineExercise(exercise("Deadlift"), 0, null, null), null);
+
+        // Then
+        assertThat(sets).extracting(ExerciseSet::getSetNumber).containsExactly(1, 2, 3);
+        assertThat(sets).extracting(ExerciseSet::getWeight).containsOnly(0.0);
+        assertThat(sets).extracting(ExerciseSet::getReps).containsOnly(8);
+    }
+
+    @Test
+    @DisplayName("Should not start a workout from another user's routine")
+    void startFromRoutine_unknownRoutine_throws() {
+        // Given
+        UUID routineId = UUID.randomUUID();
+        when(routineRepository.findByIdAndUserIdAndDeletedFalse(routineId, userId)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> workoutService.startFromRoutine(userId, routineId))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(workoutBatchRepository, never()).insertWorkouts(anyList());
+    }
+
+    private Routine givenRoutine(RoutineExercise... exercises) {
+        Routine routine = Routine.builder().name("Push").build();
+        routine.setId(UUID.randomUUID());
+        when(routineRepository.findByIdAndUserIdAndDeletedFalse(routine.getId(), userId)).thenReturn(Optional.of(routine));
+        when(routineExerciseRepository.findActiveWithExerciseByRoutineId(routine.getId())).thenReturn(List.of(exercises));
+        return routine;
+    }
+
+    private static RoutineExercise routineExercise(Exercise exercise, int orderIndex, Integer targetSets, Integer targetReps) {
+        return RoutineExercise.builder()
+                .exercise(exercise)
+                .orderIndex(orderIndex)
+                .targetSets(targetSets)
+                .targetReps(targetReps)
+                .build();
+    }
+
+    private static LastPerformanceRepository.LastPerformance performance(Exercise exercise, double[] weights, int[] reps) {
+        return new LastPerformanceRepository.LastPerformance(exercise.getId(), UUID.randomUUID(),
+                LocalDate.now().minusDays(3), weights, reps);
+    }
+
+    private static Exercise exercise(String name) {
+        Exercise exercise = Exercise.builder()
+                .name(name)
+                .primaryMuscle(MuscleGroup.CHEST)
+                .type(ExerciseType.BARBELL)
+                .build();
+        exercise.setId(UUID.randomUUID());
+        return exercise;
+    }
+}
@@ -0,0 +1,79 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.error.ServiceUnavailableException;
+import dev.kinero.kinerobackend.training.dto.ExportFormat;
+import dev.kinero.kinerobackend.training.repository.TrainingExportRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("Training Export Service Tests")
+class TrainingExportServiceTest {
+
+    private final TrainingExportRepository trainingExportRepository = mock(TrainingExportRepository.class);
+
+    @Test
+    @DisplayName("Should reject a second export of the same user while the first is running")
+    void prepare_sameUserTwice_rejected() {
+        // Given
+        TrainingExportServiceImplementation service = service(4, 1);
+        UUID userId = UUID.randomUUID();
+        service.prepare(userId, ExportFormat.NDJSON);
+
+        // When / Then
+        assertThatThrownBy(() -> service.prepare(userId, ExportFormat.CSV))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThatCode(() -> service.prepare(UUID.randomUUID(), ExportFormat.CSV)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should reject exports beyond the instance-wide limit")
+    void prepare_overGlobalLimit_rejected() {
+        // Given
+        TrainingExportServiceImplementation service = service(2, 1);
+        service.prepare(UUID.randomUUID(), ExportFormat.NDJSON);
+        service.prepare(UUID.randomUUID(), ExportFormat.NDJSON);
+
+        // When / Then
+        assertThatThrownBy(() -> service.prepare(UUID.randomUUID(), ExportFormat.NDJSON))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessageContaining("Too many exports");
+    }
+
+    @Test
+    @DisplayName("Should free the slot once the export has run, even if the download failed")
+    void export_afterRun_releasesSlot() throws IOException {
+        // Given
+        TrainingExportServiceImplementation service = service(1, 1);
+        UUID userId = UUID.randomUUID();
+        service.prepare(userId, ExportFormat.NDJSON).writeTo(new ByteArrayOutputStream());
+        doThrow(new UncheckedIOException(new IOException("Broken pipe")))
+                .when(trainingExportRepository).stream(any(), any(), any());
+
+        // When
+        TrainingExportService.Export failing = service.prepare(userId, ExportFormat.NDJSON);
+
+        // Then
+        assertThatThrownBy(() -> failing.writeTo(new ByteArrayOutputStream())).isInstanceOf(IOException.class);
+        assertThatCode(() -> service.prepare(userId, ExportFormat.NDJSON)).doesNotThrowAnyException();
+    }
+
+    private TrainingExportServiceImplementation service(int maxConcurrent, int maxPerUser) {
+        TrainingExportServiceImplementation service = new TrainingExportServiceImplementation(trainingExportRepository,
+                mock(PlatformTransactionManager.class), new JsonMapper(), maxConcurrent, maxPerUser);
+        service.init();
+        return service;
+    }
+}
@@ -0,0 +1,164 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.support.MigrationOnlyTables;
+import dev.kinero.kinerobackend.training.dto.ImportJobResponse;
+import dev.kinero.kinerobackend.training.dto.ImportJobStatus;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseType;
+import dev.kinero.kinerobackend.training.model.MuscleGroup;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import dev.kinero.kinerobackend.user.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JMH benchmark of importing a Strong export end to end into PostgreSQL: {@value #WORKOUTS}
+ * workouts of {@value #EXERCISES_PER_WORKOUT} exercises with {@value #SETS_PER_EXERCISE} sets
+ * each, about ten years of four sessions a week. Each iteration imports the whole file for a
+ * new user; the sets per second are printed from the average time. The import needs this
+ * test's Spring context and database, so JMH runs in-process. Run with {@code -Dbenchmarks=true}.
+ */
+@SpringBootTest
+@Testcontainers
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+public class WorkoutImportBenchmarkTest {
+
+    static final int WORKOUTS = 2_000;
+    static final int EXERCISES_PER_WORKOUT = 6;
+    static final int SETS_PER_EXERCISE = 4;
+    static final int SETS = WORKOUTS * EXERCISES_PER_WORKOUT * SETS_PER_EXERCISE;
+
+    private static final String HEADER = "Date,Workout Name,Duration,Exercise Name,Set Order,Weight,Reps,Distance,Seconds,Notes,Workout Notes,RPE\n";
+    private static final String[] EXERCISES = {"Bench Press", "Squat", "Deadlift", "Overhead Press", "Barbell Row",
+            "Pull Up", "Incline Dumbbell Press", "Romanian Deadlift", "Leg Press", "Lateral Raise", "Bicep Curl",
+            "Triceps Pushdown"};
+    private static final DateTimeFormatter STRONG_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    // Handed over from the Spring-managed test instance to the instances JMH creates
+    private static WorkoutImportService benchmarkedService;
+    private static UserService benchmarkedUserService;
+    private static MockMultipartFile export;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.flyway.enabled", () -> "false");
+        MigrationOnlyTables.register(registry);
+    }
+
+    @Autowired
+    private WorkoutImportService workoutImportService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Benchmark
+    public ImportJobResponse importExport() throws InterruptedException {
+        UUID userId = benchmarkedUserService.register(UUID.randomUUID() + "@example.com", "password123").getId();
+        UUID jobId = benchmarkedService.startImport(userId, export).id();
+        ImportJobResponse job = benchmarkedService.getJob(userId, jobId);
+        while (job.status() == ImportJobStatus.QUEUED || job.status() == ImportJobStatus.RUNNING) {
+            Thread.sleep(5);
+            job = benchmarkedService.getJob(userId, jobId);
+        }
+        if (job.status() != ImportJobStatus.COMPLETED || job.setsImported() != SETS) {
+            throw new IllegalStateException("Import ended " + job.status() + " with " + job.setsImported() + " sets");
+        }
+        return job;
+    }
+
+    @Test
+    @DisplayName("Benchmark importing a long Strong history")
+    void runBenchmarks() throws RunnerException {
+        // Given
+        for (String name : EXERCISES) {
+            exerciseRepository.save(Exercise.builder()
+                    .name(name)
+                    .primaryMuscle(MuscleGroup.CHEST)
+                    .type(ExerciseType.BARBELL)
+                    .build());
+        }
+        benchmarkedService = workoutImportService;
+        benchmarkedUserService = userService;
+        export = new MockMultipartFile("file", "strong.csv", "text/csv",
+                strongExport(new SplittableRandom(42)).getBytes(StandardCharsets.UTF_8));
+
+        // When
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(WorkoutImportBenchmarkTest.class.getSimpleName())
+                .forks(0)
+                .build()).run();
+
+        // Then
+        double millis = results.iterator().next().getPrimaryResult().getScore();
+        System.out.printf("imported %d sets in %.0f ms: %.0f sets/s%n", SETS, millis, SETS / (millis / 1000));
+        assertThat(millis).isPositive();
+    }
+
+    static String strongExport(SplittableRandom random) {
+        StringBuilder csv = new StringBuilder(HEADER);
+        LocalDateTime start = LocalDateTime.of(2015, 1, 5, 18, 0);
+        for (int workout = 0; workout < WORKOUTS; workout++) {
+            String date = start.plusDays(workout * 7L / 4).format(STRONG_DATE);
+            String name = workout % 2 == 0 ? "Upper" : "Lower";
+            for (int exercise = 0; exercise < EXERCISES_PER_WORKOUT; exercise++) {
+                String exerciseName = EXERCISES[(workout + exercise * 2) % EXERCISES.length];
+                double weight = 40 + random.nextInt(60) * 2.5;
+                for (int set = 1; set <= SETS_PER_EXERCISE; set++) {
+                    csv.append(String.join(",", date, name, "1h 10m", exerciseName, String.valueOf(set),
+                            String.valueOf(weight), String.valueOf(5 + random.nextInt(8)), "0", "0", "", "", ""))
+                            .append('\n');
+                }
+            }
+        }
+        return csv.toString();
+    }
+}
@@ -0,0 +1,250 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.training.dto.ImportJobResponse;
+import dev.kinero.kinerobackend.training.dto.ImportJobStatus;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseSet;
+import dev.kinero.kinerobackend.training.model.ExerciseType;
+import dev.kinero.kinerobackend.training.model.MuscleGroup;
+import dev.kinero.kinerobackend.training.model.Workout;
+import dev.kinero.kinerobackend.training.model.WorkoutExercise;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.WorkoutBatchRepository;
+import dev.kinero.kinerobackend.user.model.User;
+import dev.kinero.kinerobackend.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Workout Import Service Tests")
+class WorkoutImportServiceTest {
+
+    private static final String HEADER = "Date,Workout Name,Duration,Exercise Name,Set Order,Weight,Reps,Distance,Seconds,Notes,Workout Notes,RPE\n";
+
+    private final UUID userId = UUID.randomUUID();
+    private final Exercise bench = exercise("Bench Press", MuscleGroup.CHEST);
+    private final Exercise squat = exercise("Squat", MuscleGroup.QUADRICEPS);
+
+    private WorkoutBatchRepository workoutBatchRepository;
+    private PlatformTransactionManager transactionManager;
+    private ApplicationEventPublisher eventPublisher;
+    private List<List<Workout>> insertedWorkouts;
+    private List<List<WorkoutExercise>> insertedWorkoutExercises;
+    private List<List<ExerciseSet>> insertedSets;
+    private WorkoutImportServiceImplementation service;
+
+    @BeforeEach
+    void setUp() {
+        workoutBatchRepository = mock(WorkoutBatchRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        insertedWorkouts = new ArrayList<>();
+        insertedWorkoutExercises = new ArrayList<>();
+        insertedSets = new ArrayList<>();
+        // The service clears its batch lists after each flush, so keep copies; ids are assigned like the repository does
+        doAnswer(invocation -> {
+            List<Workout> workouts = invocation.getArgument(0);
+            workouts.forEach(workout -> workout.setId(UUID.randomUUID()));
+            return insertedWorkouts.add(List.copyOf(workouts));
+        }).when(workoutBatchRepository).insertWorkouts(anyList());
+        doAnswer(invocation -> insertedWorkoutExercises.add(List.copyOf(invocation.<List<WorkoutExercise>>getArgument(0))))
+                .when(workoutBatchRepository).insertWorkoutExercises(anyList());
+        doAnswer(invocation -> insertedSets.add(List.copyOf(invocation.<List<ExerciseSet>>getArgument(0))))
+                .when(workoutBatchRepository).insertSets(anyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should write whole workouts per batch once the batch holds enough sets")
+    void import_batchesWholeWorkouts() throws Exception {
+        // Given: three workouts of two sets each, with room for three sets per batch
+        service = service(3);
+        String csv = HEADER
+                + row("2024-03-11 18:00:00", "Push", "Bench Press", 1, 80, 8)
+                + row("2024-03-11 18:00:00", "Push", "Bench Press", 2, 80, 8)
+                + row("2024-03-13 18:00:00", "Push", "Bench Press", 1, 82.5, 6)
+                + row("2024-03-13 18:00:00", "Push", "Bench Press", 2, 82.5, 6)
+                + row("2024-03-15 18:00:00", "Legs", "Squat", 1, 100, 5)
+                + row("2024-03-15 18:00:00", "Legs", "Squat", 2, 100, 5);
+
+        // When
+        ImportJobResponse job = runImport(csv);
+
+        // Then: a batch is written at the first workout boundary at or past three sets
+        assertThat(job.status()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(insertedWorkouts).extracting(List::size).containsExactly(2, 1);
+        assertThat(insertedSets).extracting(List::size).containsExactly(4, 2);
+        verify(eventPublisher, times(2)).publishEvent(any(SetsChangedEvent.class));
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(4)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).filteredOn(WorkoutsImportedEvent.class::isInstance)
+                .extracting(event -> ((WorkoutsImportedEvent) event).workoutIds())
+                .containsExactlyElementsOf(insertedWorkouts.stream().map(batch -> batch.stream().map(Workout::getId).toList()).toList());
+        assertThat(job.workoutsImported()).isEqualTo(3);
+        assertThat(job.setsImported()).isEqualTo(6);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should number sets per exercise and position exercises in order of appearance")
+    void import_numbersSetsPerExercise() throws Exception {
+        // Given: the exercises of one workout interleaved, as in a superset
+        service = service(5000);
+        String csv = HEADER
+                + row("2024-03-11 18:00:00", "Full Body", "Bench Press (Barbell)", 1, 80, 8)
+                + row("2024-03-11 18:00:00", "Full Body", "Squat (Barbell)", 1, 100, 5)
+                + row("2024-03-11 18:00:00", "Full Body", "Bench Press (Barbell)", 2, 80, 7)
+                + row("2024-03-11 18:00:00", "Full Body", "Squat (Barbell)", 2, 100, 5)
+                + row("2024-03-11 18:00:00", "Full Body", "Bench Press (Barbell)", 3, 80, 6);
+
+        // When
+        runImport(csv);
+
+        // Then
+        List<WorkoutExercise> workoutExercises = insertedWorkoutExercises.getFirst();
+        assertThat(workoutExercises).extracting(we -> we.getExercise().getName()).containsExactly("Bench Press", "Squat");
+        assertThat(workoutExercises).extracting(WorkoutExercise::getPosition).containsExactly(1, 2);
+        assertThat(insertedSets.getFirst())
+                .extracting(set -> set.getWorkoutExercise().getExercise().getName() + " " + set.getSetNumber())
+                .containsExactly("Bench Press 1", "Squat 1", "Bench Press 2", "Squat 2", "Bench Press 3");
+    }
+
+    @Test
+    @DisplayName("Should total only the imported sets and report the rows it skipped")
+    void import_totalsImportedSetsOnly() throws Exception {
+        // Given
+        service = service(5000);
+        String csv = HEADER
+                + row("2024-03-11 18:00:00", "Push", "Bench Press", 1, 80, 8)
+                + row("2024-03-11 18:00:00", "Push", "Cable Crossover", 1, 20, 15)
+                + row("2024-03-11 18:00:00", "Push", "Bench Press", 2, 82.5, 6)
+                + "2024-03-11 18:00:00,Push,1h,Bench Press,Rest Timer,,,,90,,,\n";
+
+        // When
+        ImportJobResponse job = runImport(csv);
+
+        // Then
+        Workout workout = insertedWorkouts.getFirst().getFirst();
+        assertThat(workout.getTotalSets()).isEqualTo(2);
+        assertThat(workout.getTotalVolume()).isEqualByComparingTo(BigDecimal.valueOf(80 * 8 + 82.5 * 6));
+        assertThat(workout.getDurationMinutes()).isEqualTo(60);
+        assertThat(job.rowsRead()).isEqualTo(4);
+        assertThat(job.rowsSkipped()).isEqualTo(2);
+        assertThat(job.unknownExercises()).containsExactly("Cable Crossover");
+    }
+
+    @Test
+    @DisplayName("Should stop at the next workout after a cancel and roll everything back")
+    void import_cancelled_rollsBack() throws Exception {
+        // Given: the first batch blocks until the job has been cancelled
+        service = service(1);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            insertedSets.add(List.copyOf(invocation.<List<ExerciseSet>>getArgument(0)));
+            writing.countDown();
+            cancelled.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(workoutBatchRepository).insertSets(anyList());
+        String csv = HEADER
+                + row("2024-03-11 18:00:00", "Push", "Bench Press", 1, 80, 8)
+                + row("2024-03-13 18:00:00", "Push", "Bench Press", 1, 80, 8)
+                + row("2024-03-15 18:00:00", "Push", "Bench Press", 1, 80, 8);
+
+        // When
+        UUID jobId = service.startImport(userId, file(csv)).id();
+        assertThat(writing.await(10, TimeUnit.SECONDS)).isTrue();
+        service.cancelJob(userId, jobId);
+        cancelled.countDown();
+        ImportJobResponse job = awaitFinished(jobId);
+
+        // Then
+        assertThat(job.status()).isEqualTo(ImportJobStatus.CANCELLED);
+        assertThat(insertedSets).hasSize(1);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    private WorkoutImportServiceImplementation service(int batchSize) {
+        WorkoutImportProperties properties = new WorkoutImportProperties();
+        properties.setPoolSize(1);
+        properties.setBatchSize(batchSize);
+        ExerciseRepository exerciseRepository = mock(ExerciseRepository.class);
+        when(exerciseRepository.findAllActive()).thenReturn(List.of(bench, squat));
+        UserRepository userRepository = mock(UserRepository.class);
+        User user = new User();
+        user.setId(userId);
+        when(userRepository.getReferenceById(userId)).thenReturn(user);
+
+        WorkoutImportServiceImplementation created = new WorkoutImportServiceImplementation(properties,
+                workoutBatchRepository, exerciseRepository, userRepository, transactionManager, eventPublisher,
+                new SimpleMeterRegistry());
+        created.init();
+        return created;
+    }
+
+    private ImportJobResponse runImport(String csv) throws InterruptedException {
+        return awaitFinished(service.startImport(userId, file(csv)).id());
+    }
+
+    private ImportJobResponse awaitFinished(UUID jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        ImportJobResponse job = service.getJob(userId, jobId);
+        while (!EnumSet.of(ImportJobStatus.COMPLETED, ImportJobStatus.FAILED, ImportJobStatus.CANCELLED).contains(job.status())) {
+            assertThat(System.nanoTime()).as("import %s still %s", jobId, job.status()).isLessThan(deadline);
+            Thread.sleep(10);
+            job = service.getJob(userId, jobId);
+        }
+        return job;
+    }
+
+    private static MockMultipartFile file(String csv) {
+        return new MockMultipartFile("file", "strong.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String row(String date, String workout, String exercise, int setOrder, double weight, int reps) {
+        return String.join(",", date, workout, "1h", exercise, String.valueOf(setOrder), String.valueOf(weight),
+                String.valueOf(reps), "0", "0", "", "", "") + "\n";
+    }
+
+    private static Exercise exercise(String name, MuscleGroup muscle) {
+        Exercise exercise = Exercise.builder()
+                .name(name)
+                .primaryMuscle(muscle)
+                .type(ExerciseType.BARBELL)
+                .build();
+        exercise.setId(UUID.randomUUID());
+        return exercise;
+    }
+}
@@ -0,0 +1,402 @@
+package dev.kinero.kinerobackend.training.service;
+
+import dev.kinero.kinerobackend.common.error.BadRequestException;
+import dev.kinero.kinerobackend.common.error.ResourceAlreadyExistsException;
+import dev.kinero.kinerobackend.support.MigrationOnlyTables;
+import dev.kinero.kinerobackend.training.dto.ExerciseSetRequest;
+import dev.kinero.kinerobackend.training.dto.ExerciseSetResponse;
+import dev.kinero.kinerobackend.training.dto.UpdateSetRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutExerciseResponse;
+import dev.kinero.kinerobackend.training.dto.WorkoutRequest;
+import dev.kinero.kinerobackend.training.dto.WorkoutResponse;
+import dev.kinero.kinerobackend.training.model.Exercise;
+import dev.kinero.kinerobackend.training.model.ExerciseSet;
+import dev.kinero.kinerobackend.training.model.ExerciseType;
+import dev.kinero.kinerobackend.training.model.MuscleGroup;
+import dev.kinero.kinerobackend.training.model.Workout;
+import dev.kinero.kinerobackend.training.model.WorkoutExercise;
+import dev.kinero.kinerobackend.training.repository.ExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.ExerciseSetRepository;
+import dev.kinero.kinerobackend.training.repository.WorkoutExerciseRepository;
+import dev.kinero.kinerobackend.training.repository.WorkoutRepository;
+import dev.kinero.kinerobackend.user.model.User;
+import dev.kinero.kinerobackend.user.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Testcontainers
+class WorkoutServiceTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.flyway.enabled", () -> "false");
+        MigrationOnlyTables.register(registry);
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private WorkoutExerciseRepository workoutExerciseRepository;
+
+    @Autowired
+    private ExerciseSetRepository exerciseSetRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userService.register(UUID.randomUUID() + "@example.com", "password123");
+    }
+
+    @Test
+    @DisplayName("Workout detail is assembled with the same number of statements regardless of its size")
+    void getWorkout_statementCountIndependentOfSize() {
+        // Given
+        Workout small = createWorkout(1, 1);
+        Workout large = createWorkout(10, 5);
+
+        // When
+        statistics.clear();
+        WorkoutResponse smallResponse = workoutService.getWorkout(user.getId(), small.getId());
+        long smallStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        WorkoutResponse largeResponse = workoutService.getWorkout(user.getId(), large.getId());
+        long largeStatements = statistics.getPrepareStatementCount();
+
+        // Then
+        assertThat(smallResponse.getExercises()).hasSize(1);
+        assertThat(largeResponse.getExercises()).hasSize(10);
+        assertThat(largeResponse.getExercises())
+                .allSatisfy(exercise -> assertThat(exercise.getSets()).hasSize(5));
+        assertThat(largeStatements).isEqualTo(smallStatements).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Workout detail leaves out soft-deleted sets and keeps exercises in position order")
+    void getWorkout_skipsDeletedSets() {
+        // Given
+        Workout workout = createWorkout(3, 2);
+        ExerciseSet deleted = exerciseSetRepository.findActiveByWorkoutId(workout.getId(), workout.getWorkoutDate()).getFirst();
+        deleted.setDeleted(true);
+        exerciseSetRepository.save(deleted);
+
+        // When
+        WorkoutResponse response = workoutService.getWorkout(user.getId(), workout.getId());
+
+        // Then
+        assertThat(response.getExercises())
+                .extracting(WorkoutExerciseResponse::getPosition)
+                .containsExactly(1, 2, 3);
+        assertThat(response.getExercises().stream().mapToInt(exercise -> exercise.getSets().size()).sum())
+                .isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Sync replays the stored response for a retried idempotency key without writing again")
+    void syncWorkout_replayedKey_returnsStoredResponse() {
+        // Given
+        Exercise exercise = createExercise();
+        WorkoutSyncResult first = workoutService.syncWorkout(user.getId(), "sync-1", syncRequest(exercise, 80.0));
+        long workouts = workoutRepository.count();
+
+        // When
+        WorkoutSyncResult retry = workoutService.syncWorkout(user.getId(), "sync-1", syncRequest(exercise, 80.0));
+
+        // Then
+        assertThat(first.replayed()).isFalse();
+        assertThat(retry.replayed()).isTrue();
+        assertThat(retry.workout().getId()).isEqualTo(first.workout().getId());
+        assertThat(retry.workout().getTotalSets()).isEqualTo(2);
+        assertThat(workoutRepository.count()).isEqualTo(workouts);
+    }
+
+    @Test
+    @DisplayName("Sync rejects a different payload sent under an already used idempotency key")
+    void syncWorkout_conflictingPayload_rejected() {
+        // Given
+        Exercise exercise = createExercise();
+        workoutService.syncWorkout(user.getId(), "sync-2", syncRequest(exercise, 80.0));
+        long workouts = workoutRepository.count();
+
+        // When / Then
+        assertThatThrownBy(() -> workoutService.syncWorkout(user.getId(), "sync-2", syncRequest(exercise, 85.0)))
+                .isInstanceOf(ResourceAlreadyExistsException.class);
+        assertThat(workoutRepository.count()).isEqualTo(workouts);
+    }
+
+    @Test
+    @DisplayName("Sync rejects sets without weight or reps instead of storing zeros")
+    void syncWorkout_missingWeight_rejected() {
+        // Given
+        WorkoutRequest request = syncRequest(createExercise(), null);
+
+        // When / Then
+        assertThatThrownBy(() -> workoutService.syncWorkout(user.getId(), "sync-3", request))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Sync rejects a workout that ends before it starts")
+    void syncWorkout_endBeforeStart_rejected() {
+        // Given
+        WorkoutRequest request = syncRequest(createExercise(), 80.0);
+        request.setEndTime(request.getStartTime().minusMinutes(1));
+
+        // When / Then
+        assertThatThrownBy(() -> workoutService.syncWorkout(user.getId(), "sync-4", request))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Sync keeps identical exercise entries and positions them in the order sent")
+    void syncWorkout_identicalEntries_keptInOrder() {
+        // Given: the same exercise twice, as for two blocks of the same lift
+        WorkoutRequest request = syncRequest(createExercise(), 80.0);
+        request.setExercises(List.of(request.getExercises().getFirst(), request.getExercises().getFirst()));
+
+        // When
+        WorkoutResponse workout = workoutService.syncWorkout(user.getId(), "sync-5", request).workout();
+
+        // Then
+        assertThat(workout.getExercises()).extracting(WorkoutExerciseResponse::getPosition)
+                .containsExactlyInAnyOrder(1, 2);
+        assertThat(workout.getTotalSets()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Completing a set adds it to the workout totals")
+    void completeSet_addsToTotals() {
+        // Given
+        UUID workoutId = syncWorkout();
+        ExerciseSetResponse set = firstSet(workoutId);
+        workoutService.updateSet(user.getId(), workoutId, set.getId(), UpdateSetRequest.builder().completed(false).build());
+
+        // When
+        workoutService.completeSet(user.getId(), workoutId, set.getId());
+
+        // Then
+        assertTotalsMatchSets(workoutId, 2, 1120);
+    }
+
+    @Test
+    @DisplayName("Uncompleting a set takes it out of the workout totals")
+    void updateSet_uncomplete_subtractsFromTotals() {
+        // Given
+        UUID workoutId = syncWorkout();
+        ExerciseSetResponse set = firstSet(workoutId);
+
+        // When
+        workoutService.updateSet(user.getId(), workoutId, set.getId(), UpdateSetRequest.builder().completed(false).build());
+
+        // Then
+        assertTotalsMatchSets(workoutId, 1, 480);
+    }
+
+    @Test
+    @DisplayName("Editing a completed set moves the volume by the difference only")
+    void updateSet_editCompleted_movesVolume() {
+        // Given
+        UUID workoutId = syncWorkout();
+        ExerciseSetResponse set = firstSet(workoutId);
+
+        // When
+        workoutService.updateSet(user.getId(), workoutId, set.getId(), UpdateSetRequest.builder().weight(100.0).reps(5).build());
+
+        // Then
+        assertTotalsMatchSets(workoutId, 2, 980);
+    }
+
+    @Test
+    @DisplayName("Deleting a completed set takes it out of the workout totals")
+    void deleteSet_completed_subtractsFromTotals() {
+        // Given
+        UUID workoutId = syncWorkout();
+        ExerciseSetResponse set = firstSet(workoutId);
+
+        // When
+        workoutService.deleteSet(user.getId(), workoutId, set.getId());
+
+        // Then
+        assertTotalsMatchSets(workoutId, 1, 480);
+    }
+
+    @Test
+    @DisplayName("Concurrent edits of the same set leave totals that match the sets")
+    void updateSet_concurrentEdits_keepTotalsConsistent() throws Exception {
+        // Given
+        UUID workoutId = syncWorkout();
+        ExerciseSetResponse set = firstSet(workoutId);
+        int writers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 1; i <= writers; i++) {
+                double weight = 60.0 + i * 5;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return workoutService.updateSet(user.getId(), workoutId, set.getId(),
+                            UpdateSetRequest.builder().weight(weight).build());
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        Workout workout = workoutRepository.findById(workoutId).orElseThrow();
+        List<ExerciseSet> sets = exerciseSetRepository.findActiveByWorkoutId(workoutId, workout.getWorkoutDate());
+        BigDecimal volume = sets.stream()
+                .map(s -> BigDecimal.valueOf(s.getWeight()).multiply(BigDecimal.valueOf(s.getReps())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertThat(workout.getTotalSets()).isEqualTo(2);
+        assertThat(workout.getTotalVolume()).isEqualByComparingTo(volume);
+    }
+
+    private UUID syncWorkout() {
+        return workoutService.syncWorkout(user.getId(), UUID.randomUUID().toString(), syncRequest(createExercise(), 80.0))
+                .workout().getId();
+    }
+
+    private ExerciseSetResponse firstSet(UUID workoutId) {
+        return workoutService.getWorkout(user.getId(), workoutId).getExercises().iterator().next().getSets().stream()
+                .filter(set -> set.getSetNumber() == 1)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * Asserts the stored totals against the expected values and against a recount of the sets table.
+     */
+    private void assertTotalsMatchSets(UUID workoutId, int expectedSets, double expectedVolume) {
+        Workout workout = workoutRepository.findById(workoutId).orElseThrow();
+        List<ExerciseSet> completed = exerciseSetRepository.findActiveByWorkoutId(workoutId, workout.getWorkoutDate()).stream()
+                .filter(ExerciseSet::getCompleted)
+                .toList();
+        BigDecimal volume = completed.stream()
+                .map(s -> BigDecimal.valueOf(s.getWeight()).multiply(BigDecimal.valueOf(s.getReps())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        assertThat(workout.getTotalSets()).isEqualTo(expectedSets).isEqualTo(completed.size());
+        assertThat(workout.getTotalVolume())
+                .isEqualByComparingTo(BigDecimal.valueOf(expectedVolume))
+                .isEqualByComparingTo(volume);
+    }
+
+    private Exercise createExercise() {
+        return exerciseRepository.save(Exercise.builder()
+                .name("Exercise " + UUID.randomUUID())
+                .primaryMuscle(MuscleGroup.CHEST)
+                .type(ExerciseType.BARBELL)
+                .compound(true)
+                .build());
+    }
+
+    private static WorkoutRequest syncRequest(Exercise exercise, Double weight) {
+        LocalDateTime startTime = LocalDateTime.of(2026, 3, 14, 18, 0);
+        return WorkoutRequest.builder()
+                .name("Offline Push")
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(45))
+                .exercises(List.of(WorkoutExerciseRequest.builder()
+                        .exerciseId(exercise.getId().toString())
+                        .sets(List.of(
+                                ExerciseSetRequest.builder().weight(weight).reps(8).build(),
+                                ExerciseSetRequest.builder().weight(weight).reps(6).build()))
+                        .build()))
+                .build();
+    }
+
+    private Workout createWorkout(int exerciseCount, int setsPerExercise) {
+        Workout workout = workoutRepository.save(Workout.builder()
+                .user(user)
+                .name("Push Day")
+                .startTime(LocalDateTime.now())
+                .workoutDate(LocalDateTime.now().toLocalDate())
+                .build());
+
+        for (int position = 1; position <= exerciseCount; position++) {
+            Exercise exercise = exerciseRepository.save(Exercise.builder()
+                    .name("Exercise " + UUID.randomUUID())
+                    .primaryMuscle(MuscleGroup.CHEST)
+                    .type(ExerciseType.BARBELL)
+                    .compound(true)
+                    .build());
+            WorkoutExercise workoutExercise = workoutExerciseRepository.save(WorkoutExercise.builder()
+                    .workout(workout)
+                    .exercise(exercise)
+                    .position(position)
+                    .build());
+            for (int setNumber = 1; setNumber <= setsPerExercise; setNumber++) {
+                exerciseSetRepository.save(ExerciseSet.builder()
+                        .workoutExercise(workoutExercise)
+                        .setNumber(setNumber)
+                        .weight(60.0)
+                        .reps(8)
+                        .completed(true)
+                        .build());
+            }
+        }
+        return workout;
+    }
+}
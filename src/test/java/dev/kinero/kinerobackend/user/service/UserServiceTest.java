@@ -1,6 +1,7 @@
 package dev.kinero.kinerobackend.user.service;
 
 import dev.kinero.kinerobackend.common.error.ResourceAlreadyExistsException;
+import dev.kinero.kinerobackend.support.MigrationOnlyTables;
 import dev.kinero.kinerobackend.user.model.User;
 import dev.kinero.kinerobackend.user.repository.UserRepository;
 import org.junit.jupiter.api.Test;
@@ -32,6 +33,7 @@ class UserServiceTest {
         registry.add("spring.datasource.password", postgres::getPassword);
         registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
         registry.add("spring.flyway.enabled", () -> "false");
+        MigrationOnlyTables.register(registry);
     }
 
     @Autowired
@@ -0,0 +1,3 @@
+-- Hibernate already creates sets.performed_on, which V18 adds itself when it rebuilds the
+-- table as a partitioned one. Dropping it first lets V18 run on the Hibernate schema.
+ALTER TABLE sets DROP COLUMN performed_on;